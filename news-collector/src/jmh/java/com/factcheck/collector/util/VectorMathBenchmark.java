@@ -0,0 +1,90 @@
+package com.factcheck.collector.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar vs. {@code jdk.incubator.vector} kernels at embedding sizes we see in production.
+ * Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args=VectorMathBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class VectorMathBenchmark {
+
+    @Param({"768", "3072"})
+    private int dimension;
+
+    @Param({"16"})
+    private int chunkSentences;
+
+    private float[] a;
+    private float[] b;
+    private List<float[]> sentences;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        a = randomVector(random);
+        b = randomVector(random);
+        sentences = new ArrayList<>(chunkSentences);
+        for (int i = 0; i < chunkSentences; i++) {
+            sentences.add(randomVector(random));
+        }
+    }
+
+    @Benchmark
+    public double cosineScalar() {
+        return VectorMath.scalarCosine(a, b);
+    }
+
+    @Benchmark
+    public double cosineSimd() {
+        return SimdVectorMath.cosine(a, b);
+    }
+
+    @Benchmark
+    public double dotScalar() {
+        return VectorMath.scalarDot(a, b);
+    }
+
+    @Benchmark
+    public double dotSimd() {
+        return SimdVectorMath.dot(a, b);
+    }
+
+    @Benchmark
+    public float[] meanScalar() {
+        return VectorMath.scalarMean(sentences, dimension);
+    }
+
+    @Benchmark
+    public float[] meanSimd() {
+        return SimdVectorMath.mean(sentences, dimension);
+    }
+
+    private float[] randomVector(Random random) {
+        float[] v = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            v[i] = (float) random.nextGaussian();
+        }
+        return v;
+    }
+}
@@ -1,7 +1,9 @@
 package com.factcheck.collector.controller.ingestion;
 
+import com.factcheck.collector.dto.ArticleRefreshResponse;
 import com.factcheck.collector.dto.IngestionRunRequest;
 import com.factcheck.collector.dto.IngestionRunStartResponse;
+import com.factcheck.collector.service.ingestion.ArticleRefreshJob;
 import com.factcheck.collector.service.ingestion.IngestionJobRunner;
 import com.factcheck.collector.exception.IngestionRunAlreadyRunningException;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ import java.util.UUID;
 public class IngestionTriggerController {
 
     private final IngestionJobRunner ingestionJobRunner;
+    private final ArticleRefreshJob articleRefreshJob;
 
     @PostMapping("/run")
     public ResponseEntity<IngestionRunStartResponse> run(
@@ -39,6 +42,14 @@ public class IngestionTriggerController {
         }
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<ArticleRefreshResponse> refresh(
+            @RequestParam(name = "correlationId", required = false) String correlationId
+    ) {
+        validateCorrelationId(correlationId);
+        return ResponseEntity.ok(articleRefreshJob.refreshRecent(correlationId));
+    }
+
     private void validateCorrelationId(String correlationId) {
         if (correlationId == null || correlationId.isBlank()) {
             return;
@@ -1,6 +1,7 @@
 package com.factcheck.collector.controller.read;
 
 import com.factcheck.collector.dto.ArticleContentResponse;
+import com.factcheck.collector.dto.ArticleListPage;
 import com.factcheck.collector.dto.ArticleMetadataResponse;
 import com.factcheck.collector.dto.SearchRequest;
 import com.factcheck.collector.dto.SearchResponse;
@@ -10,6 +11,7 @@ import com.factcheck.collector.service.read.ArticleMetadataService;
 import com.factcheck.collector.service.read.ArticleSearchService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,20 +21,32 @@ import java.util.List;
 @RequiredArgsConstructor
 public class InternalArticleController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ArticleSearchService articleSearchService;
     private final ArticleContentService articleContentService;
     private final ArticleMetadataService articleMetadataService;
     private final ArticleListService articleListService;
 
+    /**
+     * One page of articles, newest first. When more remain, the response carries an opaque
+     * {@value #NEXT_CURSOR_HEADER} header to pass back as {@code cursor}.
+     */
     @GetMapping("/articles")
-    public List<ArticleMetadataResponse> listArticles(
+    public ResponseEntity<List<ArticleMetadataResponse>> listArticles(
             @RequestParam(name = "q", required = false) String q,
-            @RequestParam(name = "limit", required = false, defaultValue = "50") int limit
+            @RequestParam(name = "limit", required = false, defaultValue = "50") int limit,
+            @RequestParam(name = "cursor", required = false) String cursor
     ) {
-        if (q == null || q.trim().isEmpty()) {
-            return articleListService.listLatest(limit);
+        ArticleListPage page = (q == null || q.trim().isEmpty())
+                ? articleListService.listLatest(limit, cursor)
+                : articleListService.searchByTitle(q, limit, cursor);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
         }
-        return articleListService.searchByTitle(q, limit);
+        return response.body(page.items());
     }
 
     @PostMapping("/articles/search")
@@ -0,0 +1,54 @@
+package com.factcheck.collector.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+@Entity
+@Table(name = "embedding_cache", schema = "content")
+@IdClass(EmbeddingCacheEntry.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmbeddingCacheEntry {
+
+    @Id
+    @Column(name = "model_id", columnDefinition = "text")
+    private String modelId;
+
+    @Id
+    @Column(name = "text_hash", length = 64)
+    private String textHash;
+
+    @Column(nullable = false)
+    private int dimension;
+
+    @Column(nullable = false)
+    private byte[] vector;
+
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private Instant createdAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String modelId;
+        private String textHash;
+    }
+}
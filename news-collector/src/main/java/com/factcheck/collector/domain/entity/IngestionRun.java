@@ -52,4 +52,23 @@ public class IngestionRun {
 
     @Column(name = "correlation_id", nullable = false)
     private UUID correlationId;
-}
\ No newline at end of file
+
+    // Maintained by the ingestion_logs progress trigger; never written from JPA.
+    @Column(name = "task_count", insertable = false, updatable = false)
+    private int taskCount;
+
+    @Column(name = "pending_count", insertable = false, updatable = false)
+    private int pendingCount;
+
+    @Column(name = "success_count", insertable = false, updatable = false)
+    private int successCount;
+
+    @Column(name = "partial_count", insertable = false, updatable = false)
+    private int partialCount;
+
+    @Column(name = "failed_count", insertable = false, updatable = false)
+    private int failedCount;
+
+    @Column(name = "skipped_count", insertable = false, updatable = false)
+    private int skippedCount;
+}
@@ -0,0 +1,60 @@
+package com.factcheck.collector.domain.entity;
+
+import com.factcheck.collector.domain.enums.IngestionTaskStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "ingestion_tasks", schema = "content")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngestionTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "source_endpoint_id", nullable = false)
+    private Long sourceEndpointId;
+
+    @Column(name = "correlation_id", columnDefinition = "text")
+    private String correlationId;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IngestionTaskStatus status = IngestionTaskStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Builder.Default
+    @Column(name = "visible_at", nullable = false)
+    private Instant visibleAt = Instant.now();
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    @Builder.Default
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt = Instant.now();
+}
@@ -0,0 +1,39 @@
+package com.factcheck.collector.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "robots_rules_cache", schema = "content")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RobotsRulesCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", columnDefinition = "text")
+    private String cacheKey;
+
+    @Column(name = "robots_body")
+    private byte[] robotsBody;
+
+    @Column(name = "content_type", columnDefinition = "text")
+    private String contentType;
+
+    @Column(name = "fetched_at", nullable = false)
+    private Instant fetchedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -77,6 +77,21 @@ public class SourceEndpoint {
     @Column(name = "block_count", nullable = false)
     private int blockCount = 0;
 
+    @Column(name = "feed_etag", columnDefinition = "text")
+    private String feedEtag;
+
+    @Column(name = "feed_last_modified", columnDefinition = "text")
+    private String feedLastModified;
+
+    @Column(name = "feed_content_hash", length = 64)
+    private String feedContentHash;
+
+    @Column(name = "high_water_published_at")
+    private Instant highWaterPublishedAt;
+
+    @Column(name = "high_water_source_item_id", columnDefinition = "text")
+    private String highWaterSourceItemId;
+
     @Builder.Default
     @Column(name = "created_at", nullable = false)
     private Instant createdAt = Instant.now();
@@ -0,0 +1,6 @@
+package com.factcheck.collector.domain.enums;
+
+public enum IngestionTaskStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.factcheck.collector.dto;
+
+import java.util.List;
+
+public record ArticleListPage(
+        List<ArticleMetadataResponse> items,
+        String nextCursor
+) {
+}
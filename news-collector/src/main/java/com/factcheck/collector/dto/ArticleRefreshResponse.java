@@ -0,0 +1,11 @@
+package com.factcheck.collector.dto;
+
+public record ArticleRefreshResponse(
+        String correlationId,
+        int checked,
+        int notModified,
+        int unchanged,
+        int reindexed,
+        int failed
+) {
+}
@@ -4,7 +4,7 @@ import java.util.List;
 
 public record ChunkingResult(
         List<String> chunks,
-        List<List<Double>> embeddings,
+        List<float[]> embeddings,
         boolean semanticUsed
 ) {
     public boolean hasPrecomputedEmbeddings() {
@@ -7,6 +7,12 @@ public record IngestionRunDetailResponse(
         Instant startedAt,
         Instant completedAt,
         String status,
-        String correlationId
+        String correlationId,
+        int taskCount,
+        int pendingCount,
+        int successCount,
+        int partialCount,
+        int failedCount,
+        int skippedCount
 ) {
 }
\ No newline at end of file
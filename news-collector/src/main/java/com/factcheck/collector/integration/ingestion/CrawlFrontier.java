@@ -0,0 +1,215 @@
+package com.factcheck.collector.integration.ingestion;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-host politeness gate for article fetches.
+ * <p>
+ * Each host gets its own FIFO queue with a minimum delay between request starts
+ * (the larger of the configured delay and robots.txt Crawl-delay) and a cap on
+ * concurrent requests. Hosts never wait on each other, so throughput grows with
+ * the number of distinct publishers being fetched.
+ * <p>
+ * A host's queue is dropped once it is idle: nobody waiting, nothing in flight and its
+ * delay elapsed, so the map only holds hosts fetched recently.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlFrontier {
+
+    private final RobotsService robotsService;
+
+    private final Map<String, HostQueue> hosts = new ConcurrentHashMap<>();
+
+    private final AtomicLong nextSweepAtNanos = new AtomicLong(System.nanoTime());
+
+    @Value("${crawler.frontier.min-delay:PT1S}")
+    private Duration minDelay = Duration.ofSeconds(1);
+
+    @Value("${crawler.frontier.max-in-flight-per-host:2}")
+    private int maxInFlightPerHost = 2;
+
+    @Value("${crawler.frontier.max-crawl-delay:PT30S}")
+    private Duration maxCrawlDelay = Duration.ofSeconds(30);
+
+    @Value("${crawler.frontier.max-wait:PT2M}")
+    private Duration maxWait = Duration.ofMinutes(2);
+
+    @Value("${crawler.frontier.idle-sweep-interval:PT1M}")
+    private Duration idleSweepInterval = Duration.ofMinutes(1);
+
+    /**
+     * Blocks until the url's host may be fetched. Returns null when the wait exceeded
+     * {@code crawler.frontier.max-wait} or the thread was interrupted.
+     */
+    public Permit acquire(String url) {
+        String host = hostOf(url);
+        if (host == null) {
+            return Permit.NOOP;
+        }
+
+        evictIdleHosts();
+
+        // Joined under the map's lock for this host, so eviction never drops a queue in use.
+        HostQueue queue = hosts.compute(host, (h, q) -> {
+            HostQueue joined = q != null ? q : new HostQueue();
+            joined.users++;
+            return joined;
+        });
+        long delayNanos = effectiveDelay(url).toNanos();
+        long deadline = System.nanoTime() + maxWait.toNanos();
+
+        boolean entered = false;
+        try {
+            entered = queue.enter(delayNanos, Math.max(1, maxInFlightPerHost), deadline);
+            if (!entered) {
+                log.warn("Timed out waiting for crawl slot host={} url={}", host, url);
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (!entered) {
+                release(host, queue);
+            }
+        }
+        return () -> {
+            queue.leave();
+            release(host, queue);
+        };
+    }
+
+    int trackedHosts() {
+        return hosts.size();
+    }
+
+    private void release(String host, HostQueue queue) {
+        hosts.computeIfPresent(host, (h, q) -> {
+            if (q == queue) {
+                q.users--;
+            }
+            return q;
+        });
+    }
+
+    private void evictIdleHosts() {
+        long now = System.nanoTime();
+        long due = nextSweepAtNanos.get();
+        if (now - due < 0 || !nextSweepAtNanos.compareAndSet(due, now + idleSweepInterval.toNanos())) {
+            return;
+        }
+        for (String host : hosts.keySet()) {
+            hosts.computeIfPresent(host, (h, q) -> q.users == 0 && q.delayElapsed(now) ? null : q);
+        }
+    }
+
+    private Duration effectiveDelay(String url) {
+        Duration crawlDelay = robotsService.getCrawlDelay(url);
+        if (crawlDelay == null) {
+            crawlDelay = Duration.ZERO;
+        }
+        if (crawlDelay.compareTo(maxCrawlDelay) > 0) {
+            crawlDelay = maxCrawlDelay;
+        }
+        return crawlDelay.compareTo(minDelay) > 0 ? crawlDelay : minDelay;
+    }
+
+    private String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? null : host.toLowerCase(Locale.ROOT);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+
+        Permit NOOP = () -> {
+        };
+
+        @Override
+        void close();
+    }
+
+    private static final class HostQueue {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private final Deque<Object> waiters = new ArrayDeque<>();
+        private int inFlight;
+        private long nextStartNanos = System.nanoTime();
+        // Callers between joining and releasing this queue; guarded by the hosts map entry.
+        private int users;
+
+        private boolean delayElapsed(long now) {
+            lock.lock();
+            try {
+                return now - nextStartNanos >= 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean enter(long delayNanos, int maxInFlight, long deadline) throws InterruptedException {
+            Object ticket = new Object();
+            lock.lock();
+            try {
+                waiters.addLast(ticket);
+                try {
+                    while (true) {
+                        long now = System.nanoTime();
+                        if (waiters.peekFirst() == ticket && inFlight < maxInFlight && now - nextStartNanos >= 0) {
+                            waiters.removeFirst();
+                            inFlight++;
+                            nextStartNanos = now + delayNanos;
+                            changed.signalAll();
+                            return true;
+                        }
+                        long remaining = deadline - now;
+                        if (remaining <= 0) {
+                            return false;
+                        }
+                        long wait = remaining;
+                        if (waiters.peekFirst() == ticket && inFlight < maxInFlight) {
+                            wait = Math.min(wait, nextStartNanos - now);
+                        }
+                        changed.awaitNanos(wait);
+                    }
+                } finally {
+                    if (waiters.remove(ticket)) {
+                        changed.signalAll();
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void leave() {
+            lock.lock();
+            try {
+                inFlight--;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
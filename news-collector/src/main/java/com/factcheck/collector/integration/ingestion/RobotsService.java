@@ -1,5 +1,7 @@
 package com.factcheck.collector.integration.ingestion;
 
+import com.factcheck.collector.domain.entity.RobotsRulesCacheEntry;
+import com.factcheck.collector.repository.RobotsRulesCacheRepository;
 import crawlercommons.robots.BaseRobotRules;
 import crawlercommons.robots.SimpleRobotRules;
 import crawlercommons.robots.SimpleRobotRulesParser;
@@ -14,16 +16,32 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Robots.txt rules per scheme/host/port.
+ * <p>
+ * Rules are held in a bounded LRU. Each key is loaded by at most one fetch at a time;
+ * concurrent callers wait on that fetch. Entries past their TTL but within the
+ * stale-while-revalidate window are served as-is while a background refresh runs.
+ * Fetch failures are cached as allow-all (or the last known rules) for a short TTL.
+ * When {@code crawler.robots.persistent-cache.enabled} is set, successful fetches are
+ * also written to Postgres and read back on a miss, so rules survive restarts. Rows past
+ * the stale-while-revalidate window can no longer be served and are purged periodically.
+ */
 @Slf4j
 @Service
 public class RobotsService {
 
     private static final Duration TIMEOUT = Duration.ofSeconds(5);
-    private static final Duration CACHE_TTL = Duration.ofHours(12);
 
     private static final BaseRobotRules ALLOW_ALL_RULES =
             new SimpleRobotRules(SimpleRobotRules.RobotRulesMode.ALLOW_ALL);
@@ -36,58 +54,219 @@ public class RobotsService {
 
     private final SimpleRobotRulesParser parser = new SimpleRobotRulesParser();
 
-    private final Map<String, CachedRules> rulesCache = new ConcurrentHashMap<>();
+    private final Map<String, CachedRules> rulesCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedRules> eldest) {
+                    return size() > Math.max(1, maxCacheEntries);
+                }
+            });
+
+    private final Map<String, CompletableFuture<CachedRules>> inFlight = new ConcurrentHashMap<>();
+
+    private final Executor loadExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     private final String userAgent;
 
+    private final RobotsRulesCacheRepository persistentCache;
+
+    private final AtomicLong nextPurgeAtMs = new AtomicLong();
+
+    @Value("${crawler.robots.cache-ttl:PT12H}")
+    private Duration cacheTtl = Duration.ofHours(12);
+
+    @Value("${crawler.robots.stale-while-revalidate:PT12H}")
+    private Duration staleWhileRevalidate = Duration.ofHours(12);
+
+    @Value("${crawler.robots.failure-ttl:PT10M}")
+    private Duration failureTtl = Duration.ofMinutes(10);
+
+    @Value("${crawler.robots.max-entries:10000}")
+    private int maxCacheEntries = 10_000;
+
+    @Value("${crawler.robots.persistent-cache.enabled:false}")
+    private boolean persistentCacheEnabled = false;
+
+    @Value("${crawler.robots.persistent-cache.purge-interval:PT1H}")
+    private Duration purgeInterval = Duration.ofHours(1);
+
     public RobotsService(
             @Value("${crawler.user-agent:FactCheckCollector/1.0 (+https://example.com)}")
-            String userAgent
+            String userAgent,
+            RobotsRulesCacheRepository persistentCache
     ) {
         this.userAgent = userAgent;
+        this.persistentCache = persistentCache;
     }
 
     public boolean isAllowed(String url) {
         try {
-            URI uri = URI.create(url);
-            String host = uri.getHost();
-            String scheme = uri.getScheme();
+            BaseRobotRules rules = rulesFor(url);
+            return rules == null || rules.isAllowed(url);
+
+        } catch (Exception e) {
+            log.warn("Failed to evaluate robots.txt for url={}. Defaulting to ALLOW. Reason: {}",
+                    url, e.toString());
+            return true;
+        }
+    }
 
-            if (host == null || scheme == null || (!scheme.equals("http") && !scheme.equals("https"))) {
-                return true;
+    /**
+     * Crawl-delay declared for the url's host, or zero when robots.txt does not set one.
+     */
+    public Duration getCrawlDelay(String url) {
+        try {
+            BaseRobotRules rules = rulesFor(url);
+            if (rules == null || rules.getCrawlDelay() == BaseRobotRules.UNSET_CRAWL_DELAY
+                    || rules.getCrawlDelay() <= 0) {
+                return Duration.ZERO;
             }
+            return Duration.ofMillis(rules.getCrawlDelay());
+
+        } catch (Exception e) {
+            log.debug("Failed to resolve crawl-delay for url={}: {}", url, e.toString());
+            return Duration.ZERO;
+        }
+    }
 
-            host = host.toLowerCase(Locale.ROOT);
-            String schemeLower = scheme.toLowerCase(Locale.ROOT);
-            int port = uri.getPort();
-            String key = buildKey(schemeLower, host, port);
+    private BaseRobotRules rulesFor(String url) {
+        URI uri = URI.create(url);
+        String host = uri.getHost();
+        String scheme = uri.getScheme();
 
-            CachedRules cached = rulesCache.get(key);
-            if (cached == null || cached.isExpired()) {
-                BaseRobotRules rules = fetchRulesForHost(schemeLower, host, port);
-                cached = new CachedRules(rules, Instant.now());
-                rulesCache.put(key, cached);
+        if (host == null || scheme == null || (!scheme.equals("http") && !scheme.equals("https"))) {
+            return null;
+        }
+
+        RobotsTarget target = new RobotsTarget(
+                scheme.toLowerCase(Locale.ROOT),
+                host.toLowerCase(Locale.ROOT),
+                uri.getPort()
+        );
+        String key = target.key();
+        Instant now = Instant.now();
+
+        CachedRules cached = rulesCache.get(key);
+        if (cached != null && cached.isFresh(now)) {
+            return cached.rules();
+        }
+        if (cached != null && cached.isUsable(now, staleWhileRevalidate)) {
+            loadOnce(key, target, cached);
+            return cached.rules();
+        }
+        return loadOnce(key, target, cached).join().rules();
+    }
+
+    /**
+     * Starts a load for the key unless one is already running, and returns the shared result.
+     */
+    private CompletableFuture<CachedRules> loadOnce(String key, RobotsTarget target, CachedRules previous) {
+        CompletableFuture<CachedRules> created = new CompletableFuture<>();
+        CompletableFuture<CachedRules> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        CachedRules current = rulesCache.get(key);
+        if (current != null && current.isFresh(Instant.now())) {
+            // Another load finished between the caller's cache check and this claim.
+            created.complete(current);
+            inFlight.remove(key, created);
+            return created;
+        }
+
+        loadExecutor.execute(() -> {
+            // Unregister before completing so no caller can pick up an already finished load.
+            try {
+                CachedRules loaded = load(key, target, previous);
+                inFlight.remove(key, created);
+                created.complete(loaded);
+            } catch (Throwable t) {
+                inFlight.remove(key, created);
+                created.completeExceptionally(t);
             }
+        });
+        return created;
+    }
 
-            return cached.rules.isAllowed(url);
+    private CachedRules load(String key, RobotsTarget target, CachedRules previous) {
+        Instant now = Instant.now();
 
+        CachedRules persisted = readPersisted(key);
+        if (persisted != null && persisted.isFresh(now)) {
+            rulesCache.put(key, persisted);
+            return persisted;
+        }
+        if (persisted != null && (previous == null || persisted.fetchedAt().isAfter(previous.fetchedAt()))) {
+            previous = persisted;
+        }
+
+        FetchedRobots fetched = fetchRulesForHost(target);
+        CachedRules loaded;
+        if (fetched.failed()) {
+            // Negative entry: keep the last known rules if still usable, otherwise allow all.
+            BaseRobotRules fallback = previous != null && previous.isUsable(now, staleWhileRevalidate)
+                    ? previous.rules()
+                    : ALLOW_ALL_RULES;
+            loaded = new CachedRules(fallback, now, now.plus(failureTtl));
+        } else {
+            loaded = new CachedRules(fetched.rules(), now, now.plus(cacheTtl));
+            writePersisted(key, fetched, loaded);
+        }
+
+        rulesCache.put(key, loaded);
+        return loaded;
+    }
+
+    private CachedRules readPersisted(String key) {
+        if (!persistentCacheEnabled || persistentCache == null) {
+            return null;
+        }
+        try {
+            return persistentCache.findById(key)
+                    .map(entry -> new CachedRules(
+                            entry.getRobotsBody() == null
+                                    ? ALLOW_ALL_RULES
+                                    : parse(key + "/robots.txt", entry.getRobotsBody(), entry.getContentType()),
+                            entry.getFetchedAt(),
+                            entry.getExpiresAt()))
+                    .orElse(null);
         } catch (Exception e) {
-            log.warn("Failed to evaluate robots.txt for url={}. Defaulting to ALLOW. Reason: {}",
-                    url, e.toString());
-            return true;
+            log.warn("Failed to read persisted robots.txt for {}: {}", key, e.toString());
+            return null;
+        }
+    }
+
+    private void writePersisted(String key, FetchedRobots fetched, CachedRules rules) {
+        if (!persistentCacheEnabled || persistentCache == null) {
+            return;
+        }
+        try {
+            persistentCache.upsert(key, fetched.body(), fetched.contentType(), rules.fetchedAt(), rules.expiresAt());
+        } catch (Exception e) {
+            log.warn("Failed to persist robots.txt for {}: {}", key, e.toString());
         }
+        purgeExpired(Instant.now());
     }
 
-    private String buildKey(String scheme, String host, int port) {
-        int effectivePort = port;
-        if (effectivePort == -1) {
-            effectivePort = scheme.equals("https") ? 443 : 80;
+    private void purgeExpired(Instant now) {
+        long due = nextPurgeAtMs.get();
+        if (now.toEpochMilli() < due
+                || !nextPurgeAtMs.compareAndSet(due, now.plus(purgeInterval).toEpochMilli())) {
+            return;
+        }
+        try {
+            int purged = persistentCache.deleteExpiredBefore(now.minus(staleWhileRevalidate));
+            if (purged > 0) {
+                log.info("Purged {} stale persisted robots.txt entries", purged);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge stale persisted robots.txt entries: {}", e.toString());
         }
-        return scheme + "://" + host + ":" + effectivePort;
     }
 
-    private BaseRobotRules fetchRulesForHost(String scheme, String host, int port) {
-        String baseUrl = scheme + "://" + host + (port == -1 ? "" : ":" + port);
+    private FetchedRobots fetchRulesForHost(RobotsTarget target) {
+        String baseUrl = target.baseUrl();
         String robotsUrl = baseUrl + "/robots.txt";
         log.info("Fetching robots.txt from {}", robotsUrl);
 
@@ -108,44 +287,65 @@ public class RobotsService {
                 String contentType = response.headers()
                         .firstValue("Content-Type")
                         .orElse("text/plain");
-                return parser.parseContent(
-                        robotsUrl,
-                        body,
-                        contentType,
-                        userAgent
-                );
+                return new FetchedRobots(parse(robotsUrl, body, contentType), body, contentType, false);
             } else if (status == 404) {
                 log.info("No robots.txt (404) for {}. Treating as all allowed.", baseUrl);
-                return ALLOW_ALL_RULES;
+                return new FetchedRobots(ALLOW_ALL_RULES, null, null, false);
             } else {
                 log.warn("Non-OK status {} while fetching robots.txt from {}. Defaulting to ALLOW.",
                         status, robotsUrl);
-                return ALLOW_ALL_RULES;
+                return FetchedRobots.FAILED;
             }
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.warn("Interrupted fetching robots.txt from {}. Defaulting to ALLOW. Reason: {}",
                     robotsUrl, e.toString());
-            return ALLOW_ALL_RULES;
+            return FetchedRobots.FAILED;
         } catch (IOException e) {
             log.warn("Error fetching robots.txt from {}. Defaulting to ALLOW. Reason: {}",
                     robotsUrl, e.toString());
-            return ALLOW_ALL_RULES;
+            return FetchedRobots.FAILED;
         }
     }
 
-    private static final class CachedRules {
-        private final BaseRobotRules rules;
-        private final Instant fetchedAt;
+    private BaseRobotRules parse(String robotsUrl, byte[] body, String contentType) {
+        return parser.parseContent(
+                robotsUrl,
+                body,
+                contentType != null ? contentType : "text/plain",
+                userAgent
+        );
+    }
+
+    private record RobotsTarget(String scheme, String host, int port) {
+
+        private String key() {
+            int effectivePort = port;
+            if (effectivePort == -1) {
+                effectivePort = scheme.equals("https") ? 443 : 80;
+            }
+            return scheme + "://" + host + ":" + effectivePort;
+        }
+
+        private String baseUrl() {
+            return scheme + "://" + host + (port == -1 ? "" : ":" + port);
+        }
+    }
+
+    private record FetchedRobots(BaseRobotRules rules, byte[] body, String contentType, boolean failed) {
+
+        private static final FetchedRobots FAILED = new FetchedRobots(ALLOW_ALL_RULES, null, null, true);
+    }
+
+    private record CachedRules(BaseRobotRules rules, Instant fetchedAt, Instant expiresAt) {
 
-        private CachedRules(BaseRobotRules rules, Instant fetchedAt) {
-            this.rules = rules;
-            this.fetchedAt = fetchedAt;
+        private boolean isFresh(Instant now) {
+            return expiresAt.isAfter(now);
         }
 
-        private boolean isExpired() {
-            return fetchedAt.plus(CACHE_TTL).isBefore(Instant.now());
+        private boolean isUsable(Instant now, Duration staleWindow) {
+            return expiresAt.plus(staleWindow).isAfter(now);
         }
     }
-}
\ No newline at end of file
+}
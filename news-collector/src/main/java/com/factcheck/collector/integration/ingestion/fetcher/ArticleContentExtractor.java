@@ -2,4 +2,12 @@ package com.factcheck.collector.integration.ingestion.fetcher;
 
 public interface ArticleContentExtractor {
     ArticleFetchResult fetchAndExtract(String url);
-}
\ No newline at end of file
+
+    /**
+     * Conditional fetch using validators from a previous response. Implementations that
+     * support it return a result with HTTP 304 and no text when the page is unchanged.
+     */
+    default ArticleFetchResult fetchAndExtract(String url, String etag, String lastModified) {
+        return fetchAndExtract(url);
+    }
+}
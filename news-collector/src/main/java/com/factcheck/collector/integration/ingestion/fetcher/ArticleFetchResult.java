@@ -17,4 +17,11 @@ public class ArticleFetchResult {
     Boolean blockedSuspected;
     String fetchError;
     String extractionError;
+
+    /**
+     * True when a conditional fetch was answered with 304; the validators are still current.
+     */
+    public boolean isNotModified() {
+        return httpStatus != null && httpStatus == 304;
+    }
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package com.factcheck.collector.integration.ingestion.fetcher;
 
+import com.factcheck.collector.integration.ingestion.CrawlFrontier;
 import com.factcheck.collector.integration.ingestion.RobotsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Connection;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.jsoup.nodes.Node;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -37,6 +39,7 @@ public class GenericJsoupContentExtractor implements ArticleContentExtractor {
 
     private final RobotsService robotsService;
     private final JsoupClient jsoupClient;
+    private final CrawlFrontier crawlFrontier;
 
     @Value("${crawler.user-agent:FactCheckCollector/1.0 (+https://example.com)}")
     private String userAgent;
@@ -55,6 +58,11 @@ public class GenericJsoupContentExtractor implements ArticleContentExtractor {
 
     @Override
     public ArticleFetchResult fetchAndExtract(String url) {
+        return fetchAndExtract(url, null, null);
+    }
+
+    @Override
+    public ArticleFetchResult fetchAndExtract(String url, String etag, String lastModified) {
         if (!robotsService.isAllowed(url)) {
             log.info("Skipping {} (robots.txt disallows)", url);
             return ArticleFetchResult.builder()
@@ -64,22 +72,45 @@ public class GenericJsoupContentExtractor implements ArticleContentExtractor {
                     .build();
         }
 
+        CrawlFrontier.Permit permit = crawlFrontier.acquire(url);
+        if (permit == null) {
+            return ArticleFetchResult.builder()
+                    .fetchedAt(Instant.now())
+                    .finalUrl(url)
+                    .fetchError("Timed out waiting for crawl slot")
+                    .build();
+        }
+
         Instant fetchedAt = Instant.now();
 
-        try {
-            Connection.Response response = jsoupClient.execute(
-                    url,
-                    userAgent,
-                    Math.toIntExact(timeout.toMillis()),
-                    maxBodySizeBytes
-            );
+        // Hold the host permit until the body has been read or abandoned.
+        try (permit; HtmlResponse response = jsoupClient.execute(
+                url,
+                userAgent,
+                Math.toIntExact(timeout.toMillis()),
+                maxBodySizeBytes,
+                etag,
+                lastModified
+        )) {
 
             int statusCode = response.statusCode();
-            String etag = response.header("ETag");
-            String lastModified = response.header("Last-Modified");
-            String contentType = response.contentType();
             String finalUrl = response.url() != null ? response.url().toString() : url;
 
+            if (statusCode == 304) {
+                // A 304 may omit validators; the ones we sent are still current.
+                return ArticleFetchResult.builder()
+                        .fetchedAt(fetchedAt)
+                        .httpStatus(statusCode)
+                        .httpEtag(firstNonBlank(response.header("ETag"), etag))
+                        .httpLastModified(firstNonBlank(response.header("Last-Modified"), lastModified))
+                        .finalUrl(finalUrl)
+                        .build();
+            }
+
+            etag = response.header("ETag");
+            lastModified = response.header("Last-Modified");
+            String contentType = response.contentType();
+
             if (statusCode < 200 || statusCode >= 300) {
                 String bodySnippet = safeSnippet(response.body(), 2000);
 
@@ -109,11 +140,14 @@ public class GenericJsoupContentExtractor implements ArticleContentExtractor {
                         .build();
             }
 
-            Document doc = response.parse();
+            // The first outermost <article> that survives boilerplate removal wins container
+            // selection, so stop reading once it closes.
+            Document doc = response.parse(GenericJsoupContentExtractor::isOutermostArticle);
             removeBoilerplateTags(doc);
 
-            Element container = selectMainContainer(doc);
-            List<String> paragraphs = extractCleanParagraphs(container);
+            DomStats stats = DomStats.of(doc);
+            Element container = selectMainContainer(doc, stats);
+            List<String> paragraphs = extractCleanParagraphs(container, stats);
 
             String text = String.join("\n\n", paragraphs);
             if (!passesQualityGate(text, paragraphs.size())) {
@@ -156,6 +190,19 @@ public class GenericJsoupContentExtractor implements ArticleContentExtractor {
         }
     }
 
+    private static String firstNonBlank(String value, String fallback) {
+        return value != null && !value.isBlank() ? value : fallback;
+    }
+
+    private static boolean isOutermostArticle(Element el) {
+        if (!el.tagName().equals("article")) return false;
+        // A teaser inside a header, nav or aside is removed below, so keep reading past it.
+        for (Element a = el.parent(); a != null; a = a.parent()) {
+            if (a.tagName().equals("article") || REMOVE_TAGS.contains(a.tagName())) return false;
+        }
+        return true;
+    }
+
     private void removeBoilerplateTags(Document doc) {
         // Build a selector from the tag set.
         String selector = String.join(",", REMOVE_TAGS);
@@ -168,7 +215,7 @@ public class GenericJsoupContentExtractor implements ArticleContentExtractor {
         return ct.contains("text/html") || ct.contains("application/xhtml+xml");
     }
 
-    private Element selectMainContainer(Document doc) {
+    private Element selectMainContainer(Document doc, DomStats stats) {
         Element article = doc.selectFirst("article");
         if (article != null) return article;
 
@@ -178,28 +225,18 @@ public class GenericJsoupContentExtractor implements ArticleContentExtractor {
         Element main = doc.selectFirst("main");
         if (main != null) return main;
 
-        Elements candidates = doc.select("div, section");
         Element best = doc.body();
         int bestScore = 0;
 
-        for (Element c : candidates) {
-            Elements ps = c.select("p"); // Include nested paragraphs.
-            if (ps.size() < 3) continue;
-
-            int score = 0;
-            int counted = 0;
-            for (Element p : ps) {
-                String t = p.text();
-                if (t != null && !t.isBlank()) {
-                    score += t.length();
-                    counted++;
-                }
-                // Cap to avoid oversized containers.
-                if (counted >= 30) break;
-            }
+        // Candidates are div/section in document order, so ties keep the outermost/earliest one.
+        for (Element c : stats.candidates) {
+            if (stats.paragraphCount(c) < 3) continue;
+
+            // Text of the first 30 non-blank nested paragraphs; the cap avoids oversized containers.
+            int score = stats.leadingParagraphTextLength(c, 30);
 
             // Penalize deep containers.
-            int depthPenalty = Math.min(10, c.parents().size());
+            int depthPenalty = Math.min(10, stats.depth(c));
             score = score - (depthPenalty * 50);
 
             if (score > bestScore) {
@@ -211,18 +248,15 @@ public class GenericJsoupContentExtractor implements ArticleContentExtractor {
         return best;
     }
 
-    private List<String> extractCleanParagraphs(Element container) {
-        Elements paragraphElements = container.select("p");
+    private List<String> extractCleanParagraphs(Element container, DomStats stats) {
         Set<String> seen = new LinkedHashSet<>();
         List<String> result = new ArrayList<>();
 
-        for (Element p : paragraphElements) {
-            if (isBoilerplate(p)) continue;
+        int end = stats.paragraphEnd(container);
+        for (int i = stats.paragraphStart(container); i < end; i++) {
+            if (isBoilerplate(stats, i)) continue;
 
-            String text = p.text();
-            if (text == null) continue;
-
-            text = text.trim();
+            String text = stats.paragraphText(i).trim();
             if (text.length() < 40) continue;
 
             if (seen.add(text)) {
@@ -233,24 +267,18 @@ public class GenericJsoupContentExtractor implements ArticleContentExtractor {
         return result;
     }
 
-    private boolean isBoilerplate(Element p) {
-        Element cur = p;
-        int depth = 0;
-        while (cur != null && depth < 8) {
-            String tag = cur.tagName();
-            if (BOILERPLATE_ANCESTOR_TAGS.contains(tag)) return true;
-            cur = cur.parent();
-            depth++;
-        }
+    private boolean isBoilerplate(DomStats stats, int paragraph) {
+        if (stats.hasBoilerplateAncestor(paragraph)) return true;
 
-        String text = p.text();
-        if (text == null || text.isBlank()) return true;
+        String text = stats.paragraphText(paragraph);
+        if (text.isBlank()) return true;
 
         int textLen = text.length();
-        int linkTextLen = p.select("a").text().length();
+        int linkTextLen = stats.linkTextLength(paragraph);
         double linkDensity = textLen == 0 ? 1.0 : (double) linkTextLen / (double) textLen;
         if (linkDensity > 0.35) return true;
 
+        Element p = stats.paragraph(paragraph);
         String ctx = (p.className() + " " + p.id()).toLowerCase(Locale.ROOT);
         String[] markers = {
                 "subscribe", "newsletter", "cookie", "advert", "sponsor", "promo",
@@ -294,4 +322,179 @@ public class GenericJsoupContentExtractor implements ArticleContentExtractor {
         String m = t.getMessage();
         return (m == null || m.isBlank()) ? t.getClass().getSimpleName() : m;
     }
-}
\ No newline at end of file
+
+    /**
+     * Everything the container scoring and paragraph filtering need, gathered in one
+     * traversal of the document.
+     * <p>
+     * Paragraphs are numbered in document order. Because an element's descendants are
+     * contiguous in that order, every element maps to a paragraph range, and prefix sums
+     * over the non-blank paragraphs give any container's score in constant time. Link text
+     * and the boilerplate-ancestor flag are recorded per paragraph while the traversal
+     * still has the ancestor chain on its stack.
+     */
+    private static final class DomStats implements NodeVisitor {
+
+        private static final int BOILERPLATE_ANCESTOR_WINDOW = 8;
+        private static final int NO_BOILERPLATE_ANCESTOR = Integer.MAX_VALUE / 2;
+
+        private final Map<Element, Integer> ordinals = new IdentityHashMap<>();
+        private final List<Element> candidates = new ArrayList<>();
+        private final List<Element> paragraphs = new ArrayList<>();
+        private final List<String> paragraphTexts = new ArrayList<>();
+        private final BitSet boilerplateAncestor = new BitSet();
+
+        private int[] rangeStart = new int[256];
+        private int[] rangeEnd = new int[256];
+        private int[] depths = new int[256];
+        private int[] linkTextLengths = new int[64];
+
+        // Distance to the nearest boilerplate ancestor-or-self, indexed by traversal depth.
+        private int[] boilerplateDistance = new int[32];
+        // Paragraphs currently open on the traversal stack (normally at most one).
+        private int[] openParagraphs = new int[4];
+        private int openParagraphCount;
+
+        private int[] nonBlankBefore;
+        private int[] nonBlankLengthPrefix;
+
+        static DomStats of(Document doc) {
+            DomStats stats = new DomStats();
+            NodeTraversor.traverse(stats, doc);
+            stats.buildPrefixSums();
+            return stats;
+        }
+
+        @Override
+        public void head(Node node, int depth) {
+            if (!(node instanceof Element el)) return;
+
+            int ordinal = ordinals.size();
+            ordinals.put(el, ordinal);
+            ensureElementCapacity(ordinal + 1);
+            rangeStart[ordinal] = paragraphs.size();
+            // NodeTraversor depth counts the Document; Element.parents() does not.
+            depths[ordinal] = Math.max(0, depth - 1);
+
+            if (depth >= boilerplateDistance.length) {
+                boilerplateDistance = Arrays.copyOf(boilerplateDistance, depth * 2);
+            }
+            String tag = el.tagName();
+            boilerplateDistance[depth] = BOILERPLATE_ANCESTOR_TAGS.contains(tag)
+                    ? 0
+                    : (depth == 0 ? NO_BOILERPLATE_ANCESTOR : boilerplateDistance[depth - 1] + 1);
+
+            if (tag.equals("div") || tag.equals("section")) {
+                candidates.add(el);
+            } else if (tag.equals("a") && openParagraphCount > 0) {
+                addLinkText(el.text().length());
+            }
+
+            if (tag.equals("p")) {
+                int index = paragraphs.size();
+                paragraphs.add(el);
+                paragraphTexts.add(el.text());
+                if (boilerplateDistance[depth] < BOILERPLATE_ANCESTOR_WINDOW) {
+                    boilerplateAncestor.set(index);
+                }
+                if (index >= linkTextLengths.length) {
+                    linkTextLengths = Arrays.copyOf(linkTextLengths, index * 2);
+                }
+                if (openParagraphCount == openParagraphs.length) {
+                    openParagraphs = Arrays.copyOf(openParagraphs, openParagraphCount * 2);
+                }
+                openParagraphs[openParagraphCount++] = index;
+            }
+        }
+
+        @Override
+        public void tail(Node node, int depth) {
+            if (!(node instanceof Element el)) return;
+
+            rangeEnd[ordinals.get(el)] = paragraphs.size();
+            if (el.tagName().equals("p")) {
+                openParagraphCount--;
+            }
+        }
+
+        private void addLinkText(int length) {
+            // Matches Elements.text(): link texts joined by a single space.
+            for (int i = 0; i < openParagraphCount; i++) {
+                int p = openParagraphs[i];
+                if (linkTextLengths[p] > 0) {
+                    linkTextLengths[p]++;
+                }
+                linkTextLengths[p] += length;
+            }
+        }
+
+        private void ensureElementCapacity(int size) {
+            if (size > rangeStart.length) {
+                int capacity = Math.max(size, rangeStart.length * 2);
+                rangeStart = Arrays.copyOf(rangeStart, capacity);
+                rangeEnd = Arrays.copyOf(rangeEnd, capacity);
+                depths = Arrays.copyOf(depths, capacity);
+            }
+        }
+
+        private void buildPrefixSums() {
+            int count = paragraphs.size();
+            nonBlankBefore = new int[count + 1];
+            nonBlankLengthPrefix = new int[count + 1];
+            int nonBlank = 0;
+            for (int i = 0; i < count; i++) {
+                String text = paragraphTexts.get(i);
+                if (!text.isBlank()) {
+                    nonBlankLengthPrefix[nonBlank + 1] = nonBlankLengthPrefix[nonBlank] + text.length();
+                    nonBlank++;
+                }
+                nonBlankBefore[i + 1] = nonBlank;
+            }
+        }
+
+        int paragraphStart(Element el) {
+            Integer ordinal = ordinals.get(el);
+            return ordinal == null ? 0 : rangeStart[ordinal];
+        }
+
+        int paragraphEnd(Element el) {
+            Integer ordinal = ordinals.get(el);
+            return ordinal == null ? 0 : rangeEnd[ordinal];
+        }
+
+        int paragraphCount(Element el) {
+            return paragraphEnd(el) - paragraphStart(el);
+        }
+
+        int depth(Element el) {
+            Integer ordinal = ordinals.get(el);
+            return ordinal == null ? 0 : depths[ordinal];
+        }
+
+        /**
+         * Total text length of the first {@code limit} non-blank paragraphs inside the element.
+         */
+        int leadingParagraphTextLength(Element el, int limit) {
+            int first = nonBlankBefore[paragraphStart(el)];
+            int available = nonBlankBefore[paragraphEnd(el)] - first;
+            int taken = Math.min(limit, available);
+            return nonBlankLengthPrefix[first + taken] - nonBlankLengthPrefix[first];
+        }
+
+        Element paragraph(int index) {
+            return paragraphs.get(index);
+        }
+
+        String paragraphText(int index) {
+            return paragraphTexts.get(index);
+        }
+
+        int linkTextLength(int index) {
+            return linkTextLengths[index];
+        }
+
+        boolean hasBoilerplateAncestor(int index) {
+            return boilerplateAncestor.get(index);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.factcheck.collector.integration.ingestion.fetcher;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Response from {@link JsoupClient} whose body is still on the wire.
+ * <p>
+ * The body can be consumed once, either as text or through Jsoup's {@link StreamParser}.
+ * The charset is taken from a byte-order mark, then the Content-Type header, then a
+ * {@code <meta>} declaration in the first few KB, and defaults to UTF-8.
+ */
+public class HtmlResponse implements Closeable {
+
+    private static final int CHARSET_PREFETCH_BYTES = 5 * 1024;
+
+    private static final Pattern HEADER_CHARSET = Pattern.compile(
+            "charset\\s*=\\s*[\"']?([^\\s;\"']+)", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern META_CHARSET = Pattern.compile(
+            "<meta[^>]+charset\\s*=\\s*[\"']?\\s*([\\w.:-]+)", Pattern.CASE_INSENSITIVE);
+
+    private final int statusCode;
+    private final URI url;
+    private final HttpHeaders headers;
+    private final BufferedInputStream body;
+    private final Runnable onClose;
+
+    HtmlResponse(int statusCode, URI url, HttpHeaders headers, BufferedInputStream body, Runnable onClose) {
+        this.statusCode = statusCode;
+        this.url = url;
+        this.headers = headers;
+        this.body = body;
+        this.onClose = onClose;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Final URL after redirects.
+     */
+    public URI url() {
+        return url;
+    }
+
+    public String header(String name) {
+        return headers.firstValue(name).orElse(null);
+    }
+
+    public String contentType() {
+        return header("Content-Type");
+    }
+
+    /**
+     * Reads the remaining body as text.
+     */
+    public String body() throws IOException {
+        Charset charset = detectCharset();
+        return new String(body.readAllBytes(), charset);
+    }
+
+    public Document parse() throws IOException {
+        return parse(null);
+    }
+
+    /**
+     * Parses the body incrementally. When {@code stopAfter} matches a completed element the
+     * rest of the body is not read and the document parsed so far is returned.
+     */
+    public Document parse(Predicate<Element> stopAfter) throws IOException {
+        Charset charset = detectCharset();
+        String baseUri = url != null ? url.toString() : "";
+
+        try (StreamParser streamer = new StreamParser(Parser.htmlParser())
+                .parse(new BufferedReader(new InputStreamReader(body, charset)), baseUri)) {
+            Iterator<Element> completed = streamer.iterator();
+            while (completed.hasNext()) {
+                Element element = completed.next();
+                if (stopAfter != null && stopAfter.test(element)) {
+                    streamer.stop();
+                    break;
+                }
+            }
+            Document doc = streamer.document();
+            doc.charset(charset);
+            return doc;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            body.close();
+        } finally {
+            onClose.run();
+        }
+    }
+
+    private Charset detectCharset() throws IOException {
+        body.mark(CHARSET_PREFETCH_BYTES);
+        byte[] head = body.readNBytes(CHARSET_PREFETCH_BYTES);
+        body.reset();
+
+        if (head.length >= 3 && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB && (head[2] & 0xFF) == 0xBF) {
+            body.skipNBytes(3);
+            return StandardCharsets.UTF_8;
+        }
+        if (head.length >= 2 && (head[0] & 0xFF) == 0xFE && (head[1] & 0xFF) == 0xFF) {
+            body.skipNBytes(2);
+            return StandardCharsets.UTF_16BE;
+        }
+        if (head.length >= 2 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xFE) {
+            body.skipNBytes(2);
+            return StandardCharsets.UTF_16LE;
+        }
+
+        Charset fromHeader = charsetFrom(HEADER_CHARSET, contentType());
+        if (fromHeader != null) {
+            return fromHeader;
+        }
+        Charset fromMeta = charsetFrom(META_CHARSET, new String(head, StandardCharsets.ISO_8859_1));
+        return fromMeta != null ? fromMeta : StandardCharsets.UTF_8;
+    }
+
+    private static Charset charsetFrom(Pattern pattern, String text) {
+        if (text == null) {
+            return null;
+        }
+        Matcher m = pattern.matcher(text);
+        if (!m.find()) {
+            return null;
+        }
+        String name = m.group(1).trim().toUpperCase(Locale.ROOT);
+        try {
+            return Charset.isSupported(name) ? Charset.forName(name) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
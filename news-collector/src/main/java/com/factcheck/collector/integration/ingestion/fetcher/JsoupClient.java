@@ -1,21 +1,171 @@
 package com.factcheck.collector.integration.ingestion.fetcher;
 
-import org.jsoup.Connection;
-import org.jsoup.Jsoup;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Article page transport.
+ * <p>
+ * One shared {@link HttpClient} (HTTP/2 when the server offers it, HTTP/1.1 keep-alive
+ * otherwise) so connections are pooled across fetches. Bodies are requested compressed
+ * and handed to {@link HtmlResponse} as a decoded, size-capped stream, so callers can
+ * parse incrementally instead of buffering the page.
+ */
 @Component
 public class JsoupClient {
 
-    public Connection.Response execute(String url, String userAgent, int timeoutMs, int maxBodySizeBytes) throws Exception {
-        return Jsoup.connect(url)
-                .userAgent(userAgent)
-                .timeout(timeoutMs)
-                .followRedirects(true)
-                .maxBodySize(maxBodySizeBytes)
-                .ignoreHttpErrors(true)
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private static final ScheduledExecutorService DEADLINES = deadlineScheduler();
+
+    private final HttpClient httpClient;
+
+    public JsoupClient(@Value("${crawler.connect-timeout:PT5S}") Duration connectTimeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    /**
+     * Sends the request and returns once headers arrive. The body is read lazily from the
+     * returned response, which must be closed; it is cut off after {@code timeoutMs} in total
+     * and truncated after {@code maxBodySizeBytes} decoded bytes (0 = unlimited).
+     */
+    public HtmlResponse execute(String url, String userAgent, int timeoutMs, int maxBodySizeBytes) throws IOException {
+        return execute(url, userAgent, timeoutMs, maxBodySizeBytes, null, null);
+    }
+
+    /**
+     * Conditional variant: sends {@code If-None-Match} / {@code If-Modified-Since} when the
+     * validators are present, so an unchanged page comes back as a bodiless 304.
+     */
+    public HtmlResponse execute(
+            String url,
+            String userAgent,
+            int timeoutMs,
+            int maxBodySizeBytes,
+            String ifNoneMatch,
+            String ifModifiedSince
+    ) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofMillis(timeoutMs))
+                .header("User-Agent", userAgent)
                 .header("Accept", "text/html,application/xhtml+xml")
                 .header("Accept-Language", "en-US,en;q=0.8,*;q=0.5")
-                .execute();
+                .header("Accept-Encoding", ACCEPT_ENCODING);
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
+            builder.header("If-None-Match", ifNoneMatch);
+        }
+        if (ifModifiedSince != null && !ifModifiedSince.isBlank()) {
+            builder.header("If-Modified-Since", ifModifiedSince);
+        }
+        HttpRequest request = builder.GET().build();
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching " + url, e);
+        }
+
+        InputStream raw = response.body();
+        // The request timeout only covers headers; bound the body read as well.
+        ScheduledFuture<?> deadline = DEADLINES.schedule(() -> closeQuietly(raw), timeoutMs, TimeUnit.MILLISECONDS);
+        try {
+            InputStream body = decode(raw, response.headers().firstValue("Content-Encoding").orElse(null));
+            if (maxBodySizeBytes > 0) {
+                body = new BoundedInputStream(body, maxBodySizeBytes);
+            }
+            return new HtmlResponse(response.statusCode(), response.uri(), response.headers(),
+                    new BufferedInputStream(body), () -> deadline.cancel(false));
+        } catch (IOException | RuntimeException e) {
+            deadline.cancel(false);
+            closeQuietly(raw);
+            throw e;
+        }
+    }
+
+    private InputStream decode(InputStream raw, String contentEncoding) throws IOException {
+        if (contentEncoding == null || contentEncoding.isBlank()) {
+            return raw;
+        }
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(raw);
+            case "deflate" -> new InflaterInputStream(raw);
+            case "identity" -> raw;
+            default -> throw new IOException("Unsupported Content-Encoding: " + contentEncoding);
+        };
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // Best effort.
+        }
+    }
+
+    private static ScheduledExecutorService deadlineScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "article-fetch-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Reports end-of-stream after {@code limit} bytes, like Jsoup's {@code maxBodySize}.
+     */
+    private static final class BoundedInputStream extends InputStream {
+        private final InputStream in;
+        private long remaining;
+
+        private BoundedInputStream(InputStream in, long limit) {
+            this.in = in;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) return -1;
+            int b = in.read();
+            if (b >= 0) remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws IOException {
+            if (remaining <= 0) return -1;
+            int n = in.read(buf, off, (int) Math.min(len, remaining));
+            if (n > 0) remaining -= n;
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
     }
-}
\ No newline at end of file
+}
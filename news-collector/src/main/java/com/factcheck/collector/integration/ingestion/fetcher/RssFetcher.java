@@ -3,6 +3,8 @@ package com.factcheck.collector.integration.ingestion.fetcher;
 import com.factcheck.collector.domain.entity.SourceEndpoint;
 import com.factcheck.collector.domain.enums.SourceKind;
 import com.factcheck.collector.exception.FetchException;
+import com.factcheck.collector.util.HashUtils;
+import com.factcheck.collector.util.HighWaterMarkUtils;
 import com.rometools.rome.feed.synd.SyndEntry;
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.SyndFeedInput;
@@ -12,11 +14,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.io.InputStream;
+import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
@@ -30,6 +33,9 @@ public class RssFetcher implements SourceFetcher {
     @Value("${crawler.user-agent:FactCheckCollector/1.0 (+https://example.com)}")
     private String userAgent;
 
+    @Value("${ingestion.high-water-lookback:PT1H}")
+    private Duration highWaterLookback = Duration.ofHours(1);
+
     private final HttpClient httpClient = HttpClient.newBuilder()
             .followRedirects(HttpClient.Redirect.NORMAL)
             .build();
@@ -40,14 +46,25 @@ public class RssFetcher implements SourceFetcher {
         log.info("Fetching RSS from endpoint id={} url={}", sourceEndpoint.getId(), rssUrl);
 
         try {
-            HttpRequest request = HttpRequest.newBuilder()
+            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
                     .uri(URI.create(rssUrl))
                     .GET()
-                    .header("User-Agent", userAgent)
-                    .build();
+                    .header("User-Agent", userAgent);
+            // Conditional GET: unchanged feeds cost a 304 with no body.
+            if (hasText(sourceEndpoint.getFeedEtag())) {
+                requestBuilder.header("If-None-Match", sourceEndpoint.getFeedEtag());
+            }
+            if (hasText(sourceEndpoint.getFeedLastModified())) {
+                requestBuilder.header("If-Modified-Since", sourceEndpoint.getFeedLastModified());
+            }
+
+            HttpResponse<byte[]> response =
+                    httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
 
-            HttpResponse<InputStream> response =
-                    httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            if (response.statusCode() == 304) {
+                log.info("RSS not modified for endpoint id={}", sourceEndpoint.getId());
+                return List.of();
+            }
 
             if (response.statusCode() < 200 || response.statusCode() >= 300) {
                 throw new FetchException(
@@ -55,13 +72,26 @@ public class RssFetcher implements SourceFetcher {
                 );
             }
 
-            try (InputStream is = response.body();
-                 XmlReader reader = new XmlReader(is)) {
+            byte[] body = response.body();
+            String contentHash = HashUtils.sha256Hex(body);
+            String etag = response.headers().firstValue("ETag").orElse(null);
+            String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+
+            // Fallback for servers that ignore validators: identical bytes mean nothing new.
+            if (contentHash.equals(sourceEndpoint.getFeedContentHash())) {
+                log.info("RSS body unchanged for endpoint id={}", sourceEndpoint.getId());
+                sourceEndpoint.setFeedEtag(etag);
+                sourceEndpoint.setFeedLastModified(lastModified);
+                return List.of();
+            }
+
+            try (XmlReader reader = new XmlReader(new ByteArrayInputStream(body))) {
 
                 SyndFeedInput input = new SyndFeedInput();
                 SyndFeed feed = input.build(reader);
 
                 List<RawArticle> result = new ArrayList<>();
+                int behindMark = 0;
 
                 for (SyndEntry entry : feed.getEntries()) {
 
@@ -76,13 +106,18 @@ public class RssFetcher implements SourceFetcher {
                             ? entry.getDescription().getValue()
                             : "";
 
+                    // Leave undated items null so they never move or get filtered by the high-water mark.
                     Date pubDate = entry.getPublishedDate();
-                    Instant published = pubDate != null
-                            ? pubDate.toInstant()
-                            : Instant.now();
+                    Instant published = pubDate != null ? pubDate.toInstant() : null;
+                    String sourceItemId = entry.getUri() != null ? entry.getUri() : link;
+
+                    if (HighWaterMarkUtils.isBehind(sourceEndpoint, published, sourceItemId, highWaterLookback)) {
+                        behindMark++;
+                        continue;
+                    }
 
                     result.add(RawArticle.builder()
-                            .sourceItemId(entry.getUri() != null ? entry.getUri() : link)
+                            .sourceItemId(sourceItemId)
                             .externalUrl(link)
                             .title(title)
                             .description(description)
@@ -90,6 +125,15 @@ public class RssFetcher implements SourceFetcher {
                             .build());
                 }
 
+                if (behindMark > 0) {
+                    log.debug("Dropped {} RSS items behind high-water mark for endpoint id={}",
+                            behindMark, sourceEndpoint.getId());
+                }
+
+                sourceEndpoint.setFeedEtag(etag);
+                sourceEndpoint.setFeedLastModified(lastModified);
+                sourceEndpoint.setFeedContentHash(contentHash);
+
                 log.info("Fetched {} RSS items from endpoint id={}", result.size(), sourceEndpoint.getId());
                 return result;
             }
@@ -99,6 +143,10 @@ public class RssFetcher implements SourceFetcher {
         }
     }
 
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
     @Override
     public boolean supports(SourceEndpoint sourceEndpoint) {
         return sourceEndpoint.getKind() == SourceKind.RSS;
@@ -39,6 +39,8 @@ public class NlpServiceClient {
             HttpStatus.SERVICE_UNAVAILABLE.value()
     );
 
+    private volatile String servedModel;
+
     public PreprocessResponse preprocess(String text, String correlationId) {
         try {
             PreprocessRequest req = new PreprocessRequest();
@@ -108,6 +110,7 @@ public class NlpServiceClient {
                 throw new NlpServiceException("NLP embed failed: empty response body");
             }
 
+            recordServedModel(body.getModel());
             return body;
 
         } catch (RestClientException e) {
@@ -145,6 +148,7 @@ public class NlpServiceClient {
                 throw new NlpServiceException("NLP embed-sentences failed: empty response body");
             }
 
+            recordServedModel(body.getModel());
             return body;
 
         } catch (RestClientException e) {
@@ -153,6 +157,21 @@ public class NlpServiceClient {
         }
     }
 
+    /**
+     * Embedding model reported by the most recent embed response, or {@code null} before the
+     * first one. Caches key vectors by this rather than by local configuration.
+     */
+    public String servedModel() {
+        return servedModel;
+    }
+
+    private void recordServedModel(String model) {
+        if (model != null && !model.isBlank() && !model.equals(servedModel)) {
+            log.info("NLP service reports embedding model {}", model);
+            servedModel = model;
+        }
+    }
+
     private HttpHeaders buildHeaders(String correlationId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
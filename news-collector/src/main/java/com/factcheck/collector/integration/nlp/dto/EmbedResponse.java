@@ -7,7 +7,11 @@ import java.util.List;
 @Data
 public class EmbedResponse {
 
-    private List<List<Double>> embeddings;
+    private List<float[]> embeddings;
+
+    private Integer dimension;
+
+    private String model;
 
     private String correlationId;
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ import java.util.List;
 
 @Data
 public class SentenceEmbedResponse {
-    private List<List<Double>> embeddings;
+    private List<float[]> embeddings;
     private Integer dimension;
     private String model;
     private Integer processingTimeMs;
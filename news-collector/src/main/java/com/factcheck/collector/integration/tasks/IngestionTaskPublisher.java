@@ -15,7 +15,16 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Slf4j
 @Profile("gcp")
@@ -51,7 +60,17 @@ public class IngestionTaskPublisher implements TaskPublisher {
     @Value("${cloud-tasks.metadata-url:http://metadata.google.internal/computeMetadata/v1/instance/service-accounts/default/token}")
     private String metadataUrl;
 
+    @Value("${cloud-tasks.enqueue-parallelism:16}")
+    private int enqueueParallelism = 16;
+
+    @Value("${cloud-tasks.enqueue-max-attempts:4}")
+    private int enqueueMaxAttempts = 4;
+
+    @Value("${cloud-tasks.enqueue-retry-backoff:PT0.2S}")
+    private Duration enqueueRetryBackoff = Duration.ofMillis(200);
+
     private volatile CachedToken cachedToken;
+    private final ReentrantLock tokenLock = new ReentrantLock();
 
     @Override
     public void enqueueIngestionTask(IngestionTaskRequest taskRequest) {
@@ -62,50 +81,138 @@ public class IngestionTaskPublisher implements TaskPublisher {
         }
 
         try {
-            String queuePath = String.format("projects/%s/locations/%s/queues/%s", projectId, location, queue);
-            String url = "https://cloudtasks.googleapis.com/v2/" + queuePath + "/tasks";
-
-            String payload = mapper.writeValueAsString(taskRequest);
-            String base64Body = Base64.getEncoder()
-                    .encodeToString(payload.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-
-            var root = mapper.createObjectNode();
-            var taskNode = root.putObject("task");
-            var httpRequest = taskNode.putObject("httpRequest");
-            httpRequest.put("httpMethod", "POST");
-            httpRequest.put("url", targetUrl);
-            httpRequest.put("body", base64Body);
-
-            var headers = httpRequest.putObject("headers");
-            headers.put("Content-Type", "application/json");
-            if (taskRequest.correlationId() != null && !taskRequest.correlationId().isBlank()) {
-                headers.put("X-Correlation-Id", taskRequest.correlationId());
+            sendTask(taskRequest);
+        } catch (Exception e) {
+            log.error("Failed to enqueue Cloud Task for runId={} sourceEndpointId={}",
+                    taskRequest.runId(), taskRequest.sourceEndpointId(), e);
+            throw new IllegalStateException("Cloud Tasks enqueue failed", e);
+        }
+    }
+
+    /**
+     * Dispatches tasks in parallel (bounded by {@code cloud-tasks.enqueue-parallelism}) and
+     * retries transient failures (I/O, 429, 5xx) with jittered exponential backoff.
+     */
+    @Override
+    public List<TaskEnqueueResult> enqueueIngestionTasks(List<IngestionTaskRequest> taskRequests) {
+        validateConfig();
+
+        Semaphore permits = new Semaphore(Math.max(1, enqueueParallelism));
+        List<Future<TaskEnqueueResult>> futures = new ArrayList<>(taskRequests.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (IngestionTaskRequest taskRequest : taskRequests) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return enqueueWithRetry(taskRequest);
+                    } finally {
+                        permits.release();
+                    }
+                }));
             }
+        }
 
-            if (serviceAccountEmail != null && !serviceAccountEmail.isBlank()) {
-                var oidc = httpRequest.putObject("oidcToken");
-                oidc.put("serviceAccountEmail", serviceAccountEmail);
+        List<TaskEnqueueResult> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            IngestionTaskRequest taskRequest = taskRequests.get(i);
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(TaskEnqueueResult.failed(taskRequest, "Interrupted before dispatch"));
+            } catch (ExecutionException e) {
+                results.add(TaskEnqueueResult.failed(taskRequest, safeMessage(e.getCause())));
             }
+        }
+        return results;
+    }
 
-            HttpRequest req = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Content-Type", "application/json")
-                    .header("Authorization", "Bearer " + getAccessToken())
-                    .timeout(HTTP_TIMEOUT)
-                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(root)))
-                    .build();
-
-            HttpResponse<String> resp = httpClient.send(req, HttpResponse.BodyHandlers.ofString());
-            if (resp.statusCode() < 200 || resp.statusCode() >= 300) {
-                throw new IllegalStateException(
-                        "Cloud Tasks enqueue failed HTTP " + resp.statusCode() + ": " + resp.body()
-                );
+    private TaskEnqueueResult enqueueWithRetry(IngestionTaskRequest taskRequest) throws InterruptedException {
+        if (taskRequest == null || taskRequest.runId() == null || taskRequest.sourceEndpointId() == null) {
+            return TaskEnqueueResult.failed(taskRequest, "runId and sourceEndpointId are required");
+        }
+
+        int attempts = Math.max(1, enqueueMaxAttempts);
+        Exception last = null;
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            try {
+                sendTask(taskRequest);
+                return TaskEnqueueResult.enqueued(taskRequest);
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                last = e;
+                if (attempt == attempts || !isRetryable(e)) {
+                    break;
+                }
+                Thread.sleep(jitteredBackoff(attempt));
             }
-        } catch (Exception e) {
-            log.error("Failed to enqueue Cloud Task for runId={} sourceEndpointId={}",
-                    taskRequest.runId(), taskRequest.sourceEndpointId(), e);
-            throw new IllegalStateException("Cloud Tasks enqueue failed", e);
         }
+
+        log.warn("Failed to enqueue Cloud Task for runId={} sourceEndpointId={}: {}",
+                taskRequest.runId(), taskRequest.sourceEndpointId(), safeMessage(last));
+        return TaskEnqueueResult.failed(taskRequest, safeMessage(last));
+    }
+
+    private void sendTask(IngestionTaskRequest taskRequest) throws Exception {
+        String queuePath = String.format("projects/%s/locations/%s/queues/%s", projectId, location, queue);
+        String url = "https://cloudtasks.googleapis.com/v2/" + queuePath + "/tasks";
+
+        String payload = mapper.writeValueAsString(taskRequest);
+        String base64Body = Base64.getEncoder()
+                .encodeToString(payload.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+
+        var root = mapper.createObjectNode();
+        var taskNode = root.putObject("task");
+        var httpRequest = taskNode.putObject("httpRequest");
+        httpRequest.put("httpMethod", "POST");
+        httpRequest.put("url", targetUrl);
+        httpRequest.put("body", base64Body);
+
+        var headers = httpRequest.putObject("headers");
+        headers.put("Content-Type", "application/json");
+        if (taskRequest.correlationId() != null && !taskRequest.correlationId().isBlank()) {
+            headers.put("X-Correlation-Id", taskRequest.correlationId());
+        }
+
+        if (serviceAccountEmail != null && !serviceAccountEmail.isBlank()) {
+            var oidc = httpRequest.putObject("oidcToken");
+            oidc.put("serviceAccountEmail", serviceAccountEmail);
+        }
+
+        HttpRequest req = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + getAccessToken())
+                .timeout(HTTP_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(root)))
+                .build();
+
+        HttpResponse<String> resp = httpClient.send(req, HttpResponse.BodyHandlers.ofString());
+        if (resp.statusCode() < 200 || resp.statusCode() >= 300) {
+            throw new EnqueueHttpException(resp.statusCode(), resp.body());
+        }
+    }
+
+    private boolean isRetryable(Exception e) {
+        if (e instanceof EnqueueHttpException httpError) {
+            return httpError.status == 429 || httpError.status >= 500;
+        }
+        return e instanceof java.io.IOException;
+    }
+
+    private Duration jitteredBackoff(int attempt) {
+        long baseMillis = enqueueRetryBackoff.toMillis() << Math.min(attempt - 1, 10);
+        // Full jitter keeps thousands of parallel retries from hitting the API in lockstep.
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(baseMillis / 2, baseMillis + 1));
+    }
+
+    private String safeMessage(Throwable t) {
+        if (t == null) {
+            return "unknown error";
+        }
+        String msg = t.getMessage();
+        return (msg == null || msg.isBlank()) ? t.getClass().getSimpleName() : msg;
     }
 
     private void validateConfig() {
@@ -120,11 +227,25 @@ public class IngestionTaskPublisher implements TaskPublisher {
         }
 
         CachedToken cached = cachedToken;
-        Instant now = Instant.now();
-        if (cached != null && cached.expiresAt.isAfter(now.plusSeconds(30))) {
+        if (cached != null && cached.expiresAt.isAfter(Instant.now().plusSeconds(30))) {
             return cached.token;
         }
 
+        // Single-flight refresh so parallel enqueues do not all hit the metadata server.
+        tokenLock.lock();
+        try {
+            cached = cachedToken;
+            if (cached != null && cached.expiresAt.isAfter(Instant.now().plusSeconds(30))) {
+                return cached.token;
+            }
+            return fetchAccessToken();
+        } finally {
+            tokenLock.unlock();
+        }
+    }
+
+    private String fetchAccessToken() throws Exception {
+        Instant now = Instant.now();
         HttpRequest req = HttpRequest.newBuilder()
                 .uri(URI.create(metadataUrl))
                 .header("Metadata-Flavor", "Google")
@@ -156,4 +277,13 @@ public class IngestionTaskPublisher implements TaskPublisher {
 
     private record CachedToken(String token, Instant expiresAt) {
     }
+
+    private static final class EnqueueHttpException extends IllegalStateException {
+        private final int status;
+
+        private EnqueueHttpException(int status, String body) {
+            super("Cloud Tasks enqueue failed HTTP " + status + ": " + body);
+            this.status = status;
+        }
+    }
 }
\ No newline at end of file
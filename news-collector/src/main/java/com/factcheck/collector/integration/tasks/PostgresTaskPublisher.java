@@ -0,0 +1,86 @@
+package com.factcheck.collector.integration.tasks;
+
+import com.factcheck.collector.dto.IngestionTaskRequest;
+import com.factcheck.collector.repository.IngestionTaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Self-hosted task publisher: tasks go into {@code content.ingestion_tasks} and are drained
+ * by {@link com.factcheck.collector.service.ingestion.IngestionTaskWorker}.
+ */
+@Slf4j
+@Profile("!gcp")
+@Component
+@RequiredArgsConstructor
+public class PostgresTaskPublisher implements TaskPublisher {
+
+    private final IngestionTaskRepository ingestionTaskRepository;
+
+    @Override
+    public void enqueueIngestionTask(IngestionTaskRequest taskRequest) {
+        if (taskRequest == null || taskRequest.runId() == null || taskRequest.sourceEndpointId() == null) {
+            throw new IllegalArgumentException("runId and sourceEndpointId are required");
+        }
+
+        try {
+            int inserted = ingestionTaskRepository.enqueue(
+                    taskRequest.runId(),
+                    taskRequest.sourceEndpointId(),
+                    taskRequest.correlationId()
+            );
+            if (inserted == 0) {
+                log.debug("Task already queued for runId={} sourceEndpointId={}",
+                        taskRequest.runId(), taskRequest.sourceEndpointId());
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to enqueue task runId={} sourceEndpointId={}",
+                    taskRequest.runId(), taskRequest.sourceEndpointId(), e);
+            throw new IllegalStateException("Task queue enqueue failed", e);
+        }
+    }
+
+    /**
+     * Writes each run's tasks with one insert instead of a round trip per endpoint.
+     */
+    @Override
+    public List<TaskEnqueueResult> enqueueIngestionTasks(List<IngestionTaskRequest> taskRequests) {
+        Map<TaskGroup, List<IngestionTaskRequest>> groups = new LinkedHashMap<>();
+        Map<IngestionTaskRequest, TaskEnqueueResult> outcomes = new HashMap<>();
+
+        for (IngestionTaskRequest taskRequest : taskRequests) {
+            if (taskRequest == null || taskRequest.runId() == null || taskRequest.sourceEndpointId() == null) {
+                outcomes.put(taskRequest, TaskEnqueueResult.failed(taskRequest, "runId and sourceEndpointId are required"));
+                continue;
+            }
+            groups.computeIfAbsent(new TaskGroup(taskRequest.runId(), taskRequest.correlationId()), g -> new ArrayList<>())
+                    .add(taskRequest);
+        }
+
+        groups.forEach((group, members) -> {
+            List<Long> endpointIds = members.stream().map(IngestionTaskRequest::sourceEndpointId).toList();
+            try {
+                ingestionTaskRepository.enqueueAll(group.runId(), group.correlationId(), endpointIds);
+                members.forEach(m -> outcomes.put(m, TaskEnqueueResult.enqueued(m)));
+            } catch (DataAccessException e) {
+                log.error("Failed to enqueue {} tasks for runId={}", members.size(), group.runId(), e);
+                String msg = "Task queue enqueue failed: " + e.getMessage();
+                members.forEach(m -> outcomes.put(m, TaskEnqueueResult.failed(m, msg)));
+            }
+        });
+
+        return taskRequests.stream().map(outcomes::get).toList();
+    }
+
+    private record TaskGroup(Long runId, String correlationId) {
+    }
+}
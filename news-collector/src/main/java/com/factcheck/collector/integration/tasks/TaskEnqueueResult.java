@@ -0,0 +1,14 @@
+package com.factcheck.collector.integration.tasks;
+
+import com.factcheck.collector.dto.IngestionTaskRequest;
+
+public record TaskEnqueueResult(IngestionTaskRequest request, boolean enqueued, String error) {
+
+    public static TaskEnqueueResult enqueued(IngestionTaskRequest request) {
+        return new TaskEnqueueResult(request, true, null);
+    }
+
+    public static TaskEnqueueResult failed(IngestionTaskRequest request, String error) {
+        return new TaskEnqueueResult(request, false, error);
+    }
+}
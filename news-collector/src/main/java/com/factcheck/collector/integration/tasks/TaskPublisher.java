@@ -2,6 +2,27 @@ package com.factcheck.collector.integration.tasks;
 
 import com.factcheck.collector.dto.IngestionTaskRequest;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface TaskPublisher {
     void enqueueIngestionTask(IngestionTaskRequest taskRequest);
-}
\ No newline at end of file
+
+    /**
+     * Enqueues every request and reports the outcome per task, in request order.
+     * One failed task never stops the others from being attempted.
+     */
+    default List<TaskEnqueueResult> enqueueIngestionTasks(List<IngestionTaskRequest> taskRequests) {
+        List<TaskEnqueueResult> results = new ArrayList<>(taskRequests.size());
+        for (IngestionTaskRequest taskRequest : taskRequests) {
+            try {
+                enqueueIngestionTask(taskRequest);
+                results.add(TaskEnqueueResult.enqueued(taskRequest));
+            } catch (Exception e) {
+                String msg = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+                results.add(TaskEnqueueResult.failed(taskRequest, msg));
+            }
+        }
+        return results;
+    }
+}
@@ -3,10 +3,15 @@ package com.factcheck.collector.repository;
 import com.factcheck.collector.domain.entity.Article;
 import com.factcheck.collector.domain.entity.Publisher;
 import com.factcheck.collector.domain.enums.ArticleStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +19,8 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
 
     Optional<Article> findByPublisherAndCanonicalUrlHash(Publisher publisher, String canonicalUrlHash);
 
+    List<Article> findByPublisherAndCanonicalUrlHashIn(Publisher publisher, Collection<String> canonicalUrlHashes);
+
     List<Article> findByStatus(ArticleStatus status);
 
     List<Article> findByPublisherAndStatus(Publisher publisher, ArticleStatus status);
@@ -29,18 +36,163 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
         """)
     Optional<Article> findByIdWithPublisherAndMbfc(@Param("id") Long id);
 
+    /**
+     * First page of articles, newest first. Pages continue with {@link #findLatestAfter}
+     * and, once past the dated articles, {@link #findLatestUndatedAfter}; the page size
+     * comes from {@code pageable}.
+     */
     @Query("""
         select a
         from Article a
+        join fetch a.publisher
         order by a.publishedDate desc nulls last, a.id desc
         """)
-    List<Article> findLatest(@Param("limit") int limit);
+    List<Article> findLatest(Pageable pageable);
+
+    /**
+     * Dated articles after the keyset {@code (publishedDate, id)}. The row comparison is a
+     * single range on {@code idx_articles_published_date_id}; the undated tail that follows
+     * comes from {@link #findLatestUndatedAfter}.
+     */
+    @Query("""
+        select a
+        from Article a
+        join fetch a.publisher
+        where (a.publishedDate, a.id) < (:publishedDate, :id)
+        order by a.publishedDate desc nulls last, a.id desc
+        """)
+    List<Article> findLatestAfter(
+            @Param("publishedDate") Instant publishedDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+        select a
+        from Article a
+        join fetch a.publisher
+        where a.publishedDate is null
+          and a.id < :id
+        order by a.id desc
+        """)
+    List<Article> findLatestUndatedAfter(@Param("id") Long id, Pageable pageable);
 
     @Query("""
         select a
         from Article a
+        join fetch a.publisher
         where lower(a.title) like lower(concat('%', :q, '%'))
         order by a.publishedDate desc nulls last, a.id desc
         """)
-    List<Article> searchByTitle(@Param("q") String q, @Param("limit") int limit);
-}
\ No newline at end of file
+    List<Article> searchByTitle(@Param("q") String q, Pageable pageable);
+
+    @Query("""
+        select a
+        from Article a
+        join fetch a.publisher
+        where lower(a.title) like lower(concat('%', :q, '%'))
+          and (a.publishedDate, a.id) < (:publishedDate, :id)
+        order by a.publishedDate desc nulls last, a.id desc
+        """)
+    List<Article> searchByTitleAfter(
+            @Param("q") String q,
+            @Param("publishedDate") Instant publishedDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+        select a
+        from Article a
+        join fetch a.publisher
+        where lower(a.title) like lower(concat('%', :q, '%'))
+          and a.publishedDate is null
+          and a.id < :id
+        order by a.id desc
+        """)
+    List<Article> searchByTitleUndatedAfter(@Param("q") String q, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Recent articles in {@code status} that have not been fetched since {@code fetchedBefore},
+     * least recently fetched first.
+     */
+    @Query("""
+        select a
+        from Article a
+        where a.status = :status
+          and coalesce(a.publishedDate, a.firstSeenAt) >= :since
+          and (a.contentFetchedAt is null or a.contentFetchedAt < :fetchedBefore)
+        order by a.contentFetchedAt asc nulls first, a.id asc
+        """)
+    List<Article> findRefreshCandidates(
+            @Param("status") ArticleStatus status,
+            @Param("since") Instant since,
+            @Param("fetchedBefore") Instant fetchedBefore,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query("""
+        update Article a
+        set a.lastSeenAt = :seenAt
+        where a.id in :ids
+        """)
+    int touchLastSeen(@Param("ids") Collection<Long> ids, @Param("seenAt") Instant seenAt);
+
+    /**
+     * Inserts discovered feed items and their article_sources links in one statement.
+     * Rows with an {@code article_id} link to that existing article; the rest insert a new
+     * article first. Articles that lose a unique-key race are neither inserted nor linked.
+     * Returns the newly inserted articles only.
+     */
+    @Transactional
+    @Query(value = """
+            WITH input AS (
+                SELECT *
+                FROM jsonb_to_recordset(CAST(:rows AS jsonb)) AS r(
+                    article_id         BIGINT,
+                    source_item_id     TEXT,
+                    original_url       TEXT,
+                    canonical_url      TEXT,
+                    canonical_url_hash TEXT,
+                    title              TEXT,
+                    description        TEXT,
+                    published_date     TIMESTAMPTZ
+                )
+            ),
+            inserted AS (
+                INSERT INTO content.articles (
+                    publisher_id, original_url, canonical_url, canonical_url_hash,
+                    title, description, published_date
+                )
+                SELECT DISTINCT ON (i.canonical_url_hash)
+                       :publisherId, i.original_url, i.canonical_url, i.canonical_url_hash,
+                       i.title, i.description, i.published_date
+                FROM input i
+                WHERE i.article_id IS NULL
+                ORDER BY i.canonical_url_hash
+                ON CONFLICT (publisher_id, canonical_url_hash) DO NOTHING
+                RETURNING id, canonical_url_hash
+            ),
+            linked AS (
+                INSERT INTO content.article_sources (article_id, source_endpoint_id, source_item_id)
+                SELECT COALESCE(i.article_id, ins.id), :sourceEndpointId, i.source_item_id
+                FROM input i
+                LEFT JOIN inserted ins ON ins.canonical_url_hash = i.canonical_url_hash
+                WHERE i.article_id IS NOT NULL OR ins.id IS NOT NULL
+                ON CONFLICT (source_endpoint_id, source_item_id) DO NOTHING
+            )
+            SELECT id, canonical_url_hash AS "canonicalUrlHash"
+            FROM inserted
+            """, nativeQuery = true)
+    List<InsertedArticle> insertDiscovered(
+            @Param("publisherId") Long publisherId,
+            @Param("sourceEndpointId") Long sourceEndpointId,
+            @Param("rows") String rows
+    );
+
+    interface InsertedArticle {
+        Long getId();
+        String getCanonicalUrlHash();
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -14,8 +15,32 @@ public interface ArticleSourceRepository extends JpaRepository<ArticleSource, Lo
 
     boolean existsBySourceEndpointAndSourceItemId(SourceEndpoint sourceEndpoint, String sourceItemId);
 
+    @Query("""
+            select a.sourceItemId
+            from ArticleSource a
+            where a.sourceEndpoint = :sourceEndpoint
+              and a.sourceItemId in :sourceItemIds
+            """)
+    List<String> findExistingSourceItemIds(
+            @Param("sourceEndpoint") SourceEndpoint sourceEndpoint,
+            @Param("sourceItemIds") Collection<String> sourceItemIds
+    );
+
     Optional<ArticleSource> findTopByArticleOrderByFetchedAtDesc(Article article);
 
+    /**
+     * Sources of the given articles with their endpoints, grouped by article and most
+     * recently fetched first, so the first row per article is its latest source.
+     */
+    @Query("""
+            select a
+            from ArticleSource a
+            join fetch a.sourceEndpoint
+            where a.article.id in :articleIds
+            order by a.article.id, a.fetchedAt desc, a.id desc
+            """)
+    List<ArticleSource> findByArticleIdsLatestFirst(@Param("articleIds") Collection<Long> articleIds);
+
     @Query("""
             select a.sourceEndpoint.id as sourceEndpointId, count(a) as articleCount
             from ArticleSource a
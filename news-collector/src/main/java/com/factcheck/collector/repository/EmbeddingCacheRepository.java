@@ -0,0 +1,51 @@
+package com.factcheck.collector.repository;
+
+import com.factcheck.collector.domain.entity.EmbeddingCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface EmbeddingCacheRepository extends JpaRepository<EmbeddingCacheEntry, EmbeddingCacheEntry.Key> {
+
+    List<EmbeddingCacheEntry> findByModelIdAndTextHashInAndCreatedAtAfter(
+            String modelId, Collection<String> textHashes, Instant createdAfter);
+
+    /**
+     * Inserts vectors given as a JSON array of {@code {text_hash, dimension, vector}} with the
+     * vector base64-encoded. Existing entries are kept unless they were created before
+     * {@code expiredBefore} or have a different dimension.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO content.embedding_cache (model_id, text_hash, dimension, vector)
+            SELECT :modelId, r.text_hash, r.dimension, decode(r.vector, 'base64')
+            FROM jsonb_to_recordset(CAST(:rows AS jsonb)) AS r(
+                text_hash TEXT,
+                dimension INT,
+                vector    TEXT
+            )
+            ON CONFLICT (model_id, text_hash) DO UPDATE
+            SET dimension = EXCLUDED.dimension,
+                vector = EXCLUDED.vector,
+                created_at = now()
+            WHERE content.embedding_cache.created_at < :expiredBefore
+               OR content.embedding_cache.dimension <> EXCLUDED.dimension
+            """, nativeQuery = true)
+    int upsertAll(
+            @Param("modelId") String modelId,
+            @Param("rows") String rows,
+            @Param("expiredBefore") Instant expiredBefore
+    );
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM content.embedding_cache WHERE created_at < :cutoff", nativeQuery = true)
+    int deleteCreatedBefore(@Param("cutoff") Instant cutoff);
+}
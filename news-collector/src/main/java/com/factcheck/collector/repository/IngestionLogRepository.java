@@ -1,7 +1,6 @@
 package com.factcheck.collector.repository;
 
 import com.factcheck.collector.domain.entity.IngestionLog;
-import com.factcheck.collector.domain.enums.IngestionStatus;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,9 +10,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 public interface IngestionLogRepository extends JpaRepository<IngestionLog, Long> {
 
@@ -37,10 +36,6 @@ public interface IngestionLogRepository extends JpaRepository<IngestionLog, Long
             @Param("sourceEndpointId") Long sourceEndpointId
     );
 
-    boolean existsByRunIdAndCompletedAtIsNull(Long runId);
-
-    boolean existsByRunIdAndStatusIn(Long runId, Set<IngestionStatus> statuses);
-
     /**
      * Claim a log row with a lease and allow reclaim if stuck.
      */
@@ -76,4 +71,21 @@ public interface IngestionLogRepository extends JpaRepository<IngestionLog, Long
               AND completed_at IS NULL
             """, nativeQuery = true)
     int failPendingLogsForRun(@Param("runId") Long runId, @Param("msg") String msg);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query(value = """
+            UPDATE content.ingestion_logs
+            SET status = 'FAILED',
+                error_details = :msg,
+                completed_at = NOW(),
+                version = version + 1
+            WHERE run_id = :runId
+              AND source_endpoint_id IN (:endpointIds)
+              AND completed_at IS NULL
+            """, nativeQuery = true)
+    int failPendingLogsForEndpoints(
+            @Param("runId") Long runId,
+            @Param("endpointIds") Collection<Long> endpointIds,
+            @Param("msg") String msg
+    );
+}
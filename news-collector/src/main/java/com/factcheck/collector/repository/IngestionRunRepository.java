@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
@@ -16,49 +17,25 @@ public interface IngestionRunRepository extends JpaRepository<IngestionRun, Long
 
     java.util.Optional<IngestionRun> findTopByStatusOrderByStartedAtDesc(IngestionRunStatus status);
 
+    /**
+     * Finalise a RUNNING run once its last pending log has completed. Status is derived
+     * from the progress counters, so this never scans ingestion_logs.
+     */
+    @Transactional
     @Modifying
     @Query(value = """
             UPDATE content.ingestion_runs r
-            SET status = 'FAILED',
+            SET status = CAST(CASE
+                    WHEN r.success_count = 0 AND r.partial_count = 0 THEN 'FAILED'
+                    WHEN r.failed_count = 0 AND r.partial_count = 0 THEN 'COMPLETED'
+                    ELSE 'PARTIAL'
+                END AS content.ingestion_run_status),
                 completed_at = NOW(),
                 version = r.version + 1
             WHERE r.id = :runId
               AND r.status = 'RUNNING'
-              AND NOT EXISTS (
-                SELECT 1
-                FROM content.ingestion_logs l
-                WHERE l.run_id = r.id
-                  AND l.completed_at IS NULL
-              )
-              AND EXISTS (
-                SELECT 1
-                FROM content.ingestion_logs l
-                WHERE l.run_id = r.id
-                  AND l.status IN ('FAILED', 'PARTIAL')
-              )
+              AND r.task_count > 0
+              AND r.pending_count = 0
             """, nativeQuery = true)
-    int finalizeRunFailedIfComplete(@Param("runId") Long runId);
-
-    @Modifying
-    @Query(value = """
-            UPDATE content.ingestion_runs r
-            SET status = 'COMPLETED',
-                completed_at = NOW(),
-                version = r.version + 1
-            WHERE r.id = :runId
-              AND r.status = 'RUNNING'
-              AND NOT EXISTS (
-                SELECT 1
-                FROM content.ingestion_logs l
-                WHERE l.run_id = r.id
-                  AND l.completed_at IS NULL
-              )
-              AND NOT EXISTS (
-                SELECT 1
-                FROM content.ingestion_logs l
-                WHERE l.run_id = r.id
-                  AND l.status IN ('FAILED', 'PARTIAL')
-              )
-            """, nativeQuery = true)
-    int finalizeRunCompletedIfComplete(@Param("runId") Long runId);
+    int finalizeRunIfComplete(@Param("runId") Long runId);
 }
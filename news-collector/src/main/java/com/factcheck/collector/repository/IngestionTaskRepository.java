@@ -0,0 +1,105 @@
+package com.factcheck.collector.repository;
+
+import com.factcheck.collector.domain.entity.IngestionTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface IngestionTaskRepository extends JpaRepository<IngestionTask, Long> {
+
+    /**
+     * Idempotent enqueue; a task for the same run/endpoint is only stored once.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO content.ingestion_tasks (run_id, source_endpoint_id, correlation_id)
+            VALUES (:runId, :sourceEndpointId, :correlationId)
+            ON CONFLICT (run_id, source_endpoint_id) DO NOTHING
+            """, nativeQuery = true)
+    int enqueue(
+            @Param("runId") Long runId,
+            @Param("sourceEndpointId") Long sourceEndpointId,
+            @Param("correlationId") String correlationId
+    );
+
+    /**
+     * Bulk form of {@link #enqueue} for one run: a single statement for all endpoints.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO content.ingestion_tasks (run_id, source_endpoint_id, correlation_id)
+            SELECT :runId, endpoint_id, CAST(:correlationId AS TEXT)
+            FROM unnest(ARRAY[:sourceEndpointIds]) AS endpoint_id
+            ON CONFLICT (run_id, source_endpoint_id) DO NOTHING
+            """, nativeQuery = true)
+    int enqueueAll(
+            @Param("runId") Long runId,
+            @Param("correlationId") String correlationId,
+            @Param("sourceEndpointIds") Collection<Long> sourceEndpointIds
+    );
+
+    /**
+     * Claim the next visible task and hide it for the visibility timeout.
+     * SKIP LOCKED lets concurrent workers claim different rows without blocking.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE content.ingestion_tasks t
+            SET attempts = t.attempts + 1,
+                visible_at = NOW() + (:visibilitySeconds * INTERVAL '1 second')
+            WHERE t.id = (
+                SELECT id
+                FROM content.ingestion_tasks
+                WHERE status = 'PENDING'
+                  AND visible_at <= NOW()
+                ORDER BY visible_at, id
+                FOR UPDATE SKIP LOCKED
+                LIMIT 1
+            )
+            RETURNING t.*
+            """, nativeQuery = true)
+    Optional<IngestionTask> claimNext(@Param("visibilitySeconds") long visibilitySeconds);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM content.ingestion_tasks
+            WHERE id = :id
+              AND attempts = :attempts
+            """, nativeQuery = true)
+    int complete(@Param("id") Long id, @Param("attempts") int attempts);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE content.ingestion_tasks
+            SET visible_at = NOW() + (:delaySeconds * INTERVAL '1 second'),
+                last_error = :error
+            WHERE id = :id
+              AND attempts = :attempts
+            """, nativeQuery = true)
+    int retryLater(
+            @Param("id") Long id,
+            @Param("attempts") int attempts,
+            @Param("delaySeconds") long delaySeconds,
+            @Param("error") String error
+    );
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE content.ingestion_tasks
+            SET status = 'FAILED',
+                last_error = :error
+            WHERE id = :id
+              AND attempts = :attempts
+            """, nativeQuery = true)
+    int markFailed(@Param("id") Long id, @Param("attempts") int attempts, @Param("error") String error);
+}
@@ -0,0 +1,38 @@
+package com.factcheck.collector.repository;
+
+import com.factcheck.collector.domain.entity.RobotsRulesCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface RobotsRulesCacheRepository extends JpaRepository<RobotsRulesCacheEntry, String> {
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO content.robots_rules_cache (cache_key, robots_body, content_type, fetched_at, expires_at)
+            VALUES (:cacheKey, CAST(:robotsBody AS BYTEA), CAST(:contentType AS TEXT), :fetchedAt, :expiresAt)
+            ON CONFLICT (cache_key) DO UPDATE
+            SET robots_body = EXCLUDED.robots_body,
+                content_type = EXCLUDED.content_type,
+                fetched_at = EXCLUDED.fetched_at,
+                expires_at = EXCLUDED.expires_at
+            WHERE content.robots_rules_cache.fetched_at < EXCLUDED.fetched_at
+            """, nativeQuery = true)
+    int upsert(
+            @Param("cacheKey") String cacheKey,
+            @Param("robotsBody") byte[] robotsBody,
+            @Param("contentType") String contentType,
+            @Param("fetchedAt") Instant fetchedAt,
+            @Param("expiresAt") Instant expiresAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM content.robots_rules_cache WHERE expires_at < :cutoff", nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") Instant cutoff);
+}
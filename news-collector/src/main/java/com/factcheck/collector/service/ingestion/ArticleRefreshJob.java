@@ -0,0 +1,106 @@
+package com.factcheck.collector.service.ingestion;
+
+import com.factcheck.collector.domain.entity.Article;
+import com.factcheck.collector.domain.enums.ArticleStatus;
+import com.factcheck.collector.dto.ArticleRefreshResponse;
+import com.factcheck.collector.repository.ArticleRepository;
+import com.factcheck.collector.service.ingestion.pipeline.ArticleEnrichmentService;
+import com.factcheck.collector.service.ingestion.pipeline.ArticleEnrichmentService.RefreshOutcome;
+import com.factcheck.collector.service.ingestion.pipeline.ArticleEnrichmentService.RefreshResult;
+import com.factcheck.collector.service.ingestion.pipeline.ArticleIndexingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Refresh mode: re-polls recently published, already indexed articles with conditional
+ * GETs. Only articles whose extracted text actually changed are re-chunked, re-embedded
+ * and re-written to Weaviate.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleRefreshJob {
+
+    private static final int DEFAULT_CONCURRENCY = 4;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleEnrichmentService articleEnrichmentService;
+    private final ArticleIndexingService articleIndexingService;
+
+    @Value("${ingestion.refresh.window:PT48H}")
+    private Duration window = Duration.ofHours(48);
+
+    @Value("${ingestion.refresh.min-interval:PT1H}")
+    private Duration minInterval = Duration.ofHours(1);
+
+    @Value("${ingestion.refresh.max-articles:200}")
+    private int maxArticles = 200;
+
+    @Value("${ingestion.refresh.concurrency:" + DEFAULT_CONCURRENCY + "}")
+    private int concurrency = DEFAULT_CONCURRENCY;
+
+    public ArticleRefreshResponse refreshRecent(String correlationId) {
+        String correlationIdStr = correlationId != null && !correlationId.isBlank()
+                ? correlationId
+                : UUID.randomUUID().toString();
+        Instant now = Instant.now();
+
+        List<Article> candidates = articleRepository.findRefreshCandidates(
+                ArticleStatus.INDEXED,
+                now.minus(window),
+                now.minus(minInterval),
+                PageRequest.of(0, Math.max(1, maxArticles))
+        );
+        log.info("Refreshing {} recent articles correlationId={}", candidates.size(), correlationIdStr);
+
+        List<RefreshOutcome> outcomes = BoundedFanOut.run(
+                candidates,
+                concurrency,
+                () -> false,
+                article -> refreshArticle(article, correlationIdStr),
+                RefreshOutcome.FAILED,
+                "article refresh correlationId=" + correlationIdStr
+        ).outcomes();
+
+        int notModified = 0;
+        int unchanged = 0;
+        int reindexed = 0;
+        int failed = 0;
+        for (RefreshOutcome outcome : outcomes) {
+            switch (outcome) {
+                case NOT_MODIFIED -> notModified++;
+                case UNCHANGED -> unchanged++;
+                case CHANGED -> reindexed++;
+                case FAILED -> failed++;
+            }
+        }
+
+        log.info("Article refresh done correlationId={} checked={} notModified={} unchanged={} reindexed={} failed={}",
+                correlationIdStr, outcomes.size(), notModified, unchanged, reindexed, failed);
+        return new ArticleRefreshResponse(correlationIdStr, outcomes.size(), notModified, unchanged, reindexed, failed);
+    }
+
+    private RefreshOutcome refreshArticle(Article article, String correlationId) {
+        try {
+            RefreshResult result = articleEnrichmentService.refresh(article);
+            if (result.outcome() != RefreshOutcome.CHANGED) {
+                return result.outcome();
+            }
+            log.info("Content changed for article id={}, re-indexing", article.getId());
+            return articleIndexingService.index(article, result.extractedText(), correlationId)
+                    ? RefreshOutcome.CHANGED
+                    : RefreshOutcome.FAILED;
+        } catch (Exception e) {
+            log.error("Unexpected error refreshing article id={}", article.getId(), e);
+            return RefreshOutcome.FAILED;
+        }
+    }
+}
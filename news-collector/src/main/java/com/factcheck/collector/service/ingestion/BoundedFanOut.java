@@ -0,0 +1,97 @@
+package com.factcheck.collector.service.ingestion;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Bounded fan-out shared by {@link EndpointIngestionJob} and {@link ArticleRefreshJob}.
+ * <p>
+ * Each item runs on its own virtual thread with the caller's MDC, at most {@code concurrency}
+ * at a time. Scheduling stops early when {@code stop} turns true or the caller is interrupted;
+ * the items never started come back as {@link Result#unscheduled()}.
+ */
+@Slf4j
+final class BoundedFanOut {
+
+    /**
+     * @param outcomes    one per started item, in scheduling order
+     * @param unscheduled items that were never started
+     */
+    record Result<T, R>(List<R> outcomes, List<T> unscheduled) {}
+
+    private BoundedFanOut() {
+    }
+
+    /**
+     * @param description names the batch in log lines
+     * @param failed      outcome for a task that threw or could not be awaited
+     */
+    static <T, R> Result<T, R> run(
+            List<T> items,
+            int concurrency,
+            BooleanSupplier stop,
+            Function<T, R> task,
+            R failed,
+            String description
+    ) {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        List<T> unscheduled = List.of();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < items.size(); i++) {
+                T item = items.get(i);
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Interrupted while scheduling {}", description);
+                    unscheduled = List.copyOf(items.subList(i, items.size()));
+                    break;
+                }
+                if (stop.getAsBoolean()) {
+                    permits.release();
+                    unscheduled = List.copyOf(items.subList(i, items.size()));
+                    break;
+                }
+                futures.add(executor.submit(() -> {
+                    if (mdc != null) {
+                        MDC.setContextMap(mdc);
+                    }
+                    try {
+                        return task.apply(item);
+                    } finally {
+                        MDC.clear();
+                        permits.release();
+                    }
+                }));
+            }
+        }
+
+        List<R> outcomes = new ArrayList<>(futures.size());
+        for (Future<R> future : futures) {
+            try {
+                outcomes.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                outcomes.add(failed);
+            } catch (ExecutionException e) {
+                log.error("Unexpected error in {}", description, e.getCause());
+                outcomes.add(failed);
+            }
+        }
+        return new Result<>(outcomes, unscheduled);
+    }
+}
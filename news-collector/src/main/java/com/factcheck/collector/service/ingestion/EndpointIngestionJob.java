@@ -1,5 +1,6 @@
 package com.factcheck.collector.service.ingestion;
 
+import com.factcheck.collector.domain.entity.Article;
 import com.factcheck.collector.domain.entity.IngestionLog;
 import com.factcheck.collector.domain.entity.IngestionRun;
 import com.factcheck.collector.domain.entity.SourceEndpoint;
@@ -15,6 +16,7 @@ import com.factcheck.collector.repository.SourceEndpointRepository;
 import com.factcheck.collector.service.ingestion.pipeline.ArticleDiscoveryService;
 import com.factcheck.collector.service.ingestion.pipeline.ArticleEnrichmentService;
 import com.factcheck.collector.service.ingestion.pipeline.ArticleIndexingService;
+import com.factcheck.collector.util.HighWaterMarkUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,9 +24,13 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
@@ -34,6 +40,7 @@ public class EndpointIngestionJob {
     private static final String BLOCK_REASON_ROBOTS = "ROBOTS_DISALLOWED";
     private static final String BLOCK_REASON_BLOCKED = "BLOCKED_OR_CAPTCHA";
     private static final String BLOCK_REASON_EXTRACTION = "EXTRACTION_FAILED";
+    private static final int DEFAULT_ARTICLE_CONCURRENCY = 4;
 
     private final SourceEndpointRepository sourceEndpointRepository;
     private final IngestionLogRepository ingestionLogRepository;
@@ -49,6 +56,12 @@ public class EndpointIngestionJob {
     @Value("${ingestion.block-duration:PT24H}")
     private Duration blockDuration;
 
+    @Value("${ingestion.high-water-lookback:PT1H}")
+    private Duration highWaterLookback = Duration.ofHours(1);
+
+    @Value("${ingestion.article-concurrency:" + DEFAULT_ARTICLE_CONCURRENCY + "}")
+    private int articleConcurrency = DEFAULT_ARTICLE_CONCURRENCY;
+
     public IngestionStatus ingestSingleSource(
             SourceEndpoint sourceEndpoint,
             UUID correlationId,
@@ -102,7 +115,8 @@ public class EndpointIngestionJob {
                         .findFirst()
                         .orElseThrow(() -> new IllegalStateException("No fetcher for type " + sourceEndpoint.getKind()));
 
-                rawArticles = fetcher.fetch(sourceEndpoint);
+                rawArticles = HighWaterMarkUtils.dropBehind(
+                        sourceEndpoint, fetcher.fetch(sourceEndpoint), highWaterLookback);
                 fetched = rawArticles.size();
 
                 String sampleUrl = rawArticles.stream()
@@ -112,6 +126,7 @@ public class EndpointIngestionJob {
                         .orElse(null);
                 if (sampleUrl != null && !robotsService.isAllowed(sampleUrl)) {
                     markRobotsDisallowed(sourceEndpoint);
+                    clearFeedValidators(sourceEndpoint);
                     sourceEndpoint.setLastFetchedAt(Instant.now());
                     sourceEndpointRepository.save(sourceEndpoint);
                     errorDetails = "Robots.txt disallows scraping for " + sampleUrl;
@@ -120,56 +135,23 @@ public class EndpointIngestionJob {
             }
 
             if (finalStatus == null) {
-                boolean blockSignalDetected = false;
-                String blockReason = null;
-                boolean hadSuccess = false;
-
-                for (RawArticle raw : rawArticles) {
-                    final String url = raw.getExternalUrl();
-                    try {
-                        if (articleDiscoveryService.shouldSkip(raw)) {
-                            continue;
-                        }
-
-                        ArticleDiscoveryService.DiscoveryResult discovery =
-                                articleDiscoveryService.discover(sourceEndpoint, raw);
-                        if (discovery == null) {
-                            continue;
-                        }
-
-                        if (!discovery.isNew()) {
-                            continue;
-                        }
-
-                        ArticleEnrichmentService.EnrichmentResult enrichment =
-                                articleEnrichmentService.enrich(discovery.article(), raw);
-                        if (!enrichment.success()) {
-                            failed++;
-                            String reason = classifyBlockReason(enrichment.fetchResult());
-                            if (reason != null) {
-                                blockSignalDetected = true;
-                                blockReason = reason;
-                                if (BLOCK_REASON_ROBOTS.equals(reason)) {
-                                    markRobotsDisallowed(sourceEndpoint);
-                                    break;
-                                }
-                                if (BLOCK_REASON_BLOCKED.equals(reason)) {
-                                    break;
-                                }
-                            }
-                            continue;
-                        }
-
-                        hadSuccess = true;
-                        if (articleIndexingService.index(discovery.article(), enrichment.extractedText(), correlationIdStr)) {
-                            processed++;
-                        } else {
-                            failed++;
-                        }
-                    } catch (Exception e) {
-                        failed++;
-                        log.error("Unexpected error processing article url={}", url, e);
-                    }
+                ArticleBatchOutcome outcome = processArticles(sourceEndpoint, rawArticles, correlationIdStr);
+                processed = outcome.processed();
+                failed = outcome.failed();
+
+                String blockReason = outcome.blockReason();
+                boolean blockSignalDetected = blockReason != null;
+                boolean hadSuccess = outcome.hadSuccess();
+
+                if (BLOCK_REASON_ROBOTS.equals(blockReason)) {
+                    markRobotsDisallowed(sourceEndpoint);
+                }
+                if (outcome.complete()) {
+                    HighWaterMarkUtils.advance(sourceEndpoint, rawArticles, Instant.now());
+                } else {
+                    // Some items were never discovered or were released; the fetcher already stored this
+                    // feed's validators, so drop them to force a full read that rediscovers those items.
+                    clearFeedValidators(sourceEndpoint);
                 }
 
                 finalStatus = failed == 0 ? IngestionStatus.SUCCESS :
@@ -234,6 +216,112 @@ public class EndpointIngestionJob {
         }
     }
 
+    private ArticleBatchOutcome processArticles(
+            SourceEndpoint sourceEndpoint,
+            List<RawArticle> rawArticles,
+            String correlationId
+    ) {
+        List<RawArticle> candidates = rawArticles.stream()
+                .filter(raw -> !articleDiscoveryService.shouldSkip(raw))
+                .toList();
+        if (candidates.isEmpty()) {
+            return new ArticleBatchOutcome(0, 0, false, null, true);
+        }
+
+        List<ArticleDiscoveryService.DiscoveryResult> discoveries;
+        try {
+            discoveries = articleDiscoveryService.discoverAll(sourceEndpoint, candidates);
+        } catch (Exception e) {
+            log.error("Failed to discover articles for endpoint id={}", sourceEndpoint.getId(), e);
+            return new ArticleBatchOutcome(0, candidates.size(), false, null, false);
+        }
+
+        List<NewArticle> newArticles = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            ArticleDiscoveryService.DiscoveryResult discovery = discoveries.get(i);
+            if (discovery != null && discovery.isNew()) {
+                newArticles.add(new NewArticle(candidates.get(i), discovery.article()));
+            }
+        }
+
+        // First robots/block signal wins and stops scheduling further articles.
+        AtomicReference<String> stopReason = new AtomicReference<>();
+        Queue<Article> abandoned = new ConcurrentLinkedQueue<>();
+        BoundedFanOut.Result<NewArticle, ArticleOutcome> batch = BoundedFanOut.run(
+                newArticles,
+                articleConcurrency,
+                () -> stopReason.get() != null,
+                next -> processArticle(next, correlationId, stopReason, abandoned),
+                new ArticleOutcome(false, true, false, null),
+                "articles for endpoint id=" + sourceEndpoint.getId()
+        );
+        batch.unscheduled().forEach(a -> abandoned.add(a.article()));
+
+        if (!abandoned.isEmpty()) {
+            try {
+                articleDiscoveryService.releaseDiscovered(List.copyOf(abandoned));
+            } catch (Exception e) {
+                log.error("Failed to release undispatched articles for endpoint id={}", sourceEndpoint.getId(), e);
+            }
+        }
+
+        int processed = 0;
+        int failed = 0;
+        boolean hadSuccess = false;
+        boolean extractionFailed = false;
+
+        for (ArticleOutcome outcome : batch.outcomes()) {
+            if (outcome.processed()) {
+                processed++;
+            }
+            if (outcome.failed()) {
+                failed++;
+            }
+            hadSuccess |= outcome.enriched();
+            extractionFailed |= BLOCK_REASON_EXTRACTION.equals(outcome.blockReason());
+        }
+
+        String blockReason = stopReason.get();
+        if (blockReason == null && extractionFailed) {
+            blockReason = BLOCK_REASON_EXTRACTION;
+        }
+        boolean complete = stopReason.get() == null && abandoned.isEmpty();
+        return new ArticleBatchOutcome(processed, failed, hadSuccess, blockReason, complete);
+    }
+
+    private ArticleOutcome processArticle(
+            NewArticle next,
+            String correlationId,
+            AtomicReference<String> stopReason,
+            Queue<Article> abandoned
+    ) {
+        RawArticle raw = next.raw();
+        Article article = next.article();
+        try {
+            // Articles already in flight finish; queued ones bail out once the source looks blocked.
+            if (stopReason.get() != null) {
+                abandoned.add(article);
+                return ArticleOutcome.SKIPPED;
+            }
+
+            ArticleEnrichmentService.EnrichmentResult enrichment =
+                    articleEnrichmentService.enrich(article, raw);
+            if (!enrichment.success()) {
+                String reason = classifyBlockReason(enrichment.fetchResult());
+                if (BLOCK_REASON_ROBOTS.equals(reason) || BLOCK_REASON_BLOCKED.equals(reason)) {
+                    stopReason.compareAndSet(null, reason);
+                }
+                return new ArticleOutcome(false, true, false, reason);
+            }
+
+            boolean indexed = articleIndexingService.index(article, enrichment.extractedText(), correlationId);
+            return new ArticleOutcome(indexed, !indexed, true, null);
+        } catch (Exception e) {
+            log.error("Unexpected error processing article url={}", raw.getExternalUrl(), e);
+            return new ArticleOutcome(false, true, false, null);
+        }
+    }
+
     private boolean isBlocked(SourceEndpoint sourceEndpoint) {
         Instant blockedUntil = sourceEndpoint.getBlockedUntil();
         return blockedUntil != null && blockedUntil.isAfter(Instant.now());
@@ -278,4 +366,26 @@ public class EndpointIngestionJob {
         sourceEndpoint.setBlockReason(null);
         sourceEndpoint.setBlockedUntil(null);
     }
+
+    private void clearFeedValidators(SourceEndpoint sourceEndpoint) {
+        sourceEndpoint.setFeedEtag(null);
+        sourceEndpoint.setFeedLastModified(null);
+        sourceEndpoint.setFeedContentHash(null);
+    }
+
+    private record NewArticle(RawArticle raw, Article article) {
+    }
+
+    private record ArticleOutcome(boolean processed, boolean failed, boolean enriched, String blockReason) {
+        private static final ArticleOutcome SKIPPED = new ArticleOutcome(false, false, false, null);
+    }
+
+    private record ArticleBatchOutcome(
+            int processed,
+            int failed,
+            boolean hadSuccess,
+            String blockReason,
+            boolean complete
+    ) {
+    }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import com.factcheck.collector.domain.enums.IngestionStatus;
 import com.factcheck.collector.dto.IngestionRunStartResponse;
 import com.factcheck.collector.dto.IngestionTaskRequest;
 import com.factcheck.collector.exception.IngestionRunAlreadyRunningException;
+import com.factcheck.collector.integration.tasks.TaskEnqueueResult;
 import com.factcheck.collector.integration.tasks.TaskPublisher;
 import com.factcheck.collector.repository.IngestionLogRepository;
 import com.factcheck.collector.repository.IngestionRunRepository;
@@ -102,23 +103,40 @@ public class IngestionJobRunner {
             return new IngestionRunStartResponse(run.getId(), correlationUuid.toString(), 0, run.getStatus().name());
         }
 
-        int enqueued = 0;
-        Set<Long> enqueuedEndpointIds = new HashSet<>();
+        List<IngestionTaskRequest> requests = endpoints.stream()
+                .map(endpoint -> new IngestionTaskRequest(run.getId(), endpoint.getId(), correlationUuid.toString()))
+                .toList();
 
+        List<TaskEnqueueResult> results;
         try {
-            for (SourceEndpoint endpoint : endpoints) {
-                taskPublisher.enqueueIngestionTask(
-                        new IngestionTaskRequest(run.getId(), endpoint.getId(), correlationUuid.toString())
-                );
+            results = taskPublisher.enqueueIngestionTasks(requests);
+        } catch (Exception enqueueFailure) {
+            log.error("Failed to enqueue ingestion tasks for runId={}", run.getId(), enqueueFailure);
+            String msg = safeMessage(enqueueFailure);
+            results = requests.stream().map(request -> TaskEnqueueResult.failed(request, msg)).toList();
+        }
+
+        int enqueued = 0;
+        List<Long> notEnqueuedEndpointIds = new ArrayList<>();
+        String firstError = null;
+        for (TaskEnqueueResult result : results) {
+            if (result.enqueued()) {
                 enqueued++;
-                enqueuedEndpointIds.add(endpoint.getId());
+                continue;
             }
-        } catch (Exception enqueueFailure) {
-            log.error("Failed to enqueue ingestion tasks for runId={} after enqueued={}",
-                    run.getId(), enqueued, enqueueFailure);
+            notEnqueuedEndpointIds.add(result.request().sourceEndpointId());
+            if (firstError == null) {
+                firstError = result.error();
+            }
+        }
+
+        if (!notEnqueuedEndpointIds.isEmpty()) {
+            log.error("Failed to enqueue {} of {} ingestion tasks for runId={} firstError={}",
+                    notEnqueuedEndpointIds.size(), requests.size(), run.getId(), firstError);
 
+            String msg = "Enqueue failed before dispatch: " + (firstError != null ? firstError : "unknown error");
             txTemplate.executeWithoutResult(status ->
-                    markNotEnqueuedLogsFailed(run.getId(), endpoints, enqueuedEndpointIds, enqueueFailure)
+                    markNotEnqueuedLogsFailed(run.getId(), notEnqueuedEndpointIds, msg)
             );
 
             if (enqueued == 0) {
@@ -133,43 +151,17 @@ public class IngestionJobRunner {
                 return new IngestionRunStartResponse(run.getId(), correlationUuid.toString(), 0, IngestionRunStatus.FAILED.name());
             }
 
-            return new IngestionRunStartResponse(run.getId(), correlationUuid.toString(), enqueued, IngestionRunStatus.RUNNING.name());
+            // The dispatched tasks may all have finished before the rest were marked failed.
+            ingestionRunRepository.finalizeRunIfComplete(run.getId());
         }
 
         return new IngestionRunStartResponse(run.getId(), correlationUuid.toString(), enqueued, IngestionRunStatus.RUNNING.name());
     }
 
-    private void markNotEnqueuedLogsFailed(
-            Long runId,
-            List<SourceEndpoint> endpoints,
-            Set<Long> enqueuedEndpointIds,
-            Exception enqueueFailure
-    ) {
-        Instant completedAt = Instant.now();
-        String msg = "Enqueue failed before dispatch: " + safeMessage(enqueueFailure);
-
-        for (SourceEndpoint endpoint : endpoints) {
-            if (enqueuedEndpointIds.contains(endpoint.getId())) {
-                continue;
-            }
-
-            IngestionLog logEntry = ingestionLogRepository
-                    .findByRunIdAndSourceEndpointId(runId, endpoint.getId())
-                    .orElse(null);
-
-            if (logEntry == null) {
-                log.warn("Missing log row for runId={} endpointId={} while marking NOT-enqueued failed", runId, endpoint.getId());
-                continue;
-            }
-
-            if (logEntry.getCompletedAt() != null) {
-                continue;
-            }
-
-            logEntry.setStatus(IngestionStatus.FAILED);
-            logEntry.setErrorDetails(msg);
-            logEntry.setCompletedAt(completedAt);
-            ingestionLogRepository.save(logEntry);
+    private void markNotEnqueuedLogsFailed(Long runId, List<Long> endpointIds, String msg) {
+        int updated = ingestionLogRepository.failPendingLogsForEndpoints(runId, endpointIds, msg);
+        if (updated < endpointIds.size()) {
+            log.warn("Marked {} of {} not-enqueued logs failed for runId={}", updated, endpointIds.size(), runId);
         }
     }
 
@@ -19,7 +19,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -64,7 +63,7 @@ public class IngestionTaskHandler {
         }
 
 
-        txTemplate.executeWithoutResult(status -> tryCompleteRun(ctx.run().getId()));
+        tryCompleteRun(ctx.run().getId());
     }
 
     private TaskContext claimOrSkip(IngestionTaskRequest request) {
@@ -181,79 +180,12 @@ public class IngestionTaskHandler {
     }
 
     private void tryCompleteRun(Long runId) {
-        if (ingestionLogRepository.existsByRunIdAndCompletedAtIsNull(runId)) {
-            return;
-        }
-
-        List<IngestionLog> logs = ingestionLogRepository.findByRunId(runId);
-        if (logs.isEmpty()) {
-            return;
-        }
-
-        int successCount = 0;
-        int partialCount = 0;
-        int failureCount = 0;
-
-        for (IngestionLog logEntry : logs) {
-            IngestionStatus status = logEntry.getStatus();
-            if (status == IngestionStatus.SUCCESS) {
-                successCount++;
-                continue;
-            }
-            if (status == IngestionStatus.PARTIAL) {
-                partialCount++;
-                continue;
-            }
-            if (status == IngestionStatus.FAILED) {
-                if (!isIgnoredFailure(logEntry.getErrorDetails())) {
-                    failureCount++;
-                }
-            }
-        }
-
-        IngestionRun run = ingestionRunRepository.findById(runId).orElse(null);
-        if (run == null || run.getStatus() != IngestionRunStatus.RUNNING) {
-            return;
+        // Counters on the run row are kept current by the ingestion_logs trigger.
+        if (ingestionRunRepository.finalizeRunIfComplete(runId) == 1) {
+            log.info("Finalized ingestion run runId={}", runId);
         }
-
-        IngestionRunStatus finalStatus;
-        if (successCount == 0 && partialCount == 0) {
-            finalStatus = IngestionRunStatus.FAILED;
-        } else if (failureCount == 0 && partialCount == 0) {
-            finalStatus = IngestionRunStatus.COMPLETED;
-        } else {
-            finalStatus = IngestionRunStatus.PARTIAL;
-        }
-
-        run.setStatus(finalStatus);
-        run.setCompletedAt(Instant.now());
-        ingestionRunRepository.save(run);
-        log.info("Finalize run {} runId={} success={} partial={} failed={}",
-                finalStatus, runId, successCount, partialCount, failureCount);
-    }
-
-    private boolean isIgnoredFailure(String errorDetails) {
-        if (errorDetails == null || errorDetails.isBlank()) {
-            return false;
-        }
-        String msg = errorDetails.toLowerCase(java.util.Locale.ROOT);
-        for (String token : IGNORED_ERROR_TOKENS) {
-            if (msg.contains(token)) {
-                return true;
-            }
-        }
-        return false;
     }
 
-    private static final List<String> IGNORED_ERROR_TOKENS = List.of(
-            "robots.txt disallows",
-            "source blocked until",
-            "too many chunks for embedding",
-            "too many texts in one request",
-            "unprocessable entity",
-            "nlp embed failed"
-    );
-
     private UUID normalizeCorrelationId(String correlationId) {
         if (correlationId == null || correlationId.isBlank()) {
             return UUID.randomUUID();
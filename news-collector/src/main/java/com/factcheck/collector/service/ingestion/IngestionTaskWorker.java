@@ -0,0 +1,156 @@
+package com.factcheck.collector.service.ingestion;
+
+import com.factcheck.collector.domain.entity.IngestionTask;
+import com.factcheck.collector.dto.IngestionTaskRequest;
+import com.factcheck.collector.repository.IngestionTaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains {@code content.ingestion_tasks} with a fixed pool of in-process workers.
+ * <p>
+ * A claimed task is hidden for the visibility timeout; if the instance dies mid-task it
+ * becomes visible again and another worker picks it up (the log lease in
+ * {@link IngestionTaskHandler} keeps that safe). Failures are retried with exponential
+ * backoff until {@code task-queue.max-attempts}, then the task is parked as FAILED.
+ */
+@Slf4j
+@Profile("!gcp")
+@Service
+@RequiredArgsConstructor
+public class IngestionTaskWorker implements SmartLifecycle {
+
+    private final IngestionTaskRepository ingestionTaskRepository;
+    private final IngestionTaskHandler ingestionTaskHandler;
+
+    @Value("${task-queue.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${task-queue.concurrency:4}")
+    private int concurrency = 4;
+
+    @Value("${task-queue.poll-interval:PT2S}")
+    private Duration pollInterval = Duration.ofSeconds(2);
+
+    @Value("${task-queue.visibility-timeout:PT35M}")
+    private Duration visibilityTimeout = Duration.ofMinutes(35);
+
+    @Value("${task-queue.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${task-queue.retry-backoff:PT30S}")
+    private Duration retryBackoff = Duration.ofSeconds(30);
+
+    @Value("${task-queue.max-retry-backoff:PT15M}")
+    private Duration maxRetryBackoff = Duration.ofMinutes(15);
+
+    private volatile boolean running;
+    private ExecutorService executor;
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        int workers = Math.max(1, concurrency);
+        running = true;
+        executor = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("ingestion-task-", 0).factory());
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::pollLoop);
+        }
+        log.info("Started {} ingestion task workers", workers);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        executor.shutdown();
+        try {
+            // In-flight tasks that do not finish become visible again after the timeout.
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void pollLoop() {
+        while (running) {
+            boolean worked;
+            try {
+                worked = runOnce();
+            } catch (Exception e) {
+                log.error("Ingestion task worker poll failed", e);
+                worked = false;
+            }
+            if (!worked) {
+                try {
+                    Thread.sleep(pollInterval);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Claims and handles at most one task. Returns false when the queue had nothing visible.
+     */
+    boolean runOnce() {
+        IngestionTask task = ingestionTaskRepository.claimNext(visibilityTimeout.toSeconds()).orElse(null);
+        if (task == null) {
+            return false;
+        }
+
+        try {
+            ingestionTaskHandler.handle(new IngestionTaskRequest(
+                    task.getRunId(),
+                    task.getSourceEndpointId(),
+                    task.getCorrelationId()
+            ));
+            ingestionTaskRepository.complete(task.getId(), task.getAttempts());
+        } catch (IllegalArgumentException e) {
+            log.warn("Dropping invalid ingestion task id={}: {}", task.getId(), e.getMessage());
+            ingestionTaskRepository.complete(task.getId(), task.getAttempts());
+        } catch (Exception e) {
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            if (task.getAttempts() >= maxAttempts) {
+                log.error("Ingestion task id={} runId={} sourceEndpointId={} failed after {} attempts",
+                        task.getId(), task.getRunId(), task.getSourceEndpointId(), task.getAttempts(), e);
+                ingestionTaskRepository.markFailed(task.getId(), task.getAttempts(), error);
+            } else {
+                Duration delay = backoffFor(task.getAttempts());
+                log.warn("Ingestion task id={} attempt {} failed, retrying in {}: {}",
+                        task.getId(), task.getAttempts(), delay, error);
+                ingestionTaskRepository.retryLater(task.getId(), task.getAttempts(), delay.toSeconds(), error);
+            }
+        }
+        return true;
+    }
+
+    Duration backoffFor(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = retryBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+}
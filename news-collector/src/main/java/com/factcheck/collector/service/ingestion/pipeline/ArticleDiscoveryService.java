@@ -1,7 +1,6 @@
 package com.factcheck.collector.service.ingestion.pipeline;
 
 import com.factcheck.collector.domain.entity.Article;
-import com.factcheck.collector.domain.entity.ArticleSource;
 import com.factcheck.collector.domain.entity.Publisher;
 import com.factcheck.collector.domain.entity.SourceEndpoint;
 import com.factcheck.collector.domain.enums.ArticleStatus;
@@ -9,12 +8,22 @@ import com.factcheck.collector.integration.ingestion.fetcher.RawArticle;
 import com.factcheck.collector.repository.ArticleRepository;
 import com.factcheck.collector.repository.ArticleSourceRepository;
 import com.factcheck.collector.util.HashUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -23,72 +32,134 @@ public class ArticleDiscoveryService {
 
     private final ArticleRepository articleRepository;
     private final ArticleSourceRepository articleSourceRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Discovers a whole feed poll at once. Known source items and canonical hashes are
+     * resolved with one query each, and new articles plus their source links are written
+     * with a single insert. The result is index-aligned with {@code raws}; entries are
+     * null for items that were skipped or are already linked to this endpoint.
+     */
+    @Transactional
+    public List<DiscoveryResult> discoverAll(SourceEndpoint sourceEndpoint, List<RawArticle> raws) {
+        List<DiscoveryResult> results = new ArrayList<>(Collections.nCopies(raws.size(), null));
+
+        Map<String, Candidate> bySourceItemId = new LinkedHashMap<>();
+        for (int i = 0; i < raws.size(); i++) {
+            RawArticle raw = raws.get(i);
+            String url = raw.getExternalUrl();
+            if (url == null || url.isBlank()) {
+                log.info("Skipping article with no canonical url");
+                continue;
+            }
 
-    public DiscoveryResult discover(SourceEndpoint sourceEndpoint, RawArticle raw) {
-        String url = raw.getExternalUrl();
-        if (url == null || url.isBlank()) {
-            log.info("Skipping article with no canonical url");
-            return null;
+            String sourceItemId = raw.getSourceItemId();
+            if (sourceItemId == null || sourceItemId.isBlank()) {
+                sourceItemId = url;
+            }
+            if (bySourceItemId.containsKey(sourceItemId)) {
+                log.debug("Duplicate source item in feed, skipping sourceItemId={}", sourceItemId);
+                continue;
+            }
+            bySourceItemId.put(sourceItemId, new Candidate(i, raw, url, sourceItemId, HashUtils.sha256Hex(url)));
+        }
+        if (bySourceItemId.isEmpty()) {
+            return results;
         }
 
-        String sourceItemId = raw.getSourceItemId();
-        if (sourceItemId == null || sourceItemId.isBlank()) {
-            sourceItemId = url;
+        List<String> known = articleSourceRepository.findExistingSourceItemIds(sourceEndpoint, bySourceItemId.keySet());
+        for (String sourceItemId : known) {
+            log.debug("Article source already exists, skipping sourceItemId={}", sourceItemId);
+            bySourceItemId.remove(sourceItemId);
         }
-        if (sourceItemId == null || sourceItemId.isBlank()) {
-            log.info("Skipping article with no source item id: {}", url);
-            return null;
+        if (bySourceItemId.isEmpty()) {
+            return results;
         }
 
-        if (articleSourceRepository.existsBySourceEndpointAndSourceItemId(sourceEndpoint, sourceItemId)) {
-            log.debug("Article source already exists, skipping sourceItemId={}", sourceItemId);
-            return null;
+        Publisher publisher = sourceEndpoint.getPublisher();
+        Set<String> hashes = new HashSet<>();
+        bySourceItemId.values().forEach(c -> hashes.add(c.canonicalHash()));
+
+        Map<String, Article> existing = new HashMap<>();
+        for (Article article : articleRepository.findByPublisherAndCanonicalUrlHashIn(publisher, hashes)) {
+            existing.put(article.getCanonicalUrlHash(), article);
+        }
+        if (!existing.isEmpty()) {
+            // One bulk update; setting lastSeenAt on the managed entities would flush one update per row.
+            articleRepository.touchLastSeen(existing.values().stream().map(Article::getId).toList(), Instant.now());
         }
 
-        String canonicalHash = HashUtils.sha256Hex(url);
+        List<Map<String, Object>> rows = new ArrayList<>(bySourceItemId.size());
+        for (Candidate c : bySourceItemId.values()) {
+            Article article = existing.get(c.canonicalHash());
+            if (article == null && (c.raw().getTitle() == null || c.raw().getTitle().isBlank())) {
+                log.info("Skipping article with no title url={}", c.url());
+                continue;
+            }
+            Map<String, Object> row = new HashMap<>();
+            row.put("article_id", article != null ? article.getId() : null);
+            row.put("source_item_id", c.sourceItemId());
+            row.put("original_url", c.raw().getExternalUrl());
+            row.put("canonical_url", c.url());
+            row.put("canonical_url_hash", c.canonicalHash());
+            row.put("title", c.raw().getTitle());
+            row.put("description", c.raw().getDescription());
+            row.put("published_date", c.raw().getPublishedDate() != null ? c.raw().getPublishedDate().toString() : null);
+            rows.add(row);
+        }
+        if (rows.isEmpty()) {
+            return results;
+        }
 
-        Publisher publisher = sourceEndpoint.getPublisher();
-        Article article = articleRepository.findByPublisherAndCanonicalUrlHash(publisher, canonicalHash)
-                .orElse(null);
+        Map<String, Long> insertedIds = new HashMap<>();
+        for (ArticleRepository.InsertedArticle inserted :
+                articleRepository.insertDiscovered(publisher.getId(), sourceEndpoint.getId(), toJson(rows))) {
+            insertedIds.put(inserted.getCanonicalUrlHash(), inserted.getId());
+        }
+
+        for (Candidate c : bySourceItemId.values()) {
+            Article article = existing.get(c.canonicalHash());
+            if (article != null) {
+                results.set(c.index(), new DiscoveryResult(article, false));
+                continue;
+            }
 
-        boolean isNew = false;
-        if (article == null) {
+            Long id = insertedIds.remove(c.canonicalHash());
+            if (id == null) {
+                log.info("Duplicate article detected at DB level, skipping url={}", c.url());
+                continue;
+            }
             article = Article.builder()
+                    .id(id)
                     .publisher(publisher)
-                    .originalUrl(raw.getExternalUrl())
-                    .canonicalUrl(url)
-                    .canonicalUrlHash(canonicalHash)
-                    .title(raw.getTitle())
-                    .description(raw.getDescription())
-                    .publishedDate(raw.getPublishedDate())
+                    .originalUrl(c.raw().getExternalUrl())
+                    .canonicalUrl(c.url())
+                    .canonicalUrlHash(c.canonicalHash())
+                    .title(c.raw().getTitle())
+                    .description(c.raw().getDescription())
+                    .publishedDate(c.raw().getPublishedDate())
                     .status(ArticleStatus.DISCOVERED)
                     .build();
-
-            try {
-                article = articleRepository.save(article);
-                isNew = true;
-            } catch (DataIntegrityViolationException ex) {
-                log.info("Duplicate article detected at DB level, skipping url={}", url);
-                return null;
-            }
-        } else {
-            article.setLastSeenAt(Instant.now());
-            articleRepository.save(article);
+            // Later items sharing this URL link to the same article but are not new.
+            existing.put(c.canonicalHash(), article);
+            results.set(c.index(), new DiscoveryResult(article, true));
         }
 
-        ArticleSource link = ArticleSource.builder()
-                .article(article)
-                .sourceEndpoint(sourceEndpoint)
-                .sourceItemId(sourceItemId)
-                .build();
+        return results;
+    }
 
-        try {
-            articleSourceRepository.save(link);
-        } catch (DataIntegrityViolationException ex) {
-            log.debug("Duplicate article source link, skipping sourceItemId={}", sourceItemId);
+    /**
+     * Removes articles that {@link #discoverAll} created but that were never handed to
+     * enrichment (e.g. the endpoint got blocked mid-poll). Their source links cascade, so
+     * the next poll discovers them again instead of leaving them stuck in DISCOVERED.
+     */
+    @Transactional
+    public void releaseDiscovered(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return;
         }
-
-        return new DiscoveryResult(article, isNew);
+        articleRepository.deleteAllByIdInBatch(articles.stream().map(Article::getId).toList());
+        log.info("Released {} undispatched discovered articles", articles.size());
     }
 
     public boolean shouldSkip(RawArticle raw) {
@@ -123,5 +194,15 @@ public class ArticleDiscoveryService {
                 || u.contains("/iplayer/");
     }
 
+    private String toJson(List<Map<String, Object>> rows) {
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize discovered articles", e);
+        }
+    }
+
     public record DiscoveryResult(Article article, boolean isNew) {}
+
+    private record Candidate(int index, RawArticle raw, String url, String sourceItemId, String canonicalHash) {}
 }
\ No newline at end of file
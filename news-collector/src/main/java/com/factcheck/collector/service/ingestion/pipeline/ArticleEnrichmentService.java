@@ -12,7 +12,7 @@ import com.factcheck.collector.util.HashUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 
@@ -24,8 +24,13 @@ public class ArticleEnrichmentService {
     private final ArticleRepository articleRepository;
     private final ArticleContentRepository articleContentRepository;
     private final ArticleContentExtractor contentExtractor;
+    private final TransactionTemplate txTemplate;
 
-    @Transactional
+    /**
+     * Fetches and extracts the article, then stores the outcome. The fetch, including any
+     * wait for a per-host crawl slot, runs outside a transaction so a parked fetch does not
+     * hold a pooled connection; only the short apply step is transactional.
+     */
     public EnrichmentResult enrich(Article article, RawArticle raw) {
         if (article == null || article.getId() == null) {
             throw new IllegalArgumentException("Article id is required for enrichment");
@@ -43,7 +48,11 @@ public class ArticleEnrichmentService {
             fetchResult = contentExtractor.fetchAndExtract(article.getCanonicalUrl());
         }
 
-        Article managedArticle = articleRepository.getReferenceById(article.getId());
+        return txTemplate.execute(status -> applyEnrichment(article.getId(), fetchResult));
+    }
+
+    private EnrichmentResult applyEnrichment(Long articleId, ArticleFetchResult fetchResult) {
+        Article managedArticle = articleRepository.getReferenceById(articleId);
 
         if (!applyFetchResult(managedArticle, fetchResult)) {
             return new EnrichmentResult(false, null, fetchResult);
@@ -62,6 +71,67 @@ public class ArticleEnrichmentService {
         return new EnrichmentResult(true, extractedText, fetchResult);
     }
 
+    /**
+     * Re-polls an already extracted article with a conditional GET. Stored content is only
+     * replaced (and the article moved back to EXTRACTED) when the extracted text hashes
+     * differently; a 304, a failed fetch or an identical hash leave it as it was. As with
+     * {@link #enrich}, only the apply step after the fetch is transactional.
+     */
+    public RefreshResult refresh(Article article) {
+        if (article == null || article.getId() == null) {
+            throw new IllegalArgumentException("Article id is required for refresh");
+        }
+
+        ArticleFetchResult fetchResult = contentExtractor.fetchAndExtract(
+                article.getCanonicalUrl(), article.getHttpEtag(), article.getHttpLastModified());
+
+        return txTemplate.execute(status -> applyRefresh(article.getId(), fetchResult));
+    }
+
+    private RefreshResult applyRefresh(Long articleId, ArticleFetchResult fetchResult) {
+        Article managedArticle = articleRepository.getReferenceById(articleId);
+
+        if (fetchResult == null) {
+            return new RefreshResult(RefreshOutcome.FAILED, null, null);
+        }
+        // Record the attempt even when nothing changed so the article waits a full interval.
+        managedArticle.setContentFetchedAt(fetchResult.getFetchedAt());
+
+        if (fetchResult.isNotModified()) {
+            managedArticle.setHttpEtag(fetchResult.getHttpEtag());
+            managedArticle.setHttpLastModified(fetchResult.getHttpLastModified());
+            articleRepository.save(managedArticle);
+            return new RefreshResult(RefreshOutcome.NOT_MODIFIED, null, fetchResult);
+        }
+
+        String extractedText = fetchResult.getExtractedText();
+        Integer status = fetchResult.getHttpStatus();
+        if (fetchResult.getFetchError() != null || fetchResult.getExtractionError() != null
+                || status == null || status < 200 || status >= 300
+                || extractedText == null || extractedText.isBlank()) {
+            // Keep serving the previously indexed content.
+            articleRepository.save(managedArticle);
+            return new RefreshResult(RefreshOutcome.FAILED, null, fetchResult);
+        }
+
+        managedArticle.setHttpStatus(status);
+        managedArticle.setHttpEtag(fetchResult.getHttpEtag());
+        managedArticle.setHttpLastModified(fetchResult.getHttpLastModified());
+
+        String contentHash = HashUtils.sha256Hex(extractedText);
+        if (contentHash.equals(managedArticle.getContentHash())) {
+            articleRepository.save(managedArticle);
+            return new RefreshResult(RefreshOutcome.UNCHANGED, null, fetchResult);
+        }
+
+        upsertArticleContent(managedArticle, extractedText);
+        managedArticle.setContentHash(contentHash);
+        managedArticle.setStatus(ArticleStatus.EXTRACTED);
+        articleRepository.save(managedArticle);
+
+        return new RefreshResult(RefreshOutcome.CHANGED, extractedText, fetchResult);
+    }
+
     private boolean applyFetchResult(Article article, ArticleFetchResult fetchResult) {
         if (fetchResult == null) {
             article.setStatus(ArticleStatus.ERROR);
@@ -121,4 +191,13 @@ public class ArticleEnrichmentService {
     }
 
     public record EnrichmentResult(boolean success, String extractedText, ArticleFetchResult fetchResult) {}
+
+    public enum RefreshOutcome {
+        NOT_MODIFIED,
+        UNCHANGED,
+        CHANGED,
+        FAILED
+    }
+
+    public record RefreshResult(RefreshOutcome outcome, String extractedText, ArticleFetchResult fetchResult) {}
 }
\ No newline at end of file
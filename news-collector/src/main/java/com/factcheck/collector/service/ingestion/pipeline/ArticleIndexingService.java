@@ -11,7 +11,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -30,11 +34,15 @@ public class ArticleIndexingService {
             ChunkingResult result = articleProcessingService.createChunks(resolved, fullText, correlationId);
 
             List<String> chunks = result.chunks();
-            List<List<Double>> embeddings = result.hasPrecomputedEmbeddings()
-                    ? result.embeddings()
-                    : embeddingService.embedChunks(chunks, correlationId);
+            if (wasIndexedBefore(resolved)) {
+                reindexChanged(resolved, result, correlationId);
+            } else {
+                List<float[]> embeddings = result.hasPrecomputedEmbeddings()
+                        ? result.embeddings()
+                        : embeddingService.embedChunks(chunks, correlationId);
 
-            weaviateIndexingService.indexArticleChunks(resolved, chunks, embeddings, correlationId);
+                weaviateIndexingService.indexArticleChunks(resolved, chunks, embeddings, correlationId);
+            }
 
             resolved.setChunkCount(chunks.size());
             resolved.setWeaviateIndexed(true);
@@ -58,6 +66,65 @@ public class ArticleIndexingService {
         }
     }
 
+    /**
+     * Diffs the new chunk set against what Weaviate already holds for the article. Only chunks
+     * with unseen text are embedded; retained chunks that moved are rewritten with their stored
+     * vector, and chunks that no longer occur are deleted after the upsert succeeds.
+     */
+    private void reindexChanged(Article article, ChunkingResult result, String correlationId) {
+        List<String> chunks = result.chunks();
+        Map<String, WeaviateIndexingService.IndexedChunk> existing =
+                weaviateIndexingService.getIndexedChunks(article.getId());
+
+        Set<String> keep = new HashSet<>();
+        List<WeaviateIndexingService.ChunkWrite> writes = new ArrayList<>();
+        List<Integer> missing = new ArrayList<>();
+
+        for (int i = 0; i < chunks.size(); i++) {
+            String objectId = WeaviateIndexingService.chunkObjectId(article.getId(), chunks.get(i));
+            if (!keep.add(objectId)) {
+                continue;
+            }
+            WeaviateIndexingService.IndexedChunk current = existing.get(objectId);
+            if (current == null || current.vector() == null) {
+                missing.add(i);
+            } else if (current.chunkIndex() != i) {
+                writes.add(new WeaviateIndexingService.ChunkWrite(i, chunks.get(i), current.vector()));
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<float[]> embeddings;
+            if (result.hasPrecomputedEmbeddings()) {
+                embeddings = missing.stream().map(i -> result.embeddings().get(i)).toList();
+            } else {
+                embeddings = embeddingService.embedChunks(missing.stream().map(chunks::get).toList(), correlationId);
+            }
+            if (embeddings == null || embeddings.size() != missing.size()) {
+                throw new IllegalStateException("Expected " + missing.size() + " embeddings, got "
+                        + (embeddings == null ? 0 : embeddings.size()));
+            }
+            for (int j = 0; j < missing.size(); j++) {
+                int i = missing.get(j);
+                writes.add(new WeaviateIndexingService.ChunkWrite(i, chunks.get(i), embeddings.get(j)));
+            }
+        }
+
+        weaviateIndexingService.upsertChunks(article, writes, correlationId);
+
+        List<String> stale = existing.keySet().stream().filter(id -> !keep.contains(id)).toList();
+        weaviateIndexingService.deleteChunks(stale, correlationId);
+
+        log.info("Re-indexed article id={} embedded={} moved={} unchanged={} deleted={}",
+                article.getId(), missing.size(), writes.size() - missing.size(),
+                keep.size() - writes.size(), stale.size());
+    }
+
+    private boolean wasIndexedBefore(Article article) {
+        return article != null && article.getId() != null
+                && (article.isWeaviateIndexed() || article.getChunkCount() > 0);
+    }
+
     private Article resolveForIndexing(Article article) {
         if (article == null || article.getId() == null) {
             return article;
@@ -44,7 +44,13 @@ public class IngestionQueryService {
                 run.getStartedAt(),
                 run.getCompletedAt(),
                 status,
-                correlationId
+                correlationId,
+                run.getTaskCount(),
+                run.getPendingCount(),
+                run.getSuccessCount(),
+                run.getPartialCount(),
+                run.getFailedCount(),
+                run.getSkippedCount()
         );
     }
 
@@ -2,20 +2,29 @@ package com.factcheck.collector.service.processing;
 
 import com.factcheck.collector.domain.entity.Article;
 import com.factcheck.collector.dto.ChunkingResult;
-import com.factcheck.collector.dto.SemanticChunk;
 import com.factcheck.collector.integration.nlp.NlpServiceClient;
 import com.factcheck.collector.integration.nlp.dto.PreprocessResponse;
 import com.factcheck.collector.integration.nlp.dto.SentenceEmbedRequest;
 import com.factcheck.collector.integration.nlp.dto.SentenceEmbedResponse;
 import com.factcheck.collector.util.ChunkingUtils;
 import com.factcheck.collector.util.SemanticBoundaryDetector;
-import com.factcheck.collector.util.SemanticChunkingUtils;
+import com.factcheck.collector.util.StreamingSemanticChunker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 @Service
@@ -24,6 +33,7 @@ public class ArticleProcessingService {
 
     private final NlpServiceClient nlpClient;
     private final SemanticBoundaryDetector boundaryDetector;
+    private final EmbeddingCache embeddingCache;
 
     @Value("${chunking.use-semantic:true}")
     private boolean useSemanticChunking;
@@ -49,6 +59,15 @@ public class ArticleProcessingService {
     @Value("${chunking.semantic-max-sentences-per-request:100}")
     private int semanticMaxSentencesPerRequest;
 
+    @Value("${chunking.semantic-max-in-flight-per-article:4}")
+    private int semanticMaxInFlightPerArticle = 4;
+
+    @Value("${chunking.semantic-max-in-flight-global:16}")
+    private int semanticMaxInFlightGlobal = 16;
+
+    // Shared across articles; created on first use so the configured size applies.
+    private volatile Semaphore globalInFlight;
+
     public ChunkingResult createChunks(Article article, String fullText, String correlationId) {
         PreprocessResponse response = nlpClient.preprocess(fullText, correlationId);
         List<String> sentences = response.getSentences();
@@ -59,28 +78,25 @@ public class ArticleProcessingService {
         }
 
         try {
-            List<List<Double>> sentenceEmbeddings = embedSentencesBatched(sentences, correlationId);
-
-            List<Integer> boundaries = boundaryDetector.detectBoundaries(
-                    sentences,
-                    sentenceEmbeddings,
-                    similarityThreshold
-            );
-
-            List<SemanticChunk> semanticChunks = SemanticChunkingUtils.createSemanticChunks(
-                    sentences,
-                    boundaries,
+            // Chunks are closed and averaged while batches stream in, so sentence embeddings
+            // never need to be held for the whole article.
+            List<String> chunkTexts = new ArrayList<>();
+            List<float[]> chunkEmbeddings = new ArrayList<>();
+            StreamingSemanticChunker chunker = new StreamingSemanticChunker(
+                    boundaryDetector,
+                    similarityThreshold,
                     minSentences,
                     maxSentences,
                     maxTokens,
-                    overlapSentences
+                    overlapSentences,
+                    (chunk, embedding) -> {
+                        chunkTexts.add(chunk.text());
+                        chunkEmbeddings.add(embedding);
+                    }
             );
 
-            List<String> chunkTexts = semanticChunks.stream().map(SemanticChunk::text).toList();
-            List<List<Double>> chunkEmbeddings = SemanticChunkingUtils.aggregateSentenceEmbeddings(
-                    semanticChunks,
-                    sentenceEmbeddings
-            );
+            embedSentencesBatched(sentences, correlationId, chunker);
+            chunker.finish();
 
             return new ChunkingResult(chunkTexts, chunkEmbeddings, true);
 
@@ -92,40 +108,117 @@ public class ArticleProcessingService {
         }
     }
 
-    private List<List<Double>> embedSentencesBatched(List<String> sentences, String correlationId) {
+    /**
+     * Embeds sentences in batches of {@code semanticMaxSentencesPerRequest} and feeds them to
+     * {@code chunker} in sentence order. Up to {@code semanticMaxInFlightPerArticle} batches
+     * are requested concurrently, further capped across articles by
+     * {@code semanticMaxInFlightGlobal}. The first failing batch cancels the rest.
+     */
+    private void embedSentencesBatched(
+            List<String> sentences,
+            String correlationId,
+            StreamingSemanticChunker chunker
+    ) {
         if (sentences == null || sentences.isEmpty()) {
             throw new IllegalArgumentException("Sentences are required for semantic chunking");
         }
 
         int batchSize = Math.max(1, semanticMaxSentencesPerRequest);
-        if (sentences.size() > batchSize) {
-            log.info(
-                    "Embedding sentences in {} batches (total sentences={})",
-                    (int) Math.ceil((double) sentences.size() / batchSize),
-                    sentences.size()
-            );
+        int batchCount = (sentences.size() + batchSize - 1) / batchSize;
+        if (batchCount > 1) {
+            log.info("Embedding sentences in {} batches (total sentences={})", batchCount, sentences.size());
+        }
+
+        int perArticle = Math.max(1, semanticMaxInFlightPerArticle);
+        Semaphore global = globalPermits();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        Deque<Future<List<float[]>>> inFlight = new ArrayDeque<>(perArticle);
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            int nextBatch = 0;
+            int consumed = 0;
+            while (consumed < batchCount) {
+                // Keep a bounded window of batches ahead of the one being consumed.
+                while (nextBatch < batchCount && inFlight.size() < perArticle) {
+                    List<String> batch = sentences.subList(
+                            nextBatch * batchSize, Math.min((nextBatch + 1) * batchSize, sentences.size()));
+                    inFlight.addLast(executor.submit(() -> {
+                        if (mdc != null) {
+                            MDC.setContextMap(mdc);
+                        }
+                        try {
+                            global.acquire();
+                            try {
+                                return embeddingCache.getOrLoad(
+                                        "embed-sentences", batch, misses -> embedSentencesUncached(misses, correlationId));
+                            } finally {
+                                global.release();
+                            }
+                        } finally {
+                            MDC.clear();
+                        }
+                    }));
+                    nextBatch++;
+                }
+
+                List<String> batch = sentences.subList(
+                        consumed * batchSize, Math.min((consumed + 1) * batchSize, sentences.size()));
+                List<float[]> batchEmbeddings = await(inFlight.removeFirst());
+                for (int j = 0; j < batch.size(); j++) {
+                    chunker.accept(batch.get(j), batchEmbeddings.get(j));
+                }
+                consumed++;
+            }
+        } catch (RuntimeException e) {
+            inFlight.forEach(f -> f.cancel(true));
+            executor.shutdownNow();
+            throw e;
+        } finally {
+            executor.close();
         }
+    }
 
-        List<List<Double>> allEmbeddings = new java.util.ArrayList<>(sentences.size());
-        for (int i = 0; i < sentences.size(); i += batchSize) {
-            int end = Math.min(i + batchSize, sentences.size());
-            List<String> batch = sentences.subList(i, end);
-
-            SentenceEmbedRequest embedReq = new SentenceEmbedRequest();
-            embedReq.setSentences(batch);
-            embedReq.setCorrelationId(correlationId);
-
-            SentenceEmbedResponse embedResp = nlpClient.embedSentences(embedReq);
-            List<List<Double>> batchEmbeddings = embedResp.getEmbeddings();
-            if (batchEmbeddings == null || batchEmbeddings.size() != batch.size()) {
-                throw new IllegalStateException(
-                        "Sentence embedding count mismatch: expected " + batch.size()
-                                + " got " + (batchEmbeddings == null ? 0 : batchEmbeddings.size())
-                );
+    private static List<float[]> await(Future<List<float[]>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for sentence embeddings", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
             }
-            allEmbeddings.addAll(batchEmbeddings);
+            throw new IllegalStateException("Sentence embedding batch failed", e.getCause());
         }
+    }
 
-        return allEmbeddings;
+    private Semaphore globalPermits() {
+        Semaphore permits = globalInFlight;
+        if (permits == null) {
+            synchronized (this) {
+                if (globalInFlight == null) {
+                    globalInFlight = new Semaphore(Math.max(1, semanticMaxInFlightGlobal));
+                }
+                permits = globalInFlight;
+            }
+        }
+        return permits;
+    }
+
+    private List<float[]> embedSentencesUncached(List<String> batch, String correlationId) {
+        SentenceEmbedRequest embedReq = new SentenceEmbedRequest();
+        embedReq.setSentences(batch);
+        embedReq.setCorrelationId(correlationId);
+
+        SentenceEmbedResponse embedResp = nlpClient.embedSentences(embedReq);
+        List<float[]> batchEmbeddings = embedResp.getEmbeddings();
+        if (batchEmbeddings == null || batchEmbeddings.size() != batch.size()) {
+            throw new IllegalStateException(
+                    "Sentence embedding count mismatch: expected " + batch.size()
+                            + " got " + (batchEmbeddings == null ? 0 : batchEmbeddings.size())
+            );
+        }
+        return batchEmbeddings;
     }
 }
@@ -0,0 +1,361 @@
+package com.factcheck.collector.service.processing;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Shared batching queue behind {@link EmbedRequestCoalescer} and {@link WeaviateBatchWriter}.
+ * <p>
+ * Items from concurrent callers are packed into batches by a dispatcher thread and handed to
+ * the sender on virtual threads, at most {@code maxInFlight} at a time. A batch is flushed
+ * once it reaches the current limit, by count or by weight, or once its oldest item has
+ * waited {@code lingerMs}.
+ * <p>
+ * The count limit is an AIMD controller. {@link #onCompleted} grows it after a full batch
+ * under the target latency. A slow batch or {@link #onOverloaded} shrinks it, at most once per
+ * round trip: a batch dispatched before the last decrease cannot shrink it again.
+ * <p>
+ * If the dispatcher dies, every queued item is failed and the next {@link #submit} starts a
+ * new one, so callers are never left waiting on a queue nobody drains.
+ */
+@Slf4j
+final class CoalescingQueue<T extends CoalescingQueue.Item> {
+
+    interface Item {
+
+        long enqueuedAt();
+
+        /**
+         * True once the item's caller has completed or given up; such items are dropped unsent.
+         */
+        boolean abandoned();
+
+        void fail(RuntimeException e);
+    }
+
+    record Settings(
+            int minLimit,
+            int maxLimit,
+            int additiveIncrease,
+            double multiplicativeDecrease,
+            long lingerMs,
+            int maxInFlight,
+            long targetLatencyMs,
+            long maxWeight
+    ) {}
+
+    record Batch<T>(List<T> items, long dispatchedAt) {}
+
+    private final String name;
+    private final String threadName;
+    private final Supplier<Settings> settingsSource;
+    private final ToLongFunction<T> weigher;
+    private final Consumer<Batch<T>> sender;
+    private final BiFunction<String, Throwable, RuntimeException> failure;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition queueChanged = lock.newCondition();
+    private final ArrayDeque<T> queue = new ArrayDeque<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private Thread dispatcher;
+    private Semaphore inFlight;
+    private volatile int batchLimit;
+    private volatile boolean stopped;
+    private boolean decreased;
+    private long lastDecreaseAt;
+
+    /**
+     * @param settingsSource read on use rather than here, so configuration injected later applies
+     * @param failure        builds the exception queued items fail with when the dispatcher dies
+     */
+    CoalescingQueue(
+            String name,
+            String threadName,
+            Supplier<Settings> settingsSource,
+            ToLongFunction<T> weigher,
+            Consumer<Batch<T>> sender,
+            BiFunction<String, Throwable, RuntimeException> failure
+    ) {
+        this.name = name;
+        this.threadName = threadName;
+        this.settingsSource = settingsSource;
+        this.weigher = weigher;
+        this.sender = sender;
+        this.failure = failure;
+    }
+
+    /**
+     * Queues {@code items} for sending; {@code false} when the queue has been shut down.
+     */
+    boolean submit(Collection<T> items) {
+        lock.lock();
+        try {
+            if (stopped) {
+                return false;
+            }
+            ensureStarted();
+            queue.addAll(items);
+            queueChanged.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Puts retried items back at the head of the queue, keeping their order.
+     */
+    void requeueFirst(List<T> items) {
+        lock.lock();
+        try {
+            if (stopped) {
+                RuntimeException closed = failure.apply(name + " queue is shut down", null);
+                items.forEach(item -> item.fail(closed));
+                return;
+            }
+            for (int i = items.size() - 1; i >= 0; i--) {
+                queue.addFirst(items.get(i));
+            }
+            queueChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int batchLimit() {
+        return batchLimit;
+    }
+
+    void shutdown(RuntimeException closed) {
+        Thread current;
+        lock.lock();
+        try {
+            stopped = true;
+            queueChanged.signalAll();
+            queue.forEach(item -> item.fail(closed));
+            queue.clear();
+            current = dispatcher;
+        } finally {
+            lock.unlock();
+        }
+        if (current != null) {
+            current.interrupt();
+        }
+        senders.shutdown();
+    }
+
+    /**
+     * Feeds a completed round trip into the controller.
+     */
+    void onCompleted(Batch<T> batch, long latencyMs) {
+        if (latencyMs > settingsSource.get().targetLatencyMs()) {
+            decrease(batch, "latency " + latencyMs + "ms");
+        } else if (batch.items().size() >= batchLimit) {
+            // Only grow when the current limit was actually used.
+            increase();
+        }
+    }
+
+    void onOverloaded(Batch<T> batch, String reason) {
+        decrease(batch, reason);
+    }
+
+    private void ensureStarted() {
+        if (dispatcher != null) {
+            return;
+        }
+        if (inFlight == null) {
+            Settings settings = settingsSource.get();
+            batchLimit = upperLimit(settings);
+            inFlight = new Semaphore(Math.max(1, settings.maxInFlight()));
+        }
+        dispatcher = Thread.ofPlatform()
+                .name(threadName)
+                .daemon(true)
+                .start(this::dispatchLoop);
+    }
+
+    private void dispatchLoop() {
+        Throwable cause = null;
+        try {
+            while (!stopped) {
+                List<T> items = nextBatch();
+                if (items == null) {
+                    return;
+                }
+                if (items.isEmpty()) {
+                    continue;
+                }
+                dispatch(new Batch<>(items, System.nanoTime()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            cause = e;
+            log.error("{} dispatcher stopped unexpectedly", name, e);
+        } finally {
+            onDispatcherExit(cause);
+        }
+    }
+
+    private void dispatch(Batch<T> batch) throws InterruptedException {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            failAll(batch, failure.apply(name + " batch could not be dispatched", e));
+            throw e;
+        }
+        try {
+            senders.execute(() -> {
+                try {
+                    sender.accept(batch);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            failAll(batch, failure.apply(name + " batch could not be dispatched", e));
+            throw e;
+        }
+    }
+
+    private static <T extends Item> void failAll(Batch<T> batch, RuntimeException e) {
+        batch.items().forEach(item -> item.fail(e));
+    }
+
+    private void onDispatcherExit(Throwable cause) {
+        lock.lock();
+        try {
+            if (dispatcher == Thread.currentThread()) {
+                dispatcher = null;
+            }
+            if (!stopped && !queue.isEmpty()) {
+                RuntimeException failed = failure.apply(name + " dispatcher stopped", cause);
+                queue.forEach(item -> item.fail(failed));
+                queue.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until a batch is due and removes it from the queue; {@code null} once stopped.
+     */
+    private List<T> nextBatch() throws InterruptedException {
+        lock.lock();
+        try {
+            while (queue.isEmpty() && !stopped) {
+                queueChanged.await();
+            }
+            if (stopped) {
+                return null;
+            }
+
+            Settings settings = settingsSource.get();
+            long deadline = queue.peekFirst().enqueuedAt()
+                    + TimeUnit.MILLISECONDS.toNanos(Math.max(0, settings.lingerMs()));
+            while (!stopped && !batchReady(settings)) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                queueChanged.awaitNanos(remaining);
+            }
+
+            int limit = batchLimit;
+            long weight = 0;
+            List<T> batch = new ArrayList<>(Math.min(limit, queue.size()));
+            while (batch.size() < limit && !queue.isEmpty()) {
+                T next = queue.peekFirst();
+                long itemWeight = weigher.applyAsLong(next);
+                // Always take at least one item so an oversized one still goes out alone.
+                if (!batch.isEmpty() && weight + itemWeight > settings.maxWeight()) {
+                    break;
+                }
+                queue.pollFirst();
+                // Skip items whose caller already failed in another batch or gave up.
+                if (next.abandoned()) {
+                    continue;
+                }
+                batch.add(next);
+                weight += itemWeight;
+            }
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean batchReady(Settings settings) {
+        if (queue.size() >= batchLimit) {
+            return true;
+        }
+        if (settings.maxWeight() == Long.MAX_VALUE) {
+            return false;
+        }
+        long weight = 0;
+        for (T item : queue) {
+            weight += weigher.applyAsLong(item);
+            if (weight >= settings.maxWeight()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void increase() {
+        lock.lock();
+        try {
+            Settings settings = settingsSource.get();
+            batchLimit = Math.min(upperLimit(settings), batchLimit + Math.max(1, settings.additiveIncrease()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease(Batch<T> batch, String reason) {
+        lock.lock();
+        try {
+            // Batches already in flight at the last decrease report the same congestion.
+            if (decreased && batch.dispatchedAt() - lastDecreaseAt < 0) {
+                return;
+            }
+            decreased = true;
+            lastDecreaseAt = System.nanoTime();
+            Settings settings = settingsSource.get();
+            int previous = batchLimit;
+            batchLimit = Math.max(lowerLimit(settings), (int) (previous * settings.multiplicativeDecrease()));
+            if (batchLimit != previous) {
+                log.info("Reducing {} batch size {} -> {} ({})", name, previous, batchLimit, reason);
+            }
+            queueChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int upperLimit(Settings settings) {
+        return Math.max(1, settings.maxLimit());
+    }
+
+    private static int lowerLimit(Settings settings) {
+        return Math.min(upperLimit(settings), Math.max(1, settings.minLimit()));
+    }
+}
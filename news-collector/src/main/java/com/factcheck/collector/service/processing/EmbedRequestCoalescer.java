@@ -0,0 +1,234 @@
+package com.factcheck.collector.service.processing;
+
+import com.factcheck.collector.exception.NlpServiceException;
+import com.factcheck.collector.integration.nlp.NlpServiceClient;
+import com.factcheck.collector.integration.nlp.dto.EmbedRequest;
+import com.factcheck.collector.integration.nlp.dto.EmbedResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Coalesces {@code /embed} calls from concurrent article pipelines.
+ * <p>
+ * Texts are queued individually and flushed as one request once the queue reaches the
+ * current batch limit or the oldest text has waited {@code nlp.coalescer.linger-ms}.
+ * Results are fanned back out to each caller in input order, so a caller with more texts
+ * than fit in one request is simply spread over several. Callers wait at most
+ * {@code nlp.coalescer.call-timeout}.
+ * <p>
+ * The batch limit is an AIMD controller bounded by {@code nlp.max-texts-per-request}: it
+ * grows by {@code additive-increase} after a request that met {@code target-latency-ms}, and
+ * is multiplied by {@code multiplicative-decrease} after a slow request or a 429/503.
+ * Batching and the controller live in {@link CoalescingQueue}.
+ */
+@Slf4j
+@Component
+public class EmbedRequestCoalescer {
+
+    private static final int DEFAULT_MAX_TEXTS_PER_REQUEST = 100;
+
+    private final NlpServiceClient nlpClient;
+    private final CoalescingQueue<PendingText> queue;
+
+    @Value("${nlp.max-texts-per-request:" + DEFAULT_MAX_TEXTS_PER_REQUEST + "}")
+    private int maxTextsPerRequest = DEFAULT_MAX_TEXTS_PER_REQUEST;
+
+    @Value("${nlp.coalescer.min-batch-size:4}")
+    private int minBatchSize = 4;
+
+    @Value("${nlp.coalescer.linger-ms:20}")
+    private long lingerMs = 20;
+
+    @Value("${nlp.coalescer.max-in-flight:4}")
+    private int maxInFlight = 4;
+
+    @Value("${nlp.coalescer.target-latency-ms:2000}")
+    private long targetLatencyMs = 2000;
+
+    @Value("${nlp.coalescer.additive-increase:4}")
+    private int additiveIncrease = 4;
+
+    @Value("${nlp.coalescer.multiplicative-decrease:0.5}")
+    private double multiplicativeDecrease = 0.5;
+
+    @Value("${nlp.coalescer.call-timeout:PT2M}")
+    private Duration callTimeout = Duration.ofMinutes(2);
+
+    public EmbedRequestCoalescer(NlpServiceClient nlpClient, MeterRegistry meterRegistry) {
+        this.nlpClient = nlpClient;
+        this.queue = new CoalescingQueue<>(
+                "embed",
+                "nlp-embed-coalescer",
+                () -> new CoalescingQueue.Settings(
+                        minBatchSize,
+                        maxTextsPerRequest,
+                        additiveIncrease,
+                        multiplicativeDecrease,
+                        lingerMs,
+                        maxInFlight,
+                        targetLatencyMs,
+                        Long.MAX_VALUE),
+                p -> 1,
+                this::send,
+                NlpServiceException::new);
+        Gauge.builder("nlp.embed.batch.limit", queue, CoalescingQueue::batchLimit)
+                .description("Current adaptive /embed batch size")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Embeds {@code texts}, blocking until every text has been answered. Returned
+     * embeddings are in input order.
+     */
+    public List<float[]> embed(List<String> texts, String correlationId) {
+        if (texts == null || texts.isEmpty()) {
+            return List.of();
+        }
+
+        CallerRequest request = new CallerRequest(texts.size(), correlationId);
+        long now = System.nanoTime();
+        List<PendingText> pending = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            pending.add(new PendingText(request, i, texts.get(i), now));
+        }
+        if (!queue.submit(pending)) {
+            throw new NlpServiceException("NLP embed failed: coalescer is shut down");
+        }
+
+        try {
+            return request.future.get(callTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.future.cancel(false);
+            throw new NlpServiceException("NLP embed interrupted", e);
+        } catch (TimeoutException e) {
+            // Cancelling also drops this caller's texts that are still queued.
+            request.future.cancel(false);
+            throw new NlpServiceException("NLP embed timed out after " + callTimeout, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new NlpServiceException("NLP embed failed", e.getCause());
+        }
+    }
+
+    int batchLimit() {
+        return queue.batchLimit();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queue.shutdown(new NlpServiceException("NLP embed failed: coalescer is shut down"));
+    }
+
+    private void send(CoalescingQueue.Batch<PendingText> batch) {
+        List<PendingText> items = batch.items();
+        List<String> texts = new ArrayList<>(items.size());
+        for (PendingText p : items) {
+            texts.add(p.text);
+        }
+
+        EmbedRequest req = new EmbedRequest();
+        req.setTexts(texts);
+        req.setCorrelationId(batchCorrelationId(items));
+
+        long started = System.nanoTime();
+        try {
+            EmbedResponse resp = nlpClient.embed(req);
+            List<float[]> embeddings = resp.getEmbeddings();
+            if (embeddings == null || embeddings.size() != texts.size()) {
+                throw new NlpServiceException("NLP embed failed: expected " + texts.size()
+                        + " embeddings, got " + (embeddings == null ? 0 : embeddings.size()));
+            }
+            queue.onCompleted(batch, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            for (int i = 0; i < items.size(); i++) {
+                PendingText p = items.get(i);
+                p.request.complete(p.index, embeddings.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (isOverloaded(e)) {
+                queue.onOverloaded(batch, "overloaded");
+            }
+            for (PendingText p : items) {
+                p.fail(e);
+            }
+        }
+    }
+
+    private static String batchCorrelationId(List<PendingText> batch) {
+        String first = batch.getFirst().request.correlationId;
+        for (PendingText p : batch) {
+            if (p.request.correlationId == null || !p.request.correlationId.equals(first)) {
+                String id = "embed-batch-" + UUID.randomUUID();
+                log.debug("Coalesced embed request {} carries {} texts from several callers", id, batch.size());
+                return id;
+            }
+        }
+        return first;
+    }
+
+    static boolean isOverloaded(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof RestClientResponseException re) {
+                int status = re.getStatusCode().value();
+                return status == HttpStatus.TOO_MANY_REQUESTS.value()
+                        || status == HttpStatus.SERVICE_UNAVAILABLE.value();
+            }
+        }
+        return false;
+    }
+
+    private record PendingText(CallerRequest request, int index, String text, long enqueuedAt)
+            implements CoalescingQueue.Item {
+
+        @Override
+        public boolean abandoned() {
+            return request.future.isDone();
+        }
+
+        @Override
+        public void fail(RuntimeException e) {
+            request.future.completeExceptionally(e);
+        }
+    }
+
+    private static final class CallerRequest {
+
+        private final String correlationId;
+        private final float[][] results;
+        private final AtomicInteger remaining;
+        private final CompletableFuture<List<float[]>> future = new CompletableFuture<>();
+
+        private CallerRequest(int size, String correlationId) {
+            this.correlationId = correlationId;
+            this.results = new float[size][];
+            this.remaining = new AtomicInteger(size);
+        }
+
+        private void complete(int index, float[] embedding) {
+            results[index] = embedding;
+            if (remaining.decrementAndGet() == 0) {
+                future.complete(Collections.unmodifiableList(Arrays.asList(results)));
+            }
+        }
+    }
+}
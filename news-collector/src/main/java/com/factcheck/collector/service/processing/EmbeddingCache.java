@@ -0,0 +1,297 @@
+package com.factcheck.collector.service.processing;
+
+import com.factcheck.collector.domain.entity.EmbeddingCacheEntry;
+import com.factcheck.collector.integration.nlp.NlpServiceClient;
+import com.factcheck.collector.repository.EmbeddingCacheRepository;
+import com.factcheck.collector.util.HashUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Embedding cache in front of the NLP service.
+ * <p>
+ * Vectors are keyed by the sha256 of the normalized text (NFC, collapsed whitespace) plus
+ * the embedding namespace and the model the NLP service last reported, so a model change on
+ * the service side starts a fresh cache. Until the service has reported a model, nothing is
+ * read from the cache. Lookups go to an in-memory LRU bounded by bytes, then, when
+ * {@code nlp-service.embedding-cache.persistent.enabled} is set, to Postgres. Only the
+ * remaining misses are passed to the loader, and results are returned in input order.
+ * <p>
+ * Persisted rows older than {@code nlp-service.embedding-cache.persistent.ttl}, or whose
+ * dimension differs from {@code search.embedding-dimension}, are ignored and overwritten;
+ * expired rows are purged at most once per {@code purge-interval}.
+ */
+@Slf4j
+@Component
+public class EmbeddingCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final EmbeddingCacheRepository persistentCache;
+    private final NlpServiceClient nlpClient;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, float[]> memory = new LinkedHashMap<>(1024, 0.75f, true);
+    private long memoryBytes;
+
+    private final Counter memoryHits;
+    private final Counter persistentHits;
+    private final Counter misses;
+
+    private final AtomicLong nextPurgeAtMs = new AtomicLong();
+
+    @Value("${nlp-service.embedding-cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${nlp-service.embedding-cache.max-memory-bytes:67108864}")
+    private long maxMemoryBytes = 64L * 1024 * 1024;
+
+    @Value("${nlp-service.embedding-cache.persistent.enabled:false}")
+    private boolean persistentEnabled = false;
+
+    @Value("${nlp-service.embedding-cache.persistent.ttl:P30D}")
+    private Duration persistentTtl = Duration.ofDays(30);
+
+    @Value("${nlp-service.embedding-cache.persistent.purge-interval:PT1H}")
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    @Value("${search.embedding-dimension:3072}")
+    private int embeddingDimension = 3072;
+
+    public EmbeddingCache(
+            EmbeddingCacheRepository persistentCache,
+            NlpServiceClient nlpClient,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.persistentCache = persistentCache;
+        this.nlpClient = nlpClient;
+        this.objectMapper = objectMapper;
+        this.memoryHits = lookupCounter(meterRegistry, "memory");
+        this.persistentHits = lookupCounter(meterRegistry, "persistent");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        Gauge.builder("nlp.embedding.cache.hit.ratio", this, EmbeddingCache::hitRatio)
+                .description("Share of embedding lookups served without calling the NLP service")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns one embedding per text. {@code loader} is called at most once, with the
+     * distinct texts that were not cached, and must return their embeddings in that order.
+     * Returned arrays are shared with the cache and must not be modified.
+     */
+    public List<float[]> getOrLoad(
+            String namespace,
+            List<String> texts,
+            Function<List<String>, List<float[]>> loader
+    ) {
+        if (!enabled || texts.isEmpty()) {
+            return loader.apply(texts);
+        }
+
+        String cacheModel = cacheModel(namespace);
+        List<String> hashes = new ArrayList<>(texts.size());
+        List<float[]> results = new ArrayList<>(texts.size());
+        Map<String, Integer> pending = new LinkedHashMap<>();
+
+        for (int i = 0; i < texts.size(); i++) {
+            String hash = textHash(texts.get(i));
+            hashes.add(hash);
+            float[] cached = cacheModel == null ? null : memoryGet(cacheModel, hash);
+            results.add(cached);
+            if (cached != null) {
+                memoryHits.increment();
+            } else {
+                pending.putIfAbsent(hash, i);
+            }
+        }
+
+        Map<String, float[]> persisted = pending.isEmpty() || cacheModel == null
+                ? Map.of()
+                : readPersisted(cacheModel, pending.keySet());
+        for (Map.Entry<String, float[]> hit : persisted.entrySet()) {
+            memoryPut(cacheModel, hit.getKey(), hit.getValue());
+            pending.remove(hit.getKey());
+        }
+
+        Map<String, float[]> loaded = new LinkedHashMap<>();
+        if (!pending.isEmpty()) {
+            List<String> missTexts = pending.values().stream().map(texts::get).toList();
+            List<float[]> embeddings = loader.apply(missTexts);
+            if (embeddings == null || embeddings.size() != missTexts.size()) {
+                throw new IllegalStateException("Embedding count mismatch: expected " + missTexts.size()
+                        + " got " + (embeddings == null ? 0 : embeddings.size()));
+            }
+            // The load may be the first response to report a model, or a changed one.
+            String loadedModel = cacheModel(namespace);
+            Iterator<String> missHashes = pending.keySet().iterator();
+            for (float[] embedding : embeddings) {
+                String hash = missHashes.next();
+                loaded.put(hash, embedding);
+                if (loadedModel != null) {
+                    memoryPut(loadedModel, hash, embedding);
+                }
+            }
+            if (loadedModel != null) {
+                writePersisted(loadedModel, loaded);
+            }
+        }
+
+        // Stitch: fresh results from the loader, the rest from the persistent tier.
+        for (int i = 0; i < texts.size(); i++) {
+            if (results.get(i) != null) {
+                continue;
+            }
+            String hash = hashes.get(i);
+            float[] fresh = loaded.get(hash);
+            if (fresh != null) {
+                misses.increment();
+                results.set(i, fresh);
+            } else {
+                persistentHits.increment();
+                results.set(i, persisted.get(hash));
+            }
+        }
+        return results;
+    }
+
+    double hitRatio() {
+        double hits = memoryHits.count() + persistentHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private String cacheModel(String namespace) {
+        String model = nlpClient == null ? null : nlpClient.servedModel();
+        return model == null ? null : namespace + "/" + model;
+    }
+
+    static String textHash(String text) {
+        String normalized = Normalizer.normalize(text == null ? "" : text, Normalizer.Form.NFC);
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return HashUtils.sha256Hex(normalized);
+    }
+
+    private Map<String, float[]> readPersisted(String cacheModel, Collection<String> hashes) {
+        if (!persistentEnabled || persistentCache == null) {
+            return Map.of();
+        }
+        try {
+            Map<String, float[]> found = new LinkedHashMap<>();
+            Instant createdAfter = Instant.now().minus(persistentTtl);
+            for (EmbeddingCacheEntry entry
+                    : persistentCache.findByModelIdAndTextHashInAndCreatedAtAfter(cacheModel, hashes, createdAfter)) {
+                float[] vector = decode(entry.getVector());
+                // Rows from a model with another dimension would break search; treat them as misses.
+                if (entry.getDimension() == embeddingDimension && vector.length == embeddingDimension) {
+                    found.put(entry.getTextHash(), vector);
+                }
+            }
+            return found;
+        } catch (Exception e) {
+            log.warn("Failed to read persisted embeddings for model {}: {}", cacheModel, e.toString());
+            return Map.of();
+        }
+    }
+
+    private void writePersisted(String cacheModel, Map<String, float[]> loaded) {
+        if (!persistentEnabled || persistentCache == null || loaded.isEmpty()) {
+            return;
+        }
+        try {
+            List<Map<String, Object>> rows = new ArrayList<>(loaded.size());
+            for (Map.Entry<String, float[]> e : loaded.entrySet()) {
+                float[] vector = e.getValue();
+                if (vector == null || vector.length != embeddingDimension) {
+                    continue;
+                }
+                rows.add(Map.of(
+                        "text_hash", e.getKey(),
+                        "dimension", vector.length,
+                        "vector", Base64.getEncoder().encodeToString(encode(vector))
+                ));
+            }
+            if (!rows.isEmpty()) {
+                Instant now = Instant.now();
+                persistentCache.upsertAll(cacheModel, objectMapper.writeValueAsString(rows), now.minus(persistentTtl));
+                purgeExpired(now);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to persist {} embeddings for model {}: {}", loaded.size(), cacheModel, e.toString());
+        }
+    }
+
+    private void purgeExpired(Instant now) {
+        long due = nextPurgeAtMs.get();
+        if (now.toEpochMilli() < due
+                || !nextPurgeAtMs.compareAndSet(due, now.plus(purgeInterval).toEpochMilli())) {
+            return;
+        }
+        int purged = persistentCache.deleteCreatedBefore(now.minus(persistentTtl));
+        if (purged > 0) {
+            log.info("Purged {} expired persisted embeddings", purged);
+        }
+    }
+
+    private synchronized float[] memoryGet(String cacheModel, String hash) {
+        return memory.get(cacheModel + ":" + hash);
+    }
+
+    private synchronized void memoryPut(String cacheModel, String hash, float[] vector) {
+        float[] previous = memory.put(cacheModel + ":" + hash, vector);
+        if (previous != null) {
+            memoryBytes -= sizeOf(previous);
+        }
+        memoryBytes += sizeOf(vector);
+
+        Iterator<float[]> eldest = memory.values().iterator();
+        while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+            memoryBytes -= sizeOf(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    private static long sizeOf(float[] vector) {
+        return (long) vector.length * Float.BYTES;
+    }
+
+    static byte[] encode(float[] vector) {
+        ByteBuffer buf = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buf.asFloatBuffer().put(vector);
+        return buf.array();
+    }
+
+    static float[] decode(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String tier) {
+        return Counter.builder("nlp.embedding.cache.lookups")
+                .description("Embedding cache lookups by serving tier")
+                .tag("tier", tier)
+                .register(registry);
+    }
+}
@@ -0,0 +1,332 @@
+package com.factcheck.collector.service.processing;
+
+import com.factcheck.collector.exception.WeaviateException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cross-article writer for {@code POST /v1/batch/objects}.
+ * <p>
+ * Callers submit objects and get a future that completes once Weaviate has confirmed every
+ * one of them. A background flusher packs queued objects from all callers into batches
+ * limited by object count and serialized bytes, flushing when a batch is full or the oldest
+ * object has waited {@code weaviate.batch.linger-ms}. Objects reported in per-object errors
+ * are re-queued on their own, up to {@code weaviate.batch.max-object-attempts}.
+ * <p>
+ * The object limit adapts (AIMD) to Weaviate latency: a full batch under
+ * {@code target-latency-ms} grows it, a slower batch or a 429/503 halves it. Batching and
+ * the controller live in {@link CoalescingQueue}.
+ */
+@Slf4j
+@Component
+public class WeaviateBatchWriter {
+
+    private static final byte[] BATCH_PREFIX = "{\"objects\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BATCH_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper mapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(3))
+            .build();
+
+    private final CoalescingQueue<PendingObject> queue;
+
+    @Value("${weaviate.base-url}")
+    private String baseUrl;
+
+    @Value("${weaviate.http-timeout:PT20S}")
+    private Duration httpTimeout = Duration.ofSeconds(20);
+
+    @Value("${weaviate.batch.max-objects:200}")
+    private int maxObjects = 200;
+
+    @Value("${weaviate.batch.min-objects:10}")
+    private int minObjects = 10;
+
+    @Value("${weaviate.batch.max-bytes:8388608}")
+    private long maxBytes = 8L * 1024 * 1024;
+
+    @Value("${weaviate.batch.linger-ms:20}")
+    private long lingerMs = 20;
+
+    @Value("${weaviate.batch.max-in-flight:2}")
+    private int maxInFlight = 2;
+
+    @Value("${weaviate.batch.target-latency-ms:1000}")
+    private long targetLatencyMs = 1000;
+
+    @Value("${weaviate.batch.max-object-attempts:3}")
+    private int maxObjectAttempts = 3;
+
+    public WeaviateBatchWriter(ObjectMapper mapper, MeterRegistry meterRegistry) {
+        this.mapper = mapper;
+        this.queue = new CoalescingQueue<>(
+                "Weaviate",
+                "weaviate-batch-writer",
+                () -> new CoalescingQueue.Settings(
+                        minObjects,
+                        maxObjects,
+                        Math.max(1, maxObjects / 20),
+                        0.5,
+                        lingerMs,
+                        maxInFlight,
+                        targetLatencyMs,
+                        maxBytes - BATCH_PREFIX.length - BATCH_SUFFIX.length),
+                p -> p.json.length + 1,
+                this::send,
+                WeaviateException::new);
+        Gauge.builder("weaviate.batch.limit", queue, CoalescingQueue::batchLimit)
+                .description("Current adaptive Weaviate batch size in objects")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues {@code objects} for writing. The future completes when all of them are stored,
+     * or exceptionally with a {@link WeaviateException} once any of them cannot be.
+     */
+    public CompletableFuture<Void> write(List<BatchObject> objects, String correlationId) {
+        if (objects == null || objects.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CallerWrite owner = new CallerWrite(objects.size(), correlationId);
+        List<PendingObject> pending = new ArrayList<>(objects.size());
+        try {
+            for (BatchObject object : objects) {
+                pending.add(new PendingObject(owner, object.id(), WeaviateJsonCodec.batchObject(mapper.getFactory(), object), 1, System.nanoTime()));
+            }
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new WeaviateException("Failed to serialize Weaviate objects", e));
+        }
+
+        if (!queue.submit(pending)) {
+            return CompletableFuture.failedFuture(new WeaviateException("Weaviate batch writer is shut down", null));
+        }
+        return owner.future;
+    }
+
+    int batchLimit() {
+        return queue.batchLimit();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queue.shutdown(new WeaviateException("Weaviate batch writer is shut down", null));
+    }
+
+    private void send(CoalescingQueue.Batch<PendingObject> dispatched) {
+        List<PendingObject> batch = dispatched.items();
+        long started = System.nanoTime();
+        HttpResponse<byte[]> resp;
+        try {
+            HttpRequest req = HttpRequest.newBuilder()
+                    .uri(URI.create(baseUrl + "/v1/batch/objects"))
+                    .timeout(httpTimeout)
+                    .header("Content-Type", "application/json")
+                    .header(WeaviateIndexingService.CORRELATION_HEADER, batchCorrelationId(batch))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body(batch)))
+                    .build();
+            resp = httpClient.send(req, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failAll(batch, new WeaviateException("Interrupted while writing to Weaviate", e));
+            return;
+        } catch (Exception e) {
+            // Timeouts and connection failures suggest an overloaded cluster too.
+            queue.onOverloaded(dispatched, "request failed: " + e);
+            failAll(batch, new WeaviateException("Failed to index into Weaviate", e));
+            return;
+        }
+
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        int status = resp.statusCode();
+        if (status < 200 || status >= 300) {
+            log.error("Weaviate batch error status={} body={}", status, safeBody(resp.body()));
+            if (status == 429 || status == 503) {
+                queue.onOverloaded(dispatched, "HTTP " + status);
+            }
+            failAll(batch, new WeaviateException("Weaviate batch error " + status, null));
+            return;
+        }
+
+        List<String> objectErrors;
+        try {
+            objectErrors = objectErrors(resp.body(), batch);
+        } catch (Exception parseFail) {
+            // Treat parse failures as errors to avoid silent drops.
+            log.error("Weaviate batch returned an unreadable body={}", safeBody(resp.body()));
+            failAll(batch, new WeaviateException("Weaviate batch returned errors", parseFail));
+            return;
+        }
+
+        queue.onCompleted(dispatched, latencyMs);
+
+        List<PendingObject> retries = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingObject p = batch.get(i);
+            String error = objectErrors.get(i);
+            if (error == null) {
+                p.owner.objectWritten();
+            } else if (p.attempt < maxObjectAttempts) {
+                log.warn("Retrying Weaviate object id={} (attempt {}/{}): {}",
+                        p.id, p.attempt + 1, maxObjectAttempts, error);
+                retries.add(new PendingObject(p.owner, p.id, p.json, p.attempt + 1, System.nanoTime()));
+            } else {
+                log.error("Weaviate rejected object id={} after {} attempts: {}", p.id, p.attempt, error);
+                p.fail(new WeaviateException("Weaviate batch returned errors for object " + p.id + ": " + error, null));
+            }
+        }
+        if (!retries.isEmpty()) {
+            queue.requeueFirst(retries);
+        }
+    }
+
+    /**
+     * Per-object error message for each object in {@code batch}, {@code null} where it
+     * succeeded. Results are matched by id, falling back to position.
+     */
+    private List<String> objectErrors(byte[] body, List<PendingObject> batch) throws Exception {
+        List<String> errors = nulls(batch.size());
+        if (body == null || body.length == 0) {
+            return errors;
+        }
+
+        List<WeaviateJsonCodec.ObjectError> reported;
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            reported = WeaviateJsonCodec.readBatchErrors(parser);
+        }
+        for (WeaviateJsonCodec.ObjectError error : reported) {
+            int position = positionOf(error.id(), batch);
+            if (position < 0 && error.position() < batch.size()) {
+                position = error.position();
+            }
+            if (position < 0) {
+                throw new WeaviateException("Unmatched Weaviate batch error: " + error.message(), null);
+            }
+            errors.set(position, error.message());
+        }
+        return errors;
+    }
+
+    private static int positionOf(String id, List<PendingObject> batch) {
+        if (id == null) {
+            return -1;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            if (id.equals(batch.get(i).id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static List<String> nulls(int size) {
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(null);
+        }
+        return list;
+    }
+
+    private static byte[] body(List<PendingObject> batch) {
+        int size = BATCH_PREFIX.length + BATCH_SUFFIX.length;
+        for (PendingObject p : batch) {
+            size += p.json.length + 1;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        out.writeBytes(BATCH_PREFIX);
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) out.write(',');
+            out.writeBytes(batch.get(i).json);
+        }
+        out.writeBytes(BATCH_SUFFIX);
+        return out.toByteArray();
+    }
+
+    private static void failAll(List<PendingObject> batch, WeaviateException e) {
+        for (PendingObject p : batch) {
+            p.fail(e);
+        }
+    }
+
+    private static String batchCorrelationId(List<PendingObject> batch) {
+        String first = batch.getFirst().owner.correlationId;
+        for (PendingObject p : batch) {
+            if (p.owner.correlationId == null || !p.owner.correlationId.equals(first)) {
+                return "weaviate-batch-" + UUID.randomUUID();
+            }
+        }
+        return (first == null || first.isBlank()) ? UUID.randomUUID().toString() : first;
+    }
+
+    private static String safeBody(byte[] body) {
+        if (body == null) return "";
+        String text = new String(body, 0, Math.min(body.length, 2000), StandardCharsets.UTF_8);
+        return body.length <= 2000 ? text : text + "...(truncated)";
+    }
+
+    /**
+     * One object to write. Property values are strings, numbers, booleans or {@code null};
+     * the vector is written as-is without boxing.
+     */
+    public record BatchObject(
+            String className,
+            String id,
+            Map<String, Object> properties,
+            float[] vector
+    ) {}
+
+    private record PendingObject(CallerWrite owner, String id, byte[] json, int attempt, long enqueuedAt)
+            implements CoalescingQueue.Item {
+
+        @Override
+        public boolean abandoned() {
+            return owner.future.isDone();
+        }
+
+        @Override
+        public void fail(RuntimeException e) {
+            owner.future.completeExceptionally(e);
+        }
+    }
+
+    private static final class CallerWrite {
+
+        private final String correlationId;
+        private final AtomicInteger remaining;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private CallerWrite(int size, String correlationId) {
+            this.correlationId = correlationId;
+            this.remaining = new AtomicInteger(size);
+        }
+
+        private void objectWritten() {
+            if (remaining.decrementAndGet() == 0) {
+                future.complete(null);
+            }
+        }
+    }
+}
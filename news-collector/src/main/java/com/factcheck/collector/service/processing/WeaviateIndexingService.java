@@ -2,7 +2,10 @@ package com.factcheck.collector.service.processing;
 
 import com.factcheck.collector.domain.entity.Article;
 import com.factcheck.collector.dto.ChunkResult;
+import com.factcheck.collector.dto.SearchFilters;
 import com.factcheck.collector.exception.WeaviateException;
+import com.factcheck.collector.util.HashUtils;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +13,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -17,6 +21,11 @@ import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -27,11 +36,14 @@ public class WeaviateIndexingService {
     private static final String CLASS_NAME = "ArticleChunk";
 
     private final ObjectMapper mapper;
+    private final WeaviateBatchWriter batchWriter;
 
     private final HttpClient httpClient = HttpClient.newBuilder()
             .connectTimeout(Duration.ofSeconds(3))
             .build();
 
+    private final AtomicLong indexGeneration = new AtomicLong();
+
     @Value("${weaviate.base-url}")
     private String baseUrl;
 
@@ -41,6 +53,15 @@ public class WeaviateIndexingService {
     @Value("${weaviate.http-timeout:PT20S}")
     private Duration httpTimeout;
 
+    @Value("${weaviate.batch.write-timeout:PT2M}")
+    private Duration writeTimeout = Duration.ofMinutes(2);
+
+    /**
+     * False when an existing class tokenizes sourceName by word; source filters are then
+     * re-checked exactly on the results.
+     */
+    private volatile boolean sourceNameExact = true;
+
     public void ensureSchema() {
         try {
             HttpRequest req = HttpRequest.newBuilder()
@@ -59,6 +80,7 @@ public class WeaviateIndexingService {
 
             boolean hasClass = false;
             Set<String> existingProps = new HashSet<>();
+            String sourceNameTokenization = null;
             if (classes.isArray()) {
                 for (JsonNode c : classes) {
                     if (CLASS_NAME.equalsIgnoreCase(c.path("class").asText())) {
@@ -70,6 +92,10 @@ public class WeaviateIndexingService {
                                 if (name != null && !name.isBlank()) {
                                     existingProps.add(name);
                                 }
+                                if ("sourceName".equals(name)) {
+                                    // Weaviate tokenizes text by word unless told otherwise.
+                                    sourceNameTokenization = p.path("tokenization").asText("word");
+                                }
                             }
                         }
                         break;
@@ -78,6 +104,12 @@ public class WeaviateIndexingService {
             }
 
             if (hasClass) {
+                sourceNameExact = "field".equals(sourceNameTokenization);
+                if (!sourceNameExact) {
+                    // Tokenization cannot be changed in place; re-create the class to filter in Weaviate alone.
+                    log.warn("Weaviate property sourceName uses {} tokenization; source filters are re-checked "
+                            + "on results and may return fewer than limit", sourceNameTokenization);
+                }
                 ensureMbfcProperties(existingProps);
                 return;
             }
@@ -94,11 +126,11 @@ public class WeaviateIndexingService {
                         { "name": "articleId",    "dataType": ["int"] },
                         { "name": "articleUrl",   "dataType": ["text"] },
                         { "name": "articleTitle", "dataType": ["text"] },
-                        { "name": "sourceName",   "dataType": ["text"] },
+                        { "name": "sourceName",   "dataType": ["text"], "tokenization": "field", "indexFilterable": true },
                         { "name": "mbfcBias",     "dataType": ["text"] },
                         { "name": "mbfcFactualReporting", "dataType": ["text"] },
                         { "name": "mbfcCredibility", "dataType": ["text"] },
-                        { "name": "publishedDate","dataType": ["date"] },
+                        { "name": "publishedDate","dataType": ["date"], "indexFilterable": true },
                         { "name": "chunkIndex",   "dataType": ["int"] }
                       ]
                     }
@@ -174,7 +206,7 @@ public class WeaviateIndexingService {
     public void indexArticleChunks(
             Article article,
             List<String> chunks,
-            List<List<Double>> embeddings,
+            List<float[]> embeddings,
             String correlationId
     ) {
         if (article == null || article.getId() == null) {
@@ -188,26 +220,43 @@ public class WeaviateIndexingService {
                     + " != embeddings size " + (embeddings == null ? 0 : embeddings.size()), null);
         }
 
+        List<ChunkWrite> writes = new ArrayList<>(chunks.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            writes.add(new ChunkWrite(i, chunks.get(i), embeddings.get(i)));
+        }
+        upsertChunks(article, writes, correlationId);
+    }
+
+    /**
+     * Writes chunk objects under their content-addressed ids. Objects that already exist are
+     * replaced, so this also moves a retained chunk to a new {@code chunkIndex}. Repeated chunk
+     * texts map to the same id and are written once, at their first position.
+     */
+    public void upsertChunks(Article article, List<ChunkWrite> writes, String correlationId) {
+        if (article == null || article.getId() == null) {
+            throw new WeaviateException("Article with non-null id is required", null);
+        }
+        if (writes == null || writes.isEmpty()) {
+            return;
+        }
+
         try {
-            log.info("Indexing {} chunks for article id={} into Weaviate", chunks.size(), article.getId());
+            log.info("Indexing {} chunks for article id={} into Weaviate", writes.size(), article.getId());
 
-            List<JsonNode> objects = new ArrayList<>(chunks.size());
+            List<WeaviateBatchWriter.BatchObject> objects = new ArrayList<>(writes.size());
+            Set<String> seenIds = new HashSet<>();
 
             Instant published = article.getPublishedDate() != null ? article.getPublishedDate() : Instant.now();
             MbfcSnapshot mbfcSnapshot = extractMbfcSnapshot(article);
 
-            for (int i = 0; i < chunks.size(); i++) {
-                String chunkText = chunks.get(i);
-                List<Double> vector = embeddings.get(i);
-
-                String objectId = buildChunkObjectId(article.getId(), i);
-
-                var obj = mapper.createObjectNode();
-                obj.put("class", CLASS_NAME);
-                obj.put("id", objectId);
+            for (ChunkWrite write : writes) {
+                String objectId = chunkObjectId(article.getId(), write.text());
+                if (!seenIds.add(objectId)) {
+                    continue;
+                }
 
-                var props = obj.putObject("properties");
-                props.put("text", chunkText);
+                Map<String, Object> props = new LinkedHashMap<>();
+                props.put("text", write.text());
                 props.put("articleId", article.getId());
                 props.put("articleUrl", nullToEmpty(article.getCanonicalUrl()));
                 props.put("articleTitle", nullToEmpty(article.getTitle()));
@@ -222,114 +271,247 @@ public class WeaviateIndexingService {
                     props.put("mbfcCredibility", mbfcSnapshot.credibility());
                 }
                 props.put("publishedDate", published.toString()); // Use RFC3339 timestamp.
-                props.put("chunkIndex", i);
+                props.put("chunkIndex", write.chunkIndex());
 
-                obj.set("vector", mapper.valueToTree(vector));
-                objects.add(obj);
+                // The vector stays a float[] and is streamed by the writer, not copied into a JSON tree.
+                objects.add(new WeaviateBatchWriter.BatchObject(CLASS_NAME, objectId, props, write.vector()));
             }
 
-            var batch = mapper.createObjectNode();
-            batch.set("objects", mapper.valueToTree(objects));
+            // Packed with other articles' objects; returns once Weaviate confirmed every one.
+            CompletableFuture<Void> written = batchWriter.write(objects, correlationId);
+            try {
+                written.get(writeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // Cancelling drops this article's objects that are still queued.
+                written.cancel(false);
+                throw new WeaviateException("Timed out after " + writeTimeout + " indexing into Weaviate", e);
+            }
+            indexGeneration.incrementAndGet();
+
+        } catch (ExecutionException e) {
+            throw (e.getCause() instanceof WeaviateException we) ? we : new WeaviateException("Failed to index into Weaviate", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WeaviateException("Interrupted while indexing into Weaviate", e);
+        } catch (Exception e) {
+            throw (e instanceof WeaviateException we) ? we : new WeaviateException("Failed to index into Weaviate", e);
+        }
+    }
+
+    /**
+     * Incremented after every successful write or delete, so readers can tell whether
+     * results they hold may predate the current index contents.
+     */
+    public long indexGeneration() {
+        return indexGeneration.get();
+    }
+
+    /**
+     * Chunk objects currently stored for the article, keyed by object id, with their vectors
+     * so retained chunks can be rewritten without re-embedding.
+     * <p>
+     * Weaviate's {@code after} cursor cannot be combined with a {@code where} filter, so pages are
+     * keyed on {@code chunkIndex} instead: each page re-reads from the last index it saw, and ids
+     * already collected are simply overwritten. A page that cannot make progress fails the read
+     * rather than returning a truncated view that would turn live chunks into "stale" ones.
+     */
+    public Map<String, IndexedChunk> getIndexedChunks(long articleId) {
+        Map<String, IndexedChunk> indexed = new LinkedHashMap<>();
+        int fromIndex = Integer.MIN_VALUE;
+        while (true) {
+            List<IndexedChunk> page = getIndexedChunkPage(articleId, fromIndex);
+            for (IndexedChunk chunk : page) {
+                if (chunk.id() != null) {
+                    indexed.put(chunk.id(), chunk);
+                }
+            }
+            if (page.size() < articleChunkLimit) {
+                return indexed;
+            }
+            int lastIndex = page.getLast().chunkIndex();
+            if (lastIndex == fromIndex) {
+                throw new WeaviateException("Weaviate getIndexedChunks cannot page article " + articleId
+                        + ": more than " + articleChunkLimit + " chunks share chunkIndex " + lastIndex, null);
+            }
+            fromIndex = lastIndex;
+        }
+    }
+
+    private List<IndexedChunk> getIndexedChunkPage(long articleId, int fromIndex) {
+        try {
+            String gql = String.format(
+                    Locale.US,
+                    """
+                    {
+                      Get {
+                        %s(
+                          where: {
+                            operator: And
+                            operands: [
+                              { path: ["articleId"], operator: Equal, valueInt: %d },
+                              { path: ["chunkIndex"], operator: GreaterThanEqual, valueInt: %d }
+                            ]
+                          },
+                          sort: [{ path: ["chunkIndex"], order: asc }],
+                          limit: %d
+                        ) {
+                          chunkIndex
+                          _additional { id vector }
+                        }
+                      }
+                    }
+                    """,
+                    CLASS_NAME,
+                    articleId,
+                    fromIndex,
+                    articleChunkLimit
+            );
+
+            HttpRequest req = HttpRequest.newBuilder()
+                    .uri(URI.create(baseUrl + "/v1/graphql"))
+                    .timeout(httpTimeout)
+                    .header("Content-Type", "application/json")
+                    .POST(graphQlBody(gql))
+                    .build();
+
+            HttpResponse<InputStream> resp = httpClient.send(req, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = resp.body()) {
+                if (resp.statusCode() < 200 || resp.statusCode() >= 300) {
+                    throw new WeaviateException("Weaviate getIndexedChunks HTTP " + resp.statusCode()
+                            + " body=" + safeBody(body), null);
+                }
+                // Vectors are read straight into float[] without materializing the response tree.
+                try (JsonParser parser = mapper.getFactory().createParser(body)) {
+                    return WeaviateJsonCodec.readIndexedChunks(parser, CLASS_NAME);
+                }
+            }
+
+        } catch (Exception e) {
+            throw (e instanceof WeaviateException we) ? we : new WeaviateException("Weaviate getIndexedChunks failed", e);
+        }
+    }
+
+    /**
+     * Removes chunk objects by id in a single batch delete.
+     */
+    public void deleteChunks(Collection<String> objectIds, String correlationId) {
+        if (objectIds == null || objectIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            var root = mapper.createObjectNode();
+            var match = root.putObject("match");
+            match.put("class", CLASS_NAME);
+            var where = match.putObject("where");
+            where.putArray("path").add("id");
+            where.put("operator", "ContainsAny");
+            var values = where.putArray("valueTextArray");
+            objectIds.forEach(values::add);
+            root.put("output", "minimal");
 
             HttpRequest req = HttpRequest.newBuilder()
                     .uri(URI.create(baseUrl + "/v1/batch/objects"))
                     .timeout(httpTimeout)
                     .header("Content-Type", "application/json")
                     .header(CORRELATION_HEADER, safeCorrelation(correlationId))
-                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(batch), StandardCharsets.UTF_8))
+                    .method("DELETE", HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(root), StandardCharsets.UTF_8))
                     .build();
 
             HttpResponse<String> resp = httpClient.send(req, HttpResponse.BodyHandlers.ofString());
             if (resp.statusCode() < 200 || resp.statusCode() >= 300) {
-                log.error("Weaviate batch error status={} body={}", resp.statusCode(), safeBody(resp.body()));
-                throw new WeaviateException("Weaviate batch error " + resp.statusCode(), null);
+                throw new WeaviateException("Weaviate batch delete HTTP " + resp.statusCode()
+                        + " body=" + safeBody(resp.body()), null);
             }
 
-            // HTTP 200 can still include per-object errors.
-            if (hasBatchErrors(resp.body())) {
-                log.error("Weaviate batch returned per-object errors body={}", safeBody(resp.body()));
-                throw new WeaviateException("Weaviate batch returned errors", null);
+            JsonNode results = mapper.readTree(resp.body()).path("results");
+            if (results.path("failed").asInt(0) > 0) {
+                throw new WeaviateException("Weaviate batch delete failed for "
+                        + results.path("failed").asInt() + " objects", null);
             }
+            indexGeneration.incrementAndGet();
+            log.info("Deleted {} stale chunks from Weaviate", results.path("successful").asInt(objectIds.size()));
 
         } catch (Exception e) {
-            throw (e instanceof WeaviateException we) ? we : new WeaviateException("Failed to index into Weaviate", e);
+            throw (e instanceof WeaviateException we) ? we : new WeaviateException("Weaviate batch delete failed", e);
         }
     }
 
+    /**
+     * Content-addressed object id: the same text in the same article always maps to the same
+     * object, regardless of where it sits in the article.
+     */
+    public static String chunkObjectId(long articleId, String chunkText) {
+        String textHash = HashUtils.sha256Hex(chunkText == null ? "" : chunkText);
+        return UUID.nameUUIDFromBytes(("a:" + articleId + ":h:" + textHash).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    public record ChunkWrite(int chunkIndex, String text, float[] vector) {}
+
+    public record IndexedChunk(String id, int chunkIndex, float[] vector) {}
+
     public List<ChunkResult> searchByEmbedding(
             List<Double> embedding,
             int limit,
             float minScore,
             String correlationId
+    ) {
+        return searchByEmbedding(embedding, limit, minScore, null, correlationId);
+    }
+
+    /**
+     * Nearest chunks matching {@code filters}. Filters are applied by Weaviate during the
+     * vector search, so {@code limit} counts matching chunks only. On a class whose sourceName
+     * is word-tokenized, Weaviate can only narrow by words, so source names are also matched
+     * exactly on the results and fewer than {@code limit} may come back.
+     */
+    public List<ChunkResult> searchByEmbedding(
+            List<Double> embedding,
+            int limit,
+            float minScore,
+            SearchFilters filters,
+            String correlationId
     ) {
         if (embedding == null || embedding.isEmpty()) {
             return List.of();
         }
 
         try {
-            String gql = buildSearchQuery(embedding, limit);
-
-            var root = mapper.createObjectNode();
-            root.put("query", gql);
+            boolean exactSources = sourceNameExact;
+            String gql = buildSearchQuery(embedding, limit, filters, exactSources);
 
             HttpRequest req = HttpRequest.newBuilder()
                     .uri(URI.create(baseUrl + "/v1/graphql"))
                     .timeout(httpTimeout)
                     .header("Content-Type", "application/json")
                     .header(CORRELATION_HEADER, safeCorrelation(correlationId))
-                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(root), StandardCharsets.UTF_8))
+                    .POST(graphQlBody(gql))
                     .build();
 
-            HttpResponse<String> resp = httpClient.send(req, HttpResponse.BodyHandlers.ofString());
-            if (resp.statusCode() < 200 || resp.statusCode() >= 300) {
-                throw new WeaviateException("Weaviate search HTTP " + resp.statusCode() + " body=" + safeBody(resp.body()), null);
-            }
-
-            JsonNode respRoot = mapper.readTree(resp.body());
-            JsonNode errors = respRoot.path("errors");
-            if (errors.isArray() && !errors.isEmpty()) {
-                log.warn("Weaviate GraphQL errors: {}", errors);
-            }
-
-            JsonNode data = respRoot.path("data").path("Get").path(CLASS_NAME);
-            List<ChunkResult> results = new ArrayList<>();
-
-            if (data.isArray()) {
-                for (JsonNode n : data) {
-                    double distance = n.path("_additional").path("distance").asDouble(1.0);
-                    float score = 1f - (float) distance;
-                    if (score < minScore) continue;
-
-                    String text = n.path("text").asText("");
-                    long articleId = n.path("articleId").asLong();
-                    String url = n.path("articleUrl").asText("");
-                    String title = n.path("articleTitle").asText("");
-                    String sourceName = n.path("sourceName").asText("");
-                    String publishedIso = n.path("publishedDate").asText(null);
-
-                    LocalDateTime published = null;
-                    if (publishedIso != null && !publishedIso.isBlank()) {
-                        // Weaviate returns RFC3339; parse to UTC.
-                        Instant inst = Instant.parse(publishedIso);
-                        published = LocalDateTime.ofInstant(inst, ZoneOffset.UTC);
-                    }
+            HttpResponse<InputStream> resp = httpClient.send(req, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = resp.body()) {
+                if (resp.statusCode() < 200 || resp.statusCode() >= 300) {
+                    throw new WeaviateException("Weaviate search HTTP " + resp.statusCode() + " body=" + safeBody(body), null);
+                }
 
-                    int chunkIndex = n.path("chunkIndex").asInt();
-
-                    results.add(ChunkResult.builder()
-                            .text(text)
-                            .articleId(articleId)
-                            .articleUrl(url)
-                            .articleTitle(title)
-                            .sourceName(sourceName)
-                            .publishedDate(published)
-                            .chunkIndex(chunkIndex)
-                            .score(score)
-                            .build());
+                WeaviateJsonCodec.SearchResponse response;
+                try (JsonParser parser = mapper.getFactory().createParser(body)) {
+                    response = WeaviateJsonCodec.readSearch(parser, CLASS_NAME, minScore);
                 }
+                if (response.errors() != null) {
+                    log.warn("Weaviate GraphQL errors: {}", safeBody(response.errors()));
+                }
+                if (exactSources) {
+                    return response.results();
+                }
+                List<String> sources = sourceNames(filters);
+                if (sources.isEmpty()) {
+                    return response.results();
+                }
+                return response.results().stream()
+                        .filter(r -> sources.contains(r.getSourceName()))
+                        .toList();
             }
-
-            return results;
         } catch (Exception e) {
             throw new WeaviateException("Weaviate search failed", e);
         }
@@ -362,14 +544,11 @@ public class WeaviateIndexingService {
                     articleChunkLimit
             );
 
-            var root = mapper.createObjectNode();
-            root.put("query", gql);
-
             HttpRequest req = HttpRequest.newBuilder()
                     .uri(URI.create(baseUrl + "/v1/graphql"))
                     .timeout(httpTimeout)
                     .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(root), StandardCharsets.UTF_8))
+                    .POST(graphQlBody(gql))
                     .build();
 
             HttpResponse<String> resp = httpClient.send(req, HttpResponse.BodyHandlers.ofString());
@@ -408,39 +587,104 @@ public class WeaviateIndexingService {
 
     private record ChunkWithIndex(int chunkIndex, String text) {}
 
-    private String buildSearchQuery(List<Double> embedding, int limit) throws Exception {
-        String vectorJson = mapper.writeValueAsString(embedding);
-
-        return String.format(
-                Locale.US,
-                "{ Get { %s(nearVector: {vector: %s}, limit: %d) { text articleId articleUrl articleTitle sourceName publishedDate chunkIndex _additional { distance } } } }",
-                CLASS_NAME,
-                vectorJson,
-                limit
-        );
+    private static String buildSearchQuery(List<Double> embedding, int limit, SearchFilters filters, boolean exactSources) {
+        // Appended in place; the vector dominates the query and is not rendered twice.
+        StringBuilder gql = new StringBuilder(192 + embedding.size() * 22);
+        gql.append("{ Get { ").append(CLASS_NAME).append("(nearVector: {vector: [");
+        for (int i = 0; i < embedding.size(); i++) {
+            if (i > 0) gql.append(',');
+            gql.append(embedding.get(i).doubleValue());
+        }
+        gql.append("]}, ");
+        String where = buildWhereFilter(filters, exactSources);
+        if (where != null) {
+            gql.append("where: ").append(where).append(", ");
+        }
+        gql.append("limit: ").append(limit)
+                .append(") { text articleId articleUrl articleTitle sourceName publishedDate chunkIndex _additional { distance } } } }");
+        return gql.toString();
     }
 
-    private boolean hasBatchErrors(String body) {
-        if (body == null || body.isBlank()) return false;
-        try {
-            JsonNode root = mapper.readTree(body);
-            JsonNode res = root.path("results");
-            if (!res.isArray()) return false;
+    /**
+     * GraphQL {@code where} operand for the search filters, {@code null} when nothing filters.
+     * Dates without an offset are taken as UTC, matching how results are returned.
+     * <p>
+     * With field tokenization ContainsAny matches whole source names. Otherwise each name becomes
+     * an Equal operand, which on word tokens still requires all of the name's words, and the
+     * caller re-checks the names exactly.
+     */
+    static String buildWhereFilter(SearchFilters filters, boolean exactSources) {
+        if (filters == null) {
+            return null;
+        }
+
+        List<String> operands = new ArrayList<>(3);
+        List<String> sources = sourceNames(filters);
+        if (!sources.isEmpty() && exactSources) {
+            StringJoiner values = new StringJoiner(", ", "[", "]");
+            sources.forEach(name -> values.add(graphQlString(name)));
+            operands.add("{ path: [\"sourceName\"], operator: ContainsAny, valueText: " + values + " }");
+        } else if (!sources.isEmpty()) {
+            List<String> equals = sources.stream()
+                    .map(name -> "{ path: [\"sourceName\"], operator: Equal, valueText: " + graphQlString(name) + " }")
+                    .toList();
+            operands.add(equals.size() == 1
+                    ? equals.getFirst()
+                    : "{ operator: Or, operands: [" + String.join(", ", equals) + "] }");
+        }
+        if (filters.publishedAfter() != null) {
+            operands.add("{ path: [\"publishedDate\"], operator: GreaterThanEqual, valueDate: "
+                    + graphQlString(filters.publishedAfter().toInstant(ZoneOffset.UTC).toString()) + " }");
+        }
+        if (filters.publishedBefore() != null) {
+            operands.add("{ path: [\"publishedDate\"], operator: LessThanEqual, valueDate: "
+                    + graphQlString(filters.publishedBefore().toInstant(ZoneOffset.UTC).toString()) + " }");
+        }
+
+        if (operands.isEmpty()) {
+            return null;
+        }
+        if (operands.size() == 1) {
+            return operands.getFirst();
+        }
+        return "{ operator: And, operands: [" + String.join(", ", operands) + "] }";
+    }
 
-            for (JsonNode r : res) {
-                JsonNode errors = r.path("errors");
-                if (errors.isMissingNode() || errors.isNull()) continue;
+    private static List<String> sourceNames(SearchFilters filters) {
+        if (filters == null || filters.sourceName() == null) {
+            return List.of();
+        }
+        return filters.sourceName().stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+    }
 
-                JsonNode errArr = errors.path("error");
-                if (errArr.isArray() && errArr.size() > 0) {
-                    return true;
+    private static String graphQlString(String value) {
+        StringBuilder out = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
                 }
             }
-            return false;
-        } catch (Exception parseFail) {
-            // Treat parse failures as errors to avoid silent drops.
-            return true;
         }
+        return out.append('"').toString();
+    }
+
+    private HttpRequest.BodyPublisher graphQlBody(String gql) throws Exception {
+        return HttpRequest.BodyPublishers.ofByteArray(WeaviateJsonCodec.graphQl(mapper.getFactory(), gql));
     }
 
     private String safeCorrelation(String correlationId) {
@@ -456,8 +700,8 @@ public class WeaviateIndexingService {
         return body.length() <= 2000 ? body : body.substring(0, 2000) + "...(truncated)";
     }
 
-    private String buildChunkObjectId(Long articleId, int chunkIndex) {
-        return UUID.nameUUIDFromBytes(("a:" + articleId + ":c:" + chunkIndex).getBytes(StandardCharsets.UTF_8)).toString();
+    private String safeBody(InputStream body) throws Exception {
+        return safeBody(new String(body.readNBytes(2001), StandardCharsets.UTF_8));
     }
 
     private MbfcSnapshot extractMbfcSnapshot(Article article) {
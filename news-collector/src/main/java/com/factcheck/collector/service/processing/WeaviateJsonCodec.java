@@ -0,0 +1,411 @@
+package com.factcheck.collector.service.processing;
+
+import com.factcheck.collector.dto.ChunkResult;
+import com.factcheck.collector.exception.WeaviateException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming JSON for the Weaviate hot paths: batch objects and GraphQL bodies are written
+ * with a {@link JsonGenerator}, and search, vector and batch responses are read token by
+ * token with a {@link JsonParser}, so neither side builds an intermediate tree. Vectors go
+ * straight between {@code float[]} and JSON numbers.
+ */
+final class WeaviateJsonCodec {
+
+    private static final JsonFactory ERRORS_FACTORY = new JsonFactory();
+
+    private WeaviateJsonCodec() {
+    }
+
+    static byte[] batchObject(JsonFactory factory, WeaviateBatchWriter.BatchObject object) throws IOException {
+        float[] vector = object.vector();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512 + (vector == null ? 0 : vector.length * 14));
+        try (JsonGenerator gen = factory.createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeStringField("class", object.className());
+            gen.writeStringField("id", object.id());
+            gen.writeObjectFieldStart("properties");
+            if (object.properties() != null) {
+                for (Map.Entry<String, Object> property : object.properties().entrySet()) {
+                    writeProperty(gen, property.getKey(), property.getValue());
+                }
+            }
+            gen.writeEndObject();
+            if (vector != null) {
+                gen.writeArrayFieldStart("vector");
+                for (float v : vector) {
+                    gen.writeNumber(v);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * {@code {"query": "..."}} body for {@code POST /v1/graphql}.
+     */
+    static byte[] graphQl(JsonFactory factory, String query) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(query.length() + 32);
+        try (JsonGenerator gen = factory.createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeStringField("query", query);
+            gen.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads a {@code nearVector} response into results scoring at least {@code minScore}.
+     */
+    static SearchResponse readSearch(JsonParser p, String className, float minScore) throws IOException {
+        List<ChunkResult> results = new ArrayList<>();
+        String errors = readGraphQl(p, className, hit -> {
+            ChunkResult result = readChunkResult(hit);
+            if (result.getScore() >= minScore) {
+                results.add(result);
+            }
+        });
+        return new SearchResponse(results, errors);
+    }
+
+    /**
+     * Reads chunk ids, indexes and vectors in response order, one entry per hit (the id is
+     * {@code null} when Weaviate omitted it); any GraphQL error fails the whole read.
+     */
+    static List<WeaviateIndexingService.IndexedChunk> readIndexedChunks(JsonParser p, String className)
+            throws IOException {
+        List<WeaviateIndexingService.IndexedChunk> indexed = new ArrayList<>();
+        String errors = readGraphQl(p, className, hit -> indexed.add(readIndexedChunk(hit)));
+        if (errors != null) {
+            // A partial view would turn live chunks into "stale" ones; refuse to diff against it.
+            throw new WeaviateException("Weaviate GraphQL errors in getIndexedChunks: " + errors, null);
+        }
+        return indexed;
+    }
+
+    /**
+     * Per-object errors from a batch response, which is either a bare array or
+     * {@code {"results": [...]}}. Echoed properties and vectors are skipped, not parsed.
+     */
+    static List<ObjectError> readBatchErrors(JsonParser p) throws IOException {
+        List<ObjectError> errors = new ArrayList<>();
+        JsonToken root = p.nextToken();
+        if (root == JsonToken.START_OBJECT) {
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                    readBatchResults(p, errors);
+                } else {
+                    p.skipChildren();
+                }
+            }
+        } else if (root == JsonToken.START_ARRAY) {
+            readBatchResults(p, errors);
+        }
+        return errors;
+    }
+
+    private static void readBatchResults(JsonParser p, List<ObjectError> errors) throws IOException {
+        int position = 0;
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                position++;
+                continue;
+            }
+            String id = null;
+            String resultMessage = null;
+            String message = null;
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String field = p.currentName();
+                JsonToken value = p.nextToken();
+                switch (field) {
+                    case "id" -> id = value == JsonToken.VALUE_STRING ? p.getText() : null;
+                    case "errors" -> message = readErrorMessage(p);
+                    case "result" -> resultMessage = readResultErrors(p);
+                    default -> p.skipChildren();
+                }
+            }
+            if (resultMessage != null || message != null) {
+                errors.add(new ObjectError(position, id, resultMessage != null ? resultMessage : message));
+            }
+            position++;
+        }
+    }
+
+    private static String readResultErrors(JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return null;
+        }
+        String message = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            p.nextToken();
+            if ("errors".equals(field)) {
+                message = readErrorMessage(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return message;
+    }
+
+    /**
+     * First message of an {@code {"error": [{"message": ...}]}} object, {@code null} if none.
+     */
+    private static String readErrorMessage(JsonParser p) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return null;
+        }
+        String message = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if (!"error".equals(field) || value != JsonToken.START_ARRAY) {
+                p.skipChildren();
+                continue;
+            }
+            JsonToken element;
+            while ((element = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (message == null) {
+                    message = element == JsonToken.START_OBJECT ? readMessage(p) : "unknown error";
+                }
+                p.skipChildren();
+            }
+        }
+        return message;
+    }
+
+    private static String readMessage(JsonParser p) throws IOException {
+        String message = "unknown error";
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("message".equals(field) && value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                message = p.getText();
+            } else {
+                p.skipChildren();
+            }
+        }
+        return message;
+    }
+
+    /**
+     * Walks a GraphQL response, handing each {@code data.Get.<className>} object to
+     * {@code hit} positioned on its START_OBJECT. Returns the {@code errors} array as text,
+     * or {@code null} when there is none.
+     */
+    private static String readGraphQl(JsonParser p, String className, HitReader hit) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        String errors = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("data".equals(field) && value == JsonToken.START_OBJECT) {
+                readData(p, className, hit);
+            } else if ("errors".equals(field) && value == JsonToken.START_ARRAY) {
+                errors = copyNonEmptyArray(p);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return errors;
+    }
+
+    private static void readData(JsonParser p, String className, HitReader hit) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if (!"Get".equals(field) || value != JsonToken.START_OBJECT) {
+                p.skipChildren();
+                continue;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String getField = p.currentName();
+                JsonToken hits = p.nextToken();
+                if (!className.equals(getField) || hits != JsonToken.START_ARRAY) {
+                    p.skipChildren();
+                    continue;
+                }
+                JsonToken element;
+                while ((element = p.nextToken()) != JsonToken.END_ARRAY) {
+                    if (element == JsonToken.START_OBJECT) {
+                        hit.read(p);
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+            }
+        }
+    }
+
+    private static ChunkResult readChunkResult(JsonParser p) throws IOException {
+        ChunkResult.ChunkResultBuilder builder = ChunkResult.builder()
+                .text("")
+                .articleId(0L)
+                .articleUrl("")
+                .articleTitle("")
+                .sourceName("")
+                .chunkIndex(0);
+        double distance = 1.0;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "text" -> builder.text(text(p, ""));
+                case "articleId" -> builder.articleId(p.getValueAsLong());
+                case "articleUrl" -> builder.articleUrl(text(p, ""));
+                case "articleTitle" -> builder.articleTitle(text(p, ""));
+                case "sourceName" -> builder.sourceName(text(p, ""));
+                case "publishedDate" -> builder.publishedDate(publishedDate(text(p, null)));
+                case "chunkIndex" -> builder.chunkIndex(p.getValueAsInt());
+                case "_additional" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        distance = readDistance(p);
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        }
+        return builder.score(1f - (float) distance).build();
+    }
+
+    private static double readDistance(JsonParser p) throws IOException {
+        double distance = 1.0;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("distance".equals(field) && value.isNumeric()) {
+                distance = p.getDoubleValue();
+            } else {
+                p.skipChildren();
+            }
+        }
+        return distance;
+    }
+
+    private static WeaviateIndexingService.IndexedChunk readIndexedChunk(JsonParser p) throws IOException {
+        String id = null;
+        int chunkIndex = 0;
+        float[] vector = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("chunkIndex".equals(field)) {
+                chunkIndex = p.getValueAsInt();
+            } else if ("_additional".equals(field) && value == JsonToken.START_OBJECT) {
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String additional = p.currentName();
+                    JsonToken additionalValue = p.nextToken();
+                    if ("id".equals(additional)) {
+                        id = text(p, null);
+                    } else if ("vector".equals(additional) && additionalValue == JsonToken.START_ARRAY) {
+                        vector = readVector(p);
+                    } else {
+                        p.skipChildren();
+                    }
+                }
+            } else {
+                p.skipChildren();
+            }
+        }
+        return new WeaviateIndexingService.IndexedChunk(id == null || id.isBlank() ? null : id, chunkIndex, vector);
+    }
+
+    /**
+     * Reads a number array into a {@code float[]}; {@code null} when it is empty.
+     */
+    private static float[] readVector(JsonParser p) throws IOException {
+        float[] vector = new float[256];
+        int size = 0;
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            if (size == vector.length) {
+                vector = Arrays.copyOf(vector, vector.length * 2);
+            }
+            vector[size++] = p.getFloatValue();
+        }
+        if (size == 0) {
+            return null;
+        }
+        return size == vector.length ? vector : Arrays.copyOf(vector, size);
+    }
+
+    private static void writeProperty(JsonGenerator gen, String name, Object value) throws IOException {
+        switch (value) {
+            case null -> gen.writeNullField(name);
+            case String s -> gen.writeStringField(name, s);
+            case Integer i -> gen.writeNumberField(name, i);
+            case Long l -> gen.writeNumberField(name, l);
+            case Float f -> gen.writeNumberField(name, f);
+            case Double d -> gen.writeNumberField(name, d);
+            case Boolean b -> gen.writeBooleanField(name, b);
+            default -> throw new IllegalArgumentException(
+                    "Unsupported Weaviate property type for " + name + ": " + value.getClass().getName());
+        }
+    }
+
+    private static String text(JsonParser p, String defaultValue) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return defaultValue;
+        }
+        if (!token.isScalarValue()) {
+            p.skipChildren();
+            return defaultValue;
+        }
+        return p.getText();
+    }
+
+    private static LocalDateTime publishedDate(String iso) {
+        if (iso == null || iso.isBlank()) {
+            return null;
+        }
+        // Weaviate returns RFC3339; parse to UTC.
+        return LocalDateTime.ofInstant(Instant.parse(iso), ZoneOffset.UTC);
+    }
+
+    private static String copyNonEmptyArray(JsonParser p) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator gen = ERRORS_FACTORY.createGenerator(out)) {
+            gen.copyCurrentStructure(p);
+        }
+        String errors = out.toString();
+        return "[]".equals(errors) ? null : errors;
+    }
+
+    @FunctionalInterface
+    private interface HitReader {
+        void read(JsonParser p) throws IOException;
+    }
+
+    record SearchResponse(List<ChunkResult> results, String errors) {}
+
+    /**
+     * A rejected object: its position in the response and, when echoed, its id.
+     */
+    record ObjectError(int position, String id, String message) {}
+}
@@ -0,0 +1,39 @@
+package com.factcheck.collector.service.read;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Keyset position in the article listing: the {@code (publishedDate, id)} of the last row
+ * returned. Clients get it as an opaque base64url token; {@code publishedDate} is
+ * {@code null} once the listing has reached undated articles.
+ */
+record ArticleCursor(Instant publishedDate, long id) {
+
+    String encode() {
+        String date = publishedDate == null ? "-" : publishedDate.getEpochSecond() + "." + publishedDate.getNano();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((date + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ArticleCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            String date = raw.substring(0, sep);
+            long id = Long.parseLong(raw.substring(sep + 1));
+
+            Instant publishedDate = null;
+            if (!"-".equals(date)) {
+                int dot = date.indexOf('.');
+                publishedDate = Instant.ofEpochSecond(
+                        Long.parseLong(date.substring(0, dot)),
+                        Long.parseLong(date.substring(dot + 1)));
+            }
+            return new ArticleCursor(publishedDate, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
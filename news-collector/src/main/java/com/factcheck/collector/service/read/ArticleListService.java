@@ -2,13 +2,20 @@ package com.factcheck.collector.service.read;
 
 import com.factcheck.collector.domain.entity.Article;
 import com.factcheck.collector.domain.entity.ArticleSource;
+import com.factcheck.collector.dto.ArticleListPage;
 import com.factcheck.collector.dto.ArticleMetadataResponse;
 import com.factcheck.collector.repository.ArticleRepository;
 import com.factcheck.collector.repository.ArticleSourceRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -17,20 +24,99 @@ public class ArticleListService {
     private final ArticleRepository articleRepository;
     private final ArticleSourceRepository articleSourceRepository;
 
-    public List<ArticleMetadataResponse> listLatest(int limit) {
+    /**
+     * One page of articles, newest first, starting after {@code cursor} (the first page
+     * when it is blank). The returned {@code nextCursor} is {@code null} on the last page.
+     */
+    public ArticleListPage listLatest(int limit, String cursor) {
         int safeLimit = clampLimit(limit);
-        List<Article> articles = articleRepository.findLatest(safeLimit);
-        return articles.stream().map(this::toMetadataResponse).toList();
+        ArticleCursor after = parseCursor(cursor);
+        Pageable page = PageRequest.of(0, safeLimit + 1);
+
+        List<Article> articles;
+        if (after == null) {
+            articles = articleRepository.findLatest(page);
+        } else if (after.publishedDate() != null) {
+            articles = articleRepository.findLatestAfter(after.publishedDate(), after.id(), page);
+            articles = withUndatedTail(articles, page,
+                    rest -> articleRepository.findLatestUndatedAfter(Long.MAX_VALUE, rest));
+        } else {
+            articles = articleRepository.findLatestUndatedAfter(after.id(), page);
+        }
+        return toPage(articles, safeLimit);
     }
 
-    public List<ArticleMetadataResponse> searchByTitle(String q, int limit) {
+    public ArticleListPage searchByTitle(String q, int limit, String cursor) {
         int safeLimit = clampLimit(limit);
         String query = (q == null) ? "" : q.trim();
         if (query.isEmpty()) {
-            return listLatest(safeLimit);
+            return listLatest(safeLimit, cursor);
         }
-        List<Article> articles = articleRepository.searchByTitle(query, safeLimit);
-        return articles.stream().map(this::toMetadataResponse).toList();
+        ArticleCursor after = parseCursor(cursor);
+        Pageable page = PageRequest.of(0, safeLimit + 1);
+
+        List<Article> articles;
+        if (after == null) {
+            articles = articleRepository.searchByTitle(query, page);
+        } else if (after.publishedDate() != null) {
+            articles = articleRepository.searchByTitleAfter(query, after.publishedDate(), after.id(), page);
+            articles = withUndatedTail(articles, page,
+                    rest -> articleRepository.searchByTitleUndatedAfter(query, Long.MAX_VALUE, rest));
+        } else {
+            articles = articleRepository.searchByTitleUndatedAfter(query, after.id(), page);
+        }
+        return toPage(articles, safeLimit);
+    }
+
+    /**
+     * Dated pages stop at the last dated article; a short one continues into the undated
+     * articles from the top, as the first page's {@code nulls last} order does.
+     */
+    private static List<Article> withUndatedTail(
+            List<Article> dated,
+            Pageable page,
+            Function<Pageable, List<Article>> undated
+    ) {
+        int missing = page.getPageSize() - dated.size();
+        if (missing <= 0) {
+            return dated;
+        }
+        List<Article> articles = new ArrayList<>(page.getPageSize());
+        articles.addAll(dated);
+        articles.addAll(undated.apply(PageRequest.of(0, missing)));
+        return articles;
+    }
+
+    private static ArticleCursor parseCursor(String cursor) {
+        return (cursor == null || cursor.isBlank()) ? null : ArticleCursor.decode(cursor.trim());
+    }
+
+    /**
+     * Trims the look-ahead row fetched to detect a further page and maps the rest, loading
+     * their latest sources in one query.
+     */
+    private ArticleListPage toPage(List<Article> articles, int limit) {
+        boolean hasMore = articles.size() > limit;
+        List<Article> pageArticles = hasMore ? articles.subList(0, limit) : articles;
+
+        Map<Long, ArticleSource> latestSources = new HashMap<>();
+        if (!pageArticles.isEmpty()) {
+            List<Long> ids = pageArticles.stream().map(Article::getId).toList();
+            for (ArticleSource source : articleSourceRepository.findByArticleIdsLatestFirst(ids)) {
+                latestSources.putIfAbsent(source.getArticle().getId(), source);
+            }
+        }
+
+        List<ArticleMetadataResponse> items = pageArticles.stream()
+                .map(article -> toMetadataResponse(article, latestSources.get(article.getId())))
+                .toList();
+
+        String nextCursor = null;
+        if (hasMore) {
+            Article last = pageArticles.getLast();
+            nextCursor = new ArticleCursor(last.getPublishedDate(), last.getId()).encode();
+        }
+        return new ArticleListPage(items, nextCursor);
     }
 
     private int clampLimit(int limit) {
@@ -38,11 +124,7 @@ public class ArticleListService {
         return Math.min(limit, 200);
     }
 
-    private ArticleMetadataResponse toMetadataResponse(Article article) {
-        ArticleSource latestSource = articleSourceRepository
-                .findTopByArticleOrderByFetchedAtDesc(article)
-                .orElse(null);
-
+    private ArticleMetadataResponse toMetadataResponse(Article article, ArticleSource latestSource) {
         return new ArticleMetadataResponse(
                 article.getId(),
                 article.getPublisher().getId(),
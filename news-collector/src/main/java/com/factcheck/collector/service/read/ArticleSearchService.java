@@ -1,5 +1,6 @@
 package com.factcheck.collector.service.read;
 
+import com.factcheck.collector.dto.ChunkResult;
 import com.factcheck.collector.dto.SearchRequest;
 import com.factcheck.collector.dto.SearchResponse;
 import com.factcheck.collector.service.processing.WeaviateIndexingService;
@@ -8,34 +9,57 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ArticleSearchService {
 
     private final WeaviateIndexingService weaviateIndexingService;
+    private final SearchResultCache resultCache;
+
     @Value("${search.embedding-dimension:3072}")
     private int embeddingDimension;
 
     public SearchResponse search(SearchRequest request, String correlationId) {
 
-        log.info("Search request received: limit={}, minScore={} correlationId={}",
-                request.limit(), request.minScore(), correlationId);
+        log.info("Search request received: limit={}, minScore={} filters={} correlationId={}",
+                request.limit(), request.minScore(), request.filters(), correlationId);
 
         if (request.embedding() == null || request.embedding().size() != embeddingDimension) {
             throw new IllegalArgumentException("Embedding must have dimension " + embeddingDimension);
         }
 
-        long start = System.currentTimeMillis();
+        long start = System.nanoTime();
 
-        var results = weaviateIndexingService.searchByEmbedding(
-                request.embedding(),
-                request.limit(),
-                request.minScore(),
-                correlationId
-        );
+        String cacheKey = null;
+        long generation = 0;
+        List<ChunkResult> results = null;
+        if (resultCache.enabled()) {
+            cacheKey = SearchResultCache.key(request.embedding(), request.limit(), request.minScore(), request.filters());
+            // Read before searching so a write that lands mid-search invalidates what we store.
+            generation = weaviateIndexingService.indexGeneration();
+            results = resultCache.get(cacheKey, generation);
+        }
+
+        if (results == null) {
+            results = weaviateIndexingService.searchByEmbedding(
+                    request.embedding(),
+                    request.limit(),
+                    request.minScore(),
+                    request.filters(),
+                    correlationId
+            );
+            if (cacheKey != null) {
+                resultCache.put(cacheKey, generation, results, System.nanoTime() - start);
+            }
+        } else {
+            log.debug("Search served from cache correlationId={}", correlationId);
+        }
 
-        long duration = System.currentTimeMillis() - start;
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
 
         return new SearchResponse(
                 results,
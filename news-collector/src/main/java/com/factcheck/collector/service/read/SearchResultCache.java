@@ -0,0 +1,149 @@
+package com.factcheck.collector.service.read;
+
+import com.factcheck.collector.dto.ChunkResult;
+import com.factcheck.collector.dto.SearchFilters;
+import com.factcheck.collector.util.HashUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived cache of search results in front of Weaviate.
+ * <p>
+ * Keys hash the int8-quantized query embedding together with limit, minScore and filters,
+ * so repeated and near-identical queries share an entry. Entries expire after
+ * {@code search.cache.ttl} and are dropped once the index generation they were read at is
+ * no longer current, i.e. after any successful write to the index. The map is an LRU
+ * bounded by {@code search.cache.max-entries}.
+ */
+@Component
+public class SearchResultCache {
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer savedLatency;
+
+    @Value("${search.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${search.cache.max-entries:1000}")
+    private int maxEntries = 1000;
+
+    @Value("${search.cache.ttl:PT60S}")
+    private Duration ttl = Duration.ofSeconds(60);
+
+    public SearchResultCache(MeterRegistry meterRegistry) {
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.savedLatency = Timer.builder("search.cache.saved.latency")
+                .description("Weaviate search time avoided by serving a cached result")
+                .register(meterRegistry);
+        Gauge.builder("search.cache.size", this, SearchResultCache::size)
+                .description("Cached search results")
+                .register(meterRegistry);
+    }
+
+    boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Cached results for {@code key}, or {@code null} when absent, expired or read at an
+     * older index generation.
+     */
+    List<ChunkResult> get(String key, long generation) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && (entry.generation != generation || System.nanoTime() - entry.storedAt > ttl.toNanos())) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        savedLatency.record(entry.loadNanos, TimeUnit.NANOSECONDS);
+        return entry.results;
+    }
+
+    /**
+     * Stores results that were read at {@code generation}, which must be taken before the
+     * search started so a write racing with it invalidates the entry.
+     */
+    void put(String key, long generation, List<ChunkResult> results, long loadNanos) {
+        Entry entry = new Entry(List.copyOf(results), generation, System.nanoTime(), loadNanos);
+        synchronized (this) {
+            entries.put(key, entry);
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (entries.size() > Math.max(0, maxEntries) && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Cache key for a search. Each embedding component is scaled by the largest magnitude
+     * and rounded to a signed byte, so embeddings differing only below that resolution
+     * share a key.
+     */
+    static String key(List<Double> embedding, int limit, float minScore, SearchFilters filters) {
+        double maxAbs = 0.0;
+        for (Double v : embedding) {
+            maxAbs = Math.max(maxAbs, Math.abs(v));
+        }
+        double scale = maxAbs == 0.0 ? 0.0 : 127.0 / maxAbs;
+
+        ByteBuffer buf = ByteBuffer.allocate(embedding.size() + 2 * Integer.BYTES);
+        for (Double v : embedding) {
+            buf.put((byte) Math.round(v * scale));
+        }
+        buf.putInt(limit);
+        buf.putInt(Float.floatToIntBits(minScore));
+        return HashUtils.sha256Hex(buf.array()) + filterKey(filters);
+    }
+
+    private static String filterKey(SearchFilters filters) {
+        if (filters == null) {
+            return "";
+        }
+        List<String> sources = filters.sourceName() == null ? List.of() : filters.sourceName().stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+        return "|" + HashUtils.sha256Hex(sources + "|" + filters.publishedAfter() + "|" + filters.publishedBefore());
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String result) {
+        return Counter.builder("search.cache.lookups")
+                .description("Search result cache lookups by outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record Entry(List<ChunkResult> results, long generation, long storedAt, long loadNanos) {}
+}
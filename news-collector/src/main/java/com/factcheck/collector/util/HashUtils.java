@@ -8,9 +8,13 @@ public final class HashUtils {
     }
 
     public static String sha256Hex(String value) {
+        return sha256Hex(value.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    }
+
+    public static String sha256Hex(byte[] value) {
         try {
             var digest = java.security.MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(value.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+            byte[] hash = digest.digest(value);
             return HexFormat.of().formatHex(hash);
         } catch (Exception e) {
             throw new IllegalStateException("Failed to compute sha256 hash", e);
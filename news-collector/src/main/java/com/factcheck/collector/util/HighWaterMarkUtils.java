@@ -0,0 +1,84 @@
+package com.factcheck.collector.util;
+
+import com.factcheck.collector.domain.entity.SourceEndpoint;
+import com.factcheck.collector.integration.ingestion.fetcher.RawArticle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Per-endpoint publish-date high-water mark: the newest (publishedDate, sourceItemId)
+ * already ingested. Items behind the mark can be dropped before discovery.
+ */
+public final class HighWaterMarkUtils {
+
+    private HighWaterMarkUtils() {}
+
+    /**
+     * True when a dated item is older than the mark minus {@code lookback}, or is the mark item
+     * itself. Undated items and endpoints without a mark always go through the normal path.
+     */
+    public static boolean isBehind(
+            SourceEndpoint sourceEndpoint,
+            Instant publishedDate,
+            String sourceItemId,
+            Duration lookback
+    ) {
+        Instant mark = sourceEndpoint.getHighWaterPublishedAt();
+        if (mark == null || publishedDate == null) {
+            return false;
+        }
+        if (publishedDate.isBefore(mark.minus(lookback))) {
+            return true;
+        }
+        return publishedDate.equals(mark)
+                && sourceItemId != null
+                && sourceItemId.equals(sourceEndpoint.getHighWaterSourceItemId());
+    }
+
+    public static List<RawArticle> dropBehind(SourceEndpoint sourceEndpoint, List<RawArticle> items, Duration lookback) {
+        if (sourceEndpoint.getHighWaterPublishedAt() == null) {
+            return items;
+        }
+        return items.stream()
+                .filter(raw -> !isBehind(sourceEndpoint, raw.getPublishedDate(), itemId(raw), lookback))
+                .toList();
+    }
+
+    /**
+     * Moves the mark forward to the newest dated item. Dates in the future are ignored so a
+     * single mis-dated entry cannot hide everything published before it.
+     */
+    public static void advance(SourceEndpoint sourceEndpoint, List<RawArticle> items, Instant now) {
+        Instant bestDate = sourceEndpoint.getHighWaterPublishedAt();
+        String bestId = sourceEndpoint.getHighWaterSourceItemId();
+        boolean moved = false;
+
+        for (RawArticle raw : items) {
+            Instant published = raw.getPublishedDate();
+            String id = itemId(raw);
+            if (published == null || id == null || published.isAfter(now)) {
+                continue;
+            }
+            if (bestDate == null || published.isAfter(bestDate)) {
+                bestDate = published;
+                bestId = id;
+                moved = true;
+            }
+        }
+
+        if (moved) {
+            sourceEndpoint.setHighWaterPublishedAt(bestDate);
+            sourceEndpoint.setHighWaterSourceItemId(bestId);
+        }
+    }
+
+    private static String itemId(RawArticle raw) {
+        String id = raw.getSourceItemId();
+        if (id == null || id.isBlank()) {
+            id = raw.getExternalUrl();
+        }
+        return id == null || id.isBlank() ? null : id;
+    }
+}
@@ -10,7 +10,7 @@ public class SemanticBoundaryDetector {
 
     public List<Integer> detectBoundaries(
             List<String> sentences,
-            List<List<Double>> embeddings,
+            List<float[]> embeddings,
             double similarityThreshold
     ) {
         if (sentences == null || embeddings == null) {
@@ -24,8 +24,7 @@ public class SemanticBoundaryDetector {
         boundaries.add(0);
 
         for (int i = 1; i < embeddings.size(); i++) {
-            double sim = cosineSimilarity(embeddings.get(i - 1), embeddings.get(i));
-            if (sim < similarityThreshold) {
+            if (isBoundary(embeddings.get(i - 1), embeddings.get(i), similarityThreshold)) {
                 boundaries.add(i);
             }
         }
@@ -33,23 +32,14 @@ public class SemanticBoundaryDetector {
         return boundaries;
     }
 
-    public double cosineSimilarity(List<Double> a, List<Double> b) {
-        if (a == null || b == null) throw new IllegalArgumentException("vectors are required");
-        if (a.size() != b.size()) throw new IllegalArgumentException("vector dimensions must match");
-
-        double dot = 0.0;
-        double na = 0.0;
-        double nb = 0.0;
-
-        for (int i = 0; i < a.size(); i++) {
-            double x = a.get(i);
-            double y = b.get(i);
-            dot += x * y;
-            na += x * x;
-            nb += y * y;
-        }
+    /**
+     * Whether a new chunk may start at the sentence embedded as {@code current}.
+     */
+    public boolean isBoundary(float[] previous, float[] current, double similarityThreshold) {
+        return cosineSimilarity(previous, current) < similarityThreshold;
+    }
 
-        if (na == 0.0 || nb == 0.0) return 0.0;
-        return dot / (Math.sqrt(na) * Math.sqrt(nb));
+    public double cosineSimilarity(float[] a, float[] b) {
+        return VectorMath.cosine(a, b);
     }
-}
\ No newline at end of file
+}
@@ -2,15 +2,28 @@ package com.factcheck.collector.util;
 
 import com.factcheck.collector.dto.SemanticChunk;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.BitSet;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
 
 public final class SemanticChunkingUtils {
 
     private SemanticChunkingUtils() {
     }
 
+    /**
+     * Groups sentences into chunks. Once a chunk holds {@code minSentences} it is closed at the
+     * next semantic boundary, or as soon as it reaches {@code maxSentences} or exceeds
+     * {@code maxTokens} (chars / 4). With {@code overlapSentences > 0} each chunk
+     * after the first is prefixed with up to that many sentences of its predecessor.
+     * <p>
+     * Chunk ranges are computed over character prefix sums and plain int arrays; text is
+     * only built once per emitted chunk. {@link StreamingSemanticChunker} applies the same
+     * rules incrementally.
+     */
     public static List<SemanticChunk> createSemanticChunks(
             List<String> sentences,
             List<Integer> boundaries,
@@ -20,156 +33,150 @@ public final class SemanticChunkingUtils {
             int overlapSentences
     ) {
         if (sentences == null || sentences.isEmpty()) return List.of();
-        if (boundaries == null) boundaries = List.of();
+        int n = sentences.size();
 
-        var boundarySet = new java.util.HashSet<>(boundaries);
+        BitSet boundarySet = new BitSet(n + 1);
+        if (boundaries != null) {
+            for (Integer b : boundaries) {
+                if (b != null && b >= 1 && b <= n) boundarySet.set(b);
+            }
+        }
+
+        int[] charPrefix = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            charPrefix[i + 1] = charPrefix[i] + sentences.get(i).length();
+        }
 
-        List<SemanticChunk> baseChunks = new ArrayList<>();
+        // Base ranges [starts[c], ends[c]).
+        int[] starts = new int[n];
+        int[] ends = new int[n];
+        int count = 0;
         int start = 0;
 
-        for (int i = 1; i <= sentences.size(); i++) {
+        for (int i = 1; i <= n; i++) {
             int sentenceCount = i - start;
-            int tokenEstimate = estimateTokens(sentences, start, i);
+            int tokenEstimate = (charPrefix[i] - charPrefix[start]) / 4;
 
-            boolean atSemanticBoundary = boundarySet.contains(i);
+            boolean atSemanticBoundary = boundarySet.get(i);
             boolean chunkLargeEnough = sentenceCount >= minSentences;
             boolean tooLarge = sentenceCount >= maxSentences || tokenEstimate > maxTokens;
 
             if (chunkLargeEnough && (atSemanticBoundary || tooLarge)) {
-                baseChunks.add(buildChunk(sentences, start, i, false, 0));
+                starts[count] = start;
+                ends[count] = i;
+                count++;
                 start = i;
             }
         }
 
-        if (start < sentences.size()) {
-            baseChunks.add(buildChunk(sentences, start, sentences.size(), false, 0));
+        if (start < n) {
+            starts[count] = start;
+            ends[count] = n;
+            count++;
         }
 
-        if (overlapSentences <= 0 || baseChunks.size() <= 1) {
-            return baseChunks;
+        boolean overlap = overlapSentences > 0 && count > 1;
+        List<SemanticChunk> out = new ArrayList<>(count);
+        int prevStart = 0;
+
+        for (int c = 0; c < count; c++) {
+            int chunkStart = starts[c];
+            if (overlap && c > 0) {
+                // The predecessor may itself have been extended backwards.
+                chunkStart = Math.min(chunkStart, Math.max(chunkStart - overlapSentences, prevStart));
+            }
+            prevStart = chunkStart;
+
+            out.add(chunk(sentences::get, chunkStart, starts[c], ends[c]));
         }
 
-        return applyOverlap(sentences, baseChunks, overlapSentences);
+        return out;
     }
 
-    public static List<List<Double>> aggregateSentenceEmbeddings(
+    public static List<float[]> aggregateSentenceEmbeddings(
             List<SemanticChunk> chunks,
-            List<List<Double>> sentenceEmbeddings
+            List<float[]> sentenceEmbeddings
     ) {
         if (chunks == null || chunks.isEmpty()) return List.of();
         if (sentenceEmbeddings == null || sentenceEmbeddings.isEmpty()) {
             throw new IllegalArgumentException("sentenceEmbeddings are required");
         }
 
-        List<List<Double>> out = new ArrayList<>(chunks.size());
+        List<float[]> out = new ArrayList<>(chunks.size());
         for (SemanticChunk c : chunks) {
-            List<List<Double>> vecs = new ArrayList<>(c.sentenceIndices().size());
-            for (int idx : c.sentenceIndices()) {
-                vecs.add(sentenceEmbeddings.get(idx));
-            }
-            out.add(averageVectors(vecs));
+            out.add(averageVectors(c.sentenceIndices(), sentenceEmbeddings));
         }
         return out;
     }
 
-    private static SemanticChunk buildChunk(
-            List<String> sentences,
-            int startIdx,
-            int endIdx,
-            boolean hasOverlap,
-            int overlapSentenceCount
-    ) {
-        StringBuilder sb = new StringBuilder();
-        List<Integer> indices = new ArrayList<>(Math.max(0, endIdx - startIdx));
+    /**
+     * Builds the chunk for sentences {@code [start, end)}, where {@code [start, baseStart)} is
+     * the overlap prefix. Empty sentences at the head of that prefix contribute no separator,
+     * matching how the overlap text has always been assembled.
+     */
+    static SemanticChunk chunk(IntFunction<String> sentenceAt, int start, int baseStart, int end) {
+        int from = start;
+        while (from < baseStart && sentenceAt.apply(from).isEmpty()) {
+            from++;
+        }
 
-        for (int i = startIdx; i < endIdx; i++) {
-            if (i > startIdx) sb.append(' ');
-            sb.append(sentences.get(i));
-            indices.add(i);
+        int capacity = Math.max(0, end - from - 1);
+        for (int i = from; i < end; i++) {
+            capacity += sentenceAt.apply(i).length();
+        }
+        StringBuilder sb = new StringBuilder(capacity);
+        for (int i = from; i < end; i++) {
+            if (i > from) sb.append(' ');
+            sb.append(sentenceAt.apply(i));
         }
 
+        int overlapCount = baseStart - start;
         return new SemanticChunk(
                 sb.toString(),
-                startIdx,
-                endIdx,
-                List.copyOf(indices),
-                hasOverlap,
-                overlapSentenceCount
+                start,
+                end,
+                new IndexRange(start, end),
+                overlapCount > 0,
+                overlapCount
         );
     }
 
-    private static List<SemanticChunk> applyOverlap(
-            List<String> sentences,
-            List<SemanticChunk> base,
-            int overlapSentences
-    ) {
-        List<SemanticChunk> out = new ArrayList<>(base.size());
-        out.add(base.get(0));
-
-        for (int i = 1; i < base.size(); i++) {
-            SemanticChunk prev = out.get(i - 1);
-            SemanticChunk cur = base.get(i);
-
-            int overlapStart = Math.max(cur.startSentenceIdx() - overlapSentences, prev.startSentenceIdx());
-            int overlapEnd = cur.startSentenceIdx();
-
-            if (overlapStart >= overlapEnd) {
-                out.add(cur);
-                continue;
-            }
-
-            // Build new chunk text with overlapped sentences + original chunk text.
-            StringBuilder sb = new StringBuilder();
-            List<Integer> newIdx = new ArrayList<>();
-
-            for (int s = overlapStart; s < overlapEnd; s++) {
-                if (!sb.isEmpty()) sb.append(' ');
-                sb.append(sentences.get(s));
-                newIdx.add(s);
-            }
-
-            if (!sb.isEmpty()) sb.append(' ');
-            sb.append(cur.text());
-            newIdx.addAll(cur.sentenceIndices());
-
-            out.add(new SemanticChunk(
-                    sb.toString(),
-                    overlapStart,
-                    cur.endSentenceIdx(),
-                    List.copyOf(newIdx),
-                    true,
-                    overlapEnd - overlapStart
-            ));
+    private static float[] averageVectors(List<Integer> indices, List<float[]> vectors) {
+        if (indices == null || indices.isEmpty()) {
+            throw new IllegalArgumentException("cannot average empty vectors list");
         }
 
-        return out;
+        List<float[]> selected = new ArrayList<>(indices.size());
+        for (int idx : indices) {
+            selected.add(vectors.get(idx));
+        }
+        return VectorMath.mean(selected);
     }
 
-    private static int estimateTokens(List<String> sentences, int start, int end) {
-        int chars = 0;
-        for (int i = start; i < end; i++) chars += sentences.get(i).length();
-        return chars / 4;
-    }
+    /**
+     * Immutable {@code List<Integer>} view of a contiguous sentence index range.
+     */
+    private static final class IndexRange extends AbstractList<Integer> implements RandomAccess {
 
-    private static List<Double> averageVectors(List<List<Double>> vectors) {
-        if (vectors == null || vectors.isEmpty()) {
-            throw new IllegalArgumentException("cannot average empty vectors list");
-        }
+        private final int from;
+        private final int to;
 
-        int dim = vectors.get(0).size();
-        List<Double> avg = new ArrayList<>(Collections.nCopies(dim, 0.0));
+        private IndexRange(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
 
-        for (List<Double> v : vectors) {
-            if (v.size() != dim) throw new IllegalArgumentException("vector dimensions must match");
-            for (int i = 0; i < dim; i++) {
-                avg.set(i, avg.get(i) + v.get(i));
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
             }
+            return from + index;
         }
 
-        for (int i = 0; i < dim; i++) {
-            avg.set(i, avg.get(i) / vectors.size());
+        @Override
+        public int size() {
+            return to - from;
         }
-
-        return avg;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package com.factcheck.collector.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.List;
+
+/**
+ * {@code jdk.incubator.vector} kernels behind {@link VectorMath}. Only loaded when the
+ * module is present; arguments are validated by the caller.
+ * <p>
+ * Floats are widened and accumulated in double lanes, like the scalar path. {@link #mean}
+ * sums each component in the same order as the scalar loop and matches it exactly; dot and
+ * cosine only differ in summation order, so they agree to within double rounding.
+ */
+final class SimdVectorMath {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    // Half-width float species, so one load widens into exactly one double vector.
+    private static final VectorSpecies<Float> FLOAT_SPECIES =
+            VectorSpecies.of(float.class, VectorShape.forBitSize(SPECIES.vectorBitSize() / 2));
+
+    private SimdVectorMath() {
+    }
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    static double dot(float[] a, float[] b) {
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int upper = SPECIES.loopBound(a.length);
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector va = load(a, i);
+            DoubleVector vb = load(b, i);
+            acc = va.fma(vb, acc);
+        }
+        double dot = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            dot += (double) a[i] * b[i];
+        }
+        return dot;
+    }
+
+    static double cosine(float[] a, float[] b) {
+        DoubleVector dotAcc = DoubleVector.zero(SPECIES);
+        DoubleVector naAcc = DoubleVector.zero(SPECIES);
+        DoubleVector nbAcc = DoubleVector.zero(SPECIES);
+        int upper = SPECIES.loopBound(a.length);
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector va = load(a, i);
+            DoubleVector vb = load(b, i);
+            dotAcc = va.fma(vb, dotAcc);
+            naAcc = va.fma(va, naAcc);
+            nbAcc = vb.fma(vb, nbAcc);
+        }
+        double dot = dotAcc.reduceLanes(VectorOperators.ADD);
+        double na = naAcc.reduceLanes(VectorOperators.ADD);
+        double nb = nbAcc.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            double x = a[i];
+            double y = b[i];
+            dot += x * y;
+            na += x * x;
+            nb += y * y;
+        }
+
+        if (na == 0.0 || nb == 0.0) return 0.0;
+        return dot / (Math.sqrt(na) * Math.sqrt(nb));
+    }
+
+    static float[] mean(List<float[]> vectors, int dim) {
+        double[] sum = new double[dim];
+        int upper = SPECIES.loopBound(dim);
+        for (float[] v : vectors) {
+            int i = 0;
+            for (; i < upper; i += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, sum, i)
+                        .add(load(v, i))
+                        .intoArray(sum, i);
+            }
+            for (; i < dim; i++) {
+                sum[i] += v[i];
+            }
+        }
+
+        float[] avg = new float[dim];
+        for (int i = 0; i < dim; i++) {
+            avg[i] = (float) (sum[i] / vectors.size());
+        }
+        return avg;
+    }
+
+    private static DoubleVector load(float[] a, int offset) {
+        return (DoubleVector) FloatVector.fromArray(FLOAT_SPECIES, a, offset)
+                .convertShape(VectorOperators.F2D, SPECIES, 0);
+    }
+}
@@ -0,0 +1,137 @@
+package com.factcheck.collector.util;
+
+import com.factcheck.collector.dto.SemanticChunk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Incremental form of {@link SemanticChunkingUtils#createSemanticChunks} plus
+ * {@link SemanticChunkingUtils#aggregateSentenceEmbeddings}: sentences and their embeddings
+ * are fed one at a time and each chunk is handed to the sink, with its mean embedding, as
+ * soon as it closes. Output is identical to the batch path.
+ * <p>
+ * Only the open chunk and the sentences a following overlap can still reach are buffered,
+ * so memory is bounded by the chunk limits rather than by article length. Not thread-safe;
+ * use one instance per article.
+ */
+public final class StreamingSemanticChunker {
+
+    private final SemanticBoundaryDetector boundaryDetector;
+    private final double similarityThreshold;
+    private final int minSentences;
+    private final int maxSentences;
+    private final int maxTokens;
+    private final int overlapSentences;
+    private final BiConsumer<SemanticChunk, float[]> sink;
+
+    // Buffered sentences; index 0 holds sentence number windowOffset.
+    private final List<String> windowSentences = new ArrayList<>();
+    private final List<float[]> windowEmbeddings = new ArrayList<>();
+    private int windowOffset;
+
+    private int next;
+    private int start;
+    private int openChars;
+    private float[] previousEmbedding;
+    private int emitted;
+    private int lastEmittedStart;
+    private boolean finished;
+
+    public StreamingSemanticChunker(
+            SemanticBoundaryDetector boundaryDetector,
+            double similarityThreshold,
+            int minSentences,
+            int maxSentences,
+            int maxTokens,
+            int overlapSentences,
+            BiConsumer<SemanticChunk, float[]> sink
+    ) {
+        this.boundaryDetector = boundaryDetector;
+        this.similarityThreshold = similarityThreshold;
+        this.minSentences = minSentences;
+        this.maxSentences = maxSentences;
+        this.maxTokens = maxTokens;
+        this.overlapSentences = overlapSentences;
+        this.sink = sink;
+    }
+
+    public void accept(String sentence, float[] embedding) {
+        if (finished) throw new IllegalStateException("chunker already finished");
+        if (sentence == null || embedding == null) {
+            throw new IllegalArgumentException("sentence and embedding are required");
+        }
+
+        if (next > 0) {
+            int sentenceCount = next - start;
+            boolean chunkLargeEnough = sentenceCount >= minSentences;
+            boolean tooLarge = sentenceCount >= maxSentences || openChars / 4 > maxTokens;
+            if (chunkLargeEnough && (tooLarge
+                    || boundaryDetector.isBoundary(previousEmbedding, embedding, similarityThreshold))) {
+                emit(start, next);
+                start = next;
+                openChars = 0;
+                evict();
+            }
+        }
+
+        windowSentences.add(sentence);
+        windowEmbeddings.add(embedding);
+        openChars += sentence.length();
+        previousEmbedding = embedding;
+        next++;
+    }
+
+    /**
+     * Emits the trailing chunk. No further sentences may be added.
+     */
+    public void finish() {
+        if (finished) return;
+        finished = true;
+        if (start < next) {
+            emit(start, next);
+        }
+        windowSentences.clear();
+        windowEmbeddings.clear();
+        previousEmbedding = null;
+    }
+
+    public int sentenceCount() {
+        return next;
+    }
+
+    int bufferedSentences() {
+        return windowSentences.size();
+    }
+
+    private void emit(int baseStart, int end) {
+        int chunkStart = baseStart;
+        if (overlapSentences > 0 && emitted > 0) {
+            // The predecessor may itself have been extended backwards.
+            chunkStart = Math.min(baseStart, Math.max(baseStart - overlapSentences, lastEmittedStart));
+        }
+
+        SemanticChunk chunk = SemanticChunkingUtils.chunk(
+                i -> windowSentences.get(i - windowOffset), chunkStart, baseStart, end);
+        float[] embedding = VectorMath.mean(
+                windowEmbeddings.subList(chunkStart - windowOffset, end - windowOffset));
+
+        lastEmittedStart = chunkStart;
+        emitted++;
+        sink.accept(chunk, embedding);
+    }
+
+    private void evict() {
+        int keepFrom = start;
+        if (overlapSentences > 0 && emitted > 0) {
+            keepFrom = Math.min(start, Math.max(start - overlapSentences, lastEmittedStart));
+        }
+        int drop = keepFrom - windowOffset;
+        if (drop > 0) {
+            windowSentences.subList(0, drop).clear();
+            windowEmbeddings.subList(0, drop).clear();
+            windowOffset = keepFrom;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.factcheck.collector.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * Dot product, norm, cosine similarity and mean over {@code float[]} embeddings.
+ * <p>
+ * Uses the {@code jdk.incubator.vector} API when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, and a plain scalar loop otherwise.
+ * The SIMD path can be switched off with {@code -Dcollector.vector.simd=false}.
+ */
+@Slf4j
+public final class VectorMath {
+
+    static final boolean SIMD_ENABLED = detectSimd();
+
+    private VectorMath() {
+    }
+
+    public static boolean simdEnabled() {
+        return SIMD_ENABLED;
+    }
+
+    public static double dot(float[] a, float[] b) {
+        requireSameLength(a, b);
+        return SIMD_ENABLED ? SimdVectorMath.dot(a, b) : scalarDot(a, b);
+    }
+
+    public static double norm(float[] a) {
+        if (a == null) throw new IllegalArgumentException("vectors are required");
+        return Math.sqrt(SIMD_ENABLED ? SimdVectorMath.dot(a, a) : scalarDot(a, a));
+    }
+
+    /**
+     * Cosine similarity of two vectors; 0.0 when either vector is all zeros.
+     */
+    public static double cosine(float[] a, float[] b) {
+        requireSameLength(a, b);
+        return SIMD_ENABLED ? SimdVectorMath.cosine(a, b) : scalarCosine(a, b);
+    }
+
+    /**
+     * Element-wise mean of equally sized vectors.
+     */
+    public static float[] mean(List<float[]> vectors) {
+        if (vectors == null || vectors.isEmpty()) {
+            throw new IllegalArgumentException("cannot average empty vectors list");
+        }
+        int dim = vectors.getFirst().length;
+        for (float[] v : vectors) {
+            if (v == null) throw new IllegalArgumentException("vectors are required");
+            if (v.length != dim) throw new IllegalArgumentException("vector dimensions must match");
+        }
+        return SIMD_ENABLED ? SimdVectorMath.mean(vectors, dim) : scalarMean(vectors, dim);
+    }
+
+    static double scalarDot(float[] a, float[] b) {
+        double dot = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            dot += (double) a[i] * b[i];
+        }
+        return dot;
+    }
+
+    static double scalarCosine(float[] a, float[] b) {
+        double dot = 0.0;
+        double na = 0.0;
+        double nb = 0.0;
+
+        for (int i = 0; i < a.length; i++) {
+            double x = a[i];
+            double y = b[i];
+            dot += x * y;
+            na += x * x;
+            nb += y * y;
+        }
+
+        if (na == 0.0 || nb == 0.0) return 0.0;
+        return dot / (Math.sqrt(na) * Math.sqrt(nb));
+    }
+
+    static float[] scalarMean(List<float[]> vectors, int dim) {
+        // Accumulate in double so long chunks do not lose precision.
+        double[] sum = new double[dim];
+        for (float[] v : vectors) {
+            for (int i = 0; i < dim; i++) {
+                sum[i] += v[i];
+            }
+        }
+
+        float[] avg = new float[dim];
+        for (int i = 0; i < dim; i++) {
+            avg[i] = (float) (sum[i] / vectors.size());
+        }
+        return avg;
+    }
+
+    private static void requireSameLength(float[] a, float[] b) {
+        if (a == null || b == null) throw new IllegalArgumentException("vectors are required");
+        if (a.length != b.length) throw new IllegalArgumentException("vector dimensions must match");
+    }
+
+    private static boolean detectSimd() {
+        if (!Boolean.parseBoolean(System.getProperty("collector.vector.simd", "true"))) {
+            return false;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            log.info("jdk.incubator.vector not available, using scalar vector math");
+            return false;
+        }
+        try {
+            SimdVectorMath.dot(new float[1], new float[1]);
+            log.info("Using SIMD vector math ({} double lanes)", SimdVectorMath.lanes());
+            return true;
+        } catch (Throwable t) {
+            log.warn("SIMD vector math unavailable, using scalar fallback: {}", t.toString());
+            return false;
+        }
+    }
+}
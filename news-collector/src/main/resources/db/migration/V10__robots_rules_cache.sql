@@ -0,0 +1,16 @@
+BEGIN;
+
+-- Shared robots.txt cache so rules survive restarts and are reused across instances.
+-- robots_body is NULL when the host has no robots.txt (allow all).
+CREATE TABLE IF NOT EXISTS content.robots_rules_cache (
+  cache_key     TEXT PRIMARY KEY,
+  robots_body   BYTEA,
+  content_type  TEXT,
+  fetched_at    TIMESTAMPTZ NOT NULL,
+  expires_at    TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_robots_rules_cache_expires_at
+  ON content.robots_rules_cache (expires_at);
+
+COMMIT;
@@ -0,0 +1,17 @@
+BEGIN;
+
+-- Embeddings keyed by the sha256 of normalized text and the model that produced them.
+-- vector holds little-endian float32 values (dimension * 4 bytes).
+CREATE TABLE IF NOT EXISTS content.embedding_cache (
+  model_id    TEXT        NOT NULL,
+  text_hash   VARCHAR(64) NOT NULL,
+  dimension   INT         NOT NULL,
+  vector      BYTEA       NOT NULL,
+  created_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+  PRIMARY KEY (model_id, text_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_embedding_cache_created_at
+  ON content.embedding_cache (created_at);
+
+COMMIT;
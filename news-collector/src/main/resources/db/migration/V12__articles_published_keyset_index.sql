@@ -0,0 +1,9 @@
+BEGIN;
+
+-- Matches the /internal/articles order. Dated pages seek with the row comparison
+-- (published_date, id) < (:date, :id) and undated pages with id < :id, so each page
+-- reads only its own rows from this index.
+CREATE INDEX IF NOT EXISTS idx_articles_published_date_id
+  ON content.articles (published_date DESC NULLS LAST, id DESC);
+
+COMMIT;
@@ -0,0 +1,9 @@
+BEGIN;
+
+-- Feed-level HTTP validators for conditional GET, plus a body hash fallback
+ALTER TABLE content.source_endpoints
+  ADD COLUMN IF NOT EXISTS feed_etag          TEXT,
+  ADD COLUMN IF NOT EXISTS feed_last_modified TEXT,
+  ADD COLUMN IF NOT EXISTS feed_content_hash  CHAR(64);
+
+COMMIT;
@@ -0,0 +1,8 @@
+BEGIN;
+
+-- Newest feed item already ingested; older items are dropped before discovery
+ALTER TABLE content.source_endpoints
+  ADD COLUMN IF NOT EXISTS high_water_published_at TIMESTAMPTZ,
+  ADD COLUMN IF NOT EXISTS high_water_source_item_id TEXT;
+
+COMMIT;
@@ -0,0 +1,26 @@
+BEGIN;
+
+-- Durable in-process task queue for self-hosted deployments (replaces the HTTP loopback).
+-- A claimed task stays PENDING but is hidden until visible_at; if the worker dies it reappears.
+CREATE TABLE IF NOT EXISTS content.ingestion_tasks (
+  id                  BIGSERIAL PRIMARY KEY,
+  run_id              BIGINT NOT NULL REFERENCES content.ingestion_runs(id) ON DELETE CASCADE,
+  source_endpoint_id  BIGINT NOT NULL REFERENCES content.source_endpoints(id) ON DELETE CASCADE,
+  correlation_id      TEXT,
+  status              VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+  attempts            INT NOT NULL DEFAULT 0,
+  visible_at          TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+  last_error          TEXT,
+  created_at          TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+  CONSTRAINT chk_ingestion_tasks_status CHECK (status IN ('PENDING', 'FAILED'))
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_ingestion_tasks_run_endpoint
+  ON content.ingestion_tasks (run_id, source_endpoint_id);
+
+CREATE INDEX IF NOT EXISTS idx_ingestion_tasks_pending
+  ON content.ingestion_tasks (visible_at, id)
+  WHERE status = 'PENDING';
+
+COMMIT;
@@ -0,0 +1,112 @@
+BEGIN;
+
+ALTER TABLE content.ingestion_runs
+  ADD COLUMN IF NOT EXISTS task_count    INT NOT NULL DEFAULT 0,
+  ADD COLUMN IF NOT EXISTS pending_count INT NOT NULL DEFAULT 0,
+  ADD COLUMN IF NOT EXISTS success_count INT NOT NULL DEFAULT 0,
+  ADD COLUMN IF NOT EXISTS partial_count INT NOT NULL DEFAULT 0,
+  ADD COLUMN IF NOT EXISTS failed_count  INT NOT NULL DEFAULT 0,
+  ADD COLUMN IF NOT EXISTS skipped_count INT NOT NULL DEFAULT 0;
+
+-- Which run counter a log row contributes to. Failures caused by robots/blocking or
+-- oversized embedding requests do not count against the run, matching the previous
+-- log-scanning finalisation.
+CREATE OR REPLACE FUNCTION content.ingestion_log_outcome(
+  completed_at  TIMESTAMPTZ,
+  status        content.ingestion_status,
+  error_details TEXT
+)
+RETURNS TEXT AS $$
+  SELECT CASE
+    WHEN completed_at IS NULL THEN 'PENDING'
+    WHEN status = 'SUCCESS' THEN 'SUCCESS'
+    WHEN status = 'PARTIAL' THEN 'PARTIAL'
+    WHEN status = 'FAILED'
+         AND NOT (LOWER(COALESCE(error_details, '')) LIKE ANY (ARRAY[
+           '%robots.txt disallows%',
+           '%source blocked until%',
+           '%too many chunks for embedding%',
+           '%too many texts in one request%',
+           '%unprocessable entity%',
+           '%nlp embed failed%'
+         ])) THEN 'FAILED'
+    ELSE 'SKIPPED'
+  END
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION content.adjust_ingestion_run_progress(p_run_id BIGINT, p_outcome TEXT, p_delta INT)
+RETURNS VOID AS $$
+  UPDATE content.ingestion_runs
+  SET pending_count = pending_count + CASE WHEN p_outcome = 'PENDING' THEN p_delta ELSE 0 END,
+      success_count = success_count + CASE WHEN p_outcome = 'SUCCESS' THEN p_delta ELSE 0 END,
+      partial_count = partial_count + CASE WHEN p_outcome = 'PARTIAL' THEN p_delta ELSE 0 END,
+      failed_count  = failed_count  + CASE WHEN p_outcome = 'FAILED'  THEN p_delta ELSE 0 END,
+      skipped_count = skipped_count + CASE WHEN p_outcome = 'SKIPPED' THEN p_delta ELSE 0 END
+  WHERE id = p_run_id
+$$ LANGUAGE sql;
+
+-- Keeps the run counters in the same transaction as every log insert/completion,
+-- whether it comes from an entity save or a bulk UPDATE.
+CREATE OR REPLACE FUNCTION content.track_ingestion_run_progress()
+RETURNS TRIGGER AS $$
+DECLARE
+  old_outcome TEXT;
+  new_outcome TEXT;
+BEGIN
+  new_outcome := content.ingestion_log_outcome(NEW.completed_at, NEW.status, NEW.error_details);
+
+  IF TG_OP = 'INSERT' THEN
+    IF NEW.run_id IS NOT NULL THEN
+      UPDATE content.ingestion_runs SET task_count = task_count + 1 WHERE id = NEW.run_id;
+      PERFORM content.adjust_ingestion_run_progress(NEW.run_id, new_outcome, 1);
+    END IF;
+    RETURN NULL;
+  END IF;
+
+  old_outcome := content.ingestion_log_outcome(OLD.completed_at, OLD.status, OLD.error_details);
+  IF OLD.run_id IS NOT DISTINCT FROM NEW.run_id AND old_outcome = new_outcome THEN
+    RETURN NULL;
+  END IF;
+
+  IF OLD.run_id IS NOT NULL THEN
+    PERFORM content.adjust_ingestion_run_progress(OLD.run_id, old_outcome, -1);
+  END IF;
+  IF NEW.run_id IS NOT NULL THEN
+    PERFORM content.adjust_ingestion_run_progress(NEW.run_id, new_outcome, 1);
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_ingestion_logs_run_progress ON content.ingestion_logs;
+CREATE TRIGGER trg_ingestion_logs_run_progress
+  AFTER INSERT OR UPDATE OF run_id, status, completed_at, error_details
+  ON content.ingestion_logs
+  FOR EACH ROW EXECUTE FUNCTION content.track_ingestion_run_progress();
+
+-- Backfill existing runs.
+UPDATE content.ingestion_runs r
+SET task_count    = c.task_count,
+    pending_count = c.pending_count,
+    success_count = c.success_count,
+    partial_count = c.partial_count,
+    failed_count  = c.failed_count,
+    skipped_count = c.skipped_count
+FROM (
+  SELECT l.run_id,
+         COUNT(*) AS task_count,
+         COUNT(*) FILTER (WHERE o.outcome = 'PENDING') AS pending_count,
+         COUNT(*) FILTER (WHERE o.outcome = 'SUCCESS') AS success_count,
+         COUNT(*) FILTER (WHERE o.outcome = 'PARTIAL') AS partial_count,
+         COUNT(*) FILTER (WHERE o.outcome = 'FAILED')  AS failed_count,
+         COUNT(*) FILTER (WHERE o.outcome = 'SKIPPED') AS skipped_count
+  FROM content.ingestion_logs l
+  CROSS JOIN LATERAL (
+    SELECT content.ingestion_log_outcome(l.completed_at, l.status, l.error_details) AS outcome
+  ) o
+  WHERE l.run_id IS NOT NULL
+  GROUP BY l.run_id
+) c
+WHERE r.id = c.run_id;
+
+COMMIT;
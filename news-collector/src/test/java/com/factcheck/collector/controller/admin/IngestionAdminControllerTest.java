@@ -63,7 +63,8 @@ class IngestionAdminControllerTest {
                 Instant.parse("2025-01-01T00:00:00Z"),
                 Instant.parse("2025-01-01T01:00:00Z"),
                 "FAILED",
-                "cid-y"
+                "cid-y",
+                3, 0, 2, 0, 1, 0
         );
 
         when(ingestionQueryService.getRun(7L)).thenReturn(run);
@@ -71,7 +72,9 @@ class IngestionAdminControllerTest {
         mockMvc.perform(get("/admin/ingestion/runs/{id}", 7L))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(7L))
-                .andExpect(jsonPath("$.status").value("FAILED"));
+                .andExpect(jsonPath("$.status").value("FAILED"))
+                .andExpect(jsonPath("$.pendingCount").value(0))
+                .andExpect(jsonPath("$.failedCount").value(1));
     }
 
     @Test
@@ -81,7 +84,8 @@ class IngestionAdminControllerTest {
                 Instant.parse("2025-01-02T00:00:00Z"),
                 Instant.parse("2025-01-02T01:00:00Z"),
                 "FAILED",
-                "cid-z"
+                "cid-z",
+                3, 1, 2, 0, 0, 0
         );
 
         when(ingestionAdminService.abortActiveRun(null))
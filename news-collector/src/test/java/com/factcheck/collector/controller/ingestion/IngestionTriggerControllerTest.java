@@ -1,6 +1,8 @@
 package com.factcheck.collector.controller.ingestion;
 
+import com.factcheck.collector.dto.ArticleRefreshResponse;
 import com.factcheck.collector.dto.IngestionRunStartResponse;
+import com.factcheck.collector.service.ingestion.ArticleRefreshJob;
 import com.factcheck.collector.service.ingestion.IngestionJobRunner;
 import com.factcheck.collector.exception.IngestionRunAlreadyRunningException;
 import org.junit.jupiter.api.Test;
@@ -26,6 +28,9 @@ class IngestionTriggerControllerTest {
     @MockitoBean
     private IngestionJobRunner ingestionJobRunner;
 
+    @MockitoBean
+    private ArticleRefreshJob articleRefreshJob;
+
     @Test
     void runEnqueuesAndReturnsAccepted() throws Exception {
         String correlationId = UUID.randomUUID().toString();
@@ -59,4 +64,18 @@ class IngestionTriggerControllerTest {
                 .andExpect(status().isConflict())
                 .andExpect(jsonPath("$.status").value("RUNNING"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void refreshReturnsCounts() throws Exception {
+        String correlationId = UUID.randomUUID().toString();
+        when(articleRefreshJob.refreshRecent(correlationId))
+                .thenReturn(new ArticleRefreshResponse(correlationId, 5, 3, 1, 1, 0));
+
+        mockMvc.perform(post("/ingestion/refresh")
+                        .param("correlationId", correlationId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.checked").value(5))
+                .andExpect(jsonPath("$.notModified").value(3))
+                .andExpect(jsonPath("$.reindexed").value(1));
+    }
+}
@@ -1,6 +1,7 @@
 package com.factcheck.collector.controller.read;
 
 import com.factcheck.collector.dto.ArticleContentResponse;
+import com.factcheck.collector.dto.ArticleListPage;
 import com.factcheck.collector.dto.ArticleMetadataResponse;
 import com.factcheck.collector.dto.SearchRequest;
 import com.factcheck.collector.dto.SearchResponse;
@@ -71,6 +72,25 @@ class InternalArticleControllerTest {
         assertThat(reqCaptor.getValue().embedding()).hasSize(3072);
     }
 
+    @Test
+    void listArticles_returnsPageItemsAndNextCursorHeader() throws Exception {
+        ArticleMetadataResponse item = new ArticleMetadataResponse(
+                1L, 10L, "Guardian", null, null, "https://example.com", "Title",
+                Instant.parse("2024-01-01T00:00:00Z"), 0, "DISCOVERED", false);
+        when(articleListService.listLatest(20, "abc")).thenReturn(new ArticleListPage(List.of(item), "next"));
+        when(articleListService.searchByTitle("news", 50, null)).thenReturn(new ArticleListPage(List.of(), null));
+
+        mockMvc.perform(get("/internal/articles").param("limit", "20").param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(InternalArticleController.NEXT_CURSOR_HEADER, "next"))
+                .andExpect(jsonPath("$[0].id").value(1L));
+
+        mockMvc.perform(get("/internal/articles").param("q", "news"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(InternalArticleController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
     @Test
     void getArticle_returnsMappedMetadataResponse() throws Exception {
         ArticleMetadataResponse response = new ArticleMetadataResponse(
@@ -0,0 +1,104 @@
+package com.factcheck.collector.integration.ingestion;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CrawlFrontierTest {
+
+    @Test
+    void acquire_spacesRequestsToSameHost() {
+        RobotsService robotsService = mock(RobotsService.class);
+        CrawlFrontier frontier = newFrontier(robotsService, Duration.ofMillis(150), 2);
+
+        long start = System.nanoTime();
+        frontier.acquire("https://example.com/a").close();
+        frontier.acquire("https://example.com/b").close();
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(140);
+    }
+
+    @Test
+    void acquire_doesNotDelayDistinctHosts() {
+        RobotsService robotsService = mock(RobotsService.class);
+        CrawlFrontier frontier = newFrontier(robotsService, Duration.ofSeconds(5), 2);
+
+        long start = System.nanoTime();
+        frontier.acquire("https://one.example/a").close();
+        frontier.acquire("https://two.example/a").close();
+        frontier.acquire("https://three.example/a").close();
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(elapsedMs).isLessThan(1000);
+    }
+
+    @Test
+    void acquire_honoursRobotsCrawlDelay() {
+        RobotsService robotsService = mock(RobotsService.class);
+        when(robotsService.getCrawlDelay(anyString())).thenReturn(Duration.ofMillis(200));
+        CrawlFrontier frontier = newFrontier(robotsService, Duration.ZERO, 2);
+
+        long start = System.nanoTime();
+        frontier.acquire("https://example.com/a").close();
+        frontier.acquire("https://example.com/b").close();
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(190);
+    }
+
+    @Test
+    void acquire_returnsNullWhenHostInFlightLimitHeldPastMaxWait() {
+        RobotsService robotsService = mock(RobotsService.class);
+        CrawlFrontier frontier = newFrontier(robotsService, Duration.ZERO, 1);
+        ReflectionTestUtils.setField(frontier, "maxWait", Duration.ofMillis(100));
+
+        CrawlFrontier.Permit held = frontier.acquire("https://example.com/a");
+        assertThat(held).isNotNull();
+
+        assertThat(frontier.acquire("https://example.com/b")).isNull();
+
+        held.close();
+        CrawlFrontier.Permit next = frontier.acquire("https://example.com/c");
+        assertThat(next).isNotNull();
+        next.close();
+    }
+
+    @Test
+    void acquire_evictsHostsThatAreIdlePastTheirDelay() throws Exception {
+        CrawlFrontier frontier = newFrontier(mock(RobotsService.class), Duration.ofMillis(50), 2);
+        ReflectionTestUtils.setField(frontier, "idleSweepInterval", Duration.ZERO);
+
+        CrawlFrontier.Permit held = frontier.acquire("https://held.example/a");
+        frontier.acquire("https://done.example/a").close();
+        assertThat(frontier.trackedHosts()).isEqualTo(2);
+
+        Thread.sleep(80);
+        frontier.acquire("https://next.example/a").close();
+        // done.example is idle and past its delay; held.example still has a request in flight.
+        assertThat(frontier.trackedHosts()).isEqualTo(2);
+
+        held.close();
+        Thread.sleep(80);
+        frontier.acquire("https://next.example/b").close();
+        assertThat(frontier.trackedHosts()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_returnsNoopPermitForUrlWithoutHost() {
+        CrawlFrontier frontier = new CrawlFrontier(mock(RobotsService.class));
+
+        assertThat(frontier.acquire("not a url")).isSameAs(CrawlFrontier.Permit.NOOP);
+    }
+
+    private static CrawlFrontier newFrontier(RobotsService robotsService, Duration minDelay, int maxInFlight) {
+        CrawlFrontier frontier = new CrawlFrontier(robotsService);
+        ReflectionTestUtils.setField(frontier, "minDelay", minDelay);
+        ReflectionTestUtils.setField(frontier, "maxInFlightPerHost", maxInFlight);
+        return frontier;
+    }
+}
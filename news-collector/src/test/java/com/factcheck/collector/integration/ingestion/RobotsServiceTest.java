@@ -1,11 +1,14 @@
 package com.factcheck.collector.integration.ingestion;
 
+import com.factcheck.collector.domain.entity.RobotsRulesCacheEntry;
+import com.factcheck.collector.repository.RobotsRulesCacheRepository;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpServer;
 import crawlercommons.robots.BaseRobotRules;
 import crawlercommons.robots.SimpleRobotRules;
 import crawlercommons.robots.SimpleRobotRulesParser;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
@@ -14,17 +17,27 @@ import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 class RobotsServiceTest {
 
     @Test
     void disallowsPathsDefinedInRobots_fromCache() {
-        RobotsService service = new RobotsService("TestBot");
+        RobotsService service = new RobotsService("TestBot", null);
 
         SimpleRobotRulesParser parser = new SimpleRobotRulesParser();
         BaseRobotRules rules = parser.parseContent(
@@ -37,10 +50,8 @@ class RobotsServiceTest {
                 "TestBot"
         );
 
-        Object cachedRules = newCachedRules(rules, Instant.now());
-        ConcurrentHashMap<String, Object> cache = new ConcurrentHashMap<>();
-        cache.put("https://example.com:443", cachedRules);
-        ReflectionTestUtils.setField(service, "rulesCache", cache);
+        Object cachedRules = newCachedRules(rules, Instant.now(), Instant.now().plus(Duration.ofHours(1)));
+        cacheOf(service).put("https://example.com:443", cachedRules);
 
         assertThat(service.isAllowed("https://example.com/allowed/page")).isTrue();
         assertThat(service.isAllowed("https://example.com/blocked")).isFalse();
@@ -48,7 +59,7 @@ class RobotsServiceTest {
 
     @Test
     void isAllowed_whenSchemeMissingOrUnsupported_allows() {
-        RobotsService service = new RobotsService("TestBot");
+        RobotsService service = new RobotsService("TestBot", null);
         assertThat(service.isAllowed("example.com/path")).isTrue();
         assertThat(service.isAllowed("ftp://example.com/path")).isTrue();
     }
@@ -69,7 +80,7 @@ class RobotsServiceTest {
             server.start();
 
             int port = server.getAddress().getPort();
-            RobotsService service = new RobotsService("TestBot");
+            RobotsService service = new RobotsService("TestBot", null);
 
             // First call: fetch + parse.
             assertThat(service.isAllowed("http://localhost:" + port + "/allowed")).isTrue();
@@ -97,7 +108,7 @@ class RobotsServiceTest {
             server.start();
 
             int port = server.getAddress().getPort();
-            RobotsService service = new RobotsService("TestBot");
+            RobotsService service = new RobotsService("TestBot", null);
 
             assertThat(service.isAllowed("http://localhost:" + port + "/anything")).isTrue();
             assertThat(robotsCalls.get()).isEqualTo(1);
@@ -119,7 +130,7 @@ class RobotsServiceTest {
             server.start();
 
             int port = server.getAddress().getPort();
-            RobotsService service = new RobotsService("TestBot");
+            RobotsService service = new RobotsService("TestBot", null);
 
             assertThat(service.isAllowed("http://localhost:" + port + "/anything")).isTrue();
             assertThat(robotsCalls.get()).isEqualTo(1);
@@ -144,16 +155,14 @@ class RobotsServiceTest {
             server.start();
 
             int port = server.getAddress().getPort();
-            RobotsService service = new RobotsService("TestBot");
+            RobotsService service = new RobotsService("TestBot", null);
 
             String key = "http://localhost:" + port;
 
             SimpleRobotRules allowAll = new SimpleRobotRules(SimpleRobotRules.RobotRulesMode.ALLOW_ALL);
-            Object expired = newCachedRules(allowAll, Instant.now().minus(Duration.ofDays(2)));
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> cache = (Map<String, Object>) ReflectionTestUtils.getField(service, "rulesCache");
-            cache.put(key, expired);
+            Instant fetchedAt = Instant.now().minus(Duration.ofDays(2));
+            Object expired = newCachedRules(allowAll, fetchedAt, fetchedAt.plus(Duration.ofHours(12)));
+            cacheOf(service).put(key, expired);
 
             assertThat(service.isAllowed("http://localhost:" + port + "/blocked")).isFalse();
             assertThat(service.isAllowed("http://localhost:" + port + "/blocked2")).isFalse();
@@ -164,13 +173,255 @@ class RobotsServiceTest {
         }
     }
 
-    private static Object newCachedRules(BaseRobotRules rules, Instant fetchedAt) {
+    @Test
+    void getCrawlDelay_readsDelayFromRobotsAndDefaultsToZero() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/robots.txt", exchange -> respond(exchange, 200, "text/plain", """
+                    User-agent: *
+                    Crawl-delay: 3
+                    Disallow: /blocked
+                    """));
+            server.start();
+
+            int port = server.getAddress().getPort();
+            RobotsService service = new RobotsService("TestBot", null);
+
+            assertThat(service.getCrawlDelay("http://localhost:" + port + "/page")).isEqualTo(Duration.ofSeconds(3));
+            assertThat(service.getCrawlDelay("ftp://example.com/page")).isEqualTo(Duration.ZERO);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void isAllowed_concurrentCallersShareSingleFetch() throws Exception {
+        AtomicInteger robotsCalls = new AtomicInteger(0);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        try {
+            server.createContext("/robots.txt", exchange -> {
+                robotsCalls.incrementAndGet();
+                sleep(200);
+                respond(exchange, 200, "text/plain", """
+                        User-agent: *
+                        Disallow: /blocked
+                        """);
+            });
+            server.start();
+
+            int port = server.getAddress().getPort();
+            RobotsService service = new RobotsService("TestBot", null);
+
+            ExecutorService callers = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    results.add(callers.submit(() -> service.isAllowed("http://localhost:" + port + "/blocked")));
+                }
+                for (Future<Boolean> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isFalse();
+                }
+            } finally {
+                callers.shutdownNow();
+            }
+
+            assertThat(robotsCalls.get()).isEqualTo(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void isAllowed_servesStaleRulesWhileRefreshingInBackground() throws Exception {
+        AtomicInteger robotsCalls = new AtomicInteger(0);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/robots.txt", exchange -> {
+                robotsCalls.incrementAndGet();
+                respond(exchange, 200, "text/plain", """
+                        User-agent: *
+                        Disallow: /
+                        """);
+            });
+            server.start();
+
+            int port = server.getAddress().getPort();
+            RobotsService service = new RobotsService("TestBot", null);
+
+            Instant fetchedAt = Instant.now().minus(Duration.ofHours(13));
+            SimpleRobotRules allowAll = new SimpleRobotRules(SimpleRobotRules.RobotRulesMode.ALLOW_ALL);
+            cacheOf(service).put("http://localhost:" + port,
+                    newCachedRules(allowAll, fetchedAt, fetchedAt.plus(Duration.ofHours(12))));
+
+            assertThat(service.isAllowed("http://localhost:" + port + "/page")).isTrue();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (service.isAllowed("http://localhost:" + port + "/page") && System.nanoTime() < deadline) {
+                sleep(20);
+            }
+
+            assertThat(service.isAllowed("http://localhost:" + port + "/page")).isFalse();
+            assertThat(robotsCalls.get()).isEqualTo(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void isAllowed_cachesFetchFailuresForFailureTtl() throws Exception {
+        AtomicInteger robotsCalls = new AtomicInteger(0);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/robots.txt", exchange -> {
+                robotsCalls.incrementAndGet();
+                respond(exchange, 503, "text/plain", "unavailable");
+            });
+            server.start();
+
+            int port = server.getAddress().getPort();
+            RobotsService service = new RobotsService("TestBot", null);
+
+            assertThat(service.isAllowed("http://localhost:" + port + "/a")).isTrue();
+            assertThat(service.isAllowed("http://localhost:" + port + "/b")).isTrue();
+            assertThat(robotsCalls.get()).isEqualTo(1);
+
+            ReflectionTestUtils.setField(service, "failureTtl", Duration.ZERO);
+            ReflectionTestUtils.setField(service, "staleWhileRevalidate", Duration.ZERO);
+            cacheOf(service).clear();
+            service.isAllowed("http://localhost:" + port + "/c");
+            service.isAllowed("http://localhost:" + port + "/d");
+            assertThat(robotsCalls.get()).isEqualTo(3);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void isAllowed_keepsLastKnownRulesWhenRefreshFails() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/robots.txt", exchange -> respond(exchange, 500, "text/plain", "error"));
+            server.start();
+
+            int port = server.getAddress().getPort();
+            RobotsService service = new RobotsService("TestBot", null);
+
+            BaseRobotRules disallowAll = new SimpleRobotRules(SimpleRobotRules.RobotRulesMode.ALLOW_NONE);
+            Instant fetchedAt = Instant.now().minus(Duration.ofHours(13));
+            cacheOf(service).put("http://localhost:" + port,
+                    newCachedRules(disallowAll, fetchedAt, fetchedAt.plus(Duration.ofHours(12))));
+            ReflectionTestUtils.setField(service, "staleWhileRevalidate", Duration.ofHours(2));
+
+            assertThat(service.isAllowed("http://localhost:" + port + "/page")).isFalse();
+            sleep(300);
+            assertThat(service.isAllowed("http://localhost:" + port + "/page")).isFalse();
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void rulesCache_evictsLeastRecentlyUsedBeyondMaxEntries() {
+        RobotsService service = new RobotsService("TestBot", null);
+        ReflectionTestUtils.setField(service, "maxCacheEntries", 2);
+
+        Map<String, Object> cache = cacheOf(service);
+        SimpleRobotRules allowAll = new SimpleRobotRules(SimpleRobotRules.RobotRulesMode.ALLOW_ALL);
+        Instant now = Instant.now();
+        cache.put("https://one.example:443", newCachedRules(allowAll, now, now.plus(Duration.ofHours(1))));
+        cache.put("https://two.example:443", newCachedRules(allowAll, now, now.plus(Duration.ofHours(1))));
+
+        assertThat(service.isAllowed("https://one.example/page")).isTrue();
+        cache.put("https://three.example:443", newCachedRules(allowAll, now, now.plus(Duration.ofHours(1))));
+
+        assertThat(cache).containsOnlyKeys("https://one.example:443", "https://three.example:443");
+    }
+
+    @Test
+    void isAllowed_usesPersistedRulesWithoutFetching() {
+        RobotsRulesCacheRepository repository = mock(RobotsRulesCacheRepository.class);
+        when(repository.findById("https://persisted.example:443")).thenReturn(Optional.of(
+                RobotsRulesCacheEntry.builder()
+                        .cacheKey("https://persisted.example:443")
+                        .robotsBody("""
+                                User-agent: *
+                                Disallow: /blocked
+                                """.getBytes(StandardCharsets.UTF_8))
+                        .contentType("text/plain")
+                        .fetchedAt(Instant.now())
+                        .expiresAt(Instant.now().plus(Duration.ofHours(1)))
+                        .build()));
+
+        RobotsService service = new RobotsService("TestBot", repository);
+        ReflectionTestUtils.setField(service, "persistentCacheEnabled", true);
+
+        assertThat(service.isAllowed("https://persisted.example/blocked")).isFalse();
+        assertThat(service.isAllowed("https://persisted.example/open")).isTrue();
+        verify(repository, times(1)).findById("https://persisted.example:443");
+        verify(repository, never()).upsert(anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    void isAllowed_persistsFetchedRules() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/robots.txt", exchange -> respond(exchange, 200, "text/plain", """
+                    User-agent: *
+                    Disallow: /blocked
+                    """));
+            server.start();
+
+            int port = server.getAddress().getPort();
+            RobotsRulesCacheRepository repository = mock(RobotsRulesCacheRepository.class);
+            when(repository.findById(anyString())).thenReturn(Optional.empty());
+
+            RobotsService service = new RobotsService("TestBot", repository);
+            ReflectionTestUtils.setField(service, "persistentCacheEnabled", true);
+
+            assertThat(service.isAllowed("http://localhost:" + port + "/blocked")).isFalse();
+
+            ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+            verify(repository).upsert(eq("http://localhost:" + port), body.capture(), eq("text/plain"),
+                    any(Instant.class), any(Instant.class));
+            assertThat(new String(body.getValue(), StandardCharsets.UTF_8)).contains("Disallow: /blocked");
+
+            // Rows past the stale window are purged on the first write, then once per purge interval.
+            ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+            verify(repository).deleteExpiredBefore(cutoff.capture());
+            assertThat(cutoff.getValue()).isBefore(Instant.now().minus(Duration.ofHours(12)).plusSeconds(5));
+
+            assertThat(service.isAllowed("http://127.0.0.1:" + port + "/blocked")).isFalse();
+            verify(repository, times(2)).upsert(anyString(), any(), any(), any(), any());
+            verify(repository, times(1)).deleteExpiredBefore(any());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> cacheOf(RobotsService service) {
+        return (Map<String, Object>) ReflectionTestUtils.getField(service, "rulesCache");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Object newCachedRules(BaseRobotRules rules, Instant fetchedAt, Instant expiresAt) {
         try {
             Class<?> cachedRulesClass =
                     Class.forName("com.factcheck.collector.integration.ingestion.RobotsService$CachedRules");
-            Constructor<?> constructor = cachedRulesClass.getDeclaredConstructor(BaseRobotRules.class, Instant.class);
+            Constructor<?> constructor = cachedRulesClass.getDeclaredConstructor(BaseRobotRules.class, Instant.class, Instant.class);
             constructor.setAccessible(true);
-            return constructor.newInstance(rules, fetchedAt);
+            return constructor.newInstance(rules, fetchedAt, expiresAt);
         } catch (Exception e) {
             throw new IllegalStateException("Failed to construct cached rules for test", e);
         }
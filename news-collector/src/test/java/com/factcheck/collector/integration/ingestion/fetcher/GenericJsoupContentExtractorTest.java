@@ -1,17 +1,23 @@
 package com.factcheck.collector.integration.ingestion.fetcher;
 
+import com.factcheck.collector.integration.ingestion.CrawlFrontier;
 import com.factcheck.collector.integration.ingestion.RobotsService;
-import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -27,7 +33,7 @@ class GenericJsoupContentExtractorTest {
         String url = "https://example.com/page";
         when(robotsService.isAllowed(url)).thenReturn(false);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
 
         ArticleFetchResult result = extractor.fetchAndExtract(url);
 
@@ -47,16 +53,16 @@ class GenericJsoupContentExtractorTest {
         String url = "https://example.com/file.pdf";
         when(robotsService.isAllowed(url)).thenReturn(true);
 
-        Connection.Response resp = mock(Connection.Response.class);
+        HtmlResponse resp = mock(HtmlResponse.class);
         when(resp.statusCode()).thenReturn(200);
         when(resp.header("ETag")).thenReturn("etag");
         when(resp.header("Last-Modified")).thenReturn("lm");
         when(resp.contentType()).thenReturn("application/pdf");
-        when(resp.url()).thenReturn(URI.create(url).toURL());
+        when(resp.url()).thenReturn(URI.create(url));
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt())).thenReturn(resp);
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
 
         ArticleFetchResult result = extractor.fetchAndExtract(url);
@@ -75,17 +81,17 @@ class GenericJsoupContentExtractorTest {
         String url = "https://example.com/protected";
         when(robotsService.isAllowed(url)).thenReturn(true);
 
-        Connection.Response resp = mock(Connection.Response.class);
+        HtmlResponse resp = mock(HtmlResponse.class);
         when(resp.statusCode()).thenReturn(403);
         when(resp.header("ETag")).thenReturn("");
         when(resp.header("Last-Modified")).thenReturn("");
         when(resp.contentType()).thenReturn("text/html; charset=utf-8");
         when(resp.body()).thenReturn("<html><body>Attention Required - verify you are human</body></html>");
-        when(resp.url()).thenReturn(URI.create(url).toURL());
+        when(resp.url()).thenReturn(URI.create(url));
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt())).thenReturn(resp);
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
 
         ArticleFetchResult result = extractor.fetchAndExtract(url);
@@ -105,17 +111,17 @@ class GenericJsoupContentExtractorTest {
         String url = "https://example.com/missing";
         when(robotsService.isAllowed(url)).thenReturn(true);
 
-        Connection.Response resp = mock(Connection.Response.class);
+        HtmlResponse resp = mock(HtmlResponse.class);
         when(resp.statusCode()).thenReturn(404);
         when(resp.header("ETag")).thenReturn("etag");
         when(resp.header("Last-Modified")).thenReturn("lm");
         when(resp.contentType()).thenReturn("text/html; charset=utf-8");
         when(resp.body()).thenReturn("<html><body>Not found</body></html>");
-        when(resp.url()).thenReturn(URI.create(url).toURL());
+        when(resp.url()).thenReturn(URI.create(url));
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt())).thenReturn(resp);
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
 
         ArticleFetchResult result = extractor.fetchAndExtract(url);
@@ -135,17 +141,17 @@ class GenericJsoupContentExtractorTest {
         String url = "https://example.com/weird";
         when(robotsService.isAllowed(url)).thenReturn(true);
 
-        Connection.Response resp = mock(Connection.Response.class);
+        HtmlResponse resp = mock(HtmlResponse.class);
         when(resp.statusCode()).thenReturn(400);
         when(resp.header("ETag")).thenReturn("");
         when(resp.header("Last-Modified")).thenReturn("");
         when(resp.contentType()).thenReturn("text/html; charset=utf-8");
         when(resp.body()).thenReturn("<html><body>captcha</body></html>");
-        when(resp.url()).thenReturn(URI.create(url).toURL());
+        when(resp.url()).thenReturn(URI.create(url));
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt())).thenReturn(resp);
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
 
         ArticleFetchResult result = extractor.fetchAndExtract(url);
@@ -163,17 +169,17 @@ class GenericJsoupContentExtractorTest {
         String url = "https://example.com/temp-down";
         when(robotsService.isAllowed(url)).thenReturn(true);
 
-        Connection.Response resp = mock(Connection.Response.class);
+        HtmlResponse resp = mock(HtmlResponse.class);
         when(resp.statusCode()).thenReturn(503);
         when(resp.header("ETag")).thenReturn("");
         when(resp.header("Last-Modified")).thenReturn("");
         when(resp.contentType()).thenReturn("text/html");
         when(resp.body()).thenReturn(null);
-        when(resp.url()).thenReturn(URI.create(url).toURL());
+        when(resp.url()).thenReturn(URI.create(url));
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt())).thenReturn(resp);
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
 
         ArticleFetchResult result = extractor.fetchAndExtract(url);
@@ -192,16 +198,16 @@ class GenericJsoupContentExtractorTest {
         String url = "https://example.com/no-ct";
         when(robotsService.isAllowed(url)).thenReturn(true);
 
-        Connection.Response resp = mock(Connection.Response.class);
+        HtmlResponse resp = mock(HtmlResponse.class);
         when(resp.statusCode()).thenReturn(200);
         when(resp.header("ETag")).thenReturn("");
         when(resp.header("Last-Modified")).thenReturn("");
         when(resp.contentType()).thenReturn(null);
-        when(resp.url()).thenReturn(URI.create(url).toURL());
+        when(resp.url()).thenReturn(URI.create(url));
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt())).thenReturn(resp);
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
 
         ArticleFetchResult result = extractor.fetchAndExtract(url);
@@ -237,17 +243,17 @@ class GenericJsoupContentExtractorTest {
 
         Document doc = Jsoup.parse(html, finalUrl);
 
-        Connection.Response resp = mock(Connection.Response.class);
+        HtmlResponse resp = mock(HtmlResponse.class);
         when(resp.statusCode()).thenReturn(200);
         when(resp.header("ETag")).thenReturn("etag");
         when(resp.header("Last-Modified")).thenReturn("lm");
         when(resp.contentType()).thenReturn("text/html; charset=utf-8");
-        when(resp.url()).thenReturn(URI.create(finalUrl).toURL());
-        when(resp.parse()).thenReturn(doc);
+        when(resp.url()).thenReturn(URI.create(finalUrl));
+        when(resp.parse(any())).thenReturn(doc);
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt())).thenReturn(resp);
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
         ReflectionTestUtils.setField(extractor, "minParagraphs", 5);
         ReflectionTestUtils.setField(extractor, "minTextChars", 300);
@@ -259,6 +265,46 @@ class GenericJsoupContentExtractorTest {
         assertThat(result.getExtractedText()).isNotBlank();
     }
 
+    @Test
+    void fetchAndExtract_streamedParse_readsPastArticleTeaserInsideBoilerplate() throws Exception {
+        RobotsService robotsService = mock(RobotsService.class);
+        JsoupClient jsoupClient = mock(JsoupClient.class);
+
+        String url = "https://example.com/story";
+        when(robotsService.isAllowed(url)).thenReturn(true);
+
+        String filler = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(10).trim();
+        String html = """
+                <html><body>
+                  <aside><article><p>Teaser for another story. %1$s</p></article></aside>
+                  <article>
+                    <p>Real body one. %1$s</p><p>Real body two. %1$s</p><p>Real body three. %1$s</p>
+                  </article>
+                  <div><p>Read after the story. %1$s</p></div>
+                </body></html>
+                """.formatted(filler);
+
+        HtmlResponse resp = new HtmlResponse(
+                200,
+                URI.create(url),
+                HttpHeaders.of(Map.of("Content-Type", List.of("text/html; charset=utf-8")), (k, v) -> true),
+                new BufferedInputStream(new ByteArrayInputStream(html.getBytes(StandardCharsets.UTF_8))),
+                () -> {});
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
+
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
+        setDefaults(extractor);
+        ReflectionTestUtils.setField(extractor, "minParagraphs", 3);
+        ReflectionTestUtils.setField(extractor, "minTextChars", 300);
+
+        ArticleFetchResult result = extractor.fetchAndExtract(url);
+
+        assertThat(result.getExtractionError()).isNull();
+        assertThat(result.getExtractedText())
+                .contains("Real body one.", "Real body three.")
+                .doesNotContain("Teaser", "Read after the story.");
+    }
+
     @Test
     void fetchAndExtract_success_filtersLinkDenseParagraphsAndShortParagraphs() throws Exception {
         RobotsService robotsService = mock(RobotsService.class);
@@ -292,17 +338,17 @@ class GenericJsoupContentExtractorTest {
 
         Document doc = Jsoup.parse(html, url);
 
-        Connection.Response resp = mock(Connection.Response.class);
+        HtmlResponse resp = mock(HtmlResponse.class);
         when(resp.statusCode()).thenReturn(200);
         when(resp.header("ETag")).thenReturn("");
         when(resp.header("Last-Modified")).thenReturn("");
         when(resp.contentType()).thenReturn("text/html; charset=utf-8");
-        when(resp.url()).thenReturn(URI.create(url).toURL());
-        when(resp.parse()).thenReturn(doc);
+        when(resp.url()).thenReturn(URI.create(url));
+        when(resp.parse(any())).thenReturn(doc);
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt())).thenReturn(resp);
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
         ReflectionTestUtils.setField(extractor, "minParagraphs", 5);
         ReflectionTestUtils.setField(extractor, "minTextChars", 300);
@@ -342,17 +388,17 @@ class GenericJsoupContentExtractorTest {
 
         Document doc = Jsoup.parse(html, url);
 
-        Connection.Response resp = mock(Connection.Response.class);
+        HtmlResponse resp = mock(HtmlResponse.class);
         when(resp.statusCode()).thenReturn(200);
         when(resp.header("ETag")).thenReturn("");
         when(resp.header("Last-Modified")).thenReturn("");
         when(resp.contentType()).thenReturn("text/html; charset=utf-8");
-        when(resp.url()).thenReturn(URI.create(url).toURL());
-        when(resp.parse()).thenReturn(doc);
+        when(resp.url()).thenReturn(URI.create(url));
+        when(resp.parse(any())).thenReturn(doc);
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt())).thenReturn(resp);
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
         ReflectionTestUtils.setField(extractor, "minParagraphs", 5);
         ReflectionTestUtils.setField(extractor, "minTextChars", 300);
@@ -363,6 +409,64 @@ class GenericJsoupContentExtractorTest {
         assertThat(result.getExtractedText()).contains(longP5);
     }
 
+    @Test
+    void fetchAndExtract_success_prefersShallowestContainerAndFiltersNestedBoilerplate() throws Exception {
+        RobotsService robotsService = mock(RobotsService.class);
+        JsoupClient jsoupClient = mock(JsoupClient.class);
+
+        String url = "https://example.com/page";
+        when(robotsService.isAllowed(url)).thenReturn(true);
+
+        String filler = "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(10).trim();
+        String promo = "Promo teaser paragraph with enough characters to count. " + filler;
+        String inButton = "Paragraph inside a button wrapper that should be skipped. " + filler;
+        String linkHeavy = "See <a href=\"a\">this partner story about the same topic</a> and "
+                + "<a href=\"b\">another partner story with a long anchor text</a> today.";
+
+        StringBuilder story = new StringBuilder();
+        for (int i = 1; i <= 5; i++) {
+            story.append("<p>Story paragraph ").append(i).append(". ").append(filler).append("</p>");
+        }
+        story.append("<button><span><p>").append(inButton).append("</p></span></button>");
+        story.append("<p>").append(linkHeavy).append("</p>");
+
+        String nested = "<div>".repeat(12) + story + "</div>".repeat(12);
+        String html = """
+                <html><body>
+                  <div id="promo"><p>%s</p><p>%s</p><p>%s</p></div>
+                  <div id="story">%s</div>
+                </body></html>
+                """.formatted(promo, promo, promo, nested);
+
+        Document doc = Jsoup.parse(html, url);
+
+        HtmlResponse resp = mock(HtmlResponse.class);
+        when(resp.statusCode()).thenReturn(200);
+        when(resp.header("ETag")).thenReturn("");
+        when(resp.header("Last-Modified")).thenReturn("");
+        when(resp.contentType()).thenReturn("text/html; charset=utf-8");
+        when(resp.url()).thenReturn(URI.create(url));
+        when(resp.parse(any())).thenReturn(doc);
+
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
+
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
+        setDefaults(extractor);
+        ReflectionTestUtils.setField(extractor, "minParagraphs", 5);
+        ReflectionTestUtils.setField(extractor, "minTextChars", 300);
+
+        ArticleFetchResult result = extractor.fetchAndExtract(url);
+
+        assertThat(result.getExtractionError()).isNull();
+        assertThat(result.getExtractedText().split("\n\n")).hasSize(5);
+        assertThat(result.getExtractedText())
+                .contains("Story paragraph 1.")
+                .contains("Story paragraph 5.")
+                .doesNotContain("Promo teaser")
+                .doesNotContain("button wrapper")
+                .doesNotContain("partner story");
+    }
+
     @Test
     void fetchAndExtract_success_skipsBoilerplateAndDuplicates_andPassesQualityGate() throws Exception {
         RobotsService robotsService = mock(RobotsService.class);
@@ -400,17 +504,17 @@ class GenericJsoupContentExtractorTest {
 
         Document doc = Jsoup.parse(html, url);
 
-        Connection.Response resp = mock(Connection.Response.class);
+        HtmlResponse resp = mock(HtmlResponse.class);
         when(resp.statusCode()).thenReturn(200);
         when(resp.header("ETag")).thenReturn("etag");
         when(resp.header("Last-Modified")).thenReturn("lm");
         when(resp.contentType()).thenReturn("text/html; charset=utf-8");
-        when(resp.url()).thenReturn(URI.create(url).toURL());
-        when(resp.parse()).thenReturn(doc);
+        when(resp.url()).thenReturn(URI.create(url));
+        when(resp.parse(any())).thenReturn(doc);
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt())).thenReturn(resp);
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
         ReflectionTestUtils.setField(extractor, "minParagraphs", 5);
         ReflectionTestUtils.setField(extractor, "minTextChars", 400);
@@ -450,17 +554,17 @@ class GenericJsoupContentExtractorTest {
                 """;
         Document doc = Jsoup.parse(html, url);
 
-        Connection.Response resp = mock(Connection.Response.class);
+        HtmlResponse resp = mock(HtmlResponse.class);
         when(resp.statusCode()).thenReturn(200);
         when(resp.header("ETag")).thenReturn("");
         when(resp.header("Last-Modified")).thenReturn("");
         when(resp.contentType()).thenReturn("text/html; charset=utf-8");
-        when(resp.url()).thenReturn(URI.create(url).toURL());
-        when(resp.parse()).thenReturn(doc);
+        when(resp.url()).thenReturn(URI.create(url));
+        when(resp.parse(any())).thenReturn(doc);
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt())).thenReturn(resp);
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
         ReflectionTestUtils.setField(extractor, "minParagraphs", 5);
         ReflectionTestUtils.setField(extractor, "minTextChars", 1500);
@@ -480,10 +584,10 @@ class GenericJsoupContentExtractorTest {
         String url = "https://example.com/slow";
         when(robotsService.isAllowed(url)).thenReturn(true);
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt()))
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any()))
                 .thenThrow(new SocketTimeoutException("Read timed out"));
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
 
         ArticleFetchResult result = extractor.fetchAndExtract(url);
@@ -502,10 +606,10 @@ class GenericJsoupContentExtractorTest {
         String url = "https://example.com/slow2";
         when(robotsService.isAllowed(url)).thenReturn(true);
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt()))
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any()))
                 .thenThrow(new RuntimeException(new SocketTimeoutException("timed out")));
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
 
         ArticleFetchResult result = extractor.fetchAndExtract(url);
@@ -522,17 +626,17 @@ class GenericJsoupContentExtractorTest {
         String url = "https://example.com/bad-html";
         when(robotsService.isAllowed(url)).thenReturn(true);
 
-        Connection.Response resp = mock(Connection.Response.class);
+        HtmlResponse resp = mock(HtmlResponse.class);
         when(resp.statusCode()).thenReturn(200);
         when(resp.header("ETag")).thenReturn("");
         when(resp.header("Last-Modified")).thenReturn("");
         when(resp.contentType()).thenReturn("text/html; charset=utf-8");
-        when(resp.url()).thenReturn(URI.create(url).toURL());
-        when(resp.parse()).thenThrow(new IOException("broken stream"));
+        when(resp.url()).thenReturn(URI.create(url));
+        when(resp.parse(any())).thenThrow(new IOException("broken stream"));
 
-        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt())).thenReturn(resp);
+        when(jsoupClient.execute(anyString(), anyString(), anyInt(), anyInt(), any(), any())).thenReturn(resp);
 
-        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient);
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
         setDefaults(extractor);
 
         ArticleFetchResult result = extractor.fetchAndExtract(url);
@@ -543,6 +647,37 @@ class GenericJsoupContentExtractorTest {
         assertThat(result.getFetchError()).contains("broken stream");
     }
 
+    @Test
+    void fetchAndExtract_conditional_notModified_keepsSentValidatorsAndSkipsBody() throws Exception {
+        RobotsService robotsService = mock(RobotsService.class);
+        JsoupClient jsoupClient = mock(JsoupClient.class);
+
+        String url = "https://example.com/unchanged";
+        when(robotsService.isAllowed(url)).thenReturn(true);
+
+        HtmlResponse resp = mock(HtmlResponse.class);
+        when(resp.statusCode()).thenReturn(304);
+        when(resp.header("ETag")).thenReturn(null);
+        when(resp.header("Last-Modified")).thenReturn("Wed, 01 Oct 2025 10:00:00 GMT");
+        when(resp.url()).thenReturn(URI.create(url));
+
+        when(jsoupClient.execute(eq(url), anyString(), anyInt(), anyInt(), eq("\"v1\""), eq("Tue, 30 Sep 2025 10:00:00 GMT")))
+                .thenReturn(resp);
+
+        GenericJsoupContentExtractor extractor = new GenericJsoupContentExtractor(robotsService, jsoupClient, new CrawlFrontier(robotsService));
+        setDefaults(extractor);
+
+        ArticleFetchResult result = extractor.fetchAndExtract(url, "\"v1\"", "Tue, 30 Sep 2025 10:00:00 GMT");
+
+        assertThat(result.isNotModified()).isTrue();
+        assertThat(result.getHttpEtag()).isEqualTo("\"v1\"");
+        assertThat(result.getHttpLastModified()).isEqualTo("Wed, 01 Oct 2025 10:00:00 GMT");
+        assertThat(result.getFetchError()).isNull();
+        assertThat(result.getExtractedText()).isNull();
+        verify(resp, never()).parse(any());
+        verify(resp, never()).body();
+    }
+
     private void setDefaults(GenericJsoupContentExtractor extractor) {
         ReflectionTestUtils.setField(extractor, "userAgent", "TestAgent/1.0");
         ReflectionTestUtils.setField(extractor, "timeout", Duration.ofSeconds(1));
@@ -0,0 +1,164 @@
+package com.factcheck.collector.integration.ingestion.fetcher;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsoupClientTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private final JsoupClient client = new JsoupClient(Duration.ofSeconds(2));
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void execute_requestsCompressionAndDecodesGzipBody() throws Exception {
+        AtomicReference<String> acceptEncoding = new AtomicReference<>();
+        server.createContext("/gz", exchange -> {
+            acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write("<html><body><p>Compressed body</p></body></html>".getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            respond(exchange, 200, "text/html", compressed.toByteArray());
+        });
+
+        try (HtmlResponse response = client.execute(baseUrl + "/gz", "TestAgent/1.0", 2000, 1024 * 1024)) {
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.parse().selectFirst("p").text()).isEqualTo("Compressed body");
+        }
+        assertThat(acceptEncoding.get()).contains("gzip");
+    }
+
+    @Test
+    void parse_sniffsCharsetFromMetaWhenHeaderHasNone() throws Exception {
+        String html = "<html><head><meta charset=\"windows-1252\"></head><body><p>café €</p></body></html>";
+        server.createContext("/meta", exchange ->
+                respond(exchange, 200, "text/html", html.getBytes(Charset.forName("windows-1252"))));
+
+        try (HtmlResponse response = client.execute(baseUrl + "/meta", "TestAgent/1.0", 2000, 1024 * 1024)) {
+            Document doc = response.parse();
+            assertThat(doc.selectFirst("p").text()).isEqualTo("café €");
+            assertThat(doc.charset()).isEqualTo(Charset.forName("windows-1252"));
+        }
+    }
+
+    @Test
+    void parse_prefersHeaderCharsetAndSkipsUtf8Bom() throws Exception {
+        server.createContext("/latin", exchange -> respond(exchange, 200, "text/html; charset=ISO-8859-1",
+                "<p>naïve</p>".getBytes(StandardCharsets.ISO_8859_1)));
+        server.createContext("/bom", exchange -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF});
+            out.write("<p>über</p>".getBytes(StandardCharsets.UTF_8));
+            respond(exchange, 200, "text/html; charset=ISO-8859-1", out.toByteArray());
+        });
+
+        try (HtmlResponse response = client.execute(baseUrl + "/latin", "TestAgent/1.0", 2000, 1024 * 1024)) {
+            assertThat(response.parse().selectFirst("p").text()).isEqualTo("naïve");
+        }
+        try (HtmlResponse response = client.execute(baseUrl + "/bom", "TestAgent/1.0", 2000, 1024 * 1024)) {
+            assertThat(response.parse().body().text()).isEqualTo("über");
+        }
+    }
+
+    @Test
+    void parse_stopsReadingOnceStopElementCompletes() throws Exception {
+        String html = "<html><body><article><p>Story</p></article>"
+                + "<div id=\"tail\">" + "<p>filler</p>".repeat(5000) + "</div></body></html>";
+        server.createContext("/long", exchange ->
+                respond(exchange, 200, "text/html", html.getBytes(StandardCharsets.UTF_8)));
+
+        try (HtmlResponse response = client.execute(baseUrl + "/long", "TestAgent/1.0", 2000, 1024 * 1024)) {
+            Document doc = response.parse(el -> el.tagName().equals("article"));
+
+            assertThat(doc.selectFirst("article p").text()).isEqualTo("Story");
+            assertThat(doc.select("#tail p").size()).isLessThan(5000);
+        }
+    }
+
+    @Test
+    void execute_followsRedirectsAndTruncatesAtMaxBodySize() throws Exception {
+        server.createContext("/old", exchange -> {
+            exchange.getResponseHeaders().set("Location", baseUrl + "/new");
+            exchange.sendResponseHeaders(301, -1);
+            exchange.close();
+        });
+        server.createContext("/new", exchange ->
+                respond(exchange, 404, "text/plain", "x".repeat(10_000).getBytes(StandardCharsets.UTF_8)));
+
+        try (HtmlResponse response = client.execute(baseUrl + "/old", "TestAgent/1.0", 2000, 100)) {
+            assertThat(response.statusCode()).isEqualTo(404);
+            assertThat(response.url().toString()).isEqualTo(baseUrl + "/new");
+            assertThat(response.body()).hasSize(100);
+        }
+    }
+
+    @Test
+    void execute_sendsConditionalHeadersOnlyWhenValidatorsPresent() throws Exception {
+        AtomicReference<String> ifNoneMatch = new AtomicReference<>();
+        AtomicReference<String> ifModifiedSince = new AtomicReference<>();
+        server.createContext("/cond", exchange -> {
+            ifNoneMatch.set(exchange.getRequestHeaders().getFirst("If-None-Match"));
+            ifModifiedSince.set(exchange.getRequestHeaders().getFirst("If-Modified-Since"));
+            if ("\"v1\"".equals(ifNoneMatch.get())) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().set("ETag", "\"v1\"");
+            respond(exchange, 200, "text/html", "<p>fresh</p>".getBytes(StandardCharsets.UTF_8));
+        });
+
+        try (HtmlResponse response = client.execute(baseUrl + "/cond", "TestAgent/1.0", 2000, 1024 * 1024)) {
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.header("ETag")).isEqualTo("\"v1\"");
+        }
+        assertThat(ifNoneMatch.get()).isNull();
+        assertThat(ifModifiedSince.get()).isNull();
+
+        try (HtmlResponse response = client.execute(baseUrl + "/cond", "TestAgent/1.0", 2000, 1024 * 1024,
+                "\"v1\"", "Wed, 01 Oct 2025 10:00:00 GMT")) {
+            assertThat(response.statusCode()).isEqualTo(304);
+        }
+        assertThat(ifModifiedSince.get()).isEqualTo("Wed, 01 Oct 2025 10:00:00 GMT");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        } catch (IOException ignored) {
+            // Client stopped reading early.
+        }
+        exchange.close();
+    }
+}
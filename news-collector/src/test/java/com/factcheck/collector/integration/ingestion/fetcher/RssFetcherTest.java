@@ -14,6 +14,7 @@ import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -102,4 +103,140 @@ class RssFetcherTest {
                 .isInstanceOf(FetchException.class)
                 .hasMessageContaining("Failed to fetch RSS from");
     }
-}
\ No newline at end of file
+
+    @Test
+    void fetch_storesValidatorsAndShortCircuitsOnNotModified() throws Exception {
+        String rss = """
+                <rss version="2.0">
+                  <channel>
+                    <title>News</title>
+                    <item>
+                      <title>Item 1</title>
+                      <link>%s/article-1</link>
+                    </item>
+                  </channel>
+                </rss>
+                """.formatted(baseUrl);
+        AtomicReference<String> ifNoneMatch = new AtomicReference<>();
+        AtomicReference<String> ifModifiedSince = new AtomicReference<>();
+
+        server.createContext("/feed", exchange -> {
+            ifNoneMatch.set(exchange.getRequestHeaders().getFirst("If-None-Match"));
+            ifModifiedSince.set(exchange.getRequestHeaders().getFirst("If-Modified-Since"));
+            if ("\"v1\"".equals(ifNoneMatch.get())) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] bytes = rss.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            exchange.getResponseHeaders().add("Last-Modified", "Wed, 18 Dec 2024 10:00:00 GMT");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        server.start();
+
+        RssFetcher fetcher = new RssFetcher();
+        ReflectionTestUtils.setField(fetcher, "userAgent", "TestAgent/1.0");
+        SourceEndpoint endpoint = rssEndpoint(3L);
+
+        assertThat(fetcher.fetch(endpoint)).hasSize(1);
+        assertThat(ifNoneMatch.get()).isNull();
+        assertThat(endpoint.getFeedEtag()).isEqualTo("\"v1\"");
+        assertThat(endpoint.getFeedLastModified()).isEqualTo("Wed, 18 Dec 2024 10:00:00 GMT");
+        assertThat(endpoint.getFeedContentHash()).hasSize(64);
+
+        assertThat(fetcher.fetch(endpoint)).isEmpty();
+        assertThat(ifNoneMatch.get()).isEqualTo("\"v1\"");
+        assertThat(ifModifiedSince.get()).isEqualTo("Wed, 18 Dec 2024 10:00:00 GMT");
+        assertThat(endpoint.getFeedEtag()).isEqualTo("\"v1\"");
+    }
+
+    @Test
+    void fetch_skipsParsingWhenBodyHashUnchanged() throws Exception {
+        String rss = """
+                <rss version="2.0">
+                  <channel>
+                    <title>News</title>
+                    <item>
+                      <title>Item 1</title>
+                      <link>%s/article-1</link>
+                    </item>
+                  </channel>
+                </rss>
+                """.formatted(baseUrl);
+
+        server.createContext("/feed", exchange -> {
+            byte[] bytes = rss.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        server.start();
+
+        RssFetcher fetcher = new RssFetcher();
+        ReflectionTestUtils.setField(fetcher, "userAgent", "TestAgent/1.0");
+        SourceEndpoint endpoint = rssEndpoint(4L);
+
+        assertThat(fetcher.fetch(endpoint)).hasSize(1);
+        assertThat(fetcher.fetch(endpoint)).isEmpty();
+
+        endpoint.setFeedContentHash(null);
+        assertThat(fetcher.fetch(endpoint)).hasSize(1);
+    }
+
+    @Test
+    void fetch_dropsItemsBehindHighWaterMarkAndKeepsUndatedItems() throws Exception {
+        String rss = """
+                <rss version="2.0">
+                  <channel>
+                    <title>News</title>
+                    <item>
+                      <title>New</title>
+                      <link>%s/new</link>
+                      <pubDate>Wed, 18 Dec 2024 12:00:00 GMT</pubDate>
+                    </item>
+                    <item>
+                      <title>Old</title>
+                      <link>%s/old</link>
+                      <pubDate>Mon, 16 Dec 2024 10:00:00 GMT</pubDate>
+                    </item>
+                    <item>
+                      <title>Undated</title>
+                      <link>%s/undated</link>
+                    </item>
+                  </channel>
+                </rss>
+                """.formatted(baseUrl, baseUrl, baseUrl);
+
+        server.createContext("/feed", exchange -> {
+            byte[] bytes = rss.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        server.start();
+
+        RssFetcher fetcher = new RssFetcher();
+        ReflectionTestUtils.setField(fetcher, "userAgent", "TestAgent/1.0");
+        SourceEndpoint endpoint = rssEndpoint(5L);
+        endpoint.setHighWaterPublishedAt(Instant.parse("2024-12-18T00:00:00Z"));
+        endpoint.setHighWaterSourceItemId(baseUrl + "/previous");
+
+        List<RawArticle> articles = fetcher.fetch(endpoint);
+
+        assertThat(articles).extracting(RawArticle::getTitle).containsExactly("New", "Undated");
+        assertThat(articles.get(1).getPublishedDate()).isNull();
+    }
+
+    private SourceEndpoint rssEndpoint(long id) {
+        Publisher publisher = Publisher.builder().id(20L + id).name("Test Publisher").build();
+        return SourceEndpoint.builder()
+                .id(id)
+                .publisher(publisher)
+                .kind(SourceKind.RSS)
+                .rssUrl(baseUrl + "/feed")
+                .build();
+    }
+}
@@ -88,7 +88,8 @@ class NlpServiceClientTest {
     @Test
     void embed_successfulResponse_returnsEmbeddings() {
         EmbedResponse body = new EmbedResponse();
-        body.setEmbeddings(List.of(List.of(0.1, 0.2)));
+        body.setEmbeddings(List.of(new float[]{0.1f, 0.2f}));
+        body.setModel("text-embedding-005");
 
         ResponseEntity<EmbedResponse> resp =
                 new ResponseEntity<>(body, HttpStatus.OK);
@@ -104,10 +105,13 @@ class NlpServiceClientTest {
         req.setTexts(List.of("chunk1"));
         req.setCorrelationId("cid-xyz");
 
+        assertThat(client.servedModel()).isNull();
+
         EmbedResponse result = client.embed(req);
 
         assertThat(result.getEmbeddings()).hasSize(1);
-        assertThat(result.getEmbeddings().getFirst()).containsExactly(0.1, 0.2);
+        assertThat(result.getEmbeddings().getFirst()).containsExactly(0.1f, 0.2f);
+        assertThat(client.servedModel()).isEqualTo("text-embedding-005");
     }
 
     @Test
@@ -129,7 +133,7 @@ class NlpServiceClientTest {
         setRetryConfigForTest();
 
         SentenceEmbedResponse body = new SentenceEmbedResponse();
-        body.setEmbeddings(List.of(List.of(0.1)));
+        body.setEmbeddings(List.of(new float[]{0.1f}));
 
         ResponseEntity<SentenceEmbedResponse> resp =
                 new ResponseEntity<>(body, HttpStatus.OK);
@@ -222,7 +226,7 @@ class NlpServiceClientTest {
     @Test
     void embed_whenNon2xxStatus_throws() {
         EmbedResponse body = new EmbedResponse();
-        body.setEmbeddings(List.of(List.of(0.1)));
+        body.setEmbeddings(List.of(new float[]{0.1f}));
 
         ResponseEntity<EmbedResponse> resp =
                 new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
@@ -286,7 +290,7 @@ class NlpServiceClientTest {
     @Test
     void embed_whenCorrelationIdBlank_generatesHeader() {
         EmbedResponse body = new EmbedResponse();
-        body.setEmbeddings(List.of(List.of(0.1)));
+        body.setEmbeddings(List.of(new float[]{0.1f}));
 
         ResponseEntity<EmbedResponse> resp =
                 new ResponseEntity<>(body, HttpStatus.OK);
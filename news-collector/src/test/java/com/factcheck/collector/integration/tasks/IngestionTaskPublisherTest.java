@@ -12,7 +12,13 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -152,6 +158,105 @@ class IngestionTaskPublisherTest {
         verify(httpClient).send(any(HttpRequest.class), anyStringBodyHandler());
     }
 
+    @Test
+    void bulkEnqueueRetriesTransientFailuresAndReportsPerTaskResults() throws Exception {
+        setField(publisher, "accessTokenOverride", "override-token");
+        setField(publisher, "enqueueRetryBackoff", Duration.ofMillis(1));
+
+        HttpResponse<String> ok = mockResponse();
+        when(ok.statusCode()).thenReturn(200);
+        HttpResponse<String> unavailable = mockResponse();
+        when(unavailable.statusCode()).thenReturn(503);
+        when(unavailable.body()).thenReturn("busy");
+        HttpResponse<String> badRequest = mockResponse();
+        when(badRequest.statusCode()).thenReturn(400);
+        when(badRequest.body()).thenReturn("bad");
+
+        AtomicInteger flakyCalls = new AtomicInteger();
+        when(httpClient.send(any(HttpRequest.class), anyStringBodyHandler()))
+                .thenAnswer(inv -> {
+                    String body = bodyOf(inv.getArgument(0, HttpRequest.class));
+                    if (body.contains("corr-flaky")) {
+                        return flakyCalls.incrementAndGet() < 3 ? unavailable : ok;
+                    }
+                    if (body.contains("corr-bad")) {
+                        return badRequest;
+                    }
+                    return ok;
+                });
+
+        List<TaskEnqueueResult> results = publisher.enqueueIngestionTasks(List.of(
+                new IngestionTaskRequest(1L, 10L, "corr-ok"),
+                new IngestionTaskRequest(1L, 20L, "corr-flaky"),
+                new IngestionTaskRequest(1L, 30L, "corr-bad"),
+                new IngestionTaskRequest(1L, null, "corr-missing")
+        ));
+
+        assertThat(results).extracting(TaskEnqueueResult::enqueued).containsExactly(true, true, false, false);
+        assertThat(results.get(2).error()).contains("HTTP 400");
+        assertThat(results.get(3).error()).contains("runId and sourceEndpointId are required");
+        assertThat(flakyCalls.get()).isEqualTo(3);
+        verify(httpClient, times(5)).send(any(HttpRequest.class), anyStringBodyHandler());
+    }
+
+    @Test
+    void bulkEnqueueFetchesMetadataTokenOnceAcrossParallelTasks() throws Exception {
+        HttpResponse<String> metadataResp = mockResponse();
+        when(metadataResp.statusCode()).thenReturn(200);
+        when(metadataResp.body()).thenReturn("{\"access_token\":\"abc\",\"expires_in\":3600}");
+        HttpResponse<String> ok = mockResponse();
+        when(ok.statusCode()).thenReturn(200);
+
+        AtomicInteger metadataCalls = new AtomicInteger();
+        when(httpClient.send(any(HttpRequest.class), anyStringBodyHandler()))
+                .thenAnswer(inv -> {
+                    HttpRequest req = inv.getArgument(0, HttpRequest.class);
+                    if ("metadata".equals(req.uri().getHost())) {
+                        metadataCalls.incrementAndGet();
+                        Thread.sleep(50);
+                        return metadataResp;
+                    }
+                    return ok;
+                });
+
+        List<IngestionTaskRequest> requests = LongStream.range(0, 20)
+                .mapToObj(i -> new IngestionTaskRequest(1L, i + 1, "c"))
+                .toList();
+
+        List<TaskEnqueueResult> results = publisher.enqueueIngestionTasks(requests);
+
+        assertThat(results).allMatch(TaskEnqueueResult::enqueued);
+        assertThat(metadataCalls.get()).isEqualTo(1);
+    }
+
+    private static String bodyOf(HttpRequest request) {
+        var subscriber = HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8);
+        request.bodyPublisher().orElseThrow().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriber.onSubscribe(subscription);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                subscriber.onNext(List.of(item));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                subscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        });
+        String json = subscriber.getBody().toCompletableFuture().join();
+        String base64 = json.replaceAll(".*\"body\":\"([^\"]+)\".*", "$1");
+        return new String(java.util.Base64.getDecoder().decode(base64), StandardCharsets.UTF_8);
+    }
+
     private static HttpResponse.BodyHandler<String> anyStringBodyHandler() {
         return ArgumentMatchers.any();
     }
@@ -0,0 +1,84 @@
+package com.factcheck.collector.integration.tasks;
+
+import com.factcheck.collector.dto.IngestionTaskRequest;
+import com.factcheck.collector.repository.IngestionTaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PostgresTaskPublisherTest {
+
+    private final IngestionTaskRepository repository = mock(IngestionTaskRepository.class);
+    private final PostgresTaskPublisher publisher = new PostgresTaskPublisher(repository);
+
+    @Test
+    void enqueueInsertsTaskRow() {
+        when(repository.enqueue(1L, 2L, "c")).thenReturn(1);
+
+        publisher.enqueueIngestionTask(new IngestionTaskRequest(1L, 2L, "c"));
+
+        verify(repository).enqueue(1L, 2L, "c");
+    }
+
+    @Test
+    void enqueueTreatsDuplicateAsSuccess() {
+        when(repository.enqueue(1L, 2L, "c")).thenReturn(0);
+
+        assertThatCode(() -> publisher.enqueueIngestionTask(new IngestionTaskRequest(1L, 2L, "c")))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void enqueueThrowsWhenRequestMissingIds() {
+        assertThatThrownBy(() -> publisher.enqueueIngestionTask(new IngestionTaskRequest(null, 2L, "c")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("runId and sourceEndpointId are required");
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void enqueueWrapsDatabaseFailure() {
+        when(repository.enqueue(1L, 2L, "c")).thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertThatThrownBy(() -> publisher.enqueueIngestionTask(new IngestionTaskRequest(1L, 2L, "c")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Task queue enqueue failed");
+    }
+
+    @Test
+    void bulkEnqueueWritesEachRunWithOneStatement() {
+        List<TaskEnqueueResult> results = publisher.enqueueIngestionTasks(List.of(
+                new IngestionTaskRequest(1L, 10L, "c"),
+                new IngestionTaskRequest(1L, 20L, "c"),
+                new IngestionTaskRequest(1L, null, "c")
+        ));
+
+        assertThat(results).extracting(TaskEnqueueResult::enqueued).containsExactly(true, true, false);
+        verify(repository).enqueueAll(1L, "c", List.of(10L, 20L));
+        verify(repository, never()).enqueue(any(), any(), any());
+    }
+
+    @Test
+    void bulkEnqueueReportsDatabaseFailurePerTask() {
+        when(repository.enqueueAll(eq(1L), eq("c"), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        List<TaskEnqueueResult> results = publisher.enqueueIngestionTasks(List.of(
+                new IngestionTaskRequest(1L, 10L, "c"),
+                new IngestionTaskRequest(1L, 20L, "c")
+        ));
+
+        assertThat(results).noneMatch(TaskEnqueueResult::enqueued);
+        assertThat(results.getFirst().error()).contains("Task queue enqueue failed");
+    }
+}
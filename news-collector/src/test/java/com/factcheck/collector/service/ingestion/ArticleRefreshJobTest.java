@@ -0,0 +1,98 @@
+package com.factcheck.collector.service.ingestion;
+
+import com.factcheck.collector.domain.entity.Article;
+import com.factcheck.collector.domain.enums.ArticleStatus;
+import com.factcheck.collector.dto.ArticleRefreshResponse;
+import com.factcheck.collector.repository.ArticleRepository;
+import com.factcheck.collector.service.ingestion.pipeline.ArticleEnrichmentService;
+import com.factcheck.collector.service.ingestion.pipeline.ArticleEnrichmentService.RefreshOutcome;
+import com.factcheck.collector.service.ingestion.pipeline.ArticleEnrichmentService.RefreshResult;
+import com.factcheck.collector.service.ingestion.pipeline.ArticleIndexingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleRefreshJobTest {
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private ArticleEnrichmentService articleEnrichmentService;
+    @Mock private ArticleIndexingService articleIndexingService;
+
+    private ArticleRefreshJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new ArticleRefreshJob(articleRepository, articleEnrichmentService, articleIndexingService);
+    }
+
+    @Test
+    void refreshRecentReindexesOnlyChangedArticles() {
+        Article notModified = Article.builder().id(1L).status(ArticleStatus.INDEXED).build();
+        Article unchanged = Article.builder().id(2L).status(ArticleStatus.INDEXED).build();
+        Article changed = Article.builder().id(3L).status(ArticleStatus.INDEXED).build();
+        Article failed = Article.builder().id(4L).status(ArticleStatus.INDEXED).build();
+
+        when(articleRepository.findRefreshCandidates(eq(ArticleStatus.INDEXED), any(), any(), any()))
+                .thenReturn(List.of(notModified, unchanged, changed, failed));
+        when(articleEnrichmentService.refresh(notModified))
+                .thenReturn(new RefreshResult(RefreshOutcome.NOT_MODIFIED, null, null));
+        when(articleEnrichmentService.refresh(unchanged))
+                .thenReturn(new RefreshResult(RefreshOutcome.UNCHANGED, null, null));
+        when(articleEnrichmentService.refresh(changed))
+                .thenReturn(new RefreshResult(RefreshOutcome.CHANGED, "New text", null));
+        when(articleEnrichmentService.refresh(failed))
+                .thenReturn(new RefreshResult(RefreshOutcome.FAILED, null, null));
+        when(articleIndexingService.index(changed, "New text", "corr-1")).thenReturn(true);
+
+        ArticleRefreshResponse response = job.refreshRecent("corr-1");
+
+        assertThat(response.checked()).isEqualTo(4);
+        assertThat(response.notModified()).isEqualTo(1);
+        assertThat(response.unchanged()).isEqualTo(1);
+        assertThat(response.reindexed()).isEqualTo(1);
+        assertThat(response.failed()).isEqualTo(1);
+        verify(articleIndexingService).index(changed, "New text", "corr-1");
+        verifyNoMoreInteractions(articleIndexingService);
+    }
+
+    @Test
+    void refreshRecentCountsIndexingFailureAndUsesConfiguredWindow() {
+        Article changed = Article.builder().id(3L).status(ArticleStatus.INDEXED).build();
+        when(articleRepository.findRefreshCandidates(eq(ArticleStatus.INDEXED), any(), any(), any()))
+                .thenReturn(List.of(changed));
+        when(articleEnrichmentService.refresh(changed))
+                .thenReturn(new RefreshResult(RefreshOutcome.CHANGED, "New text", null));
+        when(articleIndexingService.index(eq(changed), eq("New text"), anyString())).thenReturn(false);
+
+        Instant before = Instant.now();
+        ArticleRefreshResponse response = job.refreshRecent(null);
+
+        assertThat(response.correlationId()).isNotBlank();
+        assertThat(response.reindexed()).isZero();
+        assertThat(response.failed()).isEqualTo(1);
+
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> fetchedBefore = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(articleRepository).findRefreshCandidates(
+                eq(ArticleStatus.INDEXED), since.capture(), fetchedBefore.capture(), page.capture());
+        assertThat(since.getValue()).isBeforeOrEqualTo(before.minus(Duration.ofHours(48)).plusSeconds(5));
+        assertThat(fetchedBefore.getValue()).isBeforeOrEqualTo(before.minus(Duration.ofHours(1)).plusSeconds(5));
+        assertThat(page.getValue().getPageSize()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,71 @@
+package com.factcheck.collector.service.ingestion;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedFanOutTest {
+
+    @Test
+    void runsWithinConcurrencyWithCallerMdcAndMapsFailures() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        MDC.put("correlationId", "cid-1");
+        try {
+            BoundedFanOut.Result<Integer, String> result = BoundedFanOut.run(
+                    List.of(1, 2, 3, 4, 5, 6),
+                    2,
+                    () -> false,
+                    item -> {
+                        peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(20);
+                            if (item == 4) {
+                                throw new IllegalStateException("boom");
+                            }
+                            return item + ":" + MDC.get("correlationId");
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        } finally {
+                            running.decrementAndGet();
+                        }
+                    },
+                    "failed",
+                    "test items"
+            );
+
+            assertThat(result.outcomes()).containsExactly("1:cid-1", "2:cid-1", "3:cid-1", "failed", "5:cid-1", "6:cid-1");
+            assertThat(result.unscheduled()).isEmpty();
+            assertThat(peak.get()).isLessThanOrEqualTo(2);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @Test
+    void stopReturnsItemsNotYetStarted() {
+        AtomicBoolean stop = new AtomicBoolean();
+
+        BoundedFanOut.Result<Integer, Integer> result = BoundedFanOut.run(
+                List.of(1, 2, 3, 4),
+                1,
+                stop::get,
+                item -> {
+                    if (item == 2) {
+                        stop.set(true);
+                    }
+                    return item;
+                },
+                -1,
+                "test items"
+        );
+
+        assertThat(result.outcomes()).containsExactly(1, 2);
+        assertThat(result.unscheduled()).containsExactly(3, 4);
+    }
+}
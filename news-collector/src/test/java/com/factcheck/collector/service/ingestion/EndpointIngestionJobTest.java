@@ -24,7 +24,9 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -56,8 +58,15 @@ class EndpointIngestionJobTest {
 
     private SourceEndpoint sourceEndpoint;
 
+    private final Map<RawArticle, ArticleDiscoveryService.DiscoveryResult> discoveries = new HashMap<>();
+
     @BeforeEach
     void initSource() {
+        lenient().when(articleDiscoveryService.discoverAll(any(), anyList())).thenAnswer(invocation -> {
+            List<RawArticle> raws = invocation.getArgument(1);
+            return raws.stream().map(discoveries::get).toList();
+        });
+
         Publisher publisher = Publisher.builder()
                 .id(100L)
                 .name("Demo Publisher")
@@ -178,8 +187,7 @@ class EndpointIngestionJobTest {
         when(articleDiscoveryService.shouldSkip(notNew)).thenReturn(false);
 
         var article = Article.builder().id(1L).build();
-        when(articleDiscoveryService.discover(sourceEndpoint, notNew))
-                .thenReturn(new ArticleDiscoveryService.DiscoveryResult(article, false));
+        discoveries.put(notNew, new ArticleDiscoveryService.DiscoveryResult(article, false));
 
         EndpointIngestionJob job = new EndpointIngestionJob(
                 sourceEndpointRepository,
@@ -211,7 +219,7 @@ class EndpointIngestionJobTest {
 
         when(robotsService.isAllowed("https://example.com/x")).thenReturn(true);
         when(articleDiscoveryService.shouldSkip(raw)).thenReturn(false);
-        when(articleDiscoveryService.discover(sourceEndpoint, raw)).thenReturn(null);
+        discoveries.put(raw, null);
 
         EndpointIngestionJob job = new EndpointIngestionJob(
                 sourceEndpointRepository,
@@ -344,8 +352,7 @@ class EndpointIngestionJobTest {
         when(articleDiscoveryService.shouldSkip(raw)).thenReturn(false);
 
         var article = Article.builder().id(10L).build();
-        when(articleDiscoveryService.discover(sourceEndpoint, raw))
-                .thenReturn(new ArticleDiscoveryService.DiscoveryResult(article, true));
+        discoveries.put(raw, new ArticleDiscoveryService.DiscoveryResult(article, true));
 
         ArticleFetchResult fetchResult = ArticleFetchResult.builder().blockedSuspected(true).build();
         when(articleEnrichmentService.enrich(article, raw))
@@ -390,8 +397,7 @@ class EndpointIngestionJobTest {
         when(articleDiscoveryService.shouldSkip(raw)).thenReturn(false);
 
         var article = Article.builder().id(10L).build();
-        when(articleDiscoveryService.discover(sourceEndpoint, raw))
-                .thenReturn(new ArticleDiscoveryService.DiscoveryResult(article, true));
+        discoveries.put(raw, new ArticleDiscoveryService.DiscoveryResult(article, true));
 
         ArticleFetchResult fetchResult = ArticleFetchResult.builder()
                 .blockedSuspected(true)
@@ -438,8 +444,7 @@ class EndpointIngestionJobTest {
         when(articleDiscoveryService.shouldSkip(raw)).thenReturn(false);
 
         var article = Article.builder().id(10L).build();
-        when(articleDiscoveryService.discover(sourceEndpoint, raw))
-                .thenReturn(new ArticleDiscoveryService.DiscoveryResult(article, true));
+        discoveries.put(raw, new ArticleDiscoveryService.DiscoveryResult(article, true));
 
         ArticleFetchResult fetchResult = ArticleFetchResult.builder()
                 .fetchError("Robots.txt disallows scraping for https://example.com/a")
@@ -482,8 +487,7 @@ class EndpointIngestionJobTest {
         when(articleDiscoveryService.shouldSkip(raw)).thenReturn(false);
 
         var article = Article.builder().id(10L).build();
-        when(articleDiscoveryService.discover(sourceEndpoint, raw))
-                .thenReturn(new ArticleDiscoveryService.DiscoveryResult(article, true));
+        discoveries.put(raw, new ArticleDiscoveryService.DiscoveryResult(article, true));
 
         ArticleFetchResult fetchResult = ArticleFetchResult.builder()
                 .extractionError("Low-quality extraction (likely boilerplate or dynamic page)")
@@ -535,10 +539,8 @@ class EndpointIngestionJobTest {
         var a1 = Article.builder().id(1L).build();
         var a2 = Article.builder().id(2L).build();
 
-        when(articleDiscoveryService.discover(sourceEndpoint, ok))
-                .thenReturn(new ArticleDiscoveryService.DiscoveryResult(a1, true));
-        when(articleDiscoveryService.discover(sourceEndpoint, other))
-                .thenReturn(new ArticleDiscoveryService.DiscoveryResult(a2, true));
+        discoveries.put(ok, new ArticleDiscoveryService.DiscoveryResult(a1, true));
+        discoveries.put(other, new ArticleDiscoveryService.DiscoveryResult(a2, true));
 
         when(articleEnrichmentService.enrich(a1, ok))
                 .thenReturn(new ArticleEnrichmentService.EnrichmentResult(true, "text", null));
@@ -603,7 +605,7 @@ class EndpointIngestionJobTest {
 
         when(articleDiscoveryService.shouldSkip(raw)).thenReturn(false);
 
-        when(articleDiscoveryService.discover(sourceEndpoint, raw))
+        when(articleDiscoveryService.discoverAll(eq(sourceEndpoint), anyList()))
                 .thenThrow(new RuntimeException("boom"));
 
         EndpointIngestionJob job = new EndpointIngestionJob(
@@ -630,6 +632,58 @@ class EndpointIngestionJobTest {
         assertThat(logCaptor.getValue().getArticlesFailed()).isEqualTo(1);
     }
 
+    @Test
+    void ingestSingleSource_rereadsFeedAfterDiscoveryFailure() {
+        when(fetcher.supports(sourceEndpoint)).thenReturn(true);
+
+        RawArticle raw = RawArticle.builder().externalUrl("https://example.com/a").sourceItemId("a").build();
+        // Behaves like a conditional GET: stored validators short-circuit to an empty result.
+        when(fetcher.fetch(sourceEndpoint)).thenAnswer(invocation -> {
+            SourceEndpoint endpoint = invocation.getArgument(0);
+            if (endpoint.getFeedEtag() != null) {
+                return List.of();
+            }
+            endpoint.setFeedEtag("\"v1\"");
+            endpoint.setFeedLastModified("Wed, 18 Dec 2024 10:00:00 GMT");
+            endpoint.setFeedContentHash("hash-v1");
+            return List.of(raw);
+        });
+        when(robotsService.isAllowed("https://example.com/a")).thenReturn(true);
+        when(articleDiscoveryService.shouldSkip(raw)).thenReturn(false);
+
+        Article article = Article.builder().id(1L).build();
+        when(articleDiscoveryService.discoverAll(eq(sourceEndpoint), anyList()))
+                .thenThrow(new RuntimeException("boom"))
+                .thenReturn(List.of(new ArticleDiscoveryService.DiscoveryResult(article, false)));
+
+        EndpointIngestionJob job = new EndpointIngestionJob(
+                sourceEndpointRepository,
+                ingestionLogRepository,
+                List.of(fetcher),
+                articleDiscoveryService,
+                articleEnrichmentService,
+                articleIndexingService,
+                robotsService
+        );
+
+        IngestionStatus first = job.ingestSingleSource(
+                sourceEndpoint, UUID.randomUUID(), null,
+                IngestionLog.builder().sourceEndpoint(sourceEndpoint).build());
+
+        assertThat(first).isEqualTo(IngestionStatus.FAILED);
+        assertThat(sourceEndpoint.getFeedEtag()).isNull();
+        assertThat(sourceEndpoint.getFeedLastModified()).isNull();
+        assertThat(sourceEndpoint.getFeedContentHash()).isNull();
+
+        IngestionStatus second = job.ingestSingleSource(
+                sourceEndpoint, UUID.randomUUID(), null,
+                IngestionLog.builder().sourceEndpoint(sourceEndpoint).build());
+
+        assertThat(second).isEqualTo(IngestionStatus.SUCCESS);
+        verify(articleDiscoveryService, times(2)).discoverAll(eq(sourceEndpoint), eq(List.of(raw)));
+        assertThat(sourceEndpoint.getFeedEtag()).isEqualTo("\"v1\"");
+    }
+
     @Test
     void ingestSingleSource_handlesProcessingFailuresAndSuccesses() {
         when(fetcher.supports(sourceEndpoint)).thenReturn(true);
@@ -656,10 +710,8 @@ class EndpointIngestionJobTest {
         var articleOne = Article.builder().id(10L).build();
         var articleTwo = Article.builder().id(20L).build();
 
-        when(articleDiscoveryService.discover(sourceEndpoint, ok))
-                .thenReturn(new ArticleDiscoveryService.DiscoveryResult(articleOne, true));
-        when(articleDiscoveryService.discover(sourceEndpoint, bad))
-                .thenReturn(new ArticleDiscoveryService.DiscoveryResult(articleTwo, true));
+        discoveries.put(ok, new ArticleDiscoveryService.DiscoveryResult(articleOne, true));
+        discoveries.put(bad, new ArticleDiscoveryService.DiscoveryResult(articleTwo, true));
 
         when(articleEnrichmentService.enrich(articleOne, ok))
                 .thenReturn(new ArticleEnrichmentService.EnrichmentResult(true, "text-1", null));
@@ -700,4 +752,160 @@ class EndpointIngestionJobTest {
 
         verify(sourceEndpointRepository, atLeastOnce()).save(sourceEndpoint);
     }
-}
\ No newline at end of file
+
+    @Test
+    void ingestStopsSchedulingArticlesAfterBlockSignal() {
+        when(fetcher.supports(sourceEndpoint)).thenReturn(true);
+
+        RawArticle first = RawArticle.builder().externalUrl("https://example.com/1").sourceItemId("1").build();
+        RawArticle second = RawArticle.builder().externalUrl("https://example.com/2").sourceItemId("2").build();
+        when(fetcher.fetch(sourceEndpoint)).thenReturn(List.of(first, second));
+        when(robotsService.isAllowed("https://example.com/1")).thenReturn(true);
+
+        when(articleDiscoveryService.shouldSkip(first)).thenReturn(false);
+
+        var article = Article.builder().id(1L).build();
+        discoveries.put(first, new ArticleDiscoveryService.DiscoveryResult(article, true));
+        var secondArticle = Article.builder().id(2L).build();
+        discoveries.put(second, new ArticleDiscoveryService.DiscoveryResult(secondArticle, true));
+
+        ArticleFetchResult fetchResult = ArticleFetchResult.builder().blockedSuspected(true).build();
+        when(articleEnrichmentService.enrich(article, first))
+                .thenReturn(new ArticleEnrichmentService.EnrichmentResult(false, null, fetchResult));
+
+        EndpointIngestionJob job = new EndpointIngestionJob(
+                sourceEndpointRepository,
+                ingestionLogRepository,
+                List.of(fetcher),
+                articleDiscoveryService,
+                articleEnrichmentService,
+                articleIndexingService,
+                robotsService
+        );
+        ReflectionTestUtils.setField(job, "articleConcurrency", 1);
+        ReflectionTestUtils.setField(job, "blockThreshold", 2);
+
+        IngestionStatus status = job.ingestSingleSource(
+                sourceEndpoint,
+                UUID.randomUUID(),
+                null,
+                IngestionLog.builder().sourceEndpoint(sourceEndpoint).build()
+        );
+
+        assertThat(status).isEqualTo(IngestionStatus.FAILED);
+        assertThat(sourceEndpoint.getBlockReason()).isEqualTo("BLOCKED_OR_CAPTCHA");
+        verify(articleEnrichmentService, never()).enrich(secondArticle, second);
+        verify(articleDiscoveryService).releaseDiscovered(List.of(secondArticle));
+        verifyNoInteractions(articleIndexingService);
+    }
+
+    @Test
+    void ingestRollsUpCountsAcrossConcurrentArticles() {
+        when(fetcher.supports(sourceEndpoint)).thenReturn(true);
+
+        List<RawArticle> raws = new java.util.ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            RawArticle raw = RawArticle.builder()
+                    .externalUrl("https://example.com/" + i)
+                    .sourceItemId("item-" + i)
+                    .build();
+            raws.add(raw);
+            var article = Article.builder().id((long) i).build();
+            when(articleDiscoveryService.shouldSkip(raw)).thenReturn(false);
+            discoveries.put(raw, new ArticleDiscoveryService.DiscoveryResult(article, true));
+            when(articleEnrichmentService.enrich(article, raw))
+                    .thenReturn(new ArticleEnrichmentService.EnrichmentResult(true, "text-" + i, null));
+            when(articleIndexingService.index(eq(article), eq("text-" + i), anyString())).thenReturn(i % 3 != 0);
+        }
+        when(fetcher.fetch(sourceEndpoint)).thenReturn(raws);
+        when(robotsService.isAllowed("https://example.com/0")).thenReturn(true);
+
+        EndpointIngestionJob job = new EndpointIngestionJob(
+                sourceEndpointRepository,
+                ingestionLogRepository,
+                List.of(fetcher),
+                articleDiscoveryService,
+                articleEnrichmentService,
+                articleIndexingService,
+                robotsService
+        );
+        ReflectionTestUtils.setField(job, "articleConcurrency", 4);
+
+        IngestionLog logEntry = IngestionLog.builder().sourceEndpoint(sourceEndpoint).build();
+        IngestionStatus status = job.ingestSingleSource(sourceEndpoint, UUID.randomUUID(), null, logEntry);
+
+        assertThat(status).isEqualTo(IngestionStatus.PARTIAL);
+        assertThat(logEntry.getArticlesFetched()).isEqualTo(12);
+        assertThat(logEntry.getArticlesProcessed()).isEqualTo(8);
+        assertThat(logEntry.getArticlesFailed()).isEqualTo(4);
+    }
+
+    @Test
+    void ingestDropsItemsBehindHighWaterMarkAndAdvancesIt() {
+        Instant mark = Instant.parse("2024-06-01T12:00:00Z");
+        sourceEndpoint.setHighWaterPublishedAt(mark);
+        sourceEndpoint.setHighWaterSourceItemId("mark");
+        when(fetcher.supports(sourceEndpoint)).thenReturn(true);
+
+        RawArticle old = RawArticle.builder().externalUrl("https://example.com/old").sourceItemId("old")
+                .publishedDate(mark.minus(Duration.ofDays(1))).build();
+        RawArticle fresh = RawArticle.builder().externalUrl("https://example.com/new").sourceItemId("new")
+                .publishedDate(mark.plus(Duration.ofHours(2))).build();
+        when(fetcher.fetch(sourceEndpoint)).thenReturn(List.of(old, fresh));
+        when(robotsService.isAllowed("https://example.com/new")).thenReturn(true);
+        discoveries.put(fresh, new ArticleDiscoveryService.DiscoveryResult(Article.builder().id(1L).build(), false));
+
+        EndpointIngestionJob job = new EndpointIngestionJob(
+                sourceEndpointRepository,
+                ingestionLogRepository,
+                List.of(fetcher),
+                articleDiscoveryService,
+                articleEnrichmentService,
+                articleIndexingService,
+                robotsService
+        );
+
+        IngestionLog logEntry = IngestionLog.builder().sourceEndpoint(sourceEndpoint).build();
+        IngestionStatus status = job.ingestSingleSource(sourceEndpoint, UUID.randomUUID(), null, logEntry);
+
+        assertThat(status).isEqualTo(IngestionStatus.SUCCESS);
+        assertThat(logEntry.getArticlesFetched()).isEqualTo(1);
+        verify(articleDiscoveryService).discoverAll(sourceEndpoint, List.of(fresh));
+        verify(articleDiscoveryService, never()).shouldSkip(old);
+        assertThat(sourceEndpoint.getHighWaterPublishedAt()).isEqualTo(mark.plus(Duration.ofHours(2)));
+        assertThat(sourceEndpoint.getHighWaterSourceItemId()).isEqualTo("new");
+    }
+
+    @Test
+    void ingestKeepsHighWaterMarkWhenPollStopsEarly() {
+        when(fetcher.supports(sourceEndpoint)).thenReturn(true);
+
+        RawArticle first = RawArticle.builder().externalUrl("https://example.com/1").sourceItemId("1")
+                .publishedDate(Instant.parse("2024-06-01T12:00:00Z")).build();
+        when(fetcher.fetch(sourceEndpoint)).thenReturn(List.of(first));
+        when(robotsService.isAllowed("https://example.com/1")).thenReturn(true);
+
+        var article = Article.builder().id(1L).build();
+        discoveries.put(first, new ArticleDiscoveryService.DiscoveryResult(article, true));
+        ArticleFetchResult fetchResult = ArticleFetchResult.builder().blockedSuspected(true).build();
+        when(articleEnrichmentService.enrich(article, first))
+                .thenReturn(new ArticleEnrichmentService.EnrichmentResult(false, null, fetchResult));
+
+        EndpointIngestionJob job = new EndpointIngestionJob(
+                sourceEndpointRepository,
+                ingestionLogRepository,
+                List.of(fetcher),
+                articleDiscoveryService,
+                articleEnrichmentService,
+                articleIndexingService,
+                robotsService
+        );
+
+        ReflectionTestUtils.setField(job, "blockThreshold", 2);
+
+        job.ingestSingleSource(sourceEndpoint, UUID.randomUUID(), null,
+                IngestionLog.builder().sourceEndpoint(sourceEndpoint).build());
+
+        assertThat(sourceEndpoint.getHighWaterPublishedAt()).isNull();
+    }
+}
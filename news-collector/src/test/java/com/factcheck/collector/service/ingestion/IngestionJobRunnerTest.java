@@ -1,12 +1,12 @@
 package com.factcheck.collector.service.ingestion;
 
-import com.factcheck.collector.domain.entity.IngestionLog;
 import com.factcheck.collector.domain.entity.IngestionRun;
 import com.factcheck.collector.domain.entity.SourceEndpoint;
 import com.factcheck.collector.domain.enums.IngestionRunStatus;
-import com.factcheck.collector.domain.enums.IngestionStatus;
 import com.factcheck.collector.dto.IngestionRunStartResponse;
+import com.factcheck.collector.dto.IngestionTaskRequest;
 import com.factcheck.collector.exception.IngestionRunAlreadyRunningException;
+import com.factcheck.collector.integration.tasks.TaskEnqueueResult;
 import com.factcheck.collector.integration.tasks.TaskPublisher;
 import com.factcheck.collector.repository.IngestionLogRepository;
 import com.factcheck.collector.repository.IngestionRunRepository;
@@ -31,6 +31,9 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -116,12 +119,20 @@ class IngestionJobRunnerTest {
                     return run;
                 });
 
+        when(taskPublisher.enqueueIngestionTasks(anyList()))
+                .thenAnswer(inv -> inv.<List<IngestionTaskRequest>>getArgument(0).stream()
+                        .map(TaskEnqueueResult::enqueued)
+                        .toList());
+
         IngestionRunStartResponse response = ingestionJobRunner.startRun(UUID.randomUUID().toString());
 
         assertThat(response.runId()).isEqualTo(5L);
         assertThat(response.tasksEnqueued()).isEqualTo(2);
 
-        verify(taskPublisher, times(2)).enqueueIngestionTask(any());
+        ArgumentCaptor<List<IngestionTaskRequest>> requests = ArgumentCaptor.captor();
+        verify(taskPublisher).enqueueIngestionTasks(requests.capture());
+        assertThat(requests.getValue()).extracting(IngestionTaskRequest::sourceEndpointId).containsExactly(10L, 20L);
+        verify(taskPublisher, never()).enqueueIngestionTask(any());
     }
 
     @Test
@@ -152,19 +163,12 @@ class IngestionJobRunnerTest {
                     return run;
                 });
 
-        IngestionLog secondLog = IngestionLog.builder()
-                .id(200L)
-                .run(IngestionRun.builder().id(5L).status(IngestionRunStatus.RUNNING).build())
-                .sourceEndpoint(second)
-                .status(IngestionStatus.STARTED)
-                .build();
-
-        when(ingestionLogRepository.findByRunIdAndSourceEndpointId(5L, 20L)).thenReturn(Optional.of(secondLog));
-        when(ingestionLogRepository.save(any(IngestionLog.class))).thenAnswer(inv -> inv.getArgument(0));
-
-        doNothing().when(taskPublisher).enqueueIngestionTask(argThat(req -> req.sourceEndpointId().equals(10L)));
-        doThrow(new RuntimeException("broker down"))
-                .when(taskPublisher).enqueueIngestionTask(argThat(req -> req.sourceEndpointId().equals(20L)));
+        when(taskPublisher.enqueueIngestionTasks(anyList()))
+                .thenAnswer(inv -> inv.<List<IngestionTaskRequest>>getArgument(0).stream()
+                        .map(req -> req.sourceEndpointId().equals(10L)
+                                ? TaskEnqueueResult.enqueued(req)
+                                : TaskEnqueueResult.failed(req, "broker down"))
+                        .toList());
 
         IngestionRunStartResponse response = ingestionJobRunner.startRun(UUID.randomUUID().toString());
 
@@ -172,12 +176,11 @@ class IngestionJobRunnerTest {
         assertThat(response.tasksEnqueued()).isEqualTo(1);
         assertThat(response.status()).isEqualTo(IngestionRunStatus.RUNNING.name());
 
-        ArgumentCaptor<IngestionLog> logCaptor = ArgumentCaptor.forClass(IngestionLog.class);
-        verify(ingestionLogRepository, atLeastOnce()).save(logCaptor.capture());
-        IngestionLog saved = logCaptor.getAllValues().getLast();
-        assertThat(saved.getStatus()).isEqualTo(IngestionStatus.FAILED);
-        assertThat(saved.getErrorDetails()).contains("Enqueue failed before dispatch");
-        assertThat(saved.getCompletedAt()).isNotNull();
+        ArgumentCaptor<String> msg = ArgumentCaptor.forClass(String.class);
+        verify(ingestionLogRepository).failPendingLogsForEndpoints(eq(5L), eq(List.of(20L)), msg.capture());
+        assertThat(msg.getValue()).contains("Enqueue failed before dispatch").contains("broker down");
+        verify(ingestionLogRepository, never()).findByRunIdAndSourceEndpointId(any(), any());
+        verify(ingestionRunRepository).finalizeRunIfComplete(5L);
     }
 
     @Test
@@ -199,13 +202,14 @@ class IngestionJobRunnerTest {
         IngestionRun managed = IngestionRun.builder().id(5L).status(IngestionRunStatus.RUNNING).build();
         when(ingestionRunRepository.findById(5L)).thenReturn(Optional.of(managed));
 
-        doThrow(new RuntimeException("broker down")).when(taskPublisher).enqueueIngestionTask(any());
+        when(taskPublisher.enqueueIngestionTasks(anyList())).thenThrow(new RuntimeException("broker down"));
 
         IngestionRunStartResponse response = ingestionJobRunner.startRun(UUID.randomUUID().toString());
 
         assertThat(response.runId()).isEqualTo(5L);
         assertThat(response.tasksEnqueued()).isEqualTo(0);
         assertThat(response.status()).isEqualTo(IngestionRunStatus.FAILED.name());
+        verify(ingestionLogRepository).failPendingLogsForEndpoints(eq(5L), eq(List.of(10L)), anyString());
 
         ArgumentCaptor<IngestionRun> runCaptor = ArgumentCaptor.forClass(IngestionRun.class);
         verify(ingestionRunRepository, atLeast(2)).save(runCaptor.capture());
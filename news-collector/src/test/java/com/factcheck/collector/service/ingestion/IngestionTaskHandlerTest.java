@@ -21,7 +21,6 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -142,7 +141,6 @@ class IngestionTaskHandlerTest {
         when(ingestionLogRepository.save(any(IngestionLog.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
         when(ingestionLogRepository.claimLog(eq(1L), eq(2L), anyLong())).thenReturn(1);
-        when(ingestionLogRepository.existsByRunIdAndCompletedAtIsNull(1L)).thenReturn(true);
         doNothing().when(entityManager).refresh(logEntry);
 
         handler.handle(new IngestionTaskRequest(1L, 2L, correlationId.toString()));
@@ -196,8 +194,6 @@ class IngestionTaskHandlerTest {
         when(ingestionLogRepository.claimLog(1L, 2L, 120L)).thenReturn(1);
         doNothing().when(entityManager).refresh(logEntry);
 
-        when(ingestionLogRepository.existsByRunIdAndCompletedAtIsNull(1L)).thenReturn(true);
-
         handler.handle(new IngestionTaskRequest(1L, 2L, incoming.toString()));
 
         ArgumentCaptor<UUID> correlationCaptor = ArgumentCaptor.forClass(UUID.class);
@@ -206,12 +202,10 @@ class IngestionTaskHandlerTest {
     }
 
     @Test
-    void handleCompletesRunWhenOnlyIgnoredFailuresPlusSuccess() {
+    void handleFinalizesRunFromCountersAfterJob() {
         UUID correlationId = UUID.randomUUID();
-
         IngestionRun run = IngestionRun.builder().id(1L).status(IngestionRunStatus.RUNNING).correlationId(correlationId).build();
         SourceEndpoint endpoint = SourceEndpoint.builder().id(2L).build();
-
         IngestionLog current = IngestionLog.builder()
                 .id(3L)
                 .run(run)
@@ -221,14 +215,34 @@ class IngestionTaskHandlerTest {
                 .startedAt(Instant.now())
                 .build();
 
-        IngestionLog ignoredFailure = IngestionLog.builder()
-                .id(4L)
+        when(ingestionRunRepository.findById(1L)).thenReturn(Optional.of(run));
+        when(sourceEndpointRepository.findById(2L)).thenReturn(Optional.of(endpoint));
+        when(ingestionLogRepository.findByRunIdAndSourceEndpointId(1L, 2L)).thenReturn(Optional.of(current));
+        when(ingestionLogRepository.claimLog(1L, 2L, 120L)).thenReturn(1);
+        doNothing().when(entityManager).refresh(current);
+        when(ingestionRunRepository.finalizeRunIfComplete(1L)).thenReturn(1);
+
+        handler.handle(new IngestionTaskRequest(1L, 2L, correlationId.toString()));
+
+        var order = inOrder(endpointIngestionJob, ingestionRunRepository);
+        order.verify(endpointIngestionJob).ingestSingleSource(endpoint, correlationId, run, current);
+        order.verify(ingestionRunRepository).finalizeRunIfComplete(1L);
+        verify(ingestionLogRepository, never()).findByRunId(anyLong());
+        verify(ingestionRunRepository, never()).save(any(IngestionRun.class));
+    }
+
+    @Test
+    void handleFinalizesRunAfterMarkingLogFailed() {
+        UUID correlationId = UUID.randomUUID();
+        IngestionRun run = IngestionRun.builder().id(1L).status(IngestionRunStatus.RUNNING).correlationId(correlationId).build();
+        SourceEndpoint endpoint = SourceEndpoint.builder().id(2L).build();
+        IngestionLog current = IngestionLog.builder()
+                .id(3L)
                 .run(run)
-                .sourceEndpoint(SourceEndpoint.builder().id(99L).build())
-                .status(IngestionStatus.FAILED)
-                .errorDetails("Robots.txt disallows scraping for this source")
-                .completedAt(Instant.now())
+                .sourceEndpoint(endpoint)
+                .status(IngestionStatus.STARTED)
                 .correlationId(correlationId)
+                .startedAt(Instant.now())
                 .build();
 
         when(ingestionRunRepository.findById(1L)).thenReturn(Optional.of(run));
@@ -236,25 +250,17 @@ class IngestionTaskHandlerTest {
         when(ingestionLogRepository.findByRunIdAndSourceEndpointId(1L, 2L)).thenReturn(Optional.of(current));
         when(ingestionLogRepository.claimLog(1L, 2L, 120L)).thenReturn(1);
         doNothing().when(entityManager).refresh(current);
-
-        doAnswer(inv -> {
-            current.setStatus(IngestionStatus.SUCCESS);
-            current.setCompletedAt(Instant.now());
-            return null;
-        }).when(endpointIngestionJob).ingestSingleSource(eq(endpoint), eq(correlationId), eq(run), eq(current));
-
-        when(ingestionLogRepository.existsByRunIdAndCompletedAtIsNull(1L)).thenReturn(false);
-        when(ingestionLogRepository.findByRunId(1L)).thenReturn(List.of(current, ignoredFailure));
-
-        when(ingestionRunRepository.save(any(IngestionRun.class))).thenAnswer(inv -> inv.getArgument(0));
+        doThrow(new IllegalStateException("boom"))
+                .when(endpointIngestionJob).ingestSingleSource(endpoint, correlationId, run, current);
+        when(ingestionLogRepository.save(any(IngestionLog.class))).thenAnswer(inv -> inv.getArgument(0));
 
         handler.handle(new IngestionTaskRequest(1L, 2L, correlationId.toString()));
 
-        ArgumentCaptor<IngestionRun> runCaptor = ArgumentCaptor.forClass(IngestionRun.class);
-        verify(ingestionRunRepository, atLeastOnce()).save(runCaptor.capture());
-        IngestionRun finalRun = runCaptor.getAllValues().getLast();
-
-        assertThat(finalRun.getStatus()).isEqualTo(IngestionRunStatus.COMPLETED);
-        assertThat(finalRun.getCompletedAt()).isNotNull();
+        var order = inOrder(ingestionLogRepository, ingestionRunRepository);
+        order.verify(ingestionLogRepository).save(current);
+        order.verify(ingestionRunRepository).finalizeRunIfComplete(1L);
+        assertThat(current.getStatus()).isEqualTo(IngestionStatus.FAILED);
+        assertThat(current.getErrorDetails()).isEqualTo("boom");
+        assertThat(current.getCompletedAt()).isNotNull();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package com.factcheck.collector.service.ingestion;
+
+import com.factcheck.collector.domain.entity.IngestionTask;
+import com.factcheck.collector.dto.IngestionTaskRequest;
+import com.factcheck.collector.repository.IngestionTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngestionTaskWorkerTest {
+
+    @Mock
+    private IngestionTaskRepository repository;
+
+    @Mock
+    private IngestionTaskHandler handler;
+
+    private IngestionTaskWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new IngestionTaskWorker(repository, handler);
+    }
+
+    @Test
+    void runOnceReturnsFalseWhenQueueEmpty() {
+        when(repository.claimNext(anyLong())).thenReturn(Optional.empty());
+
+        assertThat(worker.runOnce()).isFalse();
+
+        verifyNoInteractions(handler);
+    }
+
+    @Test
+    void runOnceHandlesAndCompletesClaimedTask() {
+        when(repository.claimNext(Duration.ofMinutes(35).toSeconds())).thenReturn(Optional.of(task(1)));
+
+        assertThat(worker.runOnce()).isTrue();
+
+        verify(handler).handle(new IngestionTaskRequest(10L, 20L, "corr"));
+        verify(repository).complete(5L, 1);
+    }
+
+    @Test
+    void runOnceDropsInvalidTask() {
+        when(repository.claimNext(anyLong())).thenReturn(Optional.of(task(1)));
+        doThrow(new IllegalArgumentException("bad")).when(handler).handle(any());
+
+        worker.runOnce();
+
+        verify(repository).complete(5L, 1);
+        verify(repository, never()).retryLater(anyLong(), anyInt(), anyLong(), any());
+    }
+
+    @Test
+    void runOnceSchedulesRetryWithBackoff() {
+        when(repository.claimNext(anyLong())).thenReturn(Optional.of(task(2)));
+        doThrow(new IllegalStateException("db down")).when(handler).handle(any());
+
+        worker.runOnce();
+
+        verify(repository).retryLater(5L, 2, 60L, "db down");
+        verify(repository, never()).complete(anyLong(), anyInt());
+    }
+
+    @Test
+    void runOnceParksTaskAfterMaxAttempts() {
+        when(repository.claimNext(anyLong())).thenReturn(Optional.of(task(5)));
+        doThrow(new IllegalStateException("db down")).when(handler).handle(any());
+
+        worker.runOnce();
+
+        verify(repository).markFailed(5L, 5, "db down");
+        verify(repository, never()).retryLater(anyLong(), anyInt(), anyLong(), any());
+    }
+
+    @Test
+    void backoffDoublesAndIsCapped() {
+        assertThat(worker.backoffFor(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(worker.backoffFor(3)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(worker.backoffFor(30)).isEqualTo(Duration.ofMinutes(15));
+    }
+
+    private static IngestionTask task(int attempts) {
+        return IngestionTask.builder()
+                .id(5L)
+                .runId(10L)
+                .sourceEndpointId(20L)
+                .correlationId("corr")
+                .attempts(attempts)
+                .build();
+    }
+}
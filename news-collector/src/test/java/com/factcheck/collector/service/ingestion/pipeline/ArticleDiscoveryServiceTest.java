@@ -7,21 +7,27 @@ import com.factcheck.collector.domain.enums.ArticleStatus;
 import com.factcheck.collector.integration.ingestion.fetcher.RawArticle;
 import com.factcheck.collector.repository.ArticleRepository;
 import com.factcheck.collector.repository.ArticleSourceRepository;
+import com.factcheck.collector.util.HashUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.Instant;
-import java.util.Optional;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,24 +43,24 @@ class ArticleDiscoveryServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new ArticleDiscoveryService(articleRepository, articleSourceRepository);
+        service = new ArticleDiscoveryService(articleRepository, articleSourceRepository, new ObjectMapper());
     }
 
     @Test
-    void discoverSkipsWhenUrlMissing() {
+    void discoverAllSkipsWhenUrlMissing() {
         RawArticle raw = RawArticle.builder().externalUrl(" ").build();
         SourceEndpoint endpoint = SourceEndpoint.builder()
                 .publisher(Publisher.builder().id(1L).name("Pub").build())
                 .build();
 
-        var result = service.discover(endpoint, raw);
+        var results = service.discoverAll(endpoint, List.of(raw));
 
-        assertThat(result).isNull();
-        verify(articleRepository, never()).save(any());
+        assertThat(results).containsExactly((ArticleDiscoveryService.DiscoveryResult) null);
+        verifyNoInteractions(articleRepository, articleSourceRepository);
     }
 
     @Test
-    void discoverSkipsWhenSourceItemAlreadyExists() {
+    void discoverAllSkipsWhenSourceItemAlreadyExists() {
         SourceEndpoint endpoint = SourceEndpoint.builder()
                 .publisher(Publisher.builder().id(1L).name("Pub").build())
                 .build();
@@ -63,17 +69,17 @@ class ArticleDiscoveryServiceTest {
                 .sourceItemId("item-1")
                 .build();
 
-        when(articleSourceRepository.existsBySourceEndpointAndSourceItemId(endpoint, "item-1"))
-                .thenReturn(true);
+        when(articleSourceRepository.findExistingSourceItemIds(endpoint, Set.of("item-1")))
+                .thenReturn(List.of("item-1"));
 
-        var result = service.discover(endpoint, raw);
+        var results = service.discoverAll(endpoint, List.of(raw));
 
-        assertThat(result).isNull();
-        verify(articleRepository, never()).save(any());
+        assertThat(results).containsExactly((ArticleDiscoveryService.DiscoveryResult) null);
+        verifyNoInteractions(articleRepository);
     }
 
     @Test
-    void discoverCreatesArticleAndLinkForNewItem() {
+    void discoverAllCreatesArticleAndLinkForNewItem() throws Exception {
         Publisher publisher = Publisher.builder().id(1L).name("Pub").build();
         SourceEndpoint endpoint = SourceEndpoint.builder()
                 .id(2L)
@@ -85,32 +91,35 @@ class ArticleDiscoveryServiceTest {
                 .description("Desc")
                 .publishedDate(Instant.parse("2024-01-01T00:00:00Z"))
                 .build();
+        String hash = HashUtils.sha256Hex("https://example.com/a");
 
-        when(articleSourceRepository.existsBySourceEndpointAndSourceItemId(endpoint, "https://example.com/a"))
-                .thenReturn(false);
-        when(articleRepository.findByPublisherAndCanonicalUrlHash(any(), any()))
-                .thenReturn(Optional.empty());
-        when(articleRepository.save(any(Article.class)))
-                .thenAnswer(invocation -> {
-                    Article saved = invocation.getArgument(0);
-                    saved.setId(10L);
-                    return saved;
-                });
+        when(articleSourceRepository.findExistingSourceItemIds(endpoint, Set.of("https://example.com/a")))
+                .thenReturn(List.of());
+        when(articleRepository.findByPublisherAndCanonicalUrlHashIn(publisher, Set.of(hash)))
+                .thenReturn(List.of());
+        when(articleRepository.insertDiscovered(eq(1L), eq(2L), anyString()))
+                .thenReturn(List.of(inserted(10L, hash)));
 
-        var result = service.discover(endpoint, raw);
+        var results = service.discoverAll(endpoint, List.of(raw));
 
-        assertThat(result).isNotNull();
+        assertThat(results).hasSize(1);
+        var result = results.getFirst();
         assertThat(result.isNew()).isTrue();
+        assertThat(result.article().getId()).isEqualTo(10L);
         assertThat(result.article().getStatus()).isEqualTo(ArticleStatus.DISCOVERED);
-
-        ArgumentCaptor<Article> articleCaptor = ArgumentCaptor.forClass(Article.class);
-        verify(articleRepository).save(articleCaptor.capture());
-        assertThat(articleCaptor.getValue().getCanonicalUrl()).isEqualTo("https://example.com/a");
-        assertThat(articleCaptor.getValue().getTitle()).isEqualTo("Title");
+        assertThat(result.article().getTitle()).isEqualTo("Title");
+
+        ArgumentCaptor<String> rows = ArgumentCaptor.forClass(String.class);
+        verify(articleRepository).insertDiscovered(eq(1L), eq(2L), rows.capture());
+        var row = new ObjectMapper().readTree(rows.getValue()).get(0);
+        assertThat(row.get("article_id").isNull()).isTrue();
+        assertThat(row.get("canonical_url").asText()).isEqualTo("https://example.com/a");
+        assertThat(row.get("source_item_id").asText()).isEqualTo("https://example.com/a");
+        assertThat(row.get("published_date").asText()).isEqualTo("2024-01-01T00:00:00Z");
     }
 
     @Test
-    void discoverUpdatesExistingArticle() {
+    void discoverAllLinksExistingArticleAndTouchesLastSeen() throws Exception {
         Publisher publisher = Publisher.builder().id(1L).name("Pub").build();
         SourceEndpoint endpoint = SourceEndpoint.builder()
                 .id(2L)
@@ -120,28 +129,63 @@ class ArticleDiscoveryServiceTest {
                 .externalUrl("https://example.com/a")
                 .sourceItemId("item-1")
                 .build();
+        String hash = HashUtils.sha256Hex("https://example.com/a");
 
         Article existing = Article.builder()
                 .id(5L)
                 .publisher(publisher)
                 .canonicalUrl("https://example.com/a")
-                .canonicalUrlHash("hash")
+                .canonicalUrlHash(hash)
                 .title("Old")
                 .status(ArticleStatus.DISCOVERED)
                 .build();
 
-        when(articleSourceRepository.existsBySourceEndpointAndSourceItemId(endpoint, "item-1"))
-                .thenReturn(false);
-        when(articleRepository.findByPublisherAndCanonicalUrlHash(any(), any()))
-                .thenReturn(Optional.of(existing));
-        when(articleRepository.save(any(Article.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(articleSourceRepository.findExistingSourceItemIds(endpoint, Set.of("item-1")))
+                .thenReturn(List.of());
+        when(articleRepository.findByPublisherAndCanonicalUrlHashIn(publisher, Set.of(hash)))
+                .thenReturn(List.of(existing));
+        when(articleRepository.insertDiscovered(eq(1L), eq(2L), anyString()))
+                .thenReturn(List.of());
+
+        var results = service.discoverAll(endpoint, List.of(raw));
+
+        assertThat(results.getFirst().isNew()).isFalse();
+        assertThat(results.getFirst().article()).isSameAs(existing);
+        verify(articleRepository).touchLastSeen(eq(List.of(5L)), any(Instant.class));
 
-        var result = service.discover(endpoint, raw);
+        ArgumentCaptor<String> rows = ArgumentCaptor.forClass(String.class);
+        verify(articleRepository).insertDiscovered(eq(1L), eq(2L), rows.capture());
+        assertThat(new ObjectMapper().readTree(rows.getValue()).get(0).get("article_id").asLong()).isEqualTo(5L);
+    }
 
-        assertThat(result).isNotNull();
-        assertThat(result.isNew()).isFalse();
-        verify(articleRepository).save(existing);
+    @Test
+    void discoverAllResolvesWholeFeedWithOneQueryEach() {
+        Publisher publisher = Publisher.builder().id(1L).name("Pub").build();
+        SourceEndpoint endpoint = SourceEndpoint.builder()
+                .id(2L)
+                .publisher(publisher)
+                .build();
+        RawArticle known = RawArticle.builder().externalUrl("https://example.com/known").sourceItemId("k").title("K").build();
+        RawArticle fresh = RawArticle.builder().externalUrl("https://example.com/new").sourceItemId("n").title("N").build();
+        RawArticle sameUrl = RawArticle.builder().externalUrl("https://example.com/new").sourceItemId("n2").title("N").build();
+        RawArticle repeated = RawArticle.builder().externalUrl("https://example.com/other").sourceItemId("n").title("R").build();
+        String freshHash = HashUtils.sha256Hex("https://example.com/new");
+
+        when(articleSourceRepository.findExistingSourceItemIds(eq(endpoint), anyCollection()))
+                .thenReturn(List.of("k"));
+        when(articleRepository.findByPublisherAndCanonicalUrlHashIn(eq(publisher), anyCollection()))
+                .thenReturn(List.of());
+        when(articleRepository.insertDiscovered(eq(1L), eq(2L), anyString()))
+                .thenReturn(List.of(inserted(20L, freshHash)));
+
+        var results = service.discoverAll(endpoint, List.of(known, fresh, sameUrl, repeated));
+
+        assertThat(results.get(0)).isNull();
+        assertThat(results.get(1).isNew()).isTrue();
+        assertThat(results.get(2).isNew()).isFalse();
+        assertThat(results.get(2).article()).isSameAs(results.get(1).article());
+        assertThat(results.get(3)).isNull();
+        verify(articleRepository, never()).touchLastSeen(any(), any());
     }
 
     @Test
@@ -163,8 +207,9 @@ class ArticleDiscoveryServiceTest {
     }
 
     @Test
-    void discoverReturnsNullWhenDuplicateArticleDetectedAtDbLevel() {
+    void discoverAllReturnsNullWhenDuplicateArticleDetectedAtDbLevel() {
         SourceEndpoint endpoint = SourceEndpoint.builder()
+                .id(2L)
                 .publisher(Publisher.builder().id(1L).name("Pub").build())
                 .build();
         RawArticle raw = RawArticle.builder()
@@ -172,48 +217,57 @@ class ArticleDiscoveryServiceTest {
                 .title("Title")
                 .build();
 
-        when(articleSourceRepository.existsBySourceEndpointAndSourceItemId(endpoint, "https://example.com/a"))
-                .thenReturn(false);
-        when(articleRepository.findByPublisherAndCanonicalUrlHash(any(), any()))
-                .thenReturn(Optional.empty());
-        when(articleRepository.save(any(Article.class)))
-                .thenThrow(new DataIntegrityViolationException("dup"));
+        when(articleSourceRepository.findExistingSourceItemIds(eq(endpoint), anyCollection()))
+                .thenReturn(List.of());
+        when(articleRepository.findByPublisherAndCanonicalUrlHashIn(any(), anyCollection()))
+                .thenReturn(List.of());
+        when(articleRepository.insertDiscovered(eq(1L), eq(2L), anyString()))
+                .thenReturn(List.of());
 
-        var result = service.discover(endpoint, raw);
+        var results = service.discoverAll(endpoint, List.of(raw));
 
-        assertThat(result).isNull();
-        verify(articleSourceRepository, never()).save(any());
+        assertThat(results).containsExactly((ArticleDiscoveryService.DiscoveryResult) null);
     }
 
     @Test
-    void discoverStillReturnsResultWhenArticleSourceLinkDuplicate() {
-        Publisher publisher = Publisher.builder().id(1L).name("Pub").build();
+    void discoverAllSkipsNewArticleWithoutTitle() {
         SourceEndpoint endpoint = SourceEndpoint.builder()
                 .id(2L)
-                .publisher(publisher)
+                .publisher(Publisher.builder().id(1L).name("Pub").build())
                 .build();
         RawArticle raw = RawArticle.builder()
                 .externalUrl("https://example.com/a")
-                .title("Title")
                 .build();
 
-        when(articleSourceRepository.existsBySourceEndpointAndSourceItemId(endpoint, "https://example.com/a"))
-                .thenReturn(false);
-        when(articleRepository.findByPublisherAndCanonicalUrlHash(any(), any()))
-                .thenReturn(Optional.empty());
-        when(articleRepository.save(any(Article.class)))
-                .thenAnswer(invocation -> {
-                    Article saved = invocation.getArgument(0);
-                    saved.setId(10L);
-                    return saved;
-                });
-        when(articleSourceRepository.save(any()))
-                .thenThrow(new DataIntegrityViolationException("dup-link"));
+        when(articleSourceRepository.findExistingSourceItemIds(eq(endpoint), anyCollection()))
+                .thenReturn(List.of());
+        when(articleRepository.findByPublisherAndCanonicalUrlHashIn(any(), anyCollection()))
+                .thenReturn(List.of());
 
-        var result = service.discover(endpoint, raw);
+        var results = service.discoverAll(endpoint, List.of(raw));
 
-        assertThat(result).isNotNull();
-        assertThat(result.isNew()).isTrue();
-        assertThat(result.article().getStatus()).isEqualTo(ArticleStatus.DISCOVERED);
+        assertThat(results).containsExactly((ArticleDiscoveryService.DiscoveryResult) null);
+        verify(articleRepository, never()).insertDiscovered(any(), any(), any());
+    }
+
+    @Test
+    void releaseDiscoveredDeletesArticlesById() {
+        service.releaseDiscovered(List.of(Article.builder().id(3L).build(), Article.builder().id(4L).build()));
+
+        verify(articleRepository).deleteAllByIdInBatch(List.of(3L, 4L));
+    }
+
+    private static ArticleRepository.InsertedArticle inserted(Long id, String hash) {
+        return new ArticleRepository.InsertedArticle() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getCanonicalUrlHash() {
+                return hash;
+            }
+        };
     }
 }
@@ -15,7 +15,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,12 +31,14 @@ class ArticleEnrichmentServiceTest {
     @Mock private ArticleRepository articleRepository;
     @Mock private ArticleContentRepository articleContentRepository;
     @Mock private ArticleContentExtractor contentExtractor;
+    @Mock private PlatformTransactionManager transactionManager;
 
     private ArticleEnrichmentService service;
 
     @BeforeEach
     void setUp() {
-        service = new ArticleEnrichmentService(articleRepository, articleContentRepository, contentExtractor);
+        service = new ArticleEnrichmentService(articleRepository, articleContentRepository, contentExtractor,
+                new TransactionTemplate(transactionManager));
     }
 
     @Test
@@ -97,7 +102,12 @@ class ArticleEnrichmentServiceTest {
 
         assertThat(result.success()).isTrue();
         assertThat(result.extractedText()).isEqualTo("Extracted");
-        verify(contentExtractor).fetchAndExtract("https://example.com/a");
+        // The fetch (and any crawl-slot wait) completes before a transaction is opened.
+        var order = inOrder(contentExtractor, transactionManager, articleRepository);
+        order.verify(contentExtractor).fetchAndExtract("https://example.com/a");
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(articleRepository).getReferenceById(10L);
+        order.verify(transactionManager).commit(any());
     }
 
     @Test
@@ -234,4 +244,109 @@ class ArticleEnrichmentServiceTest {
         assertThat(existing.getExtractedText()).isEqualTo("Provided text");
         assertThat(existing.getExtractedAt()).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void refreshSendsStoredValidatorsAndKeepsContentOnNotModified() {
+        Article input = indexedArticle("\"v1\"", "Tue, 30 Sep 2025 10:00:00 GMT", "old-hash");
+        Article managed = indexedArticle("\"v1\"", "Tue, 30 Sep 2025 10:00:00 GMT", "old-hash");
+        Instant fetchedAt = Instant.parse("2025-10-01T10:00:00Z");
+
+        when(contentExtractor.fetchAndExtract("https://example.com/a", "\"v1\"", "Tue, 30 Sep 2025 10:00:00 GMT"))
+                .thenReturn(ArticleFetchResult.builder()
+                        .fetchedAt(fetchedAt)
+                        .httpStatus(304)
+                        .httpEtag("\"v1\"")
+                        .httpLastModified("Tue, 30 Sep 2025 10:00:00 GMT")
+                        .build());
+        when(articleRepository.getReferenceById(10L)).thenReturn(managed);
+
+        var result = service.refresh(input);
+
+        assertThat(result.outcome()).isEqualTo(ArticleEnrichmentService.RefreshOutcome.NOT_MODIFIED);
+        assertThat(managed.getStatus()).isEqualTo(ArticleStatus.INDEXED);
+        assertThat(managed.getContentFetchedAt()).isEqualTo(fetchedAt);
+        assertThat(managed.getContentHash()).isEqualTo("old-hash");
+        verify(articleRepository).save(managed);
+        verifyNoInteractions(articleContentRepository);
+    }
+
+    @Test
+    void refreshSkipsContentWriteWhenExtractedTextHashIsUnchanged() {
+        String text = "Same article text";
+        Article input = indexedArticle("\"v1\"", null, HashUtils.sha256Hex(text));
+        Article managed = indexedArticle("\"v1\"", null, HashUtils.sha256Hex(text));
+
+        when(contentExtractor.fetchAndExtract("https://example.com/a", "\"v1\"", null))
+                .thenReturn(ArticleFetchResult.builder()
+                        .fetchedAt(Instant.now())
+                        .httpStatus(200)
+                        .httpEtag("\"v2\"")
+                        .extractedText(text)
+                        .build());
+        when(articleRepository.getReferenceById(10L)).thenReturn(managed);
+
+        var result = service.refresh(input);
+
+        assertThat(result.outcome()).isEqualTo(ArticleEnrichmentService.RefreshOutcome.UNCHANGED);
+        assertThat(result.extractedText()).isNull();
+        assertThat(managed.getStatus()).isEqualTo(ArticleStatus.INDEXED);
+        assertThat(managed.getHttpEtag()).isEqualTo("\"v2\"");
+        verifyNoInteractions(articleContentRepository);
+    }
+
+    @Test
+    void refreshStoresNewContentAndReturnsChangedWhenHashDiffers() {
+        Article input = indexedArticle(null, null, "old-hash");
+        Article managed = indexedArticle(null, null, "old-hash");
+
+        when(contentExtractor.fetchAndExtract("https://example.com/a", null, null))
+                .thenReturn(ArticleFetchResult.builder()
+                        .fetchedAt(Instant.now())
+                        .httpStatus(200)
+                        .extractedText("Updated text")
+                        .build());
+        when(articleRepository.getReferenceById(10L)).thenReturn(managed);
+        when(articleContentRepository.findById(10L)).thenReturn(Optional.empty());
+
+        var result = service.refresh(input);
+
+        assertThat(result.outcome()).isEqualTo(ArticleEnrichmentService.RefreshOutcome.CHANGED);
+        assertThat(result.extractedText()).isEqualTo("Updated text");
+        assertThat(managed.getStatus()).isEqualTo(ArticleStatus.EXTRACTED);
+        assertThat(managed.getContentHash()).isEqualTo(HashUtils.sha256Hex("Updated text"));
+        verify(articleContentRepository).save(any(ArticleContent.class));
+    }
+
+    @Test
+    void refreshLeavesIndexedArticleUntouchedOnFetchFailure() {
+        Article input = indexedArticle("\"v1\"", null, "old-hash");
+        Article managed = indexedArticle("\"v1\"", null, "old-hash");
+
+        when(contentExtractor.fetchAndExtract("https://example.com/a", "\"v1\"", null))
+                .thenReturn(ArticleFetchResult.builder()
+                        .fetchedAt(Instant.now())
+                        .httpStatus(503)
+                        .fetchError("Blocked/Rate-limited/CAPTCHA suspected")
+                        .build());
+        when(articleRepository.getReferenceById(10L)).thenReturn(managed);
+
+        var result = service.refresh(input);
+
+        assertThat(result.outcome()).isEqualTo(ArticleEnrichmentService.RefreshOutcome.FAILED);
+        assertThat(managed.getStatus()).isEqualTo(ArticleStatus.INDEXED);
+        assertThat(managed.getFetchError()).isNull();
+        assertThat(managed.getHttpEtag()).isEqualTo("\"v1\"");
+        verifyNoInteractions(articleContentRepository);
+    }
+
+    private Article indexedArticle(String etag, String lastModified, String contentHash) {
+        return Article.builder()
+                .id(10L)
+                .canonicalUrl("https://example.com/a")
+                .httpEtag(etag)
+                .httpLastModified(lastModified)
+                .contentHash(contentHash)
+                .status(ArticleStatus.INDEXED)
+                .build();
+    }
+}
@@ -14,7 +14,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -49,9 +51,9 @@ class ArticleIndexingServiceTest {
         when(articleRepository.findByIdWithPublisherAndMbfc(10L)).thenReturn(Optional.of(resolved));
 
         List<String> chunks = List.of("c1", "c2");
-        List<List<Double>> embeddings = List.of(
-                List.of(0.1d, 0.2d),
-                List.of(0.3d, 0.4d)
+        List<float[]> embeddings = List.of(
+                new float[]{0.1f, 0.2f},
+                new float[]{0.3f, 0.4f}
         );
 
         when(articleProcessingService.createChunks(resolved, "text", "corr"))
@@ -82,9 +84,9 @@ class ArticleIndexingServiceTest {
         when(articleRepository.findByIdWithPublisherAndMbfc(10L)).thenReturn(Optional.of(input));
 
         List<String> chunks = List.of("c1", "c2");
-        List<List<Double>> precomputed = List.of(
-                List.of(0.11d, 0.22d),
-                List.of(0.33d, 0.44d)
+        List<float[]> precomputed = List.of(
+                new float[]{0.11f, 0.22f},
+                new float[]{0.33f, 0.44f}
         );
 
         when(articleProcessingService.createChunks(input, "text", "corr"))
@@ -110,7 +112,7 @@ class ArticleIndexingServiceTest {
         when(articleRepository.findByIdWithPublisherAndMbfc(10L)).thenReturn(Optional.empty());
 
         List<String> chunks = List.of("c1");
-        List<List<Double>> embeddings = List.of(List.of(0.1d));
+        List<float[]> embeddings = List.of(new float[]{0.1f});
 
         when(articleProcessingService.createChunks(input, "text", "corr"))
                 .thenReturn(new ChunkingResult(chunks, null, false));
@@ -133,7 +135,7 @@ class ArticleIndexingServiceTest {
         Article input = Article.builder().build();
 
         List<String> chunks = List.of("c1");
-        List<List<Double>> embeddings = List.of(List.of(0.1d));
+        List<float[]> embeddings = List.of(new float[]{0.1f});
 
         when(articleProcessingService.createChunks(input, "text", "corr"))
                 .thenReturn(new ChunkingResult(chunks, null, false));
@@ -180,4 +182,64 @@ class ArticleIndexingServiceTest {
         verify(articleRepository, never()).save(any());
         verifyNoInteractions(embeddingService, weaviateIndexingService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void reindexEmbedsOnlyNewChunksRewritesMovedOnesAndDeletesStale() {
+        Article input = Article.builder().id(10L).chunkCount(3).weaviateIndexed(true).build();
+        when(articleRepository.findByIdWithPublisherAndMbfc(10L)).thenReturn(Optional.of(input));
+
+        String keptId = WeaviateIndexingService.chunkObjectId(10L, "kept");
+        String movedId = WeaviateIndexingService.chunkObjectId(10L, "moved");
+        String staleId = WeaviateIndexingService.chunkObjectId(10L, "removed");
+        float[] movedVector = {0.2f};
+        float[] insertedVector = {0.9f};
+        Map<String, WeaviateIndexingService.IndexedChunk> existing = new LinkedHashMap<>();
+        existing.put(keptId, new WeaviateIndexingService.IndexedChunk(keptId, 0, new float[]{0.1f}));
+        existing.put(movedId, new WeaviateIndexingService.IndexedChunk(movedId, 1, movedVector));
+        existing.put(staleId, new WeaviateIndexingService.IndexedChunk(staleId, 2, new float[]{0.3f}));
+        existing.put("legacy-positional-id", new WeaviateIndexingService.IndexedChunk("legacy-positional-id", 3, new float[]{0.4f}));
+        when(weaviateIndexingService.getIndexedChunks(10L)).thenReturn(existing);
+
+        List<String> chunks = List.of("kept", "inserted", "moved");
+        when(articleProcessingService.createChunks(input, "text", "corr"))
+                .thenReturn(new ChunkingResult(chunks, null, false));
+        when(embeddingService.embedChunks(List.of("inserted"), "corr")).thenReturn(List.of(insertedVector));
+
+        boolean ok = service.index(input, "text", "corr");
+
+        assertThat(ok).isTrue();
+        verify(embeddingService).embedChunks(List.of("inserted"), "corr");
+        verify(weaviateIndexingService, never()).indexArticleChunks(any(), any(), any(), any());
+        verify(weaviateIndexingService).upsertChunks(input, List.of(
+                new WeaviateIndexingService.ChunkWrite(2, "moved", movedVector),
+                new WeaviateIndexingService.ChunkWrite(1, "inserted", insertedVector)
+        ), "corr");
+        verify(weaviateIndexingService).deleteChunks(List.of(staleId, "legacy-positional-id"), "corr");
+
+        assertThat(input.getChunkCount()).isEqualTo(3);
+        assertThat(input.getStatus()).isEqualTo(ArticleStatus.INDEXED);
+    }
+
+    @Test
+    void reindexSelectsPrecomputedEmbeddingsForNewChunksOnly() {
+        Article input = Article.builder().id(10L).weaviateIndexed(true).build();
+        when(articleRepository.findByIdWithPublisherAndMbfc(10L)).thenReturn(Optional.of(input));
+
+        String keptId = WeaviateIndexingService.chunkObjectId(10L, "kept");
+        when(weaviateIndexingService.getIndexedChunks(10L)).thenReturn(Map.of(
+                keptId, new WeaviateIndexingService.IndexedChunk(keptId, 0, new float[]{0.1f})));
+
+        float[] newVector = {0.6f};
+        when(articleProcessingService.createChunks(input, "text", "corr"))
+                .thenReturn(new ChunkingResult(List.of("kept", "new"), List.of(new float[]{0.5f}, newVector), true));
+
+        boolean ok = service.index(input, "text", "corr");
+
+        assertThat(ok).isTrue();
+        verifyNoInteractions(embeddingService);
+        verify(weaviateIndexingService).upsertChunks(input, List.of(
+                new WeaviateIndexingService.ChunkWrite(1, "new", newVector)
+        ), "corr");
+        verify(weaviateIndexingService).deleteChunks(List.of(), "corr");
+    }
+}
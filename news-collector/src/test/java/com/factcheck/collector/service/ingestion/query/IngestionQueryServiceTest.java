@@ -173,4 +173,31 @@ class IngestionQueryServiceTest {
         assertThat(resp.status()).isNull();
         assertThat(resp.correlationId()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getRunReturnsLiveProgressCounters() {
+        IngestionRun run = IngestionRun.builder()
+                .id(12L)
+                .status(IngestionRunStatus.RUNNING)
+                .correlationId(UUID.randomUUID())
+                .taskCount(10)
+                .pendingCount(4)
+                .successCount(3)
+                .partialCount(1)
+                .failedCount(1)
+                .skippedCount(1)
+                .build();
+
+        when(ingestionRunRepository.findById(12L)).thenReturn(Optional.of(run));
+
+        var resp = service.getRun(12L);
+
+        assertThat(resp.taskCount()).isEqualTo(10);
+        assertThat(resp.pendingCount()).isEqualTo(4);
+        assertThat(resp.successCount()).isEqualTo(3);
+        assertThat(resp.partialCount()).isEqualTo(1);
+        assertThat(resp.failedCount()).isEqualTo(1);
+        assertThat(resp.skippedCount()).isEqualTo(1);
+        verifyNoInteractions(ingestionLogRepository);
+    }
+}
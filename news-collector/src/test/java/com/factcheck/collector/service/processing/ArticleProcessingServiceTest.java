@@ -4,8 +4,11 @@ import com.factcheck.collector.domain.entity.Article;
 import com.factcheck.collector.dto.ChunkingResult;
 import com.factcheck.collector.integration.nlp.NlpServiceClient;
 import com.factcheck.collector.integration.nlp.dto.PreprocessResponse;
+import com.factcheck.collector.integration.nlp.dto.SentenceEmbedRequest;
 import com.factcheck.collector.integration.nlp.dto.SentenceEmbedResponse;
 import com.factcheck.collector.util.SemanticBoundaryDetector;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -13,6 +16,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,7 +34,7 @@ class ArticleProcessingServiceTest {
 
     @Test
     void createChunksNonSemantic_chunksSentencesAndReturnsNoEmbeddings() {
-        ArticleProcessingService service = new ArticleProcessingService(nlpClient, boundaryDetector);
+        ArticleProcessingService service = new ArticleProcessingService(nlpClient, boundaryDetector, memoryOnlyCache());
 
         ReflectionTestUtils.setField(service, "useSemanticChunking", false);
 
@@ -61,7 +66,7 @@ class ArticleProcessingServiceTest {
 
     @Test
     void createChunksSemantic_returnsPrecomputedChunkEmbeddings() {
-        ArticleProcessingService service = new ArticleProcessingService(nlpClient, boundaryDetector);
+        ArticleProcessingService service = new ArticleProcessingService(nlpClient, boundaryDetector, memoryOnlyCache());
 
         ReflectionTestUtils.setField(service, "useSemanticChunking", true);
         ReflectionTestUtils.setField(service, "semanticMinSentences", 1);
@@ -80,15 +85,14 @@ class ArticleProcessingServiceTest {
 
         SentenceEmbedResponse embedResp = new SentenceEmbedResponse();
         embedResp.setEmbeddings(List.of(
-                List.of(1.0d, 0.0d),
-                List.of(0.0d, 1.0d),
-                List.of(1.0d, 1.0d)
+                new float[]{1.0f, 0.0f},
+                new float[]{0.0f, 1.0f},
+                new float[]{1.0f, 1.0f}
         ));
         when(nlpClient.embedSentences(any())).thenReturn(embedResp);
 
-        // split after sentence index 2 (i == 2)
-        when(boundaryDetector.detectBoundaries(eq(preprocessResponse.getSentences()), anyList(), anyDouble()))
-                .thenReturn(List.of(2));
+        // split before sentence index 2
+        when(boundaryDetector.isBoundary(any(), any(), anyDouble())).thenReturn(false, true);
 
         ChunkingResult result = service.createChunks(article, "full text", "cid-123");
 
@@ -99,12 +103,15 @@ class ArticleProcessingServiceTest {
 
         verify(nlpClient).preprocess("full text", "cid-123");
         verify(nlpClient).embedSentences(any());
-        verify(boundaryDetector).detectBoundaries(eq(preprocessResponse.getSentences()), anyList(), anyDouble());
+        verify(boundaryDetector, times(2)).isBoundary(any(), any(), eq(0.65d));
+        assertThat(result.chunks()).containsExactly("S1 S2", "S3");
+        assertThat(result.embeddings().get(0)).containsExactly(0.5f, 0.5f);
+        assertThat(result.embeddings().get(1)).containsExactly(1.0f, 1.0f);
     }
 
     @Test
     void createChunksSemantic_batchesSentenceEmbeddingsWhenTooManySentences() {
-        ArticleProcessingService service = new ArticleProcessingService(nlpClient, boundaryDetector);
+        ArticleProcessingService service = new ArticleProcessingService(nlpClient, boundaryDetector, memoryOnlyCache());
 
         ReflectionTestUtils.setField(service, "useSemanticChunking", true);
         ReflectionTestUtils.setField(service, "semanticMinSentences", 1);
@@ -123,19 +130,114 @@ class ArticleProcessingServiceTest {
 
         SentenceEmbedResponse firstBatch = new SentenceEmbedResponse();
         firstBatch.setEmbeddings(List.of(
-                List.of(1.0d, 0.0d),
-                List.of(0.0d, 1.0d)
+                new float[]{1.0f, 0.0f},
+                new float[]{0.0f, 1.0f}
         ));
         SentenceEmbedResponse secondBatch = new SentenceEmbedResponse();
-        secondBatch.setEmbeddings(List.of(List.of(1.0d, 1.0d)));
+        secondBatch.setEmbeddings(List.of(new float[]{1.0f, 1.0f}));
 
-        when(nlpClient.embedSentences(any())).thenReturn(firstBatch, secondBatch);
-        when(boundaryDetector.detectBoundaries(eq(preprocessResponse.getSentences()), anyList(), anyDouble()))
-                .thenReturn(List.of(2));
+        // Batches are requested concurrently, so match on content rather than call order.
+        when(nlpClient.embedSentences(argThat(r -> r != null && r.getSentences().equals(List.of("S1", "S2")))))
+                .thenReturn(firstBatch);
+        when(nlpClient.embedSentences(argThat(r -> r != null && r.getSentences().equals(List.of("S3")))))
+                .thenReturn(secondBatch);
+        when(boundaryDetector.isBoundary(any(), any(), anyDouble())).thenReturn(false, true);
 
         ChunkingResult result = service.createChunks(article, "full text", "cid-123");
 
         assertThat(result.semanticUsed()).isTrue();
+        assertThat(result.chunks()).containsExactly("S1 S2", "S3");
         verify(nlpClient, times(2)).embedSentences(any());
     }
+
+    @Test
+    void createChunksSemantic_runsBatchesConcurrentlyWithinLimitAndKeepsOrder() {
+        ArticleProcessingService service = new ArticleProcessingService(
+                nlpClient, new SemanticBoundaryDetector(), memoryOnlyCache());
+        semanticSettings(service, 1);
+        ReflectionTestUtils.setField(service, "semanticMaxInFlightPerArticle", 3);
+        ReflectionTestUtils.setField(service, "maxSentences", 1);
+
+        List<String> sentences = List.of("S0", "S1", "S2", "S3", "S4", "S5", "S6", "S7");
+        PreprocessResponse preprocessResponse = new PreprocessResponse();
+        preprocessResponse.setSentences(sentences);
+        when(nlpClient.preprocess("full text", "cid-123")).thenReturn(preprocessResponse);
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(nlpClient.embedSentences(any())).thenAnswer(inv -> {
+            SentenceEmbedRequest req = inv.getArgument(0);
+            int now = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(now, Math::max);
+            try {
+                int idx = Integer.parseInt(req.getSentences().getFirst().substring(1));
+                // Earlier batches finish later, so completion order is reversed.
+                Thread.sleep(40L * (8 - idx));
+                SentenceEmbedResponse resp = new SentenceEmbedResponse();
+                resp.setEmbeddings(List.of(new float[]{idx, 1.0f}));
+                return resp;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        ChunkingResult result = service.createChunks(Article.builder().id(11L).build(), "full text", "cid-123");
+
+        assertThat(result.semanticUsed()).isTrue();
+        assertThat(result.chunks()).containsExactlyElementsOf(sentences);
+        for (int i = 0; i < sentences.size(); i++) {
+            assertThat(result.embeddings().get(i)).containsExactly(i, 1.0f);
+        }
+        assertThat(maxInFlight.get()).isBetween(2, 3);
+    }
+
+    @Test
+    void createChunksSemantic_failedBatchCancelsSiblingsAndFallsBack() {
+        ArticleProcessingService service = new ArticleProcessingService(nlpClient, boundaryDetector, memoryOnlyCache());
+        semanticSettings(service, 1);
+        ReflectionTestUtils.setField(service, "semanticMaxInFlightPerArticle", 4);
+
+        PreprocessResponse preprocessResponse = new PreprocessResponse();
+        preprocessResponse.setSentences(List.of("S0", "S1", "S2", "S3"));
+        when(nlpClient.preprocess("full text", "cid-123")).thenReturn(preprocessResponse);
+
+        AtomicInteger siblingsFinished = new AtomicInteger();
+        when(nlpClient.embedSentences(any())).thenAnswer(inv -> {
+            SentenceEmbedRequest req = inv.getArgument(0);
+            if (req.getSentences().equals(List.of("S0"))) {
+                // Count mismatch: two embeddings for one sentence.
+                Thread.sleep(50);
+                SentenceEmbedResponse resp = new SentenceEmbedResponse();
+                resp.setEmbeddings(List.of(new float[]{1.0f}, new float[]{1.0f}));
+                return resp;
+            }
+            // Siblings are either cancelled before they start or interrupted here.
+            Thread.sleep(10_000);
+            siblingsFinished.incrementAndGet();
+            throw new AssertionError("sibling batch was not cancelled");
+        });
+
+        long started = System.nanoTime();
+        ChunkingResult result = service.createChunks(Article.builder().id(11L).build(), "full text", "cid-123");
+
+        assertThat(result.semanticUsed()).isFalse();
+        assertThat(result.embeddings()).isNull();
+        assertThat(siblingsFinished.get()).isZero();
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    private static void semanticSettings(ArticleProcessingService service, int sentencesPerRequest) {
+        ReflectionTestUtils.setField(service, "useSemanticChunking", true);
+        ReflectionTestUtils.setField(service, "semanticMinSentences", 1);
+        ReflectionTestUtils.setField(service, "semanticMaxSentencesPerRequest", sentencesPerRequest);
+        ReflectionTestUtils.setField(service, "minSentences", 1);
+        ReflectionTestUtils.setField(service, "maxSentences", 100);
+        ReflectionTestUtils.setField(service, "maxTokens", 10000);
+        ReflectionTestUtils.setField(service, "overlapSentences", 0);
+        ReflectionTestUtils.setField(service, "similarityThreshold", 0.65d);
+    }
+
+    private static EmbeddingCache memoryOnlyCache() {
+        return new EmbeddingCache(null, null, new ObjectMapper(), new SimpleMeterRegistry());
+    }
 }
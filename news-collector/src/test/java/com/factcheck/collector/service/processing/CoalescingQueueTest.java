@@ -0,0 +1,121 @@
+package com.factcheck.collector.service.processing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingQueueTest {
+
+    private final List<CoalescingQueue<TestItem>> queues = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        queues.forEach(q -> q.shutdown(new IllegalStateException("closed")));
+    }
+
+    @Test
+    void dispatcherFailureFailsQueuedItemsAndNextSubmitRestartsIt() throws Exception {
+        AtomicBoolean poisoned = new AtomicBoolean(true);
+        CoalescingQueue<TestItem> queue = new CoalescingQueue<>(
+                "test",
+                "test-queue",
+                () -> settings(8, 1, Long.MAX_VALUE),
+                item -> {
+                    if (poisoned.getAndSet(false)) {
+                        throw new IllegalStateException("weigher broke");
+                    }
+                    return 1;
+                },
+                batch -> batch.items().forEach(TestItem::complete),
+                IllegalStateException::new);
+        queues.add(queue);
+
+        TestItem lost = new TestItem();
+        queue.submit(List.of(lost));
+        assertThatThrownBy(() -> lost.future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("test dispatcher stopped")
+                .hasRootCauseMessage("weigher broke");
+
+        TestItem next = new TestItem();
+        assertThat(queue.submit(List.of(next))).isTrue();
+        assertThat(next.future.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void concurrentFailuresShrinkTheLimitOncePerRoundTrip() throws Exception {
+        CountDownLatch allInFlight = new CountDownLatch(4);
+        CountDownLatch release = new CountDownLatch(1);
+        List<CoalescingQueue<TestItem>> self = new ArrayList<>();
+        Consumer<CoalescingQueue.Batch<TestItem>> sender = batch -> {
+            allInFlight.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            self.getFirst().onOverloaded(batch, "busy");
+            batch.items().forEach(TestItem::complete);
+        };
+        // A weight limit of one keeps every item in its own batch.
+        CoalescingQueue<TestItem> queue = new CoalescingQueue<>(
+                "test", "test-queue", () -> settings(64, 4, 1L), item -> 1, sender, IllegalStateException::new);
+        self.add(queue);
+        queues.add(queue);
+
+        List<TestItem> items = List.of(new TestItem(), new TestItem(), new TestItem(), new TestItem());
+        queue.submit(items);
+        assertThat(allInFlight.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+        for (TestItem item : items) {
+            item.future.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(queue.batchLimit()).isEqualTo(32);
+
+        // A batch sent after the decrease reports fresh congestion.
+        TestItem later = new TestItem();
+        queue.submit(List.of(later));
+        later.future.get(5, TimeUnit.SECONDS);
+        assertThat(queue.batchLimit()).isEqualTo(16);
+    }
+
+    private static CoalescingQueue.Settings settings(int maxLimit, int maxInFlight, long maxWeight) {
+        return new CoalescingQueue.Settings(1, maxLimit, 1, 0.5, 0, maxInFlight, 1000, maxWeight);
+    }
+
+    private static final class TestItem implements CoalescingQueue.Item {
+
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        @Override
+        public long enqueuedAt() {
+            return enqueuedAt;
+        }
+
+        @Override
+        public boolean abandoned() {
+            return future.isDone();
+        }
+
+        @Override
+        public void fail(RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+
+        private void complete() {
+            future.complete(true);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.factcheck.collector.service.processing;
+
+import com.factcheck.collector.exception.NlpServiceException;
+import com.factcheck.collector.integration.nlp.NlpServiceClient;
+import com.factcheck.collector.integration.nlp.dto.EmbedRequest;
+import com.factcheck.collector.integration.nlp.dto.EmbedResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmbedRequestCoalescerTest {
+
+    @Mock
+    private NlpServiceClient nlpClient;
+
+    private EmbedRequestCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new EmbedRequestCoalescer(nlpClient, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    void coalescesConcurrentCallersIntoOneRequestAndFansResultsOut() throws Exception {
+        ReflectionTestUtils.setField(coalescer, "lingerMs", 300L);
+        when(nlpClient.embed(any(EmbedRequest.class))).thenAnswer(inv -> echo(inv.getArgument(0)));
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<float[]>>> results = new ArrayList<>();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int a = 0; a < 3; a++) {
+                List<String> texts = List.of(a + "1", a + "2");
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return coalescer.embed(texts, "article-" + texts.getFirst());
+                }));
+            }
+            start.countDown();
+        }
+
+        ArgumentCaptor<EmbedRequest> captor = ArgumentCaptor.forClass(EmbedRequest.class);
+        verify(nlpClient).embed(captor.capture());
+        assertThat(captor.getValue().getTexts()).hasSize(6);
+        assertThat(captor.getValue().getCorrelationId()).startsWith("embed-batch-");
+        for (int a = 0; a < 3; a++) {
+            List<float[]> embeddings = results.get(a).get();
+            assertThat(embeddings.get(0)).containsExactly(a * 10 + 1);
+            assertThat(embeddings.get(1)).containsExactly(a * 10 + 2);
+        }
+    }
+
+    @Test
+    void splitsRequestsLargerThanTheLimitAndKeepsOrder() {
+        ReflectionTestUtils.setField(coalescer, "maxTextsPerRequest", 10);
+        when(nlpClient.embed(any(EmbedRequest.class))).thenAnswer(inv -> echo(inv.getArgument(0)));
+
+        List<String> texts = IntStream.range(0, 25).mapToObj(String::valueOf).toList();
+        List<float[]> embeddings = coalescer.embed(texts, "corr");
+
+        ArgumentCaptor<EmbedRequest> captor = ArgumentCaptor.forClass(EmbedRequest.class);
+        verify(nlpClient, times(3)).embed(captor.capture());
+        assertThat(captor.getAllValues()).extracting(r -> r.getTexts().size()).containsExactly(10, 10, 5);
+        assertThat(captor.getAllValues()).extracting(EmbedRequest::getCorrelationId).containsOnly("corr");
+        for (int i = 0; i < 25; i++) {
+            assertThat(embeddings.get(i)).containsExactly(i);
+        }
+    }
+
+    @Test
+    void overloadHalvesBatchLimitAndFullFastBatchesGrowIt() {
+        when(nlpClient.embed(any(EmbedRequest.class)))
+                .thenThrow(new NlpServiceException("NLP embed failed",
+                        new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)))
+                .thenAnswer(inv -> echo(inv.getArgument(0)));
+
+        assertThatThrownBy(() -> coalescer.embed(List.of("1"), "corr"))
+                .isInstanceOf(NlpServiceException.class);
+        assertThat(coalescer.batchLimit()).isEqualTo(50);
+
+        coalescer.embed(IntStream.range(0, 50).mapToObj(String::valueOf).toList(), "corr");
+        assertThat(coalescer.batchLimit()).isEqualTo(54);
+    }
+
+    @Test
+    void slowResponsesShrinkBatchLimitDownToMinimum() {
+        ReflectionTestUtils.setField(coalescer, "targetLatencyMs", 5L);
+        ReflectionTestUtils.setField(coalescer, "minBatchSize", 30);
+        when(nlpClient.embed(any(EmbedRequest.class))).thenAnswer(inv -> {
+            Thread.sleep(30);
+            return echo(inv.getArgument(0));
+        });
+
+        coalescer.embed(List.of("1"), "corr");
+        assertThat(coalescer.batchLimit()).isEqualTo(50);
+        coalescer.embed(List.of("2"), "corr");
+        assertThat(coalescer.batchLimit()).isEqualTo(30);
+    }
+
+    @Test
+    void failsCallersWhenResponseCountDoesNotMatch() {
+        EmbedResponse shortResponse = new EmbedResponse();
+        shortResponse.setEmbeddings(List.of(new float[]{1.0f}));
+        when(nlpClient.embed(any(EmbedRequest.class))).thenReturn(shortResponse);
+
+        assertThatThrownBy(() -> coalescer.embed(List.of("1", "2"), "corr"))
+                .isInstanceOf(NlpServiceException.class)
+                .hasMessageContaining("expected 2 embeddings, got 1");
+    }
+
+    @Test
+    void callersGiveUpAfterTheCallTimeout() {
+        ReflectionTestUtils.setField(coalescer, "callTimeout", Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        when(nlpClient.embed(any(EmbedRequest.class))).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return echo(inv.getArgument(0));
+        });
+
+        try {
+            assertThatThrownBy(() -> coalescer.embed(List.of("1"), "corr"))
+                    .isInstanceOf(NlpServiceException.class)
+                    .hasMessageContaining("timed out");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static EmbedResponse echo(EmbedRequest request) {
+        EmbedResponse response = new EmbedResponse();
+        response.setEmbeddings(request.getTexts().stream()
+                .map(t -> new float[]{Float.parseFloat(t)})
+                .toList());
+        return response;
+    }
+}
@@ -0,0 +1,209 @@
+package com.factcheck.collector.service.processing;
+
+import com.factcheck.collector.domain.entity.EmbeddingCacheEntry;
+import com.factcheck.collector.integration.nlp.NlpServiceClient;
+import com.factcheck.collector.repository.EmbeddingCacheRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class EmbeddingCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final NlpServiceClient nlpClient = mock(NlpServiceClient.class);
+
+    @Test
+    void getOrLoad_sendsOnlyDistinctMissesAndStitchesInOrder() {
+        when(nlpClient.servedModel()).thenReturn("m1");
+        EmbeddingCache cache = new EmbeddingCache(null, nlpClient, new ObjectMapper(), registry);
+        List<List<String>> loaderCalls = new ArrayList<>();
+
+        cache.getOrLoad("embed", List.of("a"), texts -> {
+            loaderCalls.add(texts);
+            return List.of(new float[]{1.0f});
+        });
+        List<float[]> result = cache.getOrLoad("embed", List.of("b", "  a ", "b", "c"), texts -> {
+            loaderCalls.add(texts);
+            return List.of(new float[]{2.0f}, new float[]{3.0f});
+        });
+
+        assertThat(loaderCalls).containsExactly(List.of("a"), List.of("b", "c"));
+        assertThat(result).containsExactly(new float[]{2.0f}, new float[]{1.0f}, new float[]{2.0f}, new float[]{3.0f});
+        assertThat(registry.get("nlp.embedding.cache.lookups").tag("tier", "memory").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("nlp.embedding.cache.lookups").tag("tier", "miss").counter().count()).isEqualTo(4.0);
+        assertThat(registry.get("nlp.embedding.cache.hit.ratio").gauge().value()).isEqualTo(0.2);
+    }
+
+    @Test
+    void getOrLoad_keysByNamespaceAndServedModel() {
+        when(nlpClient.servedModel()).thenReturn("model-v1");
+        EmbeddingCache cache = new EmbeddingCache(null, nlpClient, new ObjectMapper(), registry);
+        cache.getOrLoad("embed", List.of("a"), texts -> List.of(new float[]{1.0f}));
+
+        List<float[]> otherNamespace = cache.getOrLoad("embed-sentences", List.of("a"), texts -> List.of(new float[]{9.0f}));
+        when(nlpClient.servedModel()).thenReturn("model-v2");
+        List<float[]> otherModel = cache.getOrLoad("embed", List.of("a"), texts -> List.of(new float[]{7.0f}));
+
+        assertThat(otherNamespace).containsExactly(new float[]{9.0f});
+        assertThat(otherModel).containsExactly(new float[]{7.0f});
+    }
+
+    @Test
+    void getOrLoad_readsNothingUntilTheServiceReportsAModel() {
+        when(nlpClient.servedModel()).thenReturn(null, "m1");
+        EmbeddingCache cache = new EmbeddingCache(null, nlpClient, new ObjectMapper(), registry);
+        List<String> loaded = new ArrayList<>();
+
+        cache.getOrLoad("embed", List.of("a"), texts -> {
+            loaded.addAll(texts);
+            return List.of(new float[]{1.0f});
+        });
+        List<float[]> result = cache.getOrLoad("embed", List.of("a"), texts -> {
+            loaded.addAll(texts);
+            return List.of(new float[]{2.0f});
+        });
+
+        // The first load learns the model and is cached under it.
+        assertThat(loaded).containsExactly("a");
+        assertThat(result).containsExactly(new float[]{1.0f});
+    }
+
+    @Test
+    void getOrLoad_readsAndWritesPersistentTier() throws Exception {
+        when(nlpClient.servedModel()).thenReturn("m1");
+        EmbeddingCacheRepository repository = mock(EmbeddingCacheRepository.class);
+        EmbeddingCache cache = persistentCache(repository);
+
+        String storedHash = EmbeddingCache.textHash("stored");
+        when(repository.findByModelIdAndTextHashInAndCreatedAtAfter(eq("embed/m1"), anyCollection(), any()))
+                .thenReturn(List.of(entry(storedHash, 2, new float[]{0.5f, -0.25f})));
+
+        List<float[]> result = cache.getOrLoad("embed", List.of("stored", "fresh"),
+                texts -> List.of(new float[]{0.125f, 1.0f}));
+
+        assertThat(result).containsExactly(new float[]{0.5f, -0.25f}, new float[]{0.125f, 1.0f});
+
+        ArgumentCaptor<String> rows = ArgumentCaptor.forClass(String.class);
+        verify(repository).upsertAll(eq("embed/m1"), rows.capture(), any());
+        JsonNode row = new ObjectMapper().readTree(rows.getValue()).get(0);
+        assertThat(row.path("text_hash").asText()).isEqualTo(EmbeddingCache.textHash("fresh"));
+        assertThat(row.path("dimension").asInt()).isEqualTo(2);
+        assertThat(EmbeddingCache.decode(Base64.getDecoder().decode(row.path("vector").asText())))
+                .containsExactly(0.125f, 1.0f);
+        assertThat(registry.get("nlp.embedding.cache.lookups").tag("tier", "persistent").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void getOrLoad_persistentTierIgnoresExpiredAndWrongDimensionRows() {
+        when(nlpClient.servedModel()).thenReturn("m1");
+        EmbeddingCacheRepository repository = mock(EmbeddingCacheRepository.class);
+        EmbeddingCache cache = persistentCache(repository);
+
+        when(repository.findByModelIdAndTextHashInAndCreatedAtAfter(eq("embed/m1"), anyCollection(), any()))
+                .thenReturn(List.of(entry(EmbeddingCache.textHash("old"), 3, new float[]{1.0f, 2.0f, 3.0f})));
+
+        Instant before = Instant.now();
+        List<float[]> result = cache.getOrLoad("embed", List.of("old"), texts -> List.of(new float[]{4.0f, 5.0f}));
+
+        assertThat(result).containsExactly(new float[]{4.0f, 5.0f});
+        ArgumentCaptor<Instant> createdAfter = ArgumentCaptor.forClass(Instant.class);
+        verify(repository).findByModelIdAndTextHashInAndCreatedAtAfter(eq("embed/m1"), anyCollection(), createdAfter.capture());
+        assertThat(createdAfter.getValue()).isBetween(before.minus(Duration.ofDays(7)).minusSeconds(1), Instant.now().minus(Duration.ofDays(7)));
+        verify(repository).upsertAll(eq("embed/m1"), any(), any());
+    }
+
+    @Test
+    void getOrLoad_purgesExpiredRowsAtMostOncePerInterval() {
+        when(nlpClient.servedModel()).thenReturn("m1");
+        EmbeddingCacheRepository repository = mock(EmbeddingCacheRepository.class);
+        EmbeddingCache cache = persistentCache(repository);
+
+        cache.getOrLoad("embed", List.of("a"), texts -> List.of(new float[]{1.0f, 1.0f}));
+        cache.getOrLoad("embed", List.of("b"), texts -> List.of(new float[]{2.0f, 2.0f}));
+        // Vectors of another dimension are served but never persisted.
+        cache.getOrLoad("embed", List.of("c"), texts -> List.of(new float[]{3.0f}));
+
+        verify(repository, times(2)).upsertAll(eq("embed/m1"), any(), any());
+        verify(repository, times(1)).deleteCreatedBefore(any());
+    }
+
+    @Test
+    void getOrLoad_persistentFailuresFallBackToLoader() {
+        when(nlpClient.servedModel()).thenReturn("m1");
+        EmbeddingCacheRepository repository = mock(EmbeddingCacheRepository.class);
+        EmbeddingCache cache = persistentCache(repository);
+        when(repository.findByModelIdAndTextHashInAndCreatedAtAfter(any(), anyCollection(), any()))
+                .thenThrow(new RuntimeException("db down"));
+        when(repository.upsertAll(any(), any(), any())).thenThrow(new RuntimeException("db down"));
+
+        List<float[]> result = cache.getOrLoad("embed", List.of("x"), texts -> List.of(new float[]{4.0f, 4.0f}));
+
+        assertThat(result).containsExactly(new float[]{4.0f, 4.0f});
+    }
+
+    @Test
+    void getOrLoad_evictsLeastRecentlyUsedBeyondMemoryBudget() {
+        when(nlpClient.servedModel()).thenReturn("m1");
+        EmbeddingCache cache = new EmbeddingCache(null, nlpClient, new ObjectMapper(), registry);
+        ReflectionTestUtils.setField(cache, "maxMemoryBytes", 2L * Float.BYTES);
+        List<String> loaded = new ArrayList<>();
+
+        cache.getOrLoad("embed", List.of("a", "b"), texts -> {
+            loaded.addAll(texts);
+            return List.of(new float[]{1.0f}, new float[]{2.0f});
+        });
+        cache.getOrLoad("embed", List.of("a"), texts -> List.of());
+        cache.getOrLoad("embed", List.of("c"), texts -> {
+            loaded.addAll(texts);
+            return List.of(new float[]{3.0f});
+        });
+        cache.getOrLoad("embed", List.of("a", "b"), texts -> {
+            loaded.addAll(texts);
+            return List.of(new float[]{2.0f});
+        });
+
+        assertThat(loaded).containsExactly("a", "b", "c", "b");
+    }
+
+    @Test
+    void getOrLoad_rejectsLoaderCountMismatch() {
+        EmbeddingCache cache = new EmbeddingCache(null, nlpClient, new ObjectMapper(), registry);
+
+        assertThatThrownBy(() -> cache.getOrLoad("embed", List.of("a", "b"), texts -> List.of(new float[]{1.0f})))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Embedding count mismatch");
+    }
+
+    private EmbeddingCache persistentCache(EmbeddingCacheRepository repository) {
+        EmbeddingCache cache = new EmbeddingCache(repository, nlpClient, new ObjectMapper(), registry);
+        ReflectionTestUtils.setField(cache, "persistentEnabled", true);
+        ReflectionTestUtils.setField(cache, "persistentTtl", Duration.ofDays(7));
+        ReflectionTestUtils.setField(cache, "embeddingDimension", 2);
+        return cache;
+    }
+
+    private static EmbeddingCacheEntry entry(String textHash, int dimension, float[] vector) {
+        return EmbeddingCacheEntry.builder()
+                .modelId("embed/m1")
+                .textHash(textHash)
+                .dimension(dimension)
+                .vector(EmbeddingCache.encode(vector))
+                .build();
+    }
+}
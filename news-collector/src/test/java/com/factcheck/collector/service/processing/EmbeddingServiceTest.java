@@ -3,19 +3,20 @@ package com.factcheck.collector.service.processing;
 import com.factcheck.collector.integration.nlp.NlpServiceClient;
 import com.factcheck.collector.integration.nlp.dto.EmbedRequest;
 import com.factcheck.collector.integration.nlp.dto.EmbedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,23 +26,30 @@ class EmbeddingServiceTest {
     @Mock
     private NlpServiceClient nlpServiceClient;
 
-    @InjectMocks
     private EmbeddingService embeddingService;
 
+    @BeforeEach
+    void setUp() {
+        embeddingService = new EmbeddingService(
+                new EmbeddingCache(null, nlpServiceClient, new ObjectMapper(), new SimpleMeterRegistry()),
+                new EmbedRequestCoalescer(nlpServiceClient, new SimpleMeterRegistry())
+        );
+    }
+
     @Test
     void embedChunksSendsCorrelationIdAndReturnsEmbeddings() {
         List<String> chunks = List.of("first", "second");
 
         EmbedResponse embedResponse = new EmbedResponse();
         embedResponse.setEmbeddings(List.of(
-                List.of(0.1d, 0.2d),
-                List.of(0.3d, 0.4d)
+                new float[]{0.1f, 0.2f},
+                new float[]{0.3f, 0.4f}
         ));
 
         when(nlpServiceClient.embed(any(EmbedRequest.class)))
                 .thenReturn(embedResponse);
 
-        List<List<Double>> embeddings = embeddingService.embedChunks(chunks, "corr-123");
+        List<float[]> embeddings = embeddingService.embedChunks(chunks, "corr-123");
 
         ArgumentCaptor<EmbedRequest> requestCaptor = ArgumentCaptor.forClass(EmbedRequest.class);
         verify(nlpServiceClient).embed(requestCaptor.capture());
@@ -53,15 +61,43 @@ class EmbeddingServiceTest {
     }
 
     @Test
-    void embedChunksRejectsTooManyChunks() {
+    void embedChunksSplitsRequestsOverTheTextLimit() {
         List<String> chunks = java.util.stream.IntStream.range(0, 101)
                 .mapToObj(i -> "chunk-" + i)
                 .toList();
+        when(nlpServiceClient.embed(any(EmbedRequest.class))).thenAnswer(inv -> {
+            EmbedRequest req = inv.getArgument(0);
+            EmbedResponse resp = new EmbedResponse();
+            resp.setEmbeddings(req.getTexts().stream()
+                    .map(t -> new float[]{Float.parseFloat(t.substring("chunk-".length()))})
+                    .toList());
+            return resp;
+        });
+
+        List<float[]> embeddings = embeddingService.embedChunks(chunks, "corr-456");
 
-        assertThatThrownBy(() -> embeddingService.embedChunks(chunks, "corr-456"))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessageContaining("Too many chunks for embedding");
+        ArgumentCaptor<EmbedRequest> requestCaptor = ArgumentCaptor.forClass(EmbedRequest.class);
+        verify(nlpServiceClient, times(2)).embed(requestCaptor.capture());
+        assertThat(requestCaptor.getAllValues()).extracting(r -> r.getTexts().size()).containsExactly(100, 1);
+        assertThat(embeddings).hasSize(101);
+        assertThat(embeddings.get(100)).containsExactly(100.0f);
+    }
 
-        verify(nlpServiceClient, never()).embed(any(EmbedRequest.class));
+    @Test
+    void embedChunksSendsOnlyUncachedTextsOnRepeatCalls() {
+        EmbedResponse first = new EmbedResponse();
+        first.setEmbeddings(List.of(new float[]{0.5f}, new float[]{0.25f}));
+        EmbedResponse second = new EmbedResponse();
+        second.setEmbeddings(List.of(new float[]{0.75f}));
+        when(nlpServiceClient.embed(any(EmbedRequest.class))).thenReturn(first, second);
+        when(nlpServiceClient.servedModel()).thenReturn("text-embedding-005");
+
+        embeddingService.embedChunks(List.of("wire story", "boilerplate"), "corr-1");
+        List<float[]> embeddings = embeddingService.embedChunks(List.of("boilerplate", "new text"), "corr-2");
+
+        ArgumentCaptor<EmbedRequest> requestCaptor = ArgumentCaptor.forClass(EmbedRequest.class);
+        verify(nlpServiceClient, times(2)).embed(requestCaptor.capture());
+        assertThat(requestCaptor.getAllValues().get(1).getTexts()).containsExactly("new text");
+        assertThat(embeddings).containsExactly(new float[]{0.25f}, new float[]{0.75f});
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,167 @@
+package com.factcheck.collector.service.processing;
+
+import com.factcheck.collector.exception.WeaviateException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeaviateBatchWriterTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private WeaviateBatchWriter writer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        writer = new WeaviateBatchWriter(mapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(writer, "baseUrl", "http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void packsObjectsFromSeveralCallersIntoOneBatch() throws Exception {
+        ReflectionTestUtils.setField(writer, "lingerMs", 300L);
+        server.createContext("/v1/batch/objects", exchange -> {
+            requests.add(mapper.readTree(exchange.getRequestBody()));
+            respond(exchange, 200, "[]");
+        });
+        server.start();
+
+        CompletableFuture<Void> first = writer.write(objects("a", 2), "article-1");
+        CompletableFuture<Void> second = writer.write(objects("b", 3), "article-2");
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(requests).hasSize(1);
+        assertThat(requests.getFirst().path("objects")).hasSize(5);
+        assertThat(requests.getFirst().path("objects").get(0).path("class").asText()).isEqualTo("ArticleChunk");
+        assertThat(requests.getFirst().path("objects").get(0).path("vector").get(0).floatValue()).isEqualTo(0.5f);
+    }
+
+    @Test
+    void splitsBatchesByObjectCountAndBytes() throws Exception {
+        ReflectionTestUtils.setField(writer, "maxObjects", 4);
+        ReflectionTestUtils.setField(writer, "lingerMs", 0L);
+        server.createContext("/v1/batch/objects", exchange -> {
+            requests.add(mapper.readTree(exchange.getRequestBody()));
+            respond(exchange, 200, "[]");
+        });
+        server.start();
+
+        writer.write(objects("a", 10), "corr").get(5, TimeUnit.SECONDS);
+        assertThat(requests).extracting(r -> r.path("objects").size()).containsExactlyInAnyOrder(4, 4, 2);
+
+        requests.clear();
+        ReflectionTestUtils.setField(writer, "maxBytes", 200L);
+        writer.write(objects("b", 3), "corr").get(5, TimeUnit.SECONDS);
+        assertThat(requests).extracting(r -> r.path("objects").size()).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    void retriesOnlyObjectsReportedInPerObjectErrors() throws Exception {
+        ReflectionTestUtils.setField(writer, "lingerMs", 0L);
+        AtomicInteger calls = new AtomicInteger();
+        server.createContext("/v1/batch/objects", exchange -> {
+            JsonNode body = mapper.readTree(exchange.getRequestBody());
+            requests.add(body);
+            if (calls.incrementAndGet() == 1) {
+                respond(exchange, 200, """
+                        [
+                          { "id": "a-0", "result": {} },
+                          { "id": "a-1", "result": { "errors": { "error": [ { "message": "shard busy" } ] } } },
+                          { "id": "a-2", "result": {} }
+                        ]
+                        """);
+            } else {
+                respond(exchange, 200, "[]");
+            }
+        });
+        server.start();
+
+        writer.write(objects("a", 3), "corr").get(5, TimeUnit.SECONDS);
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).path("objects")).hasSize(1);
+        assertThat(requests.get(1).path("objects").get(0).path("id").asText()).isEqualTo("a-1");
+    }
+
+    @Test
+    void failsCallerWhenObjectKeepsFailingAndShrinksOnOverload() throws Exception {
+        ReflectionTestUtils.setField(writer, "lingerMs", 0L);
+        AtomicInteger calls = new AtomicInteger();
+        server.createContext("/v1/batch/objects", exchange -> {
+            readAll(exchange);
+            if (calls.incrementAndGet() <= 3) {
+                respond(exchange, 200, """
+                        { "results": [ { "errors": { "error": [ { "message": "invalid object" } ] } } ] }
+                        """);
+            } else {
+                respond(exchange, 503, "busy");
+            }
+        });
+        server.start();
+
+        assertThatThrownBy(() -> writer.write(objects("a", 1), "corr").get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(WeaviateException.class)
+                .hasMessageContaining("invalid object");
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(writer.batchLimit()).isEqualTo(200);
+
+        assertThatThrownBy(() -> writer.write(objects("b", 1), "corr").get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(WeaviateException.class)
+                .hasMessageContaining("Weaviate batch error 503");
+        assertThat(writer.batchLimit()).isEqualTo(100);
+    }
+
+    private static List<WeaviateBatchWriter.BatchObject> objects(String prefix, int count) {
+        List<WeaviateBatchWriter.BatchObject> objects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> props = new LinkedHashMap<>();
+            props.put("text", prefix + " chunk " + i);
+            props.put("chunkIndex", i);
+            objects.add(new WeaviateBatchWriter.BatchObject("ArticleChunk", prefix + "-" + i, props, new float[]{0.5f, 0.25f}));
+        }
+        return objects;
+    }
+
+    private static void readAll(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
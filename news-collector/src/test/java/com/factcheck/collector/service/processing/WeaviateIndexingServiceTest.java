@@ -4,10 +4,14 @@ import com.factcheck.collector.domain.entity.Article;
 import com.factcheck.collector.domain.entity.MbfcSource;
 import com.factcheck.collector.domain.entity.Publisher;
 import com.factcheck.collector.dto.ChunkResult;
+import com.factcheck.collector.dto.SearchFilters;
 import com.factcheck.collector.exception.WeaviateException;
+import com.factcheck.collector.util.HashUtils;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -18,10 +22,15 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -195,13 +204,13 @@ class WeaviateIndexingServiceTest {
 
     @Test
     void indexArticleChunks_validations() {
-        WeaviateIndexingService service = new WeaviateIndexingService(new ObjectMapper());
-        assertThatThrownBy(() -> service.indexArticleChunks(null, List.of("c"), List.of(List.of(0.1)), "cid"))
+        WeaviateIndexingService service = new WeaviateIndexingService(new ObjectMapper(), null);
+        assertThatThrownBy(() -> service.indexArticleChunks(null, List.of("c"), List.of(new float[]{0.1f}), "cid"))
                 .isInstanceOf(WeaviateException.class)
                 .hasMessageContaining("Article with non-null id is required");
 
         Article noId = new Article();
-        assertThatThrownBy(() -> service.indexArticleChunks(noId, List.of("c"), List.of(List.of(0.1)), "cid"))
+        assertThatThrownBy(() -> service.indexArticleChunks(noId, List.of("c"), List.of(new float[]{0.1f}), "cid"))
                 .isInstanceOf(WeaviateException.class)
                 .hasMessageContaining("Article with non-null id is required");
 
@@ -211,7 +220,7 @@ class WeaviateIndexingServiceTest {
         assertThatCode(() -> service.indexArticleChunks(a, List.of(), List.of(), "cid"))
                 .doesNotThrowAnyException();
 
-        assertThatThrownBy(() -> service.indexArticleChunks(a, List.of("c1", "c2"), List.of(List.of(0.1)), "cid"))
+        assertThatThrownBy(() -> service.indexArticleChunks(a, List.of("c1", "c2"), List.of(new float[]{0.1f}), "cid"))
                 .isInstanceOf(WeaviateException.class)
                 .hasMessageContaining("!= embeddings size");
     }
@@ -238,13 +247,15 @@ class WeaviateIndexingServiceTest {
             service.indexArticleChunks(
                     article,
                     List.of("c0"),
-                    List.of(List.of(0.1, 0.2)),
+                    List.of(new float[]{0.1f, 0.2f}),
                     "   "
             );
 
             assertThat(capturedCorrelation.get()).isNotBlank();
 
-            String expectedId0 = UUID.nameUUIDFromBytes("a:10:c:0".getBytes(StandardCharsets.UTF_8)).toString();
+            String expectedId0 = UUID.nameUUIDFromBytes(("a:10:h:" + HashUtils.sha256Hex("c0"))
+                    .getBytes(StandardCharsets.UTF_8)).toString();
+            assertThat(WeaviateIndexingService.chunkObjectId(10L, "c0")).isEqualTo(expectedId0);
             assertThat(capturedBody.get()).contains("\"id\":\"" + expectedId0 + "\"");
 
             assertThat(capturedBody.get()).contains("\"mbfcBias\":\"Left\"");
@@ -269,7 +280,7 @@ class WeaviateIndexingServiceTest {
                     service.indexArticleChunks(
                             article,
                             List.of("c"),
-                            List.of(List.of(0.1, 0.2)),
+                            List.of(new float[]{0.1f, 0.2f}),
                             "cid"
                     )
             ).isInstanceOf(WeaviateException.class)
@@ -293,7 +304,7 @@ class WeaviateIndexingServiceTest {
                     service.indexArticleChunks(
                             article,
                             List.of("c"),
-                            List.of(List.of(0.1, 0.2)),
+                            List.of(new float[]{0.1f, 0.2f}),
                             "cid"
                     )
             ).isInstanceOf(WeaviateException.class)
@@ -326,7 +337,7 @@ class WeaviateIndexingServiceTest {
                     service.indexArticleChunks(
                             article,
                             List.of("c"),
-                            List.of(List.of(0.1, 0.2)),
+                            List.of(new float[]{0.1f, 0.2f}),
                             "cid"
                     )
             ).isInstanceOf(WeaviateException.class)
@@ -338,7 +349,7 @@ class WeaviateIndexingServiceTest {
 
     @Test
     void searchByEmbedding_emptyEmbedding_returnsEmpty_withoutCallingHttp() throws Exception {
-        WeaviateIndexingService service = new WeaviateIndexingService(new ObjectMapper());
+        WeaviateIndexingService service = new WeaviateIndexingService(new ObjectMapper(), null);
         setField(service, "baseUrl", "http://localhost:1");
         setField(service, "articleChunkLimit", 10);
         setField(service, "httpTimeout", Duration.ofSeconds(2));
@@ -437,6 +448,102 @@ class WeaviateIndexingServiceTest {
         }
     }
 
+    @Test
+    void searchByEmbedding_withFilters_sendsWhereOperandInsideNearVectorQuery() throws Exception {
+        AtomicReference<String> capturedBody = new AtomicReference<>("");
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/v1/graphql", exchange -> {
+                capturedBody.set(readBody(exchange));
+                respondJson(exchange, 200, "{ \"data\": { \"Get\": { \"ArticleChunk\": [] } } }");
+            });
+            server.start();
+
+            WeaviateIndexingService service = serviceWithBaseUrl(server, 10);
+            SearchFilters filters = new SearchFilters(
+                    List.of("Reuters", " ", "AP \"News\""),
+                    LocalDateTime.parse("2024-01-01T00:00:00"),
+                    LocalDateTime.parse("2024-02-01T12:00:00"));
+
+            assertThat(service.searchByEmbedding(List.of(0.1, 0.2), 5, 0.0f, filters, "cid")).isEmpty();
+
+            String query = new ObjectMapper().readTree(capturedBody.get()).path("query").asText();
+            assertThat(query)
+                    .contains("where: { operator: And, operands: [")
+                    .contains("{ path: [\"sourceName\"], operator: ContainsAny, valueText: [\"Reuters\", \"AP \\\"News\\\"\"] }")
+                    .contains("operator: GreaterThanEqual, valueDate: \"2024-01-01T00:00:00Z\"")
+                    .contains("operator: LessThanEqual, valueDate: \"2024-02-01T12:00:00Z\"")
+                    .contains("limit: 5");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void searchByEmbedding_onWordTokenizedSourceName_matchesSourceNamesExactly() throws Exception {
+        AtomicReference<String> capturedBody = new AtomicReference<>("");
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/v1/schema", exchange -> respondJson(exchange, 200, """
+                    {
+                      "classes": [
+                        {
+                          "class": "ArticleChunk",
+                          "properties": [
+                            { "name": "sourceName", "tokenization": "word" },
+                            { "name": "mbfcBias" }, { "name": "mbfcFactualReporting" }, { "name": "mbfcCredibility" }
+                          ]
+                        }
+                      ]
+                    }
+                    """));
+            server.createContext("/v1/graphql", exchange -> {
+                capturedBody.set(readBody(exchange));
+                respondJson(exchange, 200, """
+                        {
+                          "data": {
+                            "Get": {
+                              "ArticleChunk": [
+                                { "text": "a", "articleId": 1, "sourceName": "Fox News", "chunkIndex": 0, "_additional": { "distance": 0.1 } },
+                                { "text": "b", "articleId": 2, "sourceName": "Fox News Channel", "chunkIndex": 0, "_additional": { "distance": 0.1 } },
+                                { "text": "c", "articleId": 3, "sourceName": "Reuters", "chunkIndex": 0, "_additional": { "distance": 0.1 } }
+                              ]
+                            }
+                          }
+                        }
+                        """);
+            });
+            server.start();
+
+            WeaviateIndexingService service = serviceWithBaseUrl(server, 10);
+            service.ensureSchema();
+
+            List<ChunkResult> results = service.searchByEmbedding(
+                    List.of(0.1, 0.2), 5, 0.0f, new SearchFilters(List.of("Fox News", " Reuters"), null, null), "cid");
+
+            assertThat(results).extracting(ChunkResult::getSourceName).containsExactly("Fox News", "Reuters");
+            String query = new ObjectMapper().readTree(capturedBody.get()).path("query").asText();
+            assertThat(query)
+                    .contains("where: { operator: Or, operands: ["
+                            + "{ path: [\"sourceName\"], operator: Equal, valueText: \"Fox News\" }, "
+                            + "{ path: [\"sourceName\"], operator: Equal, valueText: \"Reuters\" }] }")
+                    .doesNotContain("ContainsAny");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void buildWhereFilter_omitsEmptyFiltersAndSkipsAndForSingleOperand() {
+        assertThat(WeaviateIndexingService.buildWhereFilter(null, true)).isNull();
+        assertThat(WeaviateIndexingService.buildWhereFilter(new SearchFilters(List.of(" "), null, null), true)).isNull();
+        assertThat(WeaviateIndexingService.buildWhereFilter(
+                new SearchFilters(null, LocalDateTime.parse("2024-03-04T05:06:07"), null), true))
+                .isEqualTo("{ path: [\"publishedDate\"], operator: GreaterThanEqual, valueDate: \"2024-03-04T05:06:07Z\" }");
+    }
+
     @Test
     void getChunksForArticle_ordersAndFiltersBlankText_andRespectsLimit() throws Exception {
         AtomicReference<String> capturedBody = new AtomicReference<>("");
@@ -489,10 +596,197 @@ class WeaviateIndexingServiceTest {
         }
     }
 
+    @Test
+    void chunkObjectId_isContentAddressedPerArticle() {
+        assertThat(WeaviateIndexingService.chunkObjectId(1L, "same text"))
+                .isEqualTo(WeaviateIndexingService.chunkObjectId(1L, "same text"))
+                .isNotEqualTo(WeaviateIndexingService.chunkObjectId(2L, "same text"))
+                .isNotEqualTo(WeaviateIndexingService.chunkObjectId(1L, "other text"));
+    }
+
+    @Test
+    void upsertChunks_writesRepeatedTextOnceAtFirstPosition() throws Exception {
+        AtomicReference<String> capturedBody = new AtomicReference<>("");
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/v1/batch/objects", exchange -> {
+                capturedBody.set(readBody(exchange));
+                respondJson(exchange, 200, "[]");
+            });
+            server.start();
+
+            WeaviateIndexingService service = serviceWithBaseUrl(server, 512);
+            assertThat(service.indexGeneration()).isZero();
+            service.upsertChunks(article(10L), List.of(
+                    new WeaviateIndexingService.ChunkWrite(3, "dup", new float[]{0.1f}),
+                    new WeaviateIndexingService.ChunkWrite(5, "dup", new float[]{0.2f}),
+                    new WeaviateIndexingService.ChunkWrite(4, "other", new float[]{0.3f})
+            ), "corr");
+
+            JsonNode objects = new ObjectMapper().readTree(capturedBody.get()).path("objects");
+            assertThat(objects).hasSize(2);
+            assertThat(service.indexGeneration()).isEqualTo(1);
+            assertThat(objects.get(0).path("properties").path("chunkIndex").asInt()).isEqualTo(3);
+            assertThat(objects.get(1).path("id").asText())
+                    .isEqualTo(WeaviateIndexingService.chunkObjectId(10L, "other"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void getIndexedChunks_parsesIdsIndexesAndVectors() throws Exception {
+        AtomicReference<String> capturedBody = new AtomicReference<>("");
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/v1/graphql", exchange -> {
+                capturedBody.set(readBody(exchange));
+                respondJson(exchange, 200, """
+                        {
+                          "data": {
+                            "Get": {
+                              "ArticleChunk": [
+                                { "chunkIndex": 0, "_additional": { "id": "id-a", "vector": [0.5, 0.25] } },
+                                { "chunkIndex": 1, "_additional": { "id": "id-b" } },
+                                { "chunkIndex": 2, "_additional": { } }
+                              ]
+                            }
+                          }
+                        }
+                        """);
+            });
+            server.start();
+
+            WeaviateIndexingService service = serviceWithBaseUrl(server, 64);
+            Map<String, WeaviateIndexingService.IndexedChunk> indexed = service.getIndexedChunks(9L);
+
+            assertThat(indexed).containsOnlyKeys("id-a", "id-b");
+            assertThat(indexed.get("id-a").vector()).containsExactly(0.5f, 0.25f);
+            assertThat(indexed.get("id-b").chunkIndex()).isEqualTo(1);
+            assertThat(indexed.get("id-b").vector()).isNull();
+            assertThat(capturedBody.get()).contains("valueInt: 9").contains("limit: 64");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void getIndexedChunks_pagesPastTheLimitByChunkIndex() throws Exception {
+        List<String> bodies = Collections.synchronizedList(new ArrayList<>());
+        // id-2b shares chunkIndex 2 with id-2 but falls just past the first page's limit.
+        Map<Integer, String> pages = Map.of(
+                Integer.MIN_VALUE, "[" + hit(0, "id-0") + "," + hit(1, "id-1") + "," + hit(2, "id-2") + "]",
+                2, "[" + hit(2, "id-2b") + "," + hit(2, "id-2") + "," + hit(3, "id-3") + "]",
+                3, "[" + hit(3, "id-3") + "]");
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/v1/graphql", exchange -> {
+                String body = readBody(exchange);
+                bodies.add(body);
+                Matcher m = Pattern.compile("GreaterThanEqual, valueInt: (-?\\d+)").matcher(body);
+                String page = m.find() ? pages.get(Integer.parseInt(m.group(1))) : "[]";
+                respondJson(exchange, 200, "{ \"data\": { \"Get\": { \"ArticleChunk\": " + page + " } } }");
+            });
+            server.start();
+
+            WeaviateIndexingService service = serviceWithBaseUrl(server, 3);
+            Map<String, WeaviateIndexingService.IndexedChunk> indexed = service.getIndexedChunks(9L);
+
+            assertThat(indexed).containsOnlyKeys("id-0", "id-1", "id-2", "id-2b", "id-3");
+            assertThat(indexed.get("id-2b").chunkIndex()).isEqualTo(2);
+            assertThat(bodies).hasSize(3);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void getIndexedChunks_failsWhenAPageCannotAdvance() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/v1/graphql", exchange -> respondJson(exchange, 200,
+                    "{ \"data\": { \"Get\": { \"ArticleChunk\": [" + hit(4, "a") + "," + hit(4, "b") + "] } } }"));
+            server.start();
+
+            WeaviateIndexingService service = serviceWithBaseUrl(server, 2);
+
+            assertThatThrownBy(() -> service.getIndexedChunks(9L))
+                    .isInstanceOf(WeaviateException.class)
+                    .hasMessageContaining("cannot page");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void getIndexedChunks_graphqlErrors_throwsInsteadOfReturningPartialView() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/v1/graphql", exchange ->
+                    respondJson(exchange, 200, "{ \"errors\": [ { \"message\": \"boom\" } ] }"));
+            server.start();
+
+            WeaviateIndexingService service = serviceWithBaseUrl(server, 64);
+
+            assertThatThrownBy(() -> service.getIndexedChunks(9L))
+                    .isInstanceOf(WeaviateException.class)
+                    .hasMessageContaining("GraphQL errors");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void deleteChunks_sendsSingleBatchDeleteByIds_andFailsOnFailedCount() throws Exception {
+        AtomicReference<String> capturedMethod = new AtomicReference<>("");
+        AtomicReference<String> capturedBody = new AtomicReference<>("");
+        AtomicInteger calls = new AtomicInteger();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/v1/batch/objects", exchange -> {
+                capturedMethod.set(exchange.getRequestMethod());
+                capturedBody.set(readBody(exchange));
+                int failed = calls.incrementAndGet() == 1 ? 0 : 1;
+                respondJson(exchange, 200, "{ \"results\": { \"successful\": 2, \"failed\": " + failed + " } }");
+            });
+            server.start();
+
+            WeaviateIndexingService service = serviceWithBaseUrl(server, 512);
+            service.deleteChunks(List.of(), "corr");
+            assertThat(calls.get()).isZero();
+
+            service.deleteChunks(List.of("id-1", "id-2"), "corr");
+
+            assertThat(capturedMethod.get()).isEqualTo("DELETE");
+            JsonNode where = new ObjectMapper().readTree(capturedBody.get()).path("match").path("where");
+            assertThat(where.path("operator").asText()).isEqualTo("ContainsAny");
+            assertThat(where.path("valueTextArray").toString()).isEqualTo("[\"id-1\",\"id-2\"]");
+            assertThat(service.indexGeneration()).isEqualTo(1);
+
+            assertThatThrownBy(() -> service.deleteChunks(List.of("id-3"), "corr"))
+                    .isInstanceOf(WeaviateException.class)
+                    .hasMessageContaining("batch delete failed");
+            assertThat(service.indexGeneration()).isEqualTo(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
     // Helpers
 
+    private static String hit(int chunkIndex, String id) {
+        return "{ \"chunkIndex\": " + chunkIndex + ", \"_additional\": { \"id\": \"" + id + "\" } }";
+    }
+
     private WeaviateIndexingService serviceWithBaseUrl(HttpServer server, int chunkLimit) throws Exception {
-        WeaviateIndexingService service = new WeaviateIndexingService(new ObjectMapper());
+        WeaviateBatchWriter writer = new WeaviateBatchWriter(new ObjectMapper(), new SimpleMeterRegistry());
+        setField(writer, "baseUrl", "http://localhost:" + server.getAddress().getPort());
+        setField(writer, "lingerMs", 0L);
+        WeaviateIndexingService service = new WeaviateIndexingService(new ObjectMapper(), writer);
         setField(service, "baseUrl", "http://localhost:" + server.getAddress().getPort());
         setField(service, "articleChunkLimit", chunkLimit);
         setField(service, "httpTimeout", Duration.ofSeconds(3));
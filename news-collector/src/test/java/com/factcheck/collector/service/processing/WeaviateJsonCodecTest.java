@@ -0,0 +1,133 @@
+package com.factcheck.collector.service.processing;
+
+import com.factcheck.collector.dto.ChunkResult;
+import com.factcheck.collector.exception.WeaviateException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeaviateJsonCodecTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void batchObject_writesPropertiesAndFloatVector() throws Exception {
+        Map<String, Object> props = new LinkedHashMap<>();
+        props.put("text", "say \"hi\"");
+        props.put("articleId", 7L);
+        props.put("chunkIndex", 2);
+        props.put("mbfcBias", null);
+        float[] vector = {0.1f, -2.5f, 3.0E-7f};
+
+        byte[] json = WeaviateJsonCodec.batchObject(mapper.getFactory(),
+                new WeaviateBatchWriter.BatchObject("ArticleChunk", "id-1", props, vector));
+
+        JsonNode node = mapper.readTree(json);
+        assertThat(node.path("class").asText()).isEqualTo("ArticleChunk");
+        assertThat(node.path("id").asText()).isEqualTo("id-1");
+        assertThat(node.path("properties").path("text").asText()).isEqualTo("say \"hi\"");
+        assertThat(node.path("properties").path("articleId").asLong()).isEqualTo(7L);
+        assertThat(node.path("properties").path("mbfcBias").isNull()).isTrue();
+        assertThat(node.path("vector")).hasSize(3);
+        for (int i = 0; i < vector.length; i++) {
+            assertThat(node.path("vector").get(i).floatValue()).isEqualTo(vector[i]);
+        }
+    }
+
+    @Test
+    void readSearch_skipsUnknownFieldsAndKeepsErrors() throws Exception {
+        String body = """
+                {
+                  "errors": [ { "message": "partial" } ],
+                  "data": {
+                    "Get": {
+                      "Other": [ { "text": "ignored" } ],
+                      "ArticleChunk": [
+                        {
+                          "extra": { "nested": [1, 2, { "x": 3 }] },
+                          "text": "kept",
+                          "articleId": 4,
+                          "articleTitle": null,
+                          "publishedDate": "2024-02-03T04:05:06Z",
+                          "chunkIndex": 5,
+                          "_additional": { "id": "a", "distance": 0.25 }
+                        },
+                        { "text": "no distance" }
+                      ]
+                    }
+                  }
+                }
+                """;
+
+        WeaviateJsonCodec.SearchResponse response;
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            response = WeaviateJsonCodec.readSearch(parser, "ArticleChunk", 0.5f);
+        }
+
+        assertThat(response.errors()).contains("partial");
+        assertThat(response.results()).hasSize(1);
+        ChunkResult result = response.results().getFirst();
+        assertThat(result.getText()).isEqualTo("kept");
+        assertThat(result.getArticleId()).isEqualTo(4L);
+        assertThat(result.getArticleTitle()).isEmpty();
+        assertThat(result.getChunkIndex()).isEqualTo(5);
+        assertThat(result.getScore()).isEqualTo(0.75f);
+        assertThat(result.getPublishedDate()).hasYear(2024).hasHour(4);
+    }
+
+    @Test
+    void readIndexedChunks_readsLongVectorsAndFailsOnErrors() throws Exception {
+        String vector = IntStream.range(0, 1000).mapToObj(i -> String.valueOf(i / 1000.0f))
+                .collect(Collectors.joining(","));
+        String body = "{\"data\":{\"Get\":{\"ArticleChunk\":[{\"chunkIndex\":3,\"_additional\":{\"id\":\"x\",\"vector\":["
+                + vector + "]}}]}},\"errors\":[]}";
+
+        List<WeaviateIndexingService.IndexedChunk> indexed = readIndexed(body);
+        assertThat(indexed).hasSize(1);
+        assertThat(indexed.getFirst().id()).isEqualTo("x");
+        assertThat(indexed.getFirst().chunkIndex()).isEqualTo(3);
+        assertThat(indexed.getFirst().vector()).hasSize(1000);
+        assertThat(indexed.getFirst().vector()[999]).isEqualTo(0.999f);
+
+        assertThatThrownBy(() -> readIndexed("{\"errors\":[{\"message\":\"boom\"}]}"))
+                .isInstanceOf(WeaviateException.class)
+                .hasMessageContaining("boom");
+    }
+
+    @Test
+    void readBatchErrors_skipsEchoedObjectsAndReportsPositions() throws Exception {
+        String body = """
+                [
+                  { "id": "a", "properties": { "text": "x" }, "vector": [0.1, 0.2], "result": {} },
+                  { "vector": [0.3], "result": { "errors": { "error": [ { "message": "bad" }, { "message": "worse" } ] } } },
+                  { "id": "c", "errors": { "error": [ {} ] } }
+                ]
+                """;
+
+        List<WeaviateJsonCodec.ObjectError> errors;
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            errors = WeaviateJsonCodec.readBatchErrors(parser);
+        }
+
+        assertThat(errors).containsExactly(
+                new WeaviateJsonCodec.ObjectError(1, null, "bad"),
+                new WeaviateJsonCodec.ObjectError(2, "c", "unknown error"));
+    }
+
+    private List<WeaviateIndexingService.IndexedChunk> readIndexed(String body) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            return WeaviateJsonCodec.readIndexedChunks(parser, "ArticleChunk");
+        }
+    }
+}
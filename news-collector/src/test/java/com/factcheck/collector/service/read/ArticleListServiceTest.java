@@ -0,0 +1,133 @@
+package com.factcheck.collector.service.read;
+
+import com.factcheck.collector.domain.entity.Article;
+import com.factcheck.collector.domain.entity.ArticleSource;
+import com.factcheck.collector.domain.entity.Publisher;
+import com.factcheck.collector.domain.entity.SourceEndpoint;
+import com.factcheck.collector.dto.ArticleListPage;
+import com.factcheck.collector.dto.ArticleMetadataResponse;
+import com.factcheck.collector.repository.ArticleRepository;
+import com.factcheck.collector.repository.ArticleSourceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleListServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleSourceRepository articleSourceRepository;
+
+    @InjectMocks
+    private ArticleListService articleListService;
+
+    private final Publisher publisher = Publisher.builder().id(5L).name("Demo Publisher").build();
+
+    @Test
+    void listLatestFetchesOneExtraRowAndReturnsCursorForLastItem() {
+        Article newest = article(3L, Instant.parse("2024-01-03T00:00:00Z"));
+        Article older = article(2L, Instant.parse("2024-01-02T00:00:00.123456789Z"));
+        Article lookAhead = article(1L, Instant.parse("2024-01-01T00:00:00Z"));
+        SourceEndpoint endpoint = SourceEndpoint.builder().id(12L).publisher(publisher).displayName("Demo RSS").build();
+
+        when(articleRepository.findLatest(PageRequest.of(0, 3))).thenReturn(List.of(newest, older, lookAhead));
+        when(articleSourceRepository.findByArticleIdsLatestFirst(List.of(3L, 2L))).thenReturn(List.of(
+                ArticleSource.builder().article(newest).sourceEndpoint(endpoint).sourceItemId("latest").build(),
+                ArticleSource.builder().article(newest).sourceEndpoint(
+                        SourceEndpoint.builder().id(99L).displayName("Older").build()).sourceItemId("old").build()
+        ));
+
+        ArticleListPage page = articleListService.listLatest(2, null);
+
+        assertThat(page.items()).extracting(ArticleMetadataResponse::id).containsExactly(3L, 2L);
+        assertThat(page.items().get(0).sourceEndpointName()).isEqualTo("Demo RSS");
+        assertThat(page.items().get(1).sourceEndpointId()).isNull();
+
+        ArticleCursor cursor = ArticleCursor.decode(page.nextCursor());
+        assertThat(cursor).isEqualTo(new ArticleCursor(older.getPublishedDate(), 2L));
+    }
+
+    @Test
+    void cursorSelectsDatedOrUndatedKeysetQuery() {
+        Article older = article(8L, Instant.parse("2024-01-01T00:00:00Z"));
+        Article undated = article(7L, null);
+        when(articleRepository.findLatestAfter(Instant.parse("2024-01-02T00:00:00Z"), 9L, PageRequest.of(0, 51)))
+                .thenReturn(List.of(older));
+        when(articleRepository.findLatestUndatedAfter(Long.MAX_VALUE, PageRequest.of(0, 50)))
+                .thenReturn(List.of(undated));
+        when(articleSourceRepository.findByArticleIdsLatestFirst(List.of(8L, 7L))).thenReturn(List.of());
+
+        ArticleListPage dated = articleListService.listLatest(
+                0, new ArticleCursor(Instant.parse("2024-01-02T00:00:00Z"), 9L).encode());
+
+        assertThat(dated.items()).extracting(ArticleMetadataResponse::id).containsExactly(8L, 7L);
+        assertThat(dated.nextCursor()).isNull();
+
+        when(articleRepository.searchByTitleUndatedAfter("demo", 7L, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        ArticleListPage tail = articleListService.searchByTitle(" demo ", 1, new ArticleCursor(null, 7L).encode());
+
+        assertThat(tail.items()).isEmpty();
+        assertThat(tail.nextCursor()).isNull();
+    }
+
+    @Test
+    void shortDatedTitlePageContinuesIntoUndatedMatches() {
+        Article dated = article(4L, Instant.parse("2024-01-01T00:00:00Z"));
+        Article undated = article(9L, null);
+        Article lookAhead = article(6L, null);
+        when(articleRepository.searchByTitleAfter("demo", Instant.parse("2024-01-02T00:00:00Z"), 5L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(dated));
+        when(articleRepository.searchByTitleUndatedAfter("demo", Long.MAX_VALUE, PageRequest.of(0, 2)))
+                .thenReturn(List.of(undated, lookAhead));
+        when(articleSourceRepository.findByArticleIdsLatestFirst(List.of(4L, 9L))).thenReturn(List.of());
+
+        ArticleListPage page = articleListService.searchByTitle(
+                "demo", 2, new ArticleCursor(Instant.parse("2024-01-02T00:00:00Z"), 5L).encode());
+
+        assertThat(page.items()).extracting(ArticleMetadataResponse::id).containsExactly(4L, 9L);
+        assertThat(ArticleCursor.decode(page.nextCursor())).isEqualTo(new ArticleCursor(null, 9L));
+    }
+
+    @Test
+    void rejectsMalformedCursorWithoutQuerying() {
+        assertThatThrownBy(() -> articleListService.listLatest(10, "not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    void blankTitleQueryFallsBackToLatest() {
+        when(articleRepository.findLatest(any())).thenReturn(List.of());
+
+        assertThat(articleListService.searchByTitle("  ", 500, null).items()).isEmpty();
+        verifyNoInteractions(articleSourceRepository);
+    }
+
+    private Article article(long id, Instant publishedDate) {
+        return Article.builder()
+                .id(id)
+                .publisher(publisher)
+                .canonicalUrl("https://example.com/" + id)
+                .canonicalUrlHash("hash-" + id)
+                .title("Article " + id)
+                .publishedDate(publishedDate)
+                .build();
+    }
+}
@@ -1,9 +1,11 @@
 package com.factcheck.collector.service.read;
 
 import com.factcheck.collector.dto.ChunkResult;
+import com.factcheck.collector.dto.SearchFilters;
 import com.factcheck.collector.dto.SearchRequest;
 import com.factcheck.collector.dto.SearchResponse;
 import com.factcheck.collector.service.processing.WeaviateIndexingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -15,6 +17,11 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,14 +35,15 @@ class ArticleSearchServiceTest {
 
     @org.junit.jupiter.api.BeforeEach
     void setUp() {
-        articleSearchService = new ArticleSearchService(weaviateIndexingService);
+        articleSearchService = new ArticleSearchService(weaviateIndexingService, new SearchResultCache(new SimpleMeterRegistry()));
         ReflectionTestUtils.setField(articleSearchService, "embeddingDimension", 3);
     }
 
     @Test
     void searchReturnsResponseWithMetadata() {
         List<Double> embedding = List.of(0.1d, 0.2d, 0.3d);
-        SearchRequest request = new SearchRequest(embedding, 2, 0.5f, null);
+        SearchFilters filters = new SearchFilters(List.of("Source"), LocalDateTime.parse("2024-01-01T00:00:00"), null);
+        SearchRequest request = new SearchRequest(embedding, 2, 0.5f, filters);
 
         List<ChunkResult> results = List.of(
                 ChunkResult.builder()
@@ -50,18 +58,36 @@ class ArticleSearchServiceTest {
                         .build()
         );
 
-        when(weaviateIndexingService.searchByEmbedding(embedding, 2, 0.5f, "corr"))
+        when(weaviateIndexingService.searchByEmbedding(embedding, 2, 0.5f, filters, "corr"))
                 .thenReturn(results);
 
         SearchResponse response = articleSearchService.search(request, "corr");
 
-        verify(weaviateIndexingService).searchByEmbedding(embedding, 2, 0.5f, "corr");
+        verify(weaviateIndexingService).searchByEmbedding(embedding, 2, 0.5f, filters, "corr");
         assertThat(response.results()).containsExactlyElementsOf(results);
         assertThat(response.totalFound()).isEqualTo(1);
         assertThat(response.correlationId()).isEqualTo("corr");
         assertThat(response.executionTimeMs()).isNotNull();
     }
 
+    @Test
+    void repeatedAndNearIdenticalSearchesAreServedFromCacheUntilIndexChanges() {
+        when(weaviateIndexingService.searchByEmbedding(any(), anyInt(), anyFloat(), isNull(), any()))
+                .thenReturn(List.of(ChunkResult.builder().text("Snippet").score(0.9f).build()));
+        when(weaviateIndexingService.indexGeneration()).thenReturn(4L, 4L, 4L, 5L);
+
+        articleSearchService.search(new SearchRequest(List.of(0.1d, 0.2d, 0.3d), 2, 0.5f, null), "a");
+        SearchResponse cached = articleSearchService.search(
+                new SearchRequest(List.of(0.1d, 0.2d, 0.3001d), 2, 0.5f, null), "b");
+        articleSearchService.search(new SearchRequest(List.of(0.1d, 0.2d, 0.3d), 3, 0.5f, null), "c");
+        articleSearchService.search(new SearchRequest(List.of(0.1d, 0.2d, 0.3d), 2, 0.5f, null), "d");
+
+        assertThat(cached.results()).extracting(ChunkResult::getText).containsExactly("Snippet");
+        assertThat(cached.correlationId()).isEqualTo("b");
+        // First search, a different limit, and the repeat after the index generation moved.
+        verify(weaviateIndexingService, times(3)).searchByEmbedding(any(), anyInt(), anyFloat(), isNull(), any());
+    }
+
     @Test
     void searchFailsOnWrongEmbeddingDimension() {
         List<Double> embedding = List.of(0.1d, 0.2d);
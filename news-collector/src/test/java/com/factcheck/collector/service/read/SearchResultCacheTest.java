@@ -0,0 +1,72 @@
+package com.factcheck.collector.service.read;
+
+import com.factcheck.collector.dto.ChunkResult;
+import com.factcheck.collector.dto.SearchFilters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchResultCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SearchResultCache cache = new SearchResultCache(registry);
+
+    private final List<ChunkResult> results = List.of(ChunkResult.builder().text("t").build());
+
+    @Test
+    void keyIgnoresDifferencesBelowInt8ResolutionButNotQueryOptions() {
+        String key = SearchResultCache.key(List.of(0.5, -0.25, 1.0), 10, 0.7f, null);
+
+        assertThat(SearchResultCache.key(List.of(0.5001, -0.2501, 1.0), 10, 0.7f, null)).isEqualTo(key);
+        assertThat(SearchResultCache.key(List.of(0.6, -0.25, 1.0), 10, 0.7f, null)).isNotEqualTo(key);
+        assertThat(SearchResultCache.key(List.of(0.5, -0.25, 1.0), 11, 0.7f, null)).isNotEqualTo(key);
+        assertThat(SearchResultCache.key(List.of(0.5, -0.25, 1.0), 10, 0.8f, null)).isNotEqualTo(key);
+
+        SearchFilters ab = new SearchFilters(List.of("a", "b"), LocalDateTime.parse("2024-01-01T00:00:00"), null);
+        SearchFilters ba = new SearchFilters(List.of(" b", "a"), LocalDateTime.parse("2024-01-01T00:00:00"), null);
+        SearchFilters later = new SearchFilters(List.of("a", "b"), LocalDateTime.parse("2024-01-02T00:00:00"), null);
+        String filtered = SearchResultCache.key(List.of(0.5, -0.25, 1.0), 10, 0.7f, ab);
+        assertThat(filtered).isNotEqualTo(key);
+        assertThat(SearchResultCache.key(List.of(0.5, -0.25, 1.0), 10, 0.7f, ba)).isEqualTo(filtered);
+        assertThat(SearchResultCache.key(List.of(0.5, -0.25, 1.0), 10, 0.7f, later)).isNotEqualTo(filtered);
+    }
+
+    @Test
+    void entriesExpireAndAreDroppedOnNewerGeneration() throws Exception {
+        cache.put("k", 1, results, TimeUnit.MILLISECONDS.toNanos(40));
+
+        assertThat(cache.get("k", 1)).isEqualTo(results);
+        assertThat(cache.get("k", 2)).isNull();
+        assertThat(cache.size()).isZero();
+
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMillis(20));
+        cache.put("k", 2, results, 0);
+        Thread.sleep(40);
+        assertThat(cache.get("k", 2)).isNull();
+
+        assertThat(registry.get("search.cache.lookups").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("search.cache.lookups").tag("result", "miss").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("search.cache.saved.latency").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(40.0);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxEntries() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        cache.put("a", 1, results, 0);
+        cache.put("b", 1, results, 0);
+        cache.get("a", 1);
+        cache.put("c", 1, results, 0);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b", 1)).isNull();
+        assertThat(cache.get("a", 1)).isNotNull();
+        assertThat(cache.get("c", 1)).isNotNull();
+    }
+}
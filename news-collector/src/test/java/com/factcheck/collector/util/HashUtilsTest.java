@@ -35,4 +35,12 @@ class HashUtilsTest {
 
         assertThat(h1).isNotEqualTo(h2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void sha256HexOfBytesMatchesUtf8StringHash() {
+        String text = "héllo";
+
+        assertThat(HashUtils.sha256Hex(text.getBytes(java.nio.charset.StandardCharsets.UTF_8)))
+                .isEqualTo(HashUtils.sha256Hex(text));
+    }
+}
@@ -0,0 +1,90 @@
+package com.factcheck.collector.util;
+
+import com.factcheck.collector.domain.entity.SourceEndpoint;
+import com.factcheck.collector.integration.ingestion.fetcher.RawArticle;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HighWaterMarkUtilsTest {
+
+    private static final Instant MARK = Instant.parse("2024-06-01T12:00:00Z");
+
+    @Test
+    void isBehindIsFalseWithoutMarkOrDate() {
+        SourceEndpoint noMark = SourceEndpoint.builder().build();
+        SourceEndpoint marked = endpointWithMark();
+
+        assertThat(HighWaterMarkUtils.isBehind(noMark, MARK.minusSeconds(3600), "a", Duration.ZERO)).isFalse();
+        assertThat(HighWaterMarkUtils.isBehind(marked, null, "a", Duration.ZERO)).isFalse();
+    }
+
+    @Test
+    void isBehindDropsOlderItemsAndTheMarkItemItself() {
+        SourceEndpoint endpoint = endpointWithMark();
+
+        assertThat(HighWaterMarkUtils.isBehind(endpoint, MARK.minusSeconds(1), "older", Duration.ZERO)).isTrue();
+        assertThat(HighWaterMarkUtils.isBehind(endpoint, MARK, "mark-item", Duration.ZERO)).isTrue();
+        assertThat(HighWaterMarkUtils.isBehind(endpoint, MARK, "same-time-other-item", Duration.ZERO)).isFalse();
+        assertThat(HighWaterMarkUtils.isBehind(endpoint, MARK.plusSeconds(1), "newer", Duration.ZERO)).isFalse();
+    }
+
+    @Test
+    void isBehindKeepsItemsWithinLookback() {
+        SourceEndpoint endpoint = endpointWithMark();
+
+        assertThat(HighWaterMarkUtils.isBehind(endpoint, MARK.minusSeconds(600), "late", Duration.ofHours(1))).isFalse();
+        assertThat(HighWaterMarkUtils.isBehind(endpoint, MARK.minusSeconds(7200), "old", Duration.ofHours(1))).isTrue();
+    }
+
+    @Test
+    void dropBehindFiltersUsingUrlWhenSourceItemIdMissing() {
+        SourceEndpoint endpoint = endpointWithMark();
+        endpoint.setHighWaterSourceItemId("https://example.com/mark");
+        RawArticle markByUrl = RawArticle.builder().externalUrl("https://example.com/mark").publishedDate(MARK).build();
+        RawArticle undated = RawArticle.builder().externalUrl("https://example.com/undated").build();
+
+        assertThat(HighWaterMarkUtils.dropBehind(endpoint, List.of(markByUrl, undated), Duration.ZERO))
+                .containsExactly(undated);
+    }
+
+    @Test
+    void advanceMovesToNewestPastItemOnly() {
+        SourceEndpoint endpoint = endpointWithMark();
+        Instant now = MARK.plusSeconds(3600);
+        List<RawArticle> items = List.of(
+                RawArticle.builder().sourceItemId("a").publishedDate(MARK.plusSeconds(60)).build(),
+                RawArticle.builder().sourceItemId("b").publishedDate(MARK.plusSeconds(120)).build(),
+                RawArticle.builder().sourceItemId("future").publishedDate(now.plusSeconds(86400)).build(),
+                RawArticle.builder().sourceItemId("undated").build()
+        );
+
+        HighWaterMarkUtils.advance(endpoint, items, now);
+
+        assertThat(endpoint.getHighWaterPublishedAt()).isEqualTo(MARK.plusSeconds(120));
+        assertThat(endpoint.getHighWaterSourceItemId()).isEqualTo("b");
+    }
+
+    @Test
+    void advanceNeverMovesBackwards() {
+        SourceEndpoint endpoint = endpointWithMark();
+
+        HighWaterMarkUtils.advance(endpoint,
+                List.of(RawArticle.builder().sourceItemId("old").publishedDate(MARK.minusSeconds(60)).build()),
+                MARK.plusSeconds(3600));
+
+        assertThat(endpoint.getHighWaterPublishedAt()).isEqualTo(MARK);
+        assertThat(endpoint.getHighWaterSourceItemId()).isEqualTo("mark-item");
+    }
+
+    private static SourceEndpoint endpointWithMark() {
+        return SourceEndpoint.builder()
+                .highWaterPublishedAt(MARK)
+                .highWaterSourceItemId("mark-item")
+                .build();
+    }
+}
@@ -13,7 +13,7 @@ class SemanticBoundaryDetectorTest {
 
     @Test
     void detectBoundaries_throwsWhenSentencesNull() {
-        assertThatThrownBy(() -> detector.detectBoundaries(null, List.of(List.of(1.0)), 0.5))
+        assertThatThrownBy(() -> detector.detectBoundaries(null, List.of(new float[]{1.0f}), 0.5))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("sentences and embeddings are required");
     }
@@ -27,7 +27,7 @@ class SemanticBoundaryDetectorTest {
 
     @Test
     void detectBoundaries_throwsWhenSizesMismatch() {
-        assertThatThrownBy(() -> detector.detectBoundaries(List.of("a", "b"), List.of(List.of(1.0)), 0.5))
+        assertThatThrownBy(() -> detector.detectBoundaries(List.of("a", "b"), List.of(new float[]{1.0f}), 0.5))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("sentences.size != embeddings.size");
     }
@@ -35,10 +35,10 @@ class SemanticBoundaryDetectorTest {
     @Test
     void detectBoundaries_addsBoundaryWhenSimilarityBelowThreshold() {
         List<String> sentences = List.of("A", "B", "C");
-        List<List<Double>> embeddings = List.of(
-                List.of(1.0, 0.0),
-                List.of(1.0, 0.0),
-                List.of(0.0, 1.0)
+        List<float[]> embeddings = List.of(
+                new float[]{1.0f, 0.0f},
+                new float[]{1.0f, 0.0f},
+                new float[]{0.0f, 1.0f}
         );
 
         List<Integer> boundaries = detector.detectBoundaries(sentences, embeddings, 0.5);
@@ -48,28 +48,28 @@ class SemanticBoundaryDetectorTest {
 
     @Test
     void cosineSimilarity_throwsWhenVectorsNull() {
-        assertThatThrownBy(() -> detector.cosineSimilarity(null, List.of(1.0)))
+        assertThatThrownBy(() -> detector.cosineSimilarity(null, new float[]{1.0f}))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("vectors are required");
     }
 
     @Test
     void cosineSimilarity_throwsWhenDimensionsMismatch() {
-        assertThatThrownBy(() -> detector.cosineSimilarity(List.of(1.0, 2.0), List.of(1.0)))
+        assertThatThrownBy(() -> detector.cosineSimilarity(new float[]{1.0f, 2.0f}, new float[]{1.0f}))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("vector dimensions must match");
     }
 
     @Test
     void cosineSimilarity_returnsZeroWhenZeroVector() {
-        double result = detector.cosineSimilarity(List.of(0.0, 0.0), List.of(1.0, 0.0));
+        double result = detector.cosineSimilarity(new float[]{0.0f, 0.0f}, new float[]{1.0f, 0.0f});
 
         assertThat(result).isZero();
     }
 
     @Test
     void cosineSimilarity_returnsExpectedValue() {
-        double result = detector.cosineSimilarity(List.of(1.0, 0.0), List.of(1.0, 0.0));
+        double result = detector.cosineSimilarity(new float[]{1.0f, 0.0f}, new float[]{1.0f, 0.0f});
 
         assertThat(result).isEqualTo(1.0);
     }
@@ -0,0 +1,182 @@
+package com.factcheck.collector.util;
+
+import com.factcheck.collector.dto.SemanticChunk;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Property check: the prefix-sum chunker must produce exactly what the original
+ * list-based implementation (kept below as {@link Reference}) produced, for random
+ * sentences, boundaries and limits.
+ */
+class SemanticChunkingEquivalenceTest {
+
+    private static final int CASES = 5_000;
+
+    @Test
+    void matchesReferenceImplementationOnRandomInputs() {
+        Random random = new Random(20240517L);
+
+        for (int c = 0; c < CASES; c++) {
+            List<String> sentences = randomSentences(random);
+            List<Integer> boundaries = randomBoundaries(random, sentences.size());
+            int minSentences = random.nextInt(5);
+            int maxSentences = random.nextInt(12);
+            int maxTokens = random.nextInt(80) - 5;
+            int overlap = random.nextInt(5) - 1;
+
+            List<SemanticChunk> expected = Reference.createSemanticChunks(
+                    sentences, boundaries, minSentences, maxSentences, maxTokens, overlap);
+            List<SemanticChunk> actual = SemanticChunkingUtils.createSemanticChunks(
+                    sentences, boundaries, minSentences, maxSentences, maxTokens, overlap);
+
+            assertThat(actual)
+                    .as("case %d: sentences=%s boundaries=%s min=%d max=%d tokens=%d overlap=%d",
+                            c, sentences, boundaries, minSentences, maxSentences, maxTokens, overlap)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private static List<String> randomSentences(Random random) {
+        int n = random.nextInt(30);
+        List<String> sentences = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            // Include empty sentences: they change separator handling in overlap text.
+            int len = random.nextInt(6) == 0 ? 0 : random.nextInt(60);
+            StringBuilder sb = new StringBuilder(len);
+            for (int k = 0; k < len; k++) {
+                sb.append((char) ('a' + random.nextInt(26)));
+            }
+            sentences.add(sb.toString());
+        }
+        return sentences;
+    }
+
+    private static List<Integer> randomBoundaries(Random random, int n) {
+        if (random.nextInt(10) == 0) return null;
+        int count = random.nextInt(n + 3);
+        List<Integer> boundaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boundaries.add(random.nextInt(n + 4) - 2);
+        }
+        return boundaries;
+    }
+
+    /**
+     * The implementation before the prefix-sum rewrite, verbatim.
+     */
+    private static final class Reference {
+
+        static List<SemanticChunk> createSemanticChunks(
+                List<String> sentences,
+                List<Integer> boundaries,
+                int minSentences,
+                int maxSentences,
+                int maxTokens,
+                int overlapSentences
+        ) {
+            if (sentences == null || sentences.isEmpty()) return List.of();
+            if (boundaries == null) boundaries = List.of();
+
+            var boundarySet = new HashSet<>(boundaries);
+
+            List<SemanticChunk> baseChunks = new ArrayList<>();
+            int start = 0;
+
+            for (int i = 1; i <= sentences.size(); i++) {
+                int sentenceCount = i - start;
+                int tokenEstimate = estimateTokens(sentences, start, i);
+
+                boolean atSemanticBoundary = boundarySet.contains(i);
+                boolean chunkLargeEnough = sentenceCount >= minSentences;
+                boolean tooLarge = sentenceCount >= maxSentences || tokenEstimate > maxTokens;
+
+                if (chunkLargeEnough && (atSemanticBoundary || tooLarge)) {
+                    baseChunks.add(buildChunk(sentences, start, i));
+                    start = i;
+                }
+            }
+
+            if (start < sentences.size()) {
+                baseChunks.add(buildChunk(sentences, start, sentences.size()));
+            }
+
+            if (overlapSentences <= 0 || baseChunks.size() <= 1) {
+                return baseChunks;
+            }
+
+            return applyOverlap(sentences, baseChunks, overlapSentences);
+        }
+
+        private static SemanticChunk buildChunk(List<String> sentences, int startIdx, int endIdx) {
+            StringBuilder sb = new StringBuilder();
+            List<Integer> indices = new ArrayList<>(Math.max(0, endIdx - startIdx));
+
+            for (int i = startIdx; i < endIdx; i++) {
+                if (i > startIdx) sb.append(' ');
+                sb.append(sentences.get(i));
+                indices.add(i);
+            }
+
+            return new SemanticChunk(sb.toString(), startIdx, endIdx, List.copyOf(indices), false, 0);
+        }
+
+        private static List<SemanticChunk> applyOverlap(
+                List<String> sentences,
+                List<SemanticChunk> base,
+                int overlapSentences
+        ) {
+            List<SemanticChunk> out = new ArrayList<>(base.size());
+            out.add(base.get(0));
+
+            for (int i = 1; i < base.size(); i++) {
+                SemanticChunk prev = out.get(i - 1);
+                SemanticChunk cur = base.get(i);
+
+                int overlapStart = Math.max(cur.startSentenceIdx() - overlapSentences, prev.startSentenceIdx());
+                int overlapEnd = cur.startSentenceIdx();
+
+                if (overlapStart >= overlapEnd) {
+                    out.add(cur);
+                    continue;
+                }
+
+                StringBuilder sb = new StringBuilder();
+                List<Integer> newIdx = new ArrayList<>();
+
+                for (int s = overlapStart; s < overlapEnd; s++) {
+                    if (!sb.isEmpty()) sb.append(' ');
+                    sb.append(sentences.get(s));
+                    newIdx.add(s);
+                }
+
+                if (!sb.isEmpty()) sb.append(' ');
+                sb.append(cur.text());
+                newIdx.addAll(cur.sentenceIndices());
+
+                out.add(new SemanticChunk(
+                        sb.toString(),
+                        overlapStart,
+                        cur.endSentenceIdx(),
+                        List.copyOf(newIdx),
+                        true,
+                        overlapEnd - overlapStart
+                ));
+            }
+
+            return out;
+        }
+
+        private static int estimateTokens(List<String> sentences, int start, int end) {
+            int chars = 0;
+            for (int i = start; i < end; i++) chars += sentences.get(i).length();
+            return chars / 4;
+        }
+    }
+}
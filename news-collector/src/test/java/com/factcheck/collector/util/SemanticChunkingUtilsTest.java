@@ -107,9 +107,9 @@ class SemanticChunkingUtilsTest {
 
     @Test
     void aggregateSentenceEmbeddings_returnsEmptyWhenChunksMissing() {
-        assertThat(SemanticChunkingUtils.aggregateSentenceEmbeddings(null, List.of(List.of(1.0))))
+        assertThat(SemanticChunkingUtils.aggregateSentenceEmbeddings(null, List.of(new float[]{1.0f})))
                 .isEmpty();
-        assertThat(SemanticChunkingUtils.aggregateSentenceEmbeddings(List.of(), List.of(List.of(1.0))))
+        assertThat(SemanticChunkingUtils.aggregateSentenceEmbeddings(List.of(), List.of(new float[]{1.0f})))
                 .isEmpty();
     }
 
@@ -125,7 +125,7 @@ class SemanticChunkingUtilsTest {
     @Test
     void aggregateSentenceEmbeddings_throwsWhenChunkHasNoIndices() {
         SemanticChunk chunk = new SemanticChunk("", 0, 0, List.of(), false, 0);
-        List<List<Double>> embeddings = List.of(List.of(1.0));
+        List<float[]> embeddings = List.of(new float[]{1.0f});
 
         assertThatThrownBy(() -> SemanticChunkingUtils.aggregateSentenceEmbeddings(List.of(chunk), embeddings))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -135,7 +135,7 @@ class SemanticChunkingUtilsTest {
     @Test
     void aggregateSentenceEmbeddings_throwsWhenVectorDimensionsMismatch() {
         SemanticChunk chunk = new SemanticChunk("A B", 0, 2, List.of(0, 1), false, 0);
-        List<List<Double>> embeddings = List.of(List.of(1.0, 2.0), List.of(3.0));
+        List<float[]> embeddings = List.of(new float[]{1.0f, 2.0f}, new float[]{3.0f});
 
         assertThatThrownBy(() -> SemanticChunkingUtils.aggregateSentenceEmbeddings(List.of(chunk), embeddings))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -145,11 +145,11 @@ class SemanticChunkingUtilsTest {
     @Test
     void aggregateSentenceEmbeddings_returnsAverageVector() {
         SemanticChunk chunk = new SemanticChunk("A B", 0, 2, List.of(0, 1), false, 0);
-        List<List<Double>> embeddings = List.of(List.of(1.0, 3.0), List.of(3.0, 1.0));
+        List<float[]> embeddings = List.of(new float[]{1.0f, 3.0f}, new float[]{3.0f, 1.0f});
 
-        List<List<Double>> result = SemanticChunkingUtils.aggregateSentenceEmbeddings(List.of(chunk), embeddings);
+        List<float[]> result = SemanticChunkingUtils.aggregateSentenceEmbeddings(List.of(chunk), embeddings);
 
         assertThat(result).hasSize(1);
-        assertThat(result.get(0)).containsExactly(2.0, 2.0);
+        assertThat(result.get(0)).containsExactly(2.0f, 2.0f);
     }
 }
@@ -0,0 +1,94 @@
+package com.factcheck.collector.util;
+
+import com.factcheck.collector.dto.SemanticChunk;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingSemanticChunkerTest {
+
+    private final SemanticBoundaryDetector detector = new SemanticBoundaryDetector();
+
+    @Test
+    void matchesBatchChunkingOnRandomInputs() {
+        Random random = new Random(1337L);
+
+        for (int c = 0; c < 2_000; c++) {
+            int n = random.nextInt(40);
+            List<String> sentences = new ArrayList<>(n);
+            List<float[]> embeddings = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                sentences.add(random.nextInt(6) == 0 ? "" : "s" + i + "x".repeat(random.nextInt(40)));
+                embeddings.add(new float[]{random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, random.nextFloat()});
+            }
+            double threshold = random.nextDouble() * 1.2 - 0.2;
+            int minSentences = random.nextInt(5);
+            int maxSentences = random.nextInt(12);
+            int maxTokens = random.nextInt(60) - 5;
+            int overlap = random.nextInt(5) - 1;
+
+            List<SemanticChunk> expectedChunks = List.of();
+            List<float[]> expectedEmbeddings = List.of();
+            if (n > 0) {
+                expectedChunks = SemanticChunkingUtils.createSemanticChunks(
+                        sentences,
+                        detector.detectBoundaries(sentences, embeddings, threshold),
+                        minSentences, maxSentences, maxTokens, overlap);
+                expectedEmbeddings = SemanticChunkingUtils.aggregateSentenceEmbeddings(expectedChunks, embeddings);
+            }
+
+            List<SemanticChunk> chunks = new ArrayList<>();
+            List<float[]> chunkEmbeddings = new ArrayList<>();
+            StreamingSemanticChunker chunker = new StreamingSemanticChunker(
+                    detector, threshold, minSentences, maxSentences, maxTokens, overlap,
+                    (chunk, embedding) -> {
+                        chunks.add(chunk);
+                        chunkEmbeddings.add(embedding);
+                    });
+            for (int i = 0; i < n; i++) {
+                chunker.accept(sentences.get(i), embeddings.get(i));
+            }
+            chunker.finish();
+
+            assertThat(chunks).as("case %d", c).isEqualTo(expectedChunks);
+            assertThat(chunkEmbeddings).as("case %d", c).hasSameSizeAs(expectedEmbeddings);
+            for (int k = 0; k < chunkEmbeddings.size(); k++) {
+                assertThat(chunkEmbeddings.get(k)).as("case %d chunk %d", c, k).isEqualTo(expectedEmbeddings.get(k));
+            }
+        }
+    }
+
+    @Test
+    void buffersOnlyOpenChunkAndOverlapReach() {
+        List<SemanticChunk> chunks = new ArrayList<>();
+        StreamingSemanticChunker chunker = new StreamingSemanticChunker(
+                detector, 0.65, 2, 8, 400, 1, (chunk, embedding) -> chunks.add(chunk));
+
+        int maxBuffered = 0;
+        for (int i = 0; i < 10_000; i++) {
+            chunker.accept("Sentence " + i + ".", new float[]{1.0f, 0.0f});
+            maxBuffered = Math.max(maxBuffered, chunker.bufferedSentences());
+        }
+        chunker.finish();
+
+        assertThat(chunker.sentenceCount()).isEqualTo(10_000);
+        assertThat(chunks).hasSize(1250);
+        assertThat(maxBuffered).isLessThanOrEqualTo(8 + 1);
+        assertThat(chunker.bufferedSentences()).isZero();
+    }
+
+    @Test
+    void rejectsInputAfterFinish() {
+        StreamingSemanticChunker chunker = new StreamingSemanticChunker(
+                detector, 0.65, 1, 8, 400, 0, (chunk, embedding) -> { });
+        chunker.finish();
+
+        assertThatThrownBy(() -> chunker.accept("late", new float[]{1.0f}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
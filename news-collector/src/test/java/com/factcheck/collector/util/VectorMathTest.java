@@ -0,0 +1,83 @@
+package com.factcheck.collector.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class VectorMathTest {
+
+    @Test
+    void simdIsEnabledWhenVectorModuleIsPresent() {
+        // Surefire starts the test JVM with --add-modules jdk.incubator.vector.
+        assertThat(VectorMath.simdEnabled()).isTrue();
+    }
+
+    @Test
+    void dotNormAndCosineOnSmallVectors() {
+        float[] a = {3.0f, 4.0f};
+        float[] b = {4.0f, 3.0f};
+
+        assertThat(VectorMath.dot(a, b)).isEqualTo(24.0);
+        assertThat(VectorMath.norm(a)).isEqualTo(5.0);
+        assertThat(VectorMath.cosine(a, b)).isCloseTo(0.96, within(1e-9));
+        assertThat(VectorMath.cosine(a, new float[]{0.0f, 0.0f})).isZero();
+    }
+
+    @Test
+    void meanAveragesElementWise() {
+        float[] mean = VectorMath.mean(List.of(new float[]{1.0f, 3.0f}, new float[]{3.0f, 1.0f}));
+
+        assertThat(mean).containsExactly(2.0f, 2.0f);
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        assertThatThrownBy(() -> VectorMath.cosine(null, new float[]{1.0f}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("vectors are required");
+        assertThatThrownBy(() -> VectorMath.dot(new float[]{1.0f}, new float[]{1.0f, 2.0f}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("vector dimensions must match");
+        assertThatThrownBy(() -> VectorMath.mean(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("cannot average empty vectors list");
+        assertThatThrownBy(() -> VectorMath.mean(List.of(new float[]{1.0f}, new float[]{1.0f, 2.0f})))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("vector dimensions must match");
+    }
+
+    @Test
+    void simdKernelsMatchScalarAcrossDimensionsAndTails() {
+        Random random = new Random(7);
+        for (int dim : new int[]{1, 7, 17, 384, 1027, 3072}) {
+            float[] a = randomVector(random, dim);
+            float[] b = randomVector(random, dim);
+
+            // Both paths accumulate in double; only the summation order differs.
+            assertThat(SimdVectorMath.dot(a, b))
+                    .isCloseTo(VectorMath.scalarDot(a, b), within(1e-12 * dim));
+            assertThat(SimdVectorMath.cosine(a, b))
+                    .isCloseTo(VectorMath.scalarCosine(a, b), within(1e-12));
+
+            List<float[]> vectors = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                vectors.add(randomVector(random, dim));
+            }
+            assertThat(SimdVectorMath.mean(vectors, dim)).containsExactly(VectorMath.scalarMean(vectors, dim));
+        }
+    }
+
+    private static float[] randomVector(Random random, int dim) {
+        float[] v = new float[dim];
+        for (int i = 0; i < dim; i++) {
+            v[i] = (float) random.nextGaussian();
+        }
+        return v;
+    }
+}